@@ -0,0 +1,62 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.orm.benchmark.model.Customer;
+import org.hibernate.orm.benchmark.model.PurchaseOrder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * Measures {@code BatchImpl#addToBatch} and {@code BatchImpl#execute} by flushing
+ * {@value #ENTITY_COUNT} inserts with {@code hibernate.jdbc.batch_size} set to
+ * {@value SessionFactoryState#BATCH_SIZE}.  The transaction is rolled back so the
+ * table size stays constant across invocations.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BatchInsertBenchmark {
+	public static final int ENTITY_COUNT = 200;
+
+	@Benchmark
+	public void insertSingleTable(SessionFactoryState state) {
+		try ( Session session = state.getSessionFactory().openSession() ) {
+			session.beginTransaction();
+			for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+				session.persist( newCustomer( i ) );
+			}
+			session.flush();
+			session.getTransaction().rollback();
+		}
+	}
+
+	@Benchmark
+	public void insertInterleavedTables(SessionFactoryState state) {
+		try ( Session session = state.getSessionFactory().openSession() ) {
+			session.beginTransaction();
+			for ( int i = 0; i < ENTITY_COUNT / 2; i++ ) {
+				final Customer customer = newCustomer( i );
+				session.persist( customer );
+				session.persist( new PurchaseOrder( customer, "order #" + i, BigDecimal.TEN ) );
+			}
+			session.flush();
+			session.getTransaction().rollback();
+		}
+	}
+
+	private static Customer newCustomer(int i) {
+		return new Customer( "new customer #" + i, null, 0, BigDecimal.ZERO, LocalDate.of( 2020, 1, 1 ) );
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.orm.benchmark.model.Customer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures {@code DefaultFlushEntityEventListener} dirty checking by flushing a
+ * session holding {@value SessionFactoryState#CUSTOMER_COUNT} managed entities.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DirtyCheckingBenchmark {
+
+	@State(Scope.Thread)
+	public static class ManagedEntities {
+		private Session session;
+		private List<Customer> customers;
+
+		@Setup(Level.Iteration)
+		public void setUp(SessionFactoryState state) {
+			session = state.getSessionFactory().openSession();
+			session.beginTransaction();
+			customers = session.createSelectionQuery( "from Customer c", Customer.class ).list();
+		}
+
+		@TearDown(Level.Iteration)
+		public void tearDown() {
+			session.getTransaction().rollback();
+			session.close();
+		}
+	}
+
+	@Benchmark
+	public void flushUnchanged(ManagedEntities entities) {
+		entities.session.flush();
+	}
+
+	@Benchmark
+	public void flushOneChanged(ManagedEntities entities) {
+		final int index = ThreadLocalRandom.current().nextInt( entities.customers.size() );
+		final Customer customer = entities.customers.get( index );
+		customer.setRating( customer.getRating() + 1 );
+		entities.session.flush();
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.orm.benchmark.model.Customer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * Measures {@code QuerySqmImpl#list} for HQL queries whose interpretation is
+ * already cached, i.e. the cost of parameter binding, SQL AST translation
+ * reuse and execution.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HqlListBenchmark {
+
+	@Benchmark
+	public Customer listById(SessionFactoryState state) {
+		try ( Session session = state.getSessionFactory().openSession() ) {
+			return session.createSelectionQuery( "from Customer c where c.id = :id", Customer.class )
+					.setParameter( "id", ThreadLocalRandom.current().nextLong( 1, SessionFactoryState.CUSTOMER_COUNT + 1 ) )
+					.getSingleResult();
+		}
+	}
+
+	@Benchmark
+	public List<Customer> listByRating(SessionFactoryState state) {
+		try ( Session session = state.getSessionFactory().openSession() ) {
+			return session.createSelectionQuery( "from Customer c where c.rating = :rating", Customer.class )
+					.setParameter( "rating", ThreadLocalRandom.current().nextInt( 5 ) )
+					.list();
+		}
+	}
+
+	@Benchmark
+	public List<Customer> listWithLimit(SessionFactoryState state) {
+		try ( Session session = state.getSessionFactory().openSession() ) {
+			return session.createSelectionQuery( "from Customer c order by c.id", Customer.class )
+					.setFirstResult( ThreadLocalRandom.current().nextInt( 100 ) )
+					.setMaxResults( 20 )
+					.list();
+		}
+	}
+}
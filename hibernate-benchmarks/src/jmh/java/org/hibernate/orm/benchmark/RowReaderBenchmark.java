@@ -0,0 +1,52 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.orm.benchmark.model.Customer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * Measures {@code StandardRowReader} row processing by reading all
+ * {@value SessionFactoryState#CUSTOMER_COUNT} rows, either as scalar
+ * projections or as managed entities.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RowReaderBenchmark {
+
+	@Benchmark
+	public List<Object[]> scalarArrayRows(SessionFactoryState state) {
+		try ( Session session = state.getSessionFactory().openSession() ) {
+			return session.createSelectionQuery( "select c.id, c.rating, c.balance from Customer c", Object[].class )
+					.list();
+		}
+	}
+
+	@Benchmark
+	public List<Long> singleScalarRows(SessionFactoryState state) {
+		try ( Session session = state.getSessionFactory().openSession() ) {
+			return session.createSelectionQuery( "select c.id from Customer c", Long.class )
+					.list();
+		}
+	}
+
+	@Benchmark
+	public List<Customer> entityRows(SessionFactoryState state) {
+		try ( Session session = state.getSessionFactory().openSession() ) {
+			return session.createSelectionQuery( "from Customer c", Customer.class )
+					.list();
+		}
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.benchmark.model.Customer;
+import org.hibernate.orm.benchmark.model.PurchaseOrder;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Shared {@link SessionFactory} backed by an in-memory H2 database, pre-populated
+ * with {@value #CUSTOMER_COUNT} customers.
+ */
+@State(Scope.Benchmark)
+public class SessionFactoryState {
+	public static final int CUSTOMER_COUNT = 1_000;
+	public static final int BATCH_SIZE = 50;
+
+	private SessionFactory sessionFactory;
+
+	@Setup
+	public void setUp() {
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.DRIVER, "org.h2.Driver" )
+				.applySetting( AvailableSettings.URL, "jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1" )
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.PASS, "" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.STATEMENT_BATCH_SIZE, BATCH_SIZE )
+				.build();
+		try {
+			sessionFactory = new MetadataSources( registry )
+					.addAnnotatedClass( Customer.class )
+					.addAnnotatedClass( PurchaseOrder.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+
+		sessionFactory.inTransaction( session -> {
+			for ( int i = 0; i < CUSTOMER_COUNT; i++ ) {
+				session.persist(
+						new Customer(
+								"customer #" + i,
+								"customer" + i + "@example.org",
+								i % 5,
+								BigDecimal.valueOf( i * 10L, 2 ),
+								LocalDate.of( 2000, 1, 1 ).plusDays( i )
+						)
+				);
+			}
+		} );
+	}
+
+	@TearDown
+	public void tearDown() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+	}
+
+	public SessionFactory getSessionFactory() {
+		return sessionFactory;
+	}
+}
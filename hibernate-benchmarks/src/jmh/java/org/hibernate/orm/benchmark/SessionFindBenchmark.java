@@ -0,0 +1,48 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.orm.benchmark.model.Customer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@code SessionImpl#find}, both for a single lookup in a fresh session
+ * and for many lookups accumulating in one persistence context.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SessionFindBenchmark {
+
+	@Benchmark
+	public Customer findInNewSession(SessionFactoryState state) {
+		try ( Session session = state.getSessionFactory().openSession() ) {
+			return session.find( Customer.class, randomId() );
+		}
+	}
+
+	@Benchmark
+	public void findManyInOneSession(SessionFactoryState state, Blackhole blackhole) {
+		try ( Session session = state.getSessionFactory().openSession() ) {
+			for ( long id = 1; id <= 100; id++ ) {
+				blackhole.consume( session.find( Customer.class, id ) );
+			}
+		}
+	}
+
+	private static long randomId() {
+		return ThreadLocalRandom.current().nextLong( 1, SessionFactoryState.CUSTOMER_COUNT + 1 );
+	}
+}
@@ -1010,6 +1010,11 @@ public class OracleLegacyDialect extends Dialect {
 		return false;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsertBatching() {
+		return false;
+	}
+
 	@Override
 	public int getInExpressionCountLimit() {
 		return PARAM_LIST_SIZE_LIMIT;
@@ -57,6 +57,14 @@ public class BaseSessionEventListener implements SessionEventListener {
 	public void jdbcExecuteBatchEnd() {
 	}
 
+	@Override
+	public void resultSetProcessingStart(String queryIdentifier, String entityName) {
+	}
+
+	@Override
+	public void resultSetProcessingEnd(String queryIdentifier, String entityName, int numberOfRows) {
+	}
+
 	@Override
 	public void cachePutStart() {
 	}
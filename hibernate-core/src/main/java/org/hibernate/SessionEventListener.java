@@ -44,6 +44,13 @@ public interface SessionEventListener extends Serializable {
 	default void jdbcExecuteBatchStart() {}
 	default void jdbcExecuteBatchEnd() {}
 
+	/**
+	 * @param queryIdentifier the HQL or SQL of the query whose results are read, if known
+	 * @param entityName the name of the entity the query returns, if it returns a single entity
+	 */
+	default void resultSetProcessingStart(String queryIdentifier, String entityName) {}
+	default void resultSetProcessingEnd(String queryIdentifier, String entityName, int numberOfRows) {}
+
 	default void cachePutStart() {}
 	default void cachePutEnd() {}
 
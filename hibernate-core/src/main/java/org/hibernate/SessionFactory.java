@@ -8,8 +8,17 @@ package org.hibernate;
 
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import javax.naming.Referenceable;
@@ -17,6 +26,7 @@ import javax.naming.Referenceable;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.spi.FilterDefinition;
 import org.hibernate.graph.RootGraph;
+import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.hibernate.relational.SchemaManager;
 import org.hibernate.stat.Statistics;
@@ -285,6 +295,115 @@ public interface SessionFactory extends EntityManagerFactory, Referenceable, Ser
 		);
 	}
 
+	/**
+	 * Execute the given selection queries concurrently, each one using its own
+	 * short-lived {@link StatelessSession}, and so its own JDBC connection, and
+	 * collect their results.
+	 * <p>
+	 * Each query is obtained by applying the given function to its session, and
+	 * so its options, including its {@linkplain SelectionQuery#setTimeout(int)
+	 * timeout}, apply as usual. The query plans are shared with every other
+	 * session of this factory.
+	 * <p>
+	 * If a query fails, the queries which have not started yet are skipped, and
+	 * the failure is rethrown once the running queries have completed.
+	 *
+	 * @param queries functions creating the queries to execute
+	 * @param parallelism the maximum number of queries executing at any time
+	 * @param executor the executor which runs the queries
+	 *
+	 * @return the result lists, in the order of the given queries
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	default List<List<?>> inParallel(
+			List<? extends Function<? super StatelessSession, ? extends SelectionQuery<?>>> queries,
+			int parallelism,
+			Executor executor) {
+		if ( parallelism < 1 ) {
+			throw new IllegalArgumentException( "Parallelism must be positive: " + parallelism );
+		}
+		final int queryCount = queries.size();
+		final List<?>[] results = new List<?>[queryCount];
+		final AtomicInteger nextQuery = new AtomicInteger();
+		final AtomicBoolean failed = new AtomicBoolean();
+
+		// each worker executes queries one after the other until none is left
+		final CompletableFuture<?>[] workers = new CompletableFuture<?>[ Math.min( parallelism, queryCount ) ];
+		for ( int i = 0; i < workers.length; i++ ) {
+			try {
+				workers[i] = CompletableFuture.runAsync(
+						() -> {
+							int index;
+							while ( !failed.get() && ( index = nextQuery.getAndIncrement() ) < queryCount ) {
+								try ( StatelessSession session = openStatelessSession() ) {
+									results[index] = queries.get( index ).apply( session ).list();
+								}
+								catch (RuntimeException | Error e) {
+									failed.set( true );
+									throw e;
+								}
+							}
+						},
+						executor
+				);
+			}
+			catch (RejectedExecutionException e) {
+				// stop the workers which did start, and wait for their running queries
+				failed.set( true );
+				try {
+					CompletableFuture.allOf( Arrays.copyOf( workers, i ) ).join();
+				}
+				catch (CompletionException workerFailure) {
+					e.addSuppressed( workerFailure.getCause() );
+				}
+				throw e;
+			}
+		}
+
+		try {
+			CompletableFuture.allOf( workers ).join();
+		}
+		catch (CompletionException e) {
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			if ( e.getCause() instanceof Error ) {
+				throw (Error) e.getCause();
+			}
+			throw e;
+		}
+		return Arrays.asList( results );
+	}
+
+	/**
+	 * Execute the given selection queries concurrently, as defined by
+	 * {@link #inParallel(List, int, Executor)}, using threads which are
+	 * started for this call only.
+	 *
+	 * @param queries functions creating the queries to execute
+	 * @param parallelism the maximum number of queries executing at any time
+	 *
+	 * @return the result lists, in the order of the given queries
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	default List<List<?>> inParallel(
+			List<? extends Function<? super StatelessSession, ? extends SelectionQuery<?>>> queries,
+			int parallelism) {
+		final ExecutorService executor = Executors.newFixedThreadPool(
+				Math.max( 1, Math.min( parallelism, queries.size() ) )
+		);
+		try {
+			return inParallel( queries, parallelism, executor );
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
 	/**
 	 * Retrieve the {@linkplain Statistics statistics} for this factory.
 	 *
@@ -0,0 +1,342 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.archive.scan.internal;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Version;
+import org.hibernate.boot.archive.internal.UrlInputStreamAccess;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
+import org.hibernate.boot.archive.scan.spi.PackageDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanOptions;
+import org.hibernate.boot.archive.scan.spi.ScanParameters;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.hibernate.boot.archive.spi.InputStreamAccess;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Scanner which stores the {@link ScanResult} of another scanner in a versioned
+ * binary snapshot file, and reads the result from the snapshot instead of scanning
+ * again as long as the snapshot is current.
+ * <p>
+ * A snapshot is current if it was written by the same version of Hibernate, and the
+ * hash of the scan inputs did not change.  The hash covers the {@link ScanEnvironment},
+ * the {@link ScanOptions}, and the content of the scanned archives and directories:
+ * the names of their entries, relative to the archive or directory, along with the
+ * sizes and checksums of archive entries and the content of files in directories.
+ * Adding, removing or recompiling a class makes the snapshot stale, while moving the
+ * application or touching its files does not.  A stale or missing snapshot is replaced
+ * by the result of the delegate scanner.  If the inputs cannot be read to compute the
+ * hash, the delegate scanner is used without any snapshot.
+ * <p>
+ * The snapshot is typically produced at build time, by bootstrapping once with the
+ * same setting, and shipped along with the application.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#SCANNER_SNAPSHOT
+ */
+public class SnapshotScanner implements Scanner {
+	private static final Logger log = Logger.getLogger( SnapshotScanner.class );
+
+	private static final int MAGIC = 0x48534E50;
+	private static final int FORMAT_VERSION = 1;
+
+	private final Scanner delegate;
+	private final Path snapshotFile;
+	private final ClassLoaderService classLoaderService;
+
+	public SnapshotScanner(Scanner delegate, Path snapshotFile, ClassLoaderService classLoaderService) {
+		this.delegate = delegate;
+		this.snapshotFile = snapshotFile;
+		this.classLoaderService = classLoaderService;
+	}
+
+	@Override
+	public ScanResult scan(ScanEnvironment environment, ScanOptions options, ScanParameters parameters) {
+		final String hash;
+		try {
+			hash = hash( environment, options );
+		}
+		catch (IOException e) {
+			log.debugf( e, "Unable to hash scan inputs, scanning without snapshot [%s]", snapshotFile );
+			return delegate.scan( environment, options, parameters );
+		}
+
+		if ( Files.isRegularFile( snapshotFile ) ) {
+			final ScanResult snapshot = readSnapshot( hash );
+			if ( snapshot != null ) {
+				log.debugf( "Using scan result snapshot [%s]", snapshotFile );
+				return snapshot;
+			}
+			log.debugf( "Scan result snapshot [%s] is stale", snapshotFile );
+		}
+
+		final ScanResult scanResult = delegate.scan( environment, options, parameters );
+		writeSnapshot( scanResult, hash );
+		return scanResult;
+	}
+
+	/**
+	 * Reads the snapshot, returning {@code null} if the snapshot is stale or unreadable.
+	 */
+	private ScanResult readSnapshot(String expectedHash) {
+		try ( DataInputStream input = new DataInputStream( Files.newInputStream( snapshotFile ) ) ) {
+			if ( input.readInt() != MAGIC
+					|| input.readInt() != FORMAT_VERSION
+					|| !Version.getVersionString().equals( input.readUTF() )
+					|| !expectedHash.equals( input.readUTF() ) ) {
+				return null;
+			}
+
+			final Set<PackageDescriptor> packages = new HashSet<>();
+			for ( int i = input.readInt(); i > 0; i-- ) {
+				final String name = input.readUTF();
+				packages.add(
+						new PackageDescriptorImpl(
+								name,
+								new ResourceStreamAccess( name.replace( '.', '/' ) + "/package-info.class" )
+						)
+				);
+			}
+
+			final Set<ClassDescriptor> classes = new HashSet<>();
+			final ClassDescriptor.Categorization[] categorizations = ClassDescriptor.Categorization.values();
+			for ( int i = input.readInt(); i > 0; i-- ) {
+				final String name = input.readUTF();
+				classes.add(
+						new ClassDescriptorImpl(
+								name,
+								categorizations[input.readByte()],
+								new ResourceStreamAccess( name.replace( '.', '/' ) + ".class" )
+						)
+				);
+			}
+
+			final Set<MappingFileDescriptor> mappingFiles = new HashSet<>();
+			for ( int i = input.readInt(); i > 0; i-- ) {
+				final String name = input.readUTF();
+				final URL url = classLoaderService.locateResource( name );
+				if ( url == null ) {
+					// the mapping file is not available as a resource, so scan again
+					return null;
+				}
+				mappingFiles.add( new MappingFileDescriptorImpl( name, new UrlInputStreamAccess( url ) ) );
+			}
+
+			return new ScanResultImpl( packages, classes, mappingFiles );
+		}
+		catch (IOException | RuntimeException e) {
+			log.debugf( e, "Unable to read scan result snapshot [%s]", snapshotFile );
+			return null;
+		}
+	}
+
+	private void writeSnapshot(ScanResult scanResult, String hash) {
+		try {
+			final Path directory = snapshotFile.toAbsolutePath().getParent();
+			if ( directory != null ) {
+				Files.createDirectories( directory );
+			}
+
+			// write to a temporary file first, so that a concurrent bootstrap never sees a partial snapshot
+			final Path temporaryFile = Files.createTempFile(
+					directory,
+					snapshotFile.getFileName().toString(),
+					".tmp"
+			);
+			try {
+				try ( OutputStream outputStream = Files.newOutputStream( temporaryFile );
+						DataOutputStream output = new DataOutputStream( outputStream ) ) {
+					output.writeInt( MAGIC );
+					output.writeInt( FORMAT_VERSION );
+					output.writeUTF( Version.getVersionString() );
+					output.writeUTF( hash );
+
+					output.writeInt( scanResult.getLocatedPackages().size() );
+					for ( PackageDescriptor packageDescriptor : scanResult.getLocatedPackages() ) {
+						output.writeUTF( packageDescriptor.getName() );
+					}
+
+					output.writeInt( scanResult.getLocatedClasses().size() );
+					for ( ClassDescriptor classDescriptor : scanResult.getLocatedClasses() ) {
+						output.writeUTF( classDescriptor.getName() );
+						output.writeByte( classDescriptor.getCategorization().ordinal() );
+					}
+
+					output.writeInt( scanResult.getLocatedMappingFiles().size() );
+					for ( MappingFileDescriptor mappingFileDescriptor : scanResult.getLocatedMappingFiles() ) {
+						output.writeUTF( mappingFileDescriptor.getName() );
+					}
+				}
+				Files.move( temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING );
+			}
+			finally {
+				Files.deleteIfExists( temporaryFile );
+			}
+			log.debugf( "Wrote scan result snapshot [%s]", snapshotFile );
+		}
+		catch (IOException e) {
+			// the snapshot is only an optimization, for example the file system might be read-only
+			log.debugf( e, "Unable to write scan result snapshot [%s]", snapshotFile );
+		}
+	}
+
+	private static String hash(ScanEnvironment environment, ScanOptions options) throws IOException {
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new HibernateException( "Unable to hash scan inputs", e );
+		}
+
+		update( digest, Version.getVersionString() );
+		update( digest, String.valueOf( options.canDetectUnlistedClassesInRoot() ) );
+		update( digest, String.valueOf( options.canDetectUnlistedClassesInNonRoot() ) );
+		update( digest, String.valueOf( options.canDetectHibernateMappingFiles() ) );
+		if ( environment.getExplicitlyListedClassNames() != null ) {
+			for ( String className : environment.getExplicitlyListedClassNames() ) {
+				update( digest, className );
+			}
+		}
+		if ( environment.getExplicitlyListedMappingFiles() != null ) {
+			for ( String mappingFile : environment.getExplicitlyListedMappingFiles() ) {
+				update( digest, mappingFile );
+			}
+		}
+		if ( environment.getNonRootUrls() != null ) {
+			for ( URL url : environment.getNonRootUrls() ) {
+				update( digest, "non-root" );
+				update( digest, url );
+			}
+		}
+		if ( environment.getRootUrl() != null ) {
+			update( digest, "root" );
+			update( digest, environment.getRootUrl() );
+		}
+
+		final StringBuilder hash = new StringBuilder();
+		for ( byte b : digest.digest() ) {
+			hash.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) ).append( Character.forDigit( b & 0xF, 16 ) );
+		}
+		return hash.toString();
+	}
+
+	private static void update(MessageDigest digest, URL url) throws IOException {
+		final Path path = toPath( url );
+		if ( path == null ) {
+			// not a file, so only the location is known
+			update( digest, url.toExternalForm() );
+		}
+		else if ( Files.isDirectory( path ) ) {
+			update( digest, "directory" );
+			final List<Path> files;
+			try ( Stream<Path> stream = Files.walk( path ) ) {
+				files = stream.filter( Files::isRegularFile )
+						.sorted( Comparator.comparing( Path::toString ) )
+						.collect( Collectors.toList() );
+			}
+			for ( Path file : files ) {
+				update( digest, path.relativize( file ).toString().replace( File.separatorChar, '/' ) );
+				update( digest, String.valueOf( Files.size( file ) ) );
+				digest.update( Files.readAllBytes( file ) );
+			}
+		}
+		else if ( Files.isRegularFile( path ) ) {
+			// the central directory of an archive has the size and checksum of each entry,
+			// so the entries themselves are not read
+			final List<? extends ZipEntry> entries;
+			try ( ZipFile archive = new ZipFile( path.toFile() ) ) {
+				entries = archive.stream()
+						.sorted( Comparator.comparing( ZipEntry::getName ) )
+						.collect( Collectors.toList() );
+			}
+			catch (ZipException e) {
+				update( digest, "file" );
+				digest.update( Files.readAllBytes( path ) );
+				return;
+			}
+			update( digest, "archive" );
+			for ( ZipEntry entry : entries ) {
+				update( digest, entry.getName() );
+				update( digest, entry.getSize() + ":" + entry.getCrc() );
+			}
+		}
+		else {
+			update( digest, "missing" );
+		}
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update( value.getBytes( StandardCharsets.UTF_8 ) );
+		digest.update( (byte) 0 );
+	}
+
+	private static Path toPath(URL url) {
+		if ( !"file".equals( url.getProtocol() ) ) {
+			return null;
+		}
+		try {
+			return Paths.get( url.toURI() );
+		}
+		catch (Exception e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Access to a class path resource, which is only located when it is actually read.
+	 */
+	private class ResourceStreamAccess implements InputStreamAccess {
+		private final String resourceName;
+
+		private ResourceStreamAccess(String resourceName) {
+			this.resourceName = resourceName;
+		}
+
+		@Override
+		public String getStreamName() {
+			return resourceName;
+		}
+
+		@Override
+		public InputStream accessInputStream() {
+			final URL url = classLoaderService.locateResource( resourceName );
+			if ( url == null ) {
+				throw new HibernateException( "Could not locate resource : " + resourceName );
+			}
+			return new UrlInputStreamAccess( url ).accessInputStream();
+		}
+	}
+}
@@ -229,6 +229,15 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return false;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#CRITERIA_PLAN_CACHE_ENABLED
+	 *
+	 * @since 6.2
+	 */
+	default boolean isCriteriaPlanCacheEnabled() {
+		return false;
+	}
+
 	JpaCompliance getJpaCompliance();
 
 	boolean isFailOnPaginationOverCollectionFetchEnabled();
@@ -0,0 +1,150 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal;
+
+import java.util.Map;
+
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.property.access.spi.PropertyAccess;
+
+/**
+ * Locates the {@link ReflectionOptimizer} classes generated for a managed class at
+ * build time, which allows using an optimizer without generating bytecode at runtime.
+ * <p>
+ * The classes are generated next to the managed class by
+ * {@link org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl#generateReflectionOptimizer},
+ * and are only used if they access exactly the properties the runtime model expects,
+ * with the same types and in the same order.  Otherwise, they are considered stale and
+ * ignored.
+ */
+public final class PregeneratedReflectionOptimizers {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( PregeneratedReflectionOptimizers.class );
+
+	private static final String ACCESS_OPTIMIZER_SUFFIX = "$HibernateAccessOptimizer";
+	private static final String INSTANTIATOR_SUFFIX = "$HibernateInstantiator";
+
+	/**
+	 * The name of the constant of the generated {@link ReflectionOptimizer.AccessOptimizer}
+	 * holding the {@linkplain #propertySignature property signature} it was generated for
+	 */
+	public static final String PROPERTY_SIGNATURE_FIELD_NAME = "HIBERNATE_PROPERTY_SIGNATURE";
+
+	private PregeneratedReflectionOptimizers() {
+	}
+
+	/**
+	 * The name of the generated {@link ReflectionOptimizer.AccessOptimizer} for the given class
+	 */
+	public static String accessOptimizerClassName(Class<?> clazz) {
+		return clazz.getName() + ACCESS_OPTIMIZER_SUFFIX;
+	}
+
+	/**
+	 * The name of the generated {@link ReflectionOptimizer.InstantiationOptimizer} for the given class
+	 */
+	public static String instantiatorClassName(Class<?> clazz) {
+		return clazz.getName() + INSTANTIATOR_SUFFIX;
+	}
+
+	/**
+	 * The names and types of the given properties, in order, which identify the
+	 * properties an optimizer was generated for
+	 */
+	public static String propertySignature(Map<String, PropertyAccess> propertyAccessMap) {
+		final StringBuilder signature = new StringBuilder();
+		for ( Map.Entry<String, PropertyAccess> entry : propertyAccessMap.entrySet() ) {
+			if ( signature.length() > 0 ) {
+				signature.append( ',' );
+			}
+			signature.append( entry.getKey() )
+					.append( ':' )
+					.append( entry.getValue().getGetter().getReturnTypeClass().getName() );
+		}
+		return signature.toString();
+	}
+
+	/**
+	 * Locate the optimizer generated for the given class at build time.
+	 *
+	 * @param clazz The managed class
+	 * @param propertyAccessMap The access to the properties of the class, in the order of the runtime model
+	 *
+	 * @return The optimizer, or {@code null} if no optimizer was generated for the class,
+	 * or if the optimizer is stale.
+	 */
+	public static ReflectionOptimizer locate(Class<?> clazz, Map<String, PropertyAccess> propertyAccessMap) {
+		final ClassLoader classLoader = clazz.getClassLoader();
+		if ( classLoader == null
+				|| classLoader.getResource( accessOptimizerClassName( clazz ).replace( '.', '/' ) + ".class" ) == null ) {
+			return null;
+		}
+
+		try {
+			final Class<?> accessOptimizerClass = Class.forName( accessOptimizerClassName( clazz ), true, classLoader );
+			if ( !propertySignature( propertyAccessMap ).equals( generatedPropertySignature( accessOptimizerClass ) ) ) {
+				LOG.debugf( "Ignoring stale pre-generated reflection optimizer for %s", clazz.getName() );
+				return null;
+			}
+			final ReflectionOptimizer.AccessOptimizer accessOptimizer = (ReflectionOptimizer.AccessOptimizer)
+					accessOptimizerClass.getDeclaredConstructor().newInstance();
+
+			final ReflectionOptimizer.InstantiationOptimizer instantiationOptimizer;
+			if ( classLoader.getResource( instantiatorClassName( clazz ).replace( '.', '/' ) + ".class" ) == null ) {
+				instantiationOptimizer = null;
+			}
+			else {
+				instantiationOptimizer = (ReflectionOptimizer.InstantiationOptimizer)
+						instantiate( classLoader, instantiatorClassName( clazz ) );
+			}
+
+			LOG.debugf( "Using pre-generated reflection optimizer for %s", clazz.getName() );
+			return new PregeneratedReflectionOptimizer( instantiationOptimizer, accessOptimizer );
+		}
+		catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+			LOG.unableToGenerateReflectionOptimizer( clazz.getName(), e );
+			return null;
+		}
+	}
+
+	private static String generatedPropertySignature(Class<?> accessOptimizerClass) throws IllegalAccessException {
+		try {
+			return (String) accessOptimizerClass.getField( PROPERTY_SIGNATURE_FIELD_NAME ).get( null );
+		}
+		catch (NoSuchFieldException e) {
+			// generated by a version which did not record the signature
+			return null;
+		}
+	}
+
+	private static Object instantiate(ClassLoader classLoader, String className) throws ReflectiveOperationException {
+		return Class.forName( className, true, classLoader ).getDeclaredConstructor().newInstance();
+	}
+
+	private static class PregeneratedReflectionOptimizer implements ReflectionOptimizer {
+		private final InstantiationOptimizer instantiationOptimizer;
+		private final AccessOptimizer accessOptimizer;
+
+		private PregeneratedReflectionOptimizer(
+				InstantiationOptimizer instantiationOptimizer,
+				AccessOptimizer accessOptimizer) {
+			this.instantiationOptimizer = instantiationOptimizer;
+			this.accessOptimizer = accessOptimizer;
+		}
+
+		@Override
+		public InstantiationOptimizer getInstantiationOptimizer() {
+			return instantiationOptimizer;
+		}
+
+		@Override
+		public AccessOptimizer getAccessOptimizer() {
+			return accessOptimizer;
+		}
+	}
+}
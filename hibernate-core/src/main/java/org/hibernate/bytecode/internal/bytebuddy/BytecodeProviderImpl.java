@@ -15,6 +15,7 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +28,7 @@ import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.bytecode.enhance.spi.interceptor.BytecodeLazyAttributeInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
+import org.hibernate.bytecode.internal.PregeneratedReflectionOptimizers;
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
@@ -51,12 +53,19 @@ import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.NamingStrategy;
 import net.bytebuddy.description.NamedElement;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Ownership;
+import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.StackManipulation;
+import net.bytebuddy.implementation.bytecode.collection.ArrayFactory;
+import net.bytebuddy.implementation.bytecode.constant.TextConstant;
+import net.bytebuddy.implementation.bytecode.member.MethodReturn;
 import net.bytebuddy.implementation.bytecode.assign.Assigner;
 import net.bytebuddy.implementation.bytecode.assign.primitive.PrimitiveBoxingDelegate;
 import net.bytebuddy.implementation.bytecode.assign.primitive.PrimitiveUnboxingDelegate;
@@ -264,6 +273,108 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	/**
+	 * Generates the classes of the {@link ReflectionOptimizer} for the given class ahead of time,
+	 * for example in a build plugin, named as expected by {@link PregeneratedReflectionOptimizers}.
+	 * The classes must be written next to the class, and are then used instead of generating the
+	 * optimizer at runtime.
+	 *
+	 * @return The bytes of the generated classes by class name, or an empty map if no optimizer
+	 * can be generated for the class, or if the optimizer needs to be generated at runtime
+	 */
+	public Map<String, byte[]> generateReflectionOptimizer(
+			Class<?> clazz,
+			Map<String, PropertyAccess> propertyAccessMap) {
+		final Member[] getters = new Member[propertyAccessMap.size()];
+		final Member[] setters = new Member[propertyAccessMap.size()];
+		try {
+			findAccessors( clazz, propertyAccessMap, getters, setters );
+		}
+		catch (InvalidPropertyAccessorException ex) {
+			LOG.unableToGenerateReflectionOptimizer( clazz.getName(), ex );
+			return Collections.emptyMap();
+		}
+
+		if ( requiresForeignPackageAccess( clazz, getters ) || requiresForeignPackageAccess( clazz, setters ) ) {
+			// the accessor superclasses for foreign packages are only generated at runtime
+			return Collections.emptyMap();
+		}
+
+		final Map<String, byte[]> classes = new HashMap<>();
+
+		if ( !clazz.isInterface() && !Modifier.isAbstract( clazz.getModifiers() ) ) {
+			final Constructor<?> constructor = findConstructor( clazz );
+			if ( constructor != null && !Modifier.isPrivate( constructor.getModifiers() ) ) {
+				collectClasses(
+						byteBuddyState.make( byteBuddy -> byteBuddy
+								.subclass( ReflectionOptimizer.InstantiationOptimizer.class )
+								.name( PregeneratedReflectionOptimizers.instantiatorClassName( clazz ) )
+								.method( newInstanceMethodName )
+								.intercept( MethodCall.construct( constructor ) )
+						),
+						classes
+				);
+			}
+		}
+
+		final String[] propertyNames = propertyAccessMap.keySet().toArray( new String[0] );
+		final String propertySignature = PregeneratedReflectionOptimizers.propertySignature( propertyAccessMap );
+		collectClasses(
+				byteBuddyState.make( byteBuddy -> byteBuddy
+						.subclass( Object.class )
+						.name( PregeneratedReflectionOptimizers.accessOptimizerClassName( clazz ) )
+						.implement( ReflectionOptimizer.AccessOptimizer.class )
+						.defineField(
+								PregeneratedReflectionOptimizers.PROPERTY_SIGNATURE_FIELD_NAME,
+								String.class,
+								Visibility.PUBLIC,
+								Ownership.STATIC,
+								FieldManifestation.FINAL
+						)
+						.value( propertySignature )
+						.method( getPropertyValuesMethodName )
+						.intercept( new Implementation.Simple( new GetPropertyValues( clazz, propertyNames, getters ) ) )
+						.method( setPropertyValuesMethodName )
+						.intercept( new Implementation.Simple( new SetPropertyValues( clazz, propertyNames, setters ) ) )
+						.method( getPropertyNamesMethodName )
+						.intercept( new Implementation.Simple( propertyNamesArray( propertyNames ), MethodReturn.REFERENCE ) )
+				),
+				classes
+		);
+
+		return classes;
+	}
+
+	/**
+	 * Creates a new array of the property names on every call, which unlike {@link CloningPropertyCall}
+	 * does not depend on state injected when the class is loaded
+	 */
+	private static StackManipulation propertyNamesArray(String[] propertyNames) {
+		final List<StackManipulation> values = new ArrayList<>( propertyNames.length );
+		for ( String propertyName : propertyNames ) {
+			values.add( new TextConstant( propertyName ) );
+		}
+		return ArrayFactory.forType( TypeDescription.Generic.OfNonGenericType.ForLoadedType.of( String.class ) )
+				.withValues( values );
+	}
+
+	private static void collectClasses(DynamicType.Unloaded<?> unloaded, Map<String, byte[]> classes) {
+		for ( Map.Entry<TypeDescription, byte[]> entry : unloaded.getAllTypes().entrySet() ) {
+			classes.put( entry.getKey().getName(), entry.getValue() );
+		}
+	}
+
+	private static boolean requiresForeignPackageAccess(Class<?> clazz, Member[] members) {
+		for ( Member member : members ) {
+			if ( member != EMBEDDED_MEMBER
+					&& !Modifier.isPublic( member.getModifiers() )
+					&& !member.getDeclaringClass().getPackageName().equals( clazz.getPackageName() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private static class ForeignPackageClassInfo {
 		final Class<?> clazz;
 		final List<Member> getters = new ArrayList<>();
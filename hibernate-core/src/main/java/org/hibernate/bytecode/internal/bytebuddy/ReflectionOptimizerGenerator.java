@@ -0,0 +1,104 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.mapping.Component;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.PropertyAccessStrategy;
+
+/**
+ * Generates the {@linkplain org.hibernate.bytecode.internal.PregeneratedReflectionOptimizers
+ * pre-generated reflection optimizers} for the entities and embeddables of a domain model,
+ * for use by build plugins.  The classes of the model must be loaded in their final form,
+ * that is, after enhancement if the model is enhanced.
+ */
+public final class ReflectionOptimizerGenerator {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( ReflectionOptimizerGenerator.class );
+
+	private ReflectionOptimizerGenerator() {
+	}
+
+	/**
+	 * Generate the optimizer classes for all entities and embeddables of the given model.
+	 *
+	 * @return The bytes of the generated classes by class name
+	 */
+	public static Map<String, byte[]> generate(MetadataImplementor metadata) {
+		final BytecodeProviderImpl bytecodeProvider = new BytecodeProviderImpl();
+		final Map<String, byte[]> classes = new HashMap<>();
+		final Set<Class<?>> processedClasses = new HashSet<>();
+
+		for ( PersistentClass entityBinding : metadata.getEntityBindings() ) {
+			final Class<?> mappedClass = entityBinding.getMappedClass();
+			if ( mappedClass != null && processedClasses.add( mappedClass ) ) {
+				generate( bytecodeProvider, mappedClass, entityBinding.getPropertyClosure(), classes );
+			}
+		}
+
+		metadata.visitRegisteredComponents( (component) -> {
+			if ( isOptimizable( component ) && processedClasses.add( component.getComponentClass() ) ) {
+				generate( bytecodeProvider, component.getComponentClass(), component.getProperties(), classes );
+			}
+		} );
+
+		return classes;
+	}
+
+	private static boolean isOptimizable(Component component) {
+		if ( component.isDynamic()
+				|| component.getComponentClassName() == null
+				|| component.getCustomInstantiator() != null
+				|| component.getInstantiator() != null ) {
+			return false;
+		}
+		for ( Property property : component.getProperties() ) {
+			if ( !property.isBasicPropertyAccessor() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void generate(
+			BytecodeProviderImpl bytecodeProvider,
+			Class<?> mappedClass,
+			List<Property> properties,
+			Map<String, byte[]> classes) {
+		final Map<String, PropertyAccess> propertyAccessMap = new LinkedHashMap<>();
+		try {
+			for ( Property property : properties ) {
+				final PropertyAccessStrategy strategy = property.getPropertyAccessStrategy( mappedClass );
+				if ( strategy == null ) {
+					return;
+				}
+				propertyAccessMap.put(
+						property.getName(),
+						strategy.buildPropertyAccess( mappedClass, property.getName(), true )
+				);
+			}
+		}
+		catch (RuntimeException e) {
+			// the class will use an optimizer generated at runtime, if any
+			LOG.unableToGenerateReflectionOptimizer( mappedClass.getName(), e );
+			return;
+		}
+
+		classes.putAll( bytecodeProvider.generateReflectionOptimizer( mappedClass, propertyAccessMap ) );
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Base for the accesses of a {@link NearCacheDomainDataRegion}, which serve reads from
+ * the near cache when possible, and invalidate the near cache after each write to the
+ * decorated access.
+ */
+public abstract class AbstractNearCacheDataAccess<A extends CachedDomainDataAccess> implements CachedDomainDataAccess {
+	private final A delegate;
+	private final NearCacheDomainDataRegion region;
+
+	protected AbstractNearCacheDataAccess(A delegate, NearCacheDomainDataRegion region) {
+		this.delegate = delegate;
+		this.region = region;
+	}
+
+	protected A getDelegate() {
+		return delegate;
+	}
+
+	protected NearCacheDomainDataRegion getNearCacheRegion() {
+		return region;
+	}
+
+	@Override
+	public DomainDataRegion getRegion() {
+		return region;
+	}
+
+	@Override
+	public AccessType getAccessType() {
+		return delegate.getAccessType();
+	}
+
+	@Override
+	public Object get(SharedSessionContractImplementor session, Object key) {
+		final Object nearValue = region.getFromNearCache( key, txTimestamp( session ) );
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( nearValue != null ) {
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.nearCacheHit( region.getName() );
+			}
+			return nearValue;
+		}
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.nearCacheMiss( region.getName() );
+		}
+
+		final long readTimestamp = region.nextTimestamp();
+		final Object value = delegate.get( session, key );
+		if ( value != null ) {
+			region.putIntoNearCache( key, value, readTimestamp );
+		}
+		return value;
+	}
+
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		final long txTimestamp = txTimestamp( session );
+		final Map<Object, Object> values = CollectionHelper.mapOfSize( keys.size() );
+		final List<Object> missingKeys = new ArrayList<>( keys.size() );
+		for ( Object key : keys ) {
+			final Object nearValue = region.getFromNearCache( key, txTimestamp );
+			if ( nearValue == null ) {
+				missingKeys.add( key );
+			}
+			else {
+				values.put( key, nearValue );
+			}
+		}
+
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			for ( int i = 0; i < values.size(); i++ ) {
+				statistics.nearCacheHit( region.getName() );
+			}
+			for ( int i = 0; i < missingKeys.size(); i++ ) {
+				statistics.nearCacheMiss( region.getName() );
+			}
+		}
+
+		if ( !missingKeys.isEmpty() ) {
+			final long readTimestamp = region.nextTimestamp();
+			final Map<Object, Object> delegateValues = delegate.getAll( session, missingKeys );
+			for ( Map.Entry<Object, Object> entry : delegateValues.entrySet() ) {
+				region.putIntoNearCache( entry.getKey(), entry.getValue(), readTimestamp );
+			}
+			values.putAll( delegateValues );
+		}
+		return values;
+	}
+
+	private static long txTimestamp(SharedSessionContractImplementor session) {
+		return session.getCacheTransactionSynchronization().getCachingTimestamp();
+	}
+
+	@Override
+	public boolean putFromLoad(SharedSessionContractImplementor session, Object key, Object value, Object version) {
+		return delegate.putFromLoad( session, key, value, version );
+	}
+
+	@Override
+	public boolean putFromLoad(
+			SharedSessionContractImplementor session,
+			Object key,
+			Object value,
+			Object version,
+			boolean minimalPutOverride) {
+		return delegate.putFromLoad( session, key, value, version, minimalPutOverride );
+	}
+
+	@Override
+	public SoftLock lockItem(SharedSessionContractImplementor session, Object key, Object version) {
+		final SoftLock lock = delegate.lockItem( session, key, version );
+		region.invalidate( key );
+		return lock;
+	}
+
+	@Override
+	public void unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) {
+		delegate.unlockItem( session, key, lock );
+		region.invalidate( key );
+	}
+
+	@Override
+	public void remove(SharedSessionContractImplementor session, Object key) {
+		delegate.remove( session, key );
+		region.invalidate( key );
+	}
+
+	@Override
+	public void removeAll(SharedSessionContractImplementor session) {
+		delegate.removeAll( session );
+		region.invalidateAll();
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return delegate.contains( key );
+	}
+
+	@Override
+	public SoftLock lockRegion() {
+		final SoftLock lock = delegate.lockRegion();
+		region.invalidateAll();
+		return lock;
+	}
+
+	@Override
+	public void unlockRegion(SoftLock lock) {
+		delegate.unlockRegion( lock );
+		region.invalidateAll();
+	}
+
+	@Override
+	public void evict(Object key) {
+		delegate.evict( key );
+		region.invalidate( key );
+	}
+
+	@Override
+	public void evictAll() {
+		delegate.evictAll();
+		region.invalidateAll();
+	}
+}
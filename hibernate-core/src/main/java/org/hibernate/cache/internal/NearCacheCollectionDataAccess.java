@@ -0,0 +1,36 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import org.hibernate.cache.spi.access.CollectionDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+
+/**
+ * {@link CollectionDataAccess} of a {@link NearCacheDomainDataRegion}
+ */
+public class NearCacheCollectionDataAccess extends AbstractNearCacheDataAccess<CollectionDataAccess>
+		implements CollectionDataAccess {
+
+	public NearCacheCollectionDataAccess(CollectionDataAccess delegate, NearCacheDomainDataRegion region) {
+		super( delegate, region );
+	}
+
+	@Override
+	public Object generateCacheKey(
+			Object id,
+			CollectionPersister collectionDescriptor,
+			SessionFactoryImplementor factory,
+			String tenantIdentifier) {
+		return getDelegate().generateCacheKey( id, collectionDescriptor, factory, tenantIdentifier );
+	}
+
+	@Override
+	public Object getCacheKeyId(Object cacheKey) {
+		return getDelegate().getCacheKeyId( cacheKey );
+	}
+}
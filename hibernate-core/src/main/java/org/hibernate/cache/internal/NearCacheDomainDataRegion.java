@@ -0,0 +1,238 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.access.CollectionDataAccess;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.metamodel.model.domain.NavigableRole;
+import org.hibernate.stat.CacheRegionStatistics;
+
+/**
+ * A {@link DomainDataRegion} keeping a near cache in front of another region.
+ * <p>
+ * The near cache holds the data returned by the decorated region together with the
+ * timestamp at which it was read, and only serves it to transactions which started
+ * afterwards, like the read-write access strategies do for the items they store.
+ * Writes through this node replace the entry of the written key by an invalidation
+ * marker, which also prevents reads racing with the write from caching the outdated
+ * data.  Soft locks are never held by the near cache, since the decorated region does
+ * not return locked data.
+ * <p>
+ * Data cached with {@link AccessType#TRANSACTIONAL transactional} access is not held
+ * by the near cache.
+ *
+ * @see NearCacheRegionFactory
+ */
+public class NearCacheDomainDataRegion implements DomainDataRegion, ExtendedStatisticsSupport {
+	private final DomainDataRegion delegate;
+	private final RegionFactory regionFactory;
+	private final long timeToLiveNanos;
+
+	private final BoundedConcurrentHashMap<Object, Entry> entries;
+	private volatile long invalidationTimestamp = Long.MIN_VALUE;
+
+	private final Map<NavigableRole, EntityDataAccess> entityDataAccesses = new ConcurrentHashMap<>();
+	private final Map<NavigableRole, NaturalIdDataAccess> naturalIdDataAccesses = new ConcurrentHashMap<>();
+	private final Map<NavigableRole, CollectionDataAccess> collectionDataAccesses = new ConcurrentHashMap<>();
+
+	public NearCacheDomainDataRegion(
+			DomainDataRegion delegate,
+			RegionFactory regionFactory,
+			int maxEntries,
+			long timeToLive) {
+		this.delegate = delegate;
+		this.regionFactory = regionFactory;
+		this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos( timeToLive );
+		this.entries = new BoundedConcurrentHashMap<>( maxEntries, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+	}
+
+	/**
+	 * The decorated region
+	 */
+	public DomainDataRegion getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public String getName() {
+		return delegate.getName();
+	}
+
+	@Override
+	public RegionFactory getRegionFactory() {
+		return regionFactory;
+	}
+
+	@Override
+	public EntityDataAccess getEntityDataAccess(NavigableRole rootEntityRole) {
+		return entityDataAccesses.computeIfAbsent(
+				rootEntityRole,
+				role -> {
+					final EntityDataAccess access = delegate.getEntityDataAccess( role );
+					return access.getAccessType() == AccessType.TRANSACTIONAL
+							? access
+							: new NearCacheEntityDataAccess( access, this );
+				}
+		);
+	}
+
+	@Override
+	public NaturalIdDataAccess getNaturalIdDataAccess(NavigableRole rootEntityRole) {
+		return naturalIdDataAccesses.computeIfAbsent(
+				rootEntityRole,
+				role -> {
+					final NaturalIdDataAccess access = delegate.getNaturalIdDataAccess( role );
+					return access.getAccessType() == AccessType.TRANSACTIONAL
+							? access
+							: new NearCacheNaturalIdDataAccess( access, this );
+				}
+		);
+	}
+
+	@Override
+	public CollectionDataAccess getCollectionDataAccess(NavigableRole collectionRole) {
+		return collectionDataAccesses.computeIfAbsent(
+				collectionRole,
+				role -> {
+					final CollectionDataAccess access = delegate.getCollectionDataAccess( role );
+					return access.getAccessType() == AccessType.TRANSACTIONAL
+							? access
+							: new NearCacheCollectionDataAccess( access, this );
+				}
+		);
+	}
+
+	/**
+	 * Get the data cached for the given key, if it was read before the given transaction started.
+	 *
+	 * @param key The cache key
+	 * @param txTimestamp The {@linkplain org.hibernate.cache.spi.CacheTransactionSynchronization#getCachingTimestamp()
+	 * caching timestamp} of the current transaction
+	 *
+	 * @return The cached data, or {@code null} if it has to be read from the decorated region
+	 */
+	Object getFromNearCache(Object key, long txTimestamp) {
+		final Entry entry = entries.get( key );
+		if ( entry == null
+				|| entry.value == null
+				|| entry.timestamp >= txTimestamp
+				|| entry.timestamp <= invalidationTimestamp
+				|| System.nanoTime() - entry.expiresAt > 0 ) {
+			return null;
+		}
+		return entry.value;
+	}
+
+	/**
+	 * Cache the given data read from the decorated region, unless the key was written
+	 * through this node after the data was read.
+	 *
+	 * @param key The cache key
+	 * @param value The data read from the decorated region
+	 * @param readTimestamp A timestamp obtained before reading the data
+	 */
+	void putIntoNearCache(Object key, Object value, long readTimestamp) {
+		if ( readTimestamp <= invalidationTimestamp ) {
+			return;
+		}
+		final Entry entry = new Entry( value, readTimestamp, System.nanoTime() + timeToLiveNanos );
+		while ( true ) {
+			final Entry existing = entries.putIfAbsent( key, entry );
+			if ( existing == null
+					|| existing.timestamp >= readTimestamp
+					|| entries.replace( key, existing, entry ) ) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Invalidate the near cache entry of the given key.  Must be called after the write to
+	 * the decorated region, so that reads racing with the write do not cache outdated data.
+	 */
+	void invalidate(Object key) {
+		entries.put( key, new Entry( null, nextTimestamp(), System.nanoTime() + timeToLiveNanos ) );
+	}
+
+	/**
+	 * Invalidate all near cache entries of this region.
+	 */
+	void invalidateAll() {
+		invalidationTimestamp = nextTimestamp();
+		entries.clear();
+	}
+
+	long nextTimestamp() {
+		return regionFactory.nextTimestamp();
+	}
+
+	@Override
+	public void clear() {
+		delegate.clear();
+		invalidateAll();
+	}
+
+	@Override
+	public void destroy() throws CacheException {
+		entries.clear();
+		delegate.destroy();
+	}
+
+	@Override
+	public long getElementCountInMemory() {
+		return delegate instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) delegate ).getElementCountInMemory()
+				: CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return delegate instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) delegate ).getElementCountOnDisk()
+				: CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	@Override
+	public long getSizeInMemory() {
+		return delegate instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) delegate ).getSizeInMemory()
+				: CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	/**
+	 * The number of entries currently held by the near cache, including invalidation markers
+	 */
+	public int getNearCacheSize() {
+		return entries.size();
+	}
+
+	private static final class Entry {
+		/**
+		 * The cached data, or {@code null} for an invalidation marker
+		 */
+		private final Object value;
+		private final long timestamp;
+		private final long expiresAt;
+
+		private Entry(Object value, long timestamp, long expiresAt) {
+			this.value = value;
+			this.timestamp = timestamp;
+			this.expiresAt = expiresAt;
+		}
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * {@link EntityDataAccess} of a {@link NearCacheDomainDataRegion}
+ */
+public class NearCacheEntityDataAccess extends AbstractNearCacheDataAccess<EntityDataAccess>
+		implements EntityDataAccess {
+
+	public NearCacheEntityDataAccess(EntityDataAccess delegate, NearCacheDomainDataRegion region) {
+		super( delegate, region );
+	}
+
+	@Override
+	public Object generateCacheKey(
+			Object id,
+			EntityPersister rootEntityDescriptor,
+			SessionFactoryImplementor factory,
+			String tenantIdentifier) {
+		return getDelegate().generateCacheKey( id, rootEntityDescriptor, factory, tenantIdentifier );
+	}
+
+	@Override
+	public Object getCacheKeyId(Object cacheKey) {
+		return getDelegate().getCacheKeyId( cacheKey );
+	}
+
+	@Override
+	public boolean insert(SharedSessionContractImplementor session, Object key, Object value, Object version) {
+		final boolean inserted = getDelegate().insert( session, key, value, version );
+		getNearCacheRegion().invalidate( key );
+		return inserted;
+	}
+
+	@Override
+	public boolean afterInsert(SharedSessionContractImplementor session, Object key, Object value, Object version) {
+		final boolean inserted = getDelegate().afterInsert( session, key, value, version );
+		getNearCacheRegion().invalidate( key );
+		return inserted;
+	}
+
+	@Override
+	public boolean update(
+			SharedSessionContractImplementor session,
+			Object key,
+			Object value,
+			Object currentVersion,
+			Object previousVersion) {
+		final boolean updated = getDelegate().update( session, key, value, currentVersion, previousVersion );
+		getNearCacheRegion().invalidate( key );
+		return updated;
+	}
+
+	@Override
+	public boolean afterUpdate(
+			SharedSessionContractImplementor session,
+			Object key,
+			Object value,
+			Object currentVersion,
+			Object previousVersion,
+			SoftLock lock) {
+		final boolean updated = getDelegate().afterUpdate( session, key, value, currentVersion, previousVersion, lock );
+		getNearCacheRegion().invalidate( key );
+		return updated;
+	}
+}
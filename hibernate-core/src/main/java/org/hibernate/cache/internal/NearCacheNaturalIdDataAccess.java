@@ -0,0 +1,64 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * {@link NaturalIdDataAccess} of a {@link NearCacheDomainDataRegion}
+ */
+public class NearCacheNaturalIdDataAccess extends AbstractNearCacheDataAccess<NaturalIdDataAccess>
+		implements NaturalIdDataAccess {
+
+	public NearCacheNaturalIdDataAccess(NaturalIdDataAccess delegate, NearCacheDomainDataRegion region) {
+		super( delegate, region );
+	}
+
+	@Override
+	public Object generateCacheKey(
+			Object naturalIdValues,
+			EntityPersister rootEntityDescriptor,
+			SharedSessionContractImplementor session) {
+		return getDelegate().generateCacheKey( naturalIdValues, rootEntityDescriptor, session );
+	}
+
+	@Override
+	public Object getNaturalIdValues(Object cacheKey) {
+		return getDelegate().getNaturalIdValues( cacheKey );
+	}
+
+	@Override
+	public boolean insert(SharedSessionContractImplementor session, Object key, Object value) {
+		final boolean inserted = getDelegate().insert( session, key, value );
+		getNearCacheRegion().invalidate( key );
+		return inserted;
+	}
+
+	@Override
+	public boolean afterInsert(SharedSessionContractImplementor session, Object key, Object value) {
+		final boolean inserted = getDelegate().afterInsert( session, key, value );
+		getNearCacheRegion().invalidate( key );
+		return inserted;
+	}
+
+	@Override
+	public boolean update(SharedSessionContractImplementor session, Object key, Object value) {
+		final boolean updated = getDelegate().update( session, key, value );
+		getNearCacheRegion().invalidate( key );
+		return updated;
+	}
+
+	@Override
+	public boolean afterUpdate(SharedSessionContractImplementor session, Object key, Object value, SoftLock lock) {
+		final boolean updated = getDelegate().afterUpdate( session, key, value, lock );
+		getNearCacheRegion().invalidate( key );
+		return updated;
+	}
+}
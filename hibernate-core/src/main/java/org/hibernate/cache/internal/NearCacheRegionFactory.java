@@ -0,0 +1,121 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.CacheTransactionSynchronization;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * A {@link RegionFactory} decorator which keeps a bounded, on-heap near cache in front
+ * of each {@link DomainDataRegion} built by the decorated factory, so that data read
+ * often is not fetched from a remote cache each time.
+ * <p>
+ * The near cache of a region is invalidated whenever data of the region is written
+ * through this node, and its entries expire after a configurable time to bound the
+ * staleness of data written through other nodes.  Query results and timestamps
+ * regions are not decorated.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#NEAR_CACHE_MAX_ENTRIES
+ * @see org.hibernate.cfg.AvailableSettings#NEAR_CACHE_TIME_TO_LIVE
+ */
+public class NearCacheRegionFactory implements RegionFactory {
+	/**
+	 * The default time to live of near cache entries, in milliseconds
+	 */
+	public static final int DEFAULT_TIME_TO_LIVE = 1000;
+
+	private final RegionFactory delegate;
+	private final int maxEntries;
+	private final long timeToLive;
+
+	public NearCacheRegionFactory(RegionFactory delegate, int maxEntries, long timeToLive) {
+		this.delegate = delegate;
+		this.maxEntries = maxEntries;
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * The decorated region factory
+	 */
+	public RegionFactory getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public void start(SessionFactoryOptions settings, Map<String, Object> configValues) throws CacheException {
+		delegate.start( settings, configValues );
+	}
+
+	@Override
+	public void stop() {
+		delegate.stop();
+	}
+
+	@Override
+	public boolean isMinimalPutsEnabledByDefault() {
+		return delegate.isMinimalPutsEnabledByDefault();
+	}
+
+	@Override
+	public AccessType getDefaultAccessType() {
+		return delegate.getDefaultAccessType();
+	}
+
+	@Override
+	public String qualify(String regionName) {
+		return delegate.qualify( regionName );
+	}
+
+	@Override
+	public CacheTransactionSynchronization createTransactionContext(SharedSessionContractImplementor session) {
+		return delegate.createTransactionContext( session );
+	}
+
+	@Override
+	public long nextTimestamp() {
+		return delegate.nextTimestamp();
+	}
+
+	@Override
+	public long getTimeout() {
+		return delegate.getTimeout();
+	}
+
+	@Override
+	public DomainDataRegion buildDomainDataRegion(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return new NearCacheDomainDataRegion(
+				delegate.buildDomainDataRegion( regionConfig, buildingContext ),
+				this,
+				maxEntries,
+				timeToLive
+		);
+	}
+
+	@Override
+	public QueryResultsRegion buildQueryResultsRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+		return delegate.buildQueryResultsRegion( regionName, sessionFactory );
+	}
+
+	@Override
+	public TimestampsRegion buildTimestampsRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+		return delegate.buildTimestampsRegion( regionName, sessionFactory );
+	}
+}
@@ -48,6 +48,25 @@ public class RegionFactoryInitiator implements StandardServiceInitiator<RegionFa
 
 		LOG.debugf( "Cache region factory : %s", regionFactory.getClass().getName() );
 
+		final int nearCacheMaxEntries = ConfigurationHelper.getInt(
+				AvailableSettings.NEAR_CACHE_MAX_ENTRIES,
+				configurationValues,
+				0
+		);
+		if ( nearCacheMaxEntries > 0 && !( regionFactory instanceof NoCachingRegionFactory ) ) {
+			final long nearCacheTimeToLive = ConfigurationHelper.getLong(
+					AvailableSettings.NEAR_CACHE_TIME_TO_LIVE,
+					configurationValues,
+					NearCacheRegionFactory.DEFAULT_TIME_TO_LIVE
+			);
+			LOG.debugf(
+					"Using near cache of %s entries with a time-to-live of %s ms",
+					nearCacheMaxEntries,
+					nearCacheTimeToLive
+			);
+			return new NearCacheRegionFactory( regionFactory, nearCacheMaxEntries, nearCacheTimeToLive );
+		}
+
 		return regionFactory;
 	}
 
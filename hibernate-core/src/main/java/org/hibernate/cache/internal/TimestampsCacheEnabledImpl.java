@@ -6,7 +6,10 @@
  */
 package org.hibernate.cache.internal;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCache;
@@ -14,6 +17,7 @@ import org.hibernate.cache.spi.TimestampsRegion;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
@@ -46,60 +50,56 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		final SessionFactoryImplementor factory = session.getFactory();
 		final RegionFactory regionFactory = factory.getCache().getRegionFactory();
 
-		final StatisticsImplementor statistics = factory.getStatistics();
-		final boolean stats = statistics.isStatisticsEnabled();
-
 		final Long ts = regionFactory.nextTimestamp() + regionFactory.getTimeout();
 
-		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
-		final boolean debugEnabled = log.isDebugEnabled();
-
-		for ( String space : spaces ) {
-			if ( debugEnabled ) {
-				log.debugf( "Pre-invalidating space [%s], timestamp: %s", space, ts );
-			}
-
-			try {
-				eventListenerManager.cachePutStart();
-
-				//put() has nowait semantics, is this really appropriate?
-				//note that it needs to be async replication, never local or sync
-				timestampsRegion.putIntoCache( space, ts, session );
-			}
-			finally {
-				eventListenerManager.cachePutEnd();
-			}
-
-			if ( stats ) {
-				statistics.updateTimestampsCachePut();
-			}
-		}
+		//put() has nowait semantics, is this really appropriate?
+		//note that it needs to be async replication, never local or sync
+		putTimestamps( spaces, ts, "Pre-invalidating space [%s], timestamp: %s", session );
 	}
 
 	@Override
 	public void invalidate(
 			String[] spaces,
 			SharedSessionContractImplementor session) {
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
-		final boolean stats = statistics.isStatisticsEnabled();
-
 		final Long ts = session.getFactory().getCache().getRegionFactory().nextTimestamp();
+
+		putTimestamps( spaces, ts, "Invalidating space [%s], timestamp: %s", session );
+	}
+
+	/**
+	 * Put the given timestamp for all given spaces with a single call to the region,
+	 * so that a region backed by a remote cache needs a single round trip
+	 */
+	private void putTimestamps(
+			String[] spaces,
+			Long ts,
+			String debugMessage,
+			SharedSessionContractImplementor session) {
+		if ( spaces.length == 0 ) {
+			return;
+		}
+
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
 		final boolean debugEnabled = log.isDebugEnabled();
 
+		final Map<String, Long> timestamps = CollectionHelper.linkedMapOfSize( spaces.length );
 		for ( String space : spaces ) {
 			if ( debugEnabled ) {
-				log.debugf( "Invalidating space [%s], timestamp: %s", space, ts );
+				log.debugf( debugMessage, space, ts );
 			}
+			timestamps.put( space, ts );
+		}
 
-			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
-			try {
-				eventListenerManager.cachePutStart();
-				timestampsRegion.putIntoCache( space, ts, session );
-			}
-			finally {
-				eventListenerManager.cachePutEnd();
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		try {
+			eventListenerManager.cachePutStart();
+			timestampsRegion.putAllIntoCache( timestamps, session );
+		}
+		finally {
+			eventListenerManager.cachePutEnd();
 
-				if ( stats ) {
+			if ( statistics.isStatisticsEnabled() ) {
+				for ( int i = 0; i < timestamps.size(); i++ ) {
 					statistics.updateTimestampsCachePut();
 				}
 			}
@@ -111,10 +111,23 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 			String[] spaces,
 			Long timestamp,
 			SharedSessionContractImplementor session) {
+		return isUpToDate( Arrays.asList( spaces ), timestamp, session );
+	}
+
+	@Override
+	public boolean isUpToDate(
+			Collection<String> spaces,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		if ( spaces.isEmpty() ) {
+			return true;
+		}
+
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final Map<Object, Object> lastUpdates = getLastUpdateTimestampsForSpaces( spaces, session );
 
 		for ( String space : spaces ) {
-			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
+			if ( isSpaceOutOfDate( space, (Long) lastUpdates.get( space ), timestamp, statistics ) ) {
 				return false;
 			}
 		}
@@ -124,10 +137,9 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 
 	private boolean isSpaceOutOfDate(
 			String space,
+			Long lastUpdate,
 			Long timestamp,
-			SharedSessionContractImplementor session,
 			StatisticsImplementor statistics) {
-		final Long lastUpdate = getLastUpdateTimestampForSpace( space, session );
 		if ( lastUpdate == null ) {
 			// the last update timestamp for the given space was evicted from the
 			// cache or there have been no writes to it since startup
@@ -157,32 +169,22 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		return false;
 	}
 
-	@Override
-	public boolean isUpToDate(
+	/**
+	 * Get the last update timestamps of all given spaces with a single call to the region,
+	 * so that a region backed by a remote cache needs a single round trip
+	 */
+	private Map<Object, Object> getLastUpdateTimestampsForSpaces(
 			Collection<String> spaces,
-			Long timestamp,
 			SharedSessionContractImplementor session) {
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
-
-		for ( String space : spaces ) {
-			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
-				return false;
-			}
-		}
-
-		return true;
-	}
-
-	private Long getLastUpdateTimestampForSpace(String space, SharedSessionContractImplementor session) {
-		Long ts = null;
+		Map<Object, Object> timestamps = Collections.emptyMap();
 		try {
 			session.getEventListenerManager().cacheGetStart();
-			ts = (Long) timestampsRegion.getFromCache( space, session );
+			timestamps = timestampsRegion.getAllFromCache( spaces, session );
 		}
 		finally {
-			session.getEventListenerManager().cacheGetEnd( ts != null );
+			session.getEventListenerManager().cacheGetEnd( !timestamps.isEmpty() );
 		}
-		return ts;
+		return timestamps;
 	}
 
 }
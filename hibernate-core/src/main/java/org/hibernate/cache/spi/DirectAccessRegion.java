@@ -6,7 +6,11 @@
  */
 package org.hibernate.cache.spi;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
 
 /**
  * Specialized {@link Region} whose data is accessed directly,
@@ -27,4 +31,39 @@ public interface DirectAccessRegion extends Region {
 	 * Put a value by key
 	 */
 	void putIntoCache(Object key, Object value, SharedSessionContractImplementor session);
+
+	/**
+	 * Get the values of all given keys, which allows a region backed
+	 * by a remote cache to get them in a single round trip.
+	 *
+	 * @implNote the method default is to call {@link #getFromCache} for each key
+	 *
+	 * @return The values by key; keys without a value are not contained
+	 *
+	 * @since 6.2
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> values = CollectionHelper.mapOfSize( keys.size() );
+		for ( Object key : keys ) {
+			final Object value = getFromCache( key, session );
+			if ( value != null ) {
+				values.put( key, value );
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Put all given values by key, which allows a region backed
+	 * by a remote cache to put them in a single round trip.
+	 *
+	 * @implNote the method default is to call {@link #putIntoCache} for each entry
+	 *
+	 * @since 6.2
+	 */
+	default void putAllIntoCache(Map<?, ?> values, SharedSessionContractImplementor session) {
+		for ( Map.Entry<?, ?> entry : values.entrySet() ) {
+			putIntoCache( entry.getKey(), entry.getValue(), session );
+		}
+	}
 }
@@ -6,11 +6,15 @@
  */
 package org.hibernate.cache.spi.access;
 
+import java.util.Collection;
+import java.util.Map;
+
 import jakarta.persistence.Cache;
 
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
 
 /**
  * Base contract for accessing the underlying cached data for a particular
@@ -57,6 +61,33 @@ public interface CachedDomainDataAccess {
 	 */
 	Object get(SharedSessionContractImplementor session, Object key);
 
+	/**
+	 * Attempt to retrieve the objects of all given keys from the cache, which
+	 * allows a region backed by a remote cache to retrieve them in a single
+	 * round trip.  Used when resolving many entities/collections at once.
+	 *
+	 * @implNote the method default is to call {@link #get} for each key
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to be retrieved.
+	 *
+	 * @return the cached data by key; keys without cached data are not contained
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @since 6.2
+	 */
+	default Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		final Map<Object, Object> items = CollectionHelper.mapOfSize( keys.size() );
+		for ( Object key : keys ) {
+			final Object item = get( session, key );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
+
 	/**
 	 * Attempt to cache an object, afterQuery loading from the database.
 	 *
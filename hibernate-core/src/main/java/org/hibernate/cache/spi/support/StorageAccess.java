@@ -6,7 +6,11 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
 
 /**
  * A general read/write abstraction over the specific "cache" object from the caching provider.
@@ -28,6 +32,37 @@ public interface StorageAccess {
 	 */
 	void putIntoCache(Object key, Object value, SharedSessionContractImplementor session);
 
+	/**
+	 * Get the items of all given keys from the cache.  Implementations
+	 * backed by a remote cache should get them in a single round trip.
+	 *
+	 * @implNote the method default is to call {@link #getFromCache} for each key
+	 *
+	 * @return The items by key; keys without an item are not contained
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> items = CollectionHelper.mapOfSize( keys.size() );
+		for ( Object key : keys ) {
+			final Object item = getFromCache( key, session );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Put all given items into the cache.  Implementations backed by
+	 * a remote cache should put them in a single round trip.
+	 *
+	 * @implNote the method default is to call {@link #putIntoCache} for each entry
+	 */
+	default void putAllIntoCache(Map<?, ?> items, SharedSessionContractImplementor session) {
+		for ( Map.Entry<?, ?> entry : items.entrySet() ) {
+			putIntoCache( entry.getKey(), entry.getValue(), session );
+		}
+	}
+
 	/**
 	 * Remove an item from the cache by key
 	 */
@@ -815,6 +815,23 @@ public interface AvailableSettings {
 	 */
 	String SCANNER_DISCOVERY = "hibernate.archive.autodetection";
 
+	/**
+	 * Specifies the path of a file holding a snapshot of the result of scanning.
+	 * If the snapshot is current, the result of scanning is read from the file
+	 * instead of visiting the archives again.  A missing or stale snapshot is
+	 * replaced with the result of the configured {@linkplain #SCANNER scanner}.
+	 * <p>
+	 * The snapshot is considered stale if the scanned archives, the explicitly
+	 * listed classes and mapping files, or the version of Hibernate changed.
+	 * <p>
+	 * By default, no snapshot is used.
+	 *
+	 * @see org.hibernate.boot.archive.scan.internal.SnapshotScanner
+	 *
+	 * @since 6.2
+	 */
+	String SCANNER_SNAPSHOT = "hibernate.archive.snapshot";
+
 	/**
 	 * Used to specify the {@link org.hibernate.boot.model.naming.ImplicitNamingStrategy}
 	 * class to use. The following shortcut names are defined for this setting:
@@ -1077,6 +1094,39 @@ public interface AvailableSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * When enabled, allows JDBC batches for several entity types to be open at the same
+	 * time while inserts are flushed, instead of executing the current batch each time
+	 * an insert for a different entity type is added.  Batches are executed in an order
+	 * which respects the foreign keys between the mapped tables, so that interleaved
+	 * inserts of associated entities are batched without the cost of sorting them with
+	 * {@value #ORDER_INSERTS}.
+	 * <p>
+	 * Has no effect unless {@value #STATEMENT_BATCH_SIZE} is set.
+	 * <p>
+	 * By default, pipelining is disabled.
+	 *
+	 * @since 6.2
+	 */
+	String STATEMENT_BATCH_PIPELINING = "hibernate.jdbc.batch_pipelining";
+
+	/**
+	 * When enabled, batched inserts of entities are executed as a single multi-row
+	 * {@code insert ... values (...),(...)} statement per table, instead of using JDBC
+	 * batching, if the dialect {@linkplain org.hibernate.dialect.Dialect#supportsMultiRowInsertBatching()
+	 * supports} it.  The number of rows per statement is limited by the batch size and
+	 * by the {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit() parameter
+	 * count limit} of the dialect.
+	 * <p>
+	 * Useful with JDBC drivers which do not rewrite batches themselves.  Has no effect
+	 * unless {@value #STATEMENT_BATCH_SIZE} is set.
+	 * <p>
+	 * By default, multi-row inserts are disabled.
+	 *
+	 * @since 6.2
+	 */
+	String STATEMENT_BATCH_MULTI_ROW_INSERTS = "hibernate.jdbc.batch_multi_row_inserts";
+
 	/**
 	 * Specifies a {@linkplain java.util.TimeZone time zone} that should be passed to
 	 * {@link java.sql.PreparedStatement#setTimestamp(int, java.sql.Timestamp, java.util.Calendar)}
@@ -1189,6 +1239,19 @@ public interface AvailableSettings {
 	 */
 	String SEMANTIC_QUERY_PRODUCER = "hibernate.query.hql.translator";
 
+	/**
+	 * When enabled, specifies that the HQL parser should be warmed up when the
+	 * {@link org.hibernate.SessionFactory} is created, by parsing a few statements
+	 * covering the commonly used rules of the grammar.  This populates the prediction
+	 * cache shared by all parsers, which would otherwise make the first queries parsed
+	 * after startup noticeably slower.
+	 * <p>
+	 * By default, the parser is not warmed up.
+	 *
+	 * @since 6.2
+	 */
+	String HQL_PARSER_WARM_UP = "hibernate.query.hql.parser_warm_up";
+
 	/**
 	 * Specifies a {@link org.hibernate.query.sqm.sql.SqmTranslatorFactory} to use for
 	 * HQL query translation.
@@ -1218,6 +1281,20 @@ public interface AvailableSettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * When enabled, specifies that each named HQL query keep the SQM tree produced
+	 * when it is first translated, usually by the {@linkplain #QUERY_STARTUP_CHECKING
+	 * startup check}, so that the HQL is never parsed again, even after the
+	 * interpretation has been evicted from the query plan cache.  The trees of all
+	 * named queries are then held for the lifetime of the {@link org.hibernate.SessionFactory}.
+	 * <p>
+	 * By default, the trees of named queries are retained.  Applications with many
+	 * rarely executed named queries may disable this to reduce memory use.
+	 *
+	 * @since 6.2
+	 */
+	String NAMED_QUERY_SQM_RETENTION = "hibernate.query.named_sqm_retention";
+
 	/**
 	 * Enable ordering of update statements by primary key value, for the purpose of more
 	 * efficient JDBC batching
@@ -1497,6 +1574,35 @@ public interface AvailableSettings {
 	 */
 	String USE_DIRECT_REFERENCE_CACHE_ENTRIES = "hibernate.cache.use_reference_entries";
 
+	/**
+	 * The maximum number of entries of the on-heap near cache kept by each node in
+	 * front of each domain data region of the configured {@linkplain #CACHE_REGION_FACTORY
+	 * region factory}.  A near cache avoids a network round trip for each read of a
+	 * remote second-level cache, and is mainly useful for data which is read often and
+	 * seldom written.
+	 * <p>
+	 * Entries are invalidated when the data is written through this node, and expire
+	 * after {@value #NEAR_CACHE_TIME_TO_LIVE} to bound the staleness of data written
+	 * through other nodes.
+	 * <p>
+	 * By default, no near cache is used.
+	 *
+	 * @see org.hibernate.cache.internal.NearCacheRegionFactory
+	 *
+	 * @since 6.2
+	 */
+	String NEAR_CACHE_MAX_ENTRIES = "hibernate.cache.near_cache.max_entries";
+
+	/**
+	 * The time, in milliseconds, after which an entry of the near cache enabled by
+	 * {@value #NEAR_CACHE_MAX_ENTRIES} expires.
+	 * <p>
+	 * The default is one second.
+	 *
+	 * @since 6.2
+	 */
+	String NEAR_CACHE_TIME_TO_LIVE = "hibernate.cache.near_cache.time_to_live";
+
 
 
 
@@ -1572,6 +1678,26 @@ public interface AvailableSettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * The maximum estimated heap retained by the caches of the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query
+	 * interpretation cache}, in bytes.  The budget is shared by the query plan,
+	 * HQL interpretation and native query parameter caches, each of which may
+	 * use a third of it.
+	 * <p>
+	 * When specified, the caches are bounded by the estimated size of their
+	 * entries instead of by their number, and {@value #QUERY_PLAN_CACHE_MAX_SIZE}
+	 * is ignored.  Hit, miss, eviction and weight counters are then reported by
+	 * {@link org.hibernate.stat.Statistics#getQueryInterpretationCacheStatistics(String)}.
+	 * <p>
+	 * By default, the caches are bounded by entry count.
+	 *
+	 * @see org.hibernate.query.internal.QueryInterpretationCacheWeightedImpl
+	 *
+	 * @since 6.2
+	 */
+	String QUERY_PLAN_CACHE_MAX_WEIGHT = "hibernate.query.plan_cache_max_weight";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
@@ -2199,6 +2325,22 @@ public interface AvailableSettings {
 	 */
 	String DELAY_ENTITY_LOADER_CREATIONS = "hibernate.loader.delay_entity_loader_creations";
 
+	/**
+	 * When enabled, the persistence context indexes managed entities, entity
+	 * snapshots and collections using open-addressing tables partitioned by
+	 * entity and collection role, instead of {@link java.util.HashMap}s.
+	 * <p>
+	 * This avoids allocating a node per managed instance, and compares
+	 * {@code Long} and {@code Integer} identifiers as primitive values, which
+	 * reduces the allocation rate and improves lookup speed for sessions
+	 * holding many entities.
+	 * <p>
+	 * The default is {@code false}.
+	 *
+	 * @since 6.2
+	 */
+	String PERSISTENCE_CONTEXT_OPEN_ADDRESSING = "hibernate.persistence_context.open_addressing";
+
 	/**
 	 * A transaction can be rolled back by another thread ("tracking by thread")
 	 * -- not the original application. Examples of this include a JTA
@@ -2419,6 +2561,27 @@ public interface AvailableSettings {
 	 */
 	String CRITERIA_COPY_TREE = "hibernate.criteria.copy_tree";
 
+	/**
+	 * When enabled, specifies that query plans of criteria queries should be cached
+	 * and shared between criteria queries with the same structure.  Two criteria
+	 * queries have the same structure when they only differ in the values passed to
+	 * {@link jakarta.persistence.criteria.CriteriaBuilder} methods which are bound
+	 * as parameters, according to {@link #CRITERIA_VALUE_HANDLING_MODE}.
+	 * <p>
+	 * The structure of a criteria query is determined by rendering it on every
+	 * execution, so this is only worthwhile for applications executing the same
+	 * criteria queries over and over again.  As with {@link #CRITERIA_COPY_TREE}
+	 * disabled, it is assumed that criteria queries are not modified after they
+	 * were executed.
+	 * <p>
+	 * By default, query plans of criteria queries are not cached.
+	 *
+	 * @since 6.2
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#isCriteriaPlanCacheEnabled()
+	 */
+	String CRITERIA_PLAN_CACHE_ENABLED = "hibernate.criteria.plan_cache_enabled";
+
 	/**
 	 * Specifies a default value for all {@link org.hibernate.jpa.spi.JpaCompliance}
 	 * flags. Each individual flag may still be overridden by explicitly specifying
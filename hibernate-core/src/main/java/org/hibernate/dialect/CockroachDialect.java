@@ -584,6 +584,11 @@ public class CockroachDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean useArrayForMultiValuedParameters() {
+		return true;
+	}
+
 	@Override
 	public boolean supportsTemporalLiteralOffset() {
 		return true;
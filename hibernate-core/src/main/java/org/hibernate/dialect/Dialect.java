@@ -3784,6 +3784,19 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return 0;
 	}
 
+	/**
+	 * Return the limit that the underlying database, or its JDBC driver, places
+	 * on the number of JDBC parameters of a single statement. If no such limit
+	 * is known, simply return zero or a number smaller than zero.
+	 *
+	 * @return The limit, or a non-positive integer to indicate no limit.
+	 *
+	 * @since 6.2
+	 */
+	public int getParameterCountLimit() {
+		return 0;
+	}
+
 	/**
 	 * Must LOB values occur last in inserts and updates?
 	 *
@@ -4123,6 +4136,23 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return false;
 	}
 
+	/**
+	 * Should keys be bound as a single array parameter when loading entities or
+	 * collections by multiple keys, for example, {@code where id = any(?)},
+	 * instead of one parameter per key in an {@code in} list?
+	 * <p>
+	 * A single array parameter results in the same SQL for any number of keys,
+	 * which avoids one SQL string per batch size in statement caches.
+	 *
+	 * @return {@code true} if the dialect supports binding arrays, and rendering
+	 * {@link org.hibernate.sql.ast.tree.predicate.InArrayPredicate}
+	 *
+	 * @since 6.2
+	 */
+	public boolean useArrayForMultiValuedParameters() {
+		return false;
+	}
+
 	/**
 	 * The SQL type name for the array type with elements of the given type name.
 	 * <p>
@@ -4251,6 +4281,21 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return true;
 	}
 
+	/**
+	 * Does this dialect accept multi-row inserts of form
+	 * {@code insert into t (a,b) values (?,?),(?,?)} with JDBC
+	 * parameters, so that a batch of inserts may be executed as
+	 * a single statement?
+	 *
+	 * @return {@code true} if batched inserts may be rewritten
+	 *         as multi-row inserts
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_MULTI_ROW_INSERTS
+	 */
+	public boolean supportsMultiRowInsertBatching() {
+		return supportsValuesListForInsert();
+	}
+
 	/**
 	 * Does this dialect support {@code SKIP_LOCKED} timeout.
 	 *
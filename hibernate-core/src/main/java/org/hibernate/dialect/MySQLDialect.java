@@ -1425,6 +1425,11 @@ public class MySQLDialect extends Dialect {
 		return getMySQLVersion().isSameOrAfter( 8, 0, 14 );
 	}
 
+	@Override
+	public int getParameterCountLimit() {
+		return 65_535;
+	}
+
 	@Override
 	public boolean supportsRecursiveCTE() {
 		return getMySQLVersion().isSameOrAfter( 8, 0, 14 );
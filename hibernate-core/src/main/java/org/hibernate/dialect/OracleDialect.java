@@ -340,6 +340,12 @@ public class OracleDialect extends Dialect {
 		return getVersion().isSameOrAfter( 12 );
 	}
 
+	@Override
+	public boolean supportsMultiRowInsertBatching() {
+		// multi-row values lists are only accepted since 23c
+		return getVersion().isSameOrAfter( 23 );
+	}
+
 	/**
 	 * Oracle doesn't have any sort of {@link Types#BOOLEAN}
 	 * type or {@link Types#TIME} type, and its default behavior
@@ -699,6 +699,12 @@ public class PostgreSQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public int getParameterCountLimit() {
+		// the number of parameters is sent as a 16-bit integer by the JDBC driver
+		return 32_767;
+	}
+
 	@Override
 	public boolean supportsPartitionBy() {
 		return true;
@@ -1009,6 +1015,11 @@ public class PostgreSQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean useArrayForMultiValuedParameters() {
+		return true;
+	}
+
 	@Override
 	public boolean supportsJdbcConnectionLobCreation(DatabaseMetaData databaseMetaData) {
 		return false;
@@ -0,0 +1,477 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.EntityKey;
+
+/**
+ * An alternative to {@link HashMap} for the {@link EntityKey} and {@link CollectionKey}
+ * indexed maps of the {@link StatefulPersistenceContext}, selected by
+ * {@link org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_OPEN_ADDRESSING}.
+ * <p>
+ * Keys are partitioned by root entity name or collection role, and each partition
+ * is an open-addressing table with linear probing, so that no node is allocated per
+ * entry.  Within a partition, keys whose identifiers are {@link Long}s or
+ * {@link Integer}s are hashed and compared as primitive {@code long}s, without
+ * going through {@link org.hibernate.type.Type#isEqual}.
+ * <p>
+ * Views and their iterators are read-only, and iterators are fail-fast.
+ *
+ * @param <K> {@link EntityKey} or {@link CollectionKey}
+ * @param <V> the type of values
+ */
+final class PersistenceContextKeyMap<K, V> extends AbstractMap<K, V> {
+
+	/**
+	 * Access to the partition and identifier of a key
+	 */
+	private interface KeyAccess<K> {
+		String partition(K key);
+
+		Object identifier(K key);
+	}
+
+	private static final KeyAccess<EntityKey> ENTITY_KEY_ACCESS = new KeyAccess<>() {
+		@Override
+		public String partition(EntityKey key) {
+			return key.getPersister().getRootEntityName();
+		}
+
+		@Override
+		public Object identifier(EntityKey key) {
+			return key.getIdentifier();
+		}
+	};
+
+	private static final KeyAccess<CollectionKey> COLLECTION_KEY_ACCESS = new KeyAccess<>() {
+		@Override
+		public String partition(CollectionKey key) {
+			return key.getRole();
+		}
+
+		@Override
+		public Object identifier(CollectionKey key) {
+			return key.getKey();
+		}
+	};
+
+	static <V> PersistenceContextKeyMap<EntityKey, V> forEntityKeys() {
+		return new PersistenceContextKeyMap<>( ENTITY_KEY_ACCESS );
+	}
+
+	static <V> PersistenceContextKeyMap<CollectionKey, V> forCollectionKeys() {
+		return new PersistenceContextKeyMap<>( COLLECTION_KEY_ACCESS );
+	}
+
+	private final KeyAccess<K> keyAccess;
+	private final HashMap<String, Table> tables = new HashMap<>();
+
+	// the partition of the last access: consecutive operations usually target the same entity
+	private String lastPartition;
+	private Table lastTable;
+
+	private int size;
+	private int modCount;
+
+	private PersistenceContextKeyMap(KeyAccess<K> keyAccess) {
+		this.keyAccess = keyAccess;
+	}
+
+	private Table findTable(K key) {
+		final String partition = keyAccess.partition( key );
+		if ( partition == lastPartition ) {
+			return lastTable;
+		}
+		final Table table = tables.get( partition );
+		if ( table != null ) {
+			lastPartition = partition;
+			lastTable = table;
+		}
+		return table;
+	}
+
+	private Table getOrCreateTable(K key) {
+		final Table existing = findTable( key );
+		if ( existing != null ) {
+			return existing;
+		}
+		final String partition = keyAccess.partition( key );
+		final Table table = new Table( keyAccess.identifier( key ).getClass() );
+		tables.put( partition, table );
+		lastPartition = partition;
+		lastTable = table;
+		return table;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		final Table table = findTable( (K) key );
+		return table == null ? null : table.get( (K) key );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean containsKey(Object key) {
+		final Table table = findTable( (K) key );
+		return table != null && table.indexOf( (K) key ) >= 0;
+	}
+
+	@Override
+	public V put(K key, V value) {
+		return getOrCreateTable( key ).put( key, value );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		final Table table = findTable( (K) key );
+		return table == null ? null : table.remove( (K) key );
+	}
+
+	@Override
+	public void clear() {
+		// like HashMap, keep the tables allocated for reuse
+		for ( Table table : tables.values() ) {
+			table.clear();
+		}
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		final int expectedModCount = modCount;
+		for ( Table table : tables.values() ) {
+			table.forEach( action );
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+
+	@Override
+	public Set<K> keySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<K> iterator() {
+				return new TableIterator<>() {
+					@Override
+					@SuppressWarnings("unchecked")
+					K element(Table table, int index) {
+						return (K) table.keys[index];
+					}
+				};
+			}
+
+			@Override
+			public boolean contains(Object o) {
+				return containsKey( o );
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	@Override
+	public Collection<V> values() {
+		return new AbstractCollection<>() {
+			@Override
+			public Iterator<V> iterator() {
+				return new TableIterator<>() {
+					@Override
+					@SuppressWarnings("unchecked")
+					V element(Table table, int index) {
+						return (V) table.values[index];
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<Entry<K, V>> iterator() {
+				return new TableIterator<>() {
+					@Override
+					@SuppressWarnings("unchecked")
+					Entry<K, V> element(Table table, int index) {
+						return new SimpleImmutableEntry<>( (K) table.keys[index], (V) table.values[index] );
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	private static int mix(long value) {
+		final long h = value * 0x9E3779B97F4A7C15L;
+		return (int) ( h ^ ( h >>> 32 ) );
+	}
+
+	private static int mix(int value) {
+		final int h = value * 0x9E3779B9;
+		return h ^ ( h >>> 16 );
+	}
+
+	private static boolean isIntegral(Class<?> identifierClass) {
+		return identifierClass == Long.class || identifierClass == Integer.class;
+	}
+
+	/**
+	 * An open-addressing table holding the keys of a single partition
+	 */
+	private final class Table {
+		private static final int INITIAL_CAPACITY = 16;
+
+		// the class of all identifiers when hashed as primitive longs, or null
+		private Class<?> integralIdentifierClass;
+		private long[] ids;
+		private Object[] keys;
+		private Object[] values;
+		private int tableSize;
+		private int mask;
+
+		private Table(Class<?> identifierClass) {
+			this.integralIdentifierClass = isIntegral( identifierClass ) ? identifierClass : null;
+			allocate( INITIAL_CAPACITY );
+		}
+
+		private void allocate(int capacity) {
+			ids = integralIdentifierClass == null ? null : new long[capacity];
+			keys = new Object[capacity];
+			values = new Object[capacity];
+			mask = capacity - 1;
+		}
+
+		private boolean isIntegralKey(Object identifier) {
+			return identifier.getClass() == integralIdentifierClass;
+		}
+
+		private int homeSlot(int index) {
+			return ( ids != null ? mix( ids[index] ) : mix( keys[index].hashCode() ) ) & mask;
+		}
+
+		private int indexOf(K key) {
+			final Object identifier = keyAccess.identifier( key );
+			if ( ids != null ) {
+				if ( !isIntegralKey( identifier ) ) {
+					return -1;
+				}
+				final long id = ( (Number) identifier ).longValue();
+				for ( int i = mix( id ) & mask; keys[i] != null; i = ( i + 1 ) & mask ) {
+					if ( ids[i] == id ) {
+						return i;
+					}
+				}
+			}
+			else {
+				for ( int i = mix( key.hashCode() ) & mask; keys[i] != null; i = ( i + 1 ) & mask ) {
+					if ( keys[i] == key || keys[i].equals( key ) ) {
+						return i;
+					}
+				}
+			}
+			return -1;
+		}
+
+		@SuppressWarnings("unchecked")
+		private V get(K key) {
+			final int index = indexOf( key );
+			return index < 0 ? null : (V) values[index];
+		}
+
+		@SuppressWarnings("unchecked")
+		private V put(K key, V value) {
+			if ( ids != null && !isIntegralKey( keyAccess.identifier( key ) ) ) {
+				// should not happen, but stay correct for unexpected identifier types
+				integralIdentifierClass = null;
+				rehash( keys.length );
+			}
+
+			final int existing = indexOf( key );
+			if ( existing >= 0 ) {
+				final V previous = (V) values[existing];
+				values[existing] = value;
+				return previous;
+			}
+
+			if ( ( tableSize + 1 ) * 4 > keys.length * 3 ) {
+				rehash( keys.length * 2 );
+			}
+			insert( key, value );
+			tableSize++;
+			size++;
+			modCount++;
+			return null;
+		}
+
+		private void insert(Object key, Object value) {
+			if ( ids != null ) {
+				@SuppressWarnings("unchecked")
+				final long id = ( (Number) keyAccess.identifier( (K) key ) ).longValue();
+				int i = mix( id ) & mask;
+				while ( keys[i] != null ) {
+					i = ( i + 1 ) & mask;
+				}
+				ids[i] = id;
+				keys[i] = key;
+				values[i] = value;
+			}
+			else {
+				int i = mix( key.hashCode() ) & mask;
+				while ( keys[i] != null ) {
+					i = ( i + 1 ) & mask;
+				}
+				keys[i] = key;
+				values[i] = value;
+			}
+		}
+
+		private void rehash(int capacity) {
+			final Object[] oldKeys = keys;
+			final Object[] oldValues = values;
+			allocate( capacity );
+			for ( int i = 0; i < oldKeys.length; i++ ) {
+				if ( oldKeys[i] != null ) {
+					insert( oldKeys[i], oldValues[i] );
+				}
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private V remove(K key) {
+			int gap = indexOf( key );
+			if ( gap < 0 ) {
+				return null;
+			}
+			final V previous = (V) values[gap];
+
+			// backward-shift deletion, so that no tombstones are needed
+			for ( int i = ( gap + 1 ) & mask; keys[i] != null; i = ( i + 1 ) & mask ) {
+				final int home = homeSlot( i );
+				if ( ( ( i - home ) & mask ) >= ( ( i - gap ) & mask ) ) {
+					if ( ids != null ) {
+						ids[gap] = ids[i];
+					}
+					keys[gap] = keys[i];
+					values[gap] = values[i];
+					gap = i;
+				}
+			}
+			keys[gap] = null;
+			values[gap] = null;
+
+			tableSize--;
+			size--;
+			modCount++;
+			return previous;
+		}
+
+		private void clear() {
+			Arrays.fill( keys, null );
+			Arrays.fill( values, null );
+			tableSize = 0;
+		}
+
+		@SuppressWarnings("unchecked")
+		private void forEach(BiConsumer<? super K, ? super V> action) {
+			final Object[] keys = this.keys;
+			final Object[] values = this.values;
+			for ( int i = 0; i < keys.length; i++ ) {
+				if ( keys[i] != null ) {
+					action.accept( (K) keys[i], (V) values[i] );
+				}
+			}
+		}
+	}
+
+	private abstract class TableIterator<E> implements Iterator<E> {
+		private final Iterator<Table> tableIterator = tables.values().iterator();
+		private final int expectedModCount = modCount;
+		private Table table;
+		private int index;
+		private boolean ready;
+
+		abstract E element(Table table, int index);
+
+		@Override
+		public boolean hasNext() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( !ready ) {
+				ready = seek();
+			}
+			return ready;
+		}
+
+		private boolean seek() {
+			while ( true ) {
+				if ( table != null ) {
+					final Object[] keys = table.keys;
+					for ( ; index < keys.length; index++ ) {
+						if ( keys[index] != null ) {
+							return true;
+						}
+					}
+				}
+				if ( !tableIterator.hasNext() ) {
+					return false;
+				}
+				table = tableIterator.next();
+				index = 0;
+			}
+		}
+
+		@Override
+		public E next() {
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			ready = false;
+			return element( table, index++ );
+		}
+	}
+}
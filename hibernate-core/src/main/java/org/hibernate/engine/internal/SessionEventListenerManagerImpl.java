@@ -10,6 +10,7 @@ import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Objects;
 
+import org.hibernate.BaseSessionEventListener;
 import org.hibernate.SessionEventListener;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 
@@ -18,11 +19,42 @@ import org.hibernate.engine.spi.SessionEventListenerManager;
  */
 public class SessionEventListenerManagerImpl implements SessionEventListenerManager, Serializable {
 
+	private static final ClassValue<Boolean> observesResultSetProcessing = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			return overrides( type, "resultSetProcessingStart", String.class, String.class )
+					|| overrides( type, "resultSetProcessingEnd", String.class, String.class, int.class );
+		}
+	};
+
 	private SessionEventListener[] listeners;
+	private boolean resultSetProcessingObserved;
 
 	public SessionEventListenerManagerImpl(SessionEventListener... initialListener) {
 		//no need for defensive copies until the array is mutated:
 		this.listeners = initialListener;
+		this.resultSetProcessingObserved = observesResultSetProcessing( initialListener );
+	}
+
+	private static boolean overrides(Class<?> listenerType, String methodName, Class<?>... parameterTypes) {
+		try {
+			final Class<?> declaringType = listenerType.getMethod( methodName, parameterTypes ).getDeclaringClass();
+			return declaringType != SessionEventListener.class && declaringType != BaseSessionEventListener.class;
+		}
+		catch (NoSuchMethodException e) {
+			return true;
+		}
+	}
+
+	private static boolean observesResultSetProcessing(SessionEventListener[] listeners) {
+		if ( listeners != null ) {
+			for ( SessionEventListener listener : listeners ) {
+				if ( observesResultSetProcessing.get( listener.getClass() ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
 	}
 
 	@Override
@@ -40,6 +72,14 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 			System.arraycopy( additionalListeners, 0, newList, existing.length, additionalListeners.length );
 			this.listeners = newList;
 		}
+		if ( !resultSetProcessingObserved ) {
+			resultSetProcessingObserved = observesResultSetProcessing( additionalListeners );
+		}
+	}
+
+	@Override
+	public boolean isResultSetProcessingObserved() {
+		return resultSetProcessingObserved;
 	}
 
 	@Override
@@ -163,6 +203,28 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 		}
 	}
 
+	@Override
+	public void resultSetProcessingStart(String queryIdentifier, String entityName) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.resultSetProcessingStart( queryIdentifier, entityName );
+		}
+	}
+
+	@Override
+	public void resultSetProcessingEnd(String queryIdentifier, String entityName, int numberOfRows) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.resultSetProcessingEnd( queryIdentifier, entityName, numberOfRows );
+		}
+	}
+
 	@Override
 	public void cachePutStart() {
 		if ( listeners == null ) {
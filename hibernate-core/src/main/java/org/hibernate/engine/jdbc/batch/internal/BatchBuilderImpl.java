@@ -17,6 +17,7 @@ import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.mutation.EntityInsertBatchKey;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
@@ -31,6 +32,8 @@ import static org.hibernate.jdbc.Expectations.NONE;
  */
 public class BatchBuilderImpl implements BatchBuilder {
 	private final int globalBatchSize;
+	private final boolean pipeliningEnabled;
+	private final boolean multiRowInsertsEnabled;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -39,20 +42,52 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param pipeliningEnabled Whether batches for several keys may be open at the same time
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean pipeliningEnabled) {
+		this( globalBatchSize, pipeliningEnabled, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param pipeliningEnabled Whether batches for several keys may be open at the same time
+	 * @param multiRowInsertsEnabled Whether batched entity inserts are executed as multi-row inserts
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean pipeliningEnabled, boolean multiRowInsertsEnabled) {
 		if ( BATCH_TRACE_ENABLED ) {
 			BATCH_LOGGER.tracef(
-					"Using standard BatchBuilder (%s)",
-					globalBatchSize
+					"Using standard BatchBuilder (%s, pipelining=%s, multi-row inserts=%s)",
+					globalBatchSize,
+					pipeliningEnabled,
+					multiRowInsertsEnabled
 			);
 		}
 
 		this.globalBatchSize = globalBatchSize;
+		this.pipeliningEnabled = pipeliningEnabled;
+		this.multiRowInsertsEnabled = multiRowInsertsEnabled;
 	}
 
 	public int getJdbcBatchSize() {
 		return globalBatchSize;
 	}
 
+	@Override
+	public boolean isPipeliningEnabled() {
+		return pipeliningEnabled;
+	}
+
 	@Override
 	public Batch buildBatch(
 			BatchKey key,
@@ -64,7 +99,16 @@ public class BatchBuilderImpl implements BatchBuilder {
 				: explicitBatchSize;
 		assert batchSize > 1;
 
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		final PreparedStatementGroup statementGroup = statementGroupSupplier.get();
+		if ( multiRowInsertsEnabled
+				&& key instanceof EntityInsertBatchKey
+				&& jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices()
+						.getDialect().supportsMultiRowInsertBatching()
+				&& MultiRowInsertBatch.isApplicable( statementGroup ) ) {
+			return new MultiRowInsertBatch( key, statementGroup, batchSize, jdbcCoordinator );
+		}
+
+		return new BatchImpl( key, statementGroup, batchSize, jdbcCoordinator );
 	}
 
 
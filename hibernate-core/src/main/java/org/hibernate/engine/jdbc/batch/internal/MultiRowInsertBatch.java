@@ -0,0 +1,440 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jdbc.BatchedTooManyRowsAffectedException;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.sql.model.PreparableMutationOperation;
+import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_DEBUG_ENABLED;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_TRACE_ENABLED;
+
+/**
+ * Batch of inserts which, instead of using JDBC batching, collects the parameter
+ * bindings of the batched rows and executes a single multi-row insert of the form
+ * {@code insert into t (a,b) values (?,?),(?,?),...} for each table.  The number
+ * of rows per statement is limited by the {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit()
+ * parameter count limit} of the dialect.
+ * <p>
+ * Only used for statement groups for which {@link #isApplicable} returns {@code true}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_MULTI_ROW_INSERTS
+ */
+public class MultiRowInsertBatch implements Batch {
+	private static final Binding[] NO_BINDINGS = new Binding[0];
+
+	private final BatchKey key;
+	private final int batchSizeToUse;
+	private final PreparedStatementGroup statementGroup;
+	private final List<PendingInserts> pendingInserts = new ArrayList<>();
+
+	private final JdbcCoordinator jdbcCoordinator;
+	private final SqlStatementLogger sqlStatementLogger;
+	private final SqlExceptionHelper sqlExceptionHelper;
+
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+
+	private int batchPosition;
+	private boolean batchExecuted;
+
+	public MultiRowInsertBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator) {
+		if ( key == null ) {
+			throw new IllegalArgumentException( "Batch key cannot be null" );
+		}
+		if ( jdbcCoordinator == null ) {
+			throw new IllegalArgumentException( "JDBC coordinator cannot be null" );
+		}
+
+		this.key = key;
+		this.jdbcCoordinator = jdbcCoordinator;
+		this.statementGroup = statementGroup;
+
+		final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
+		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
+		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+
+		this.batchSizeToUse = batchSizeToUse;
+
+		final int parameterCountLimit = jdbcServices.getDialect().getParameterCountLimit();
+		statementGroup.forEachStatement(
+				(tableName, statementDetails) -> pendingInserts.add(
+						new PendingInserts( statementDetails, batchSizeToUse, parameterCountLimit )
+				)
+		);
+
+		if ( BATCH_TRACE_ENABLED ) {
+			BATCH_LOGGER.tracef(
+					"Created multi-row insert Batch (%s) - `%s`",
+					batchSizeToUse,
+					key.toLoggableString()
+			);
+		}
+	}
+
+	/**
+	 * Whether all statements of the group are plain inserts which may be rewritten as
+	 * multi-row inserts, that is, inserts generated by Hibernate from a table insert
+	 * with a {@linkplain JdbcInsertMutation#hasValuesRow() single row of values}, and
+	 * with an expectation of either no row count or one row per insert.
+	 */
+	public static boolean isApplicable(PreparedStatementGroup statementGroup) {
+		return statementGroup.getNumberOfStatements() > 0
+				&& !statementGroup.hasMatching( (statementDetails) -> !isApplicable( statementDetails ) );
+	}
+
+	private static boolean isApplicable(PreparedStatementDetails statementDetails) {
+		final TableMapping.MutationDetails insertDetails = statementDetails.getMutatingTableDetails().getInsertDetails();
+		if ( insertDetails == null || insertDetails.getCustomSql() != null || insertDetails.isCallable() ) {
+			return false;
+		}
+
+		final Expectation expectation = statementDetails.getExpectation();
+		if ( expectation != Expectations.NONE && expectation != Expectations.BASIC ) {
+			return false;
+		}
+
+		final PreparableMutationOperation mutation = statementDetails.getMutation();
+		return mutation instanceof JdbcInsertMutation
+				&& ( (JdbcInsertMutation) mutation ).hasValuesRow()
+				&& !mutation.getParameterBinders().isEmpty();
+	}
+
+	@Override
+	public final BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public PreparedStatementGroup getStatementGroup() {
+		return statementGroup;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		if ( BATCH_TRACE_ENABLED ) {
+			BATCH_LOGGER.tracef(
+					"Adding to multi-row insert batch (%s) - `%s`",
+					batchPosition + 1,
+					getKey().toLoggableString()
+			);
+		}
+
+		final SharedSessionContractImplementor session = (SharedSessionContractImplementor) jdbcCoordinator.getJdbcSessionOwner();
+
+		final Binding[][] row = new Binding[pendingInserts.size()][];
+		boolean complete = true;
+		try {
+			for ( int i = 0; i < pendingInserts.size(); i++ ) {
+				final PendingInserts inserts = pendingInserts.get( i );
+				final TableMapping tableDetails = inserts.statementDetails.getMutatingTableDetails();
+				if ( inclusionChecker == null || inclusionChecker.include( tableDetails ) ) {
+					final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( tableDetails.getTableName() );
+					row[i] = bindingGroup == null
+							? NO_BINDINGS
+							: bindingGroup.getBindings().toArray( NO_BINDINGS );
+					complete = complete && row[i].length == inserts.parametersPerRow;
+					jdbcValueBindings.afterStatement( tableDetails, session );
+				}
+			}
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw e;
+		}
+
+		if ( !complete && batchPosition > 0 ) {
+			// the parameters of a row which does not bind all of them would
+			// shift those of the rows after it, so it is executed on its own
+			notifyObserversImplicitExecution();
+			performExecution();
+		}
+
+		for ( int i = 0; i < row.length; i++ ) {
+			if ( row[i] != null ) {
+				pendingInserts.get( i ).rows.add( row[i] );
+			}
+		}
+
+		batchPosition++;
+		if ( !complete || batchPosition == batchSizeToUse ) {
+			notifyObserversImplicitExecution();
+			performExecution();
+			batchPosition = 0;
+			batchExecuted = true;
+		}
+	}
+
+	protected void releaseStatements() {
+		for ( int i = 0; i < pendingInserts.size(); i++ ) {
+			pendingInserts.get( i ).rows.clear();
+		}
+		statementGroup.release();
+		jdbcCoordinator.afterStatementExecution();
+	}
+
+	/**
+	 * Convenience method to notify registered observers of an explicit execution of this batch.
+	 */
+	protected final void notifyObserversExplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+	}
+
+	/**
+	 * Convenience method to notify registered observers of an implicit execution of this batch.
+	 */
+	protected final void notifyObserversImplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchImplicitlyExecuted();
+		}
+	}
+
+	protected void abortBatch(Exception cause) {
+		try {
+			jdbcCoordinator.abortBatch();
+		}
+		catch (RuntimeException e) {
+			cause.addSuppressed( e );
+		}
+	}
+
+	@Override
+	public void execute() {
+		notifyObserversExplicitExecution();
+
+		try {
+			if ( batchPosition == 0 ) {
+				if ( !batchExecuted && BATCH_DEBUG_ENABLED ) {
+					BATCH_LOGGER.debugf(
+							"No batched statements to execute - %s",
+							getKey().toLoggableString()
+					);
+				}
+			}
+			else {
+				performExecution();
+			}
+		}
+		finally {
+			releaseStatements();
+		}
+	}
+
+	protected void performExecution() {
+		if ( BATCH_TRACE_ENABLED ) {
+			BATCH_LOGGER.tracef(
+					"Executing multi-row insert batch (%s / %s) - `%s`",
+					batchPosition,
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		final SharedSessionContractImplementor session = (SharedSessionContractImplementor) jdbcCoordinator.getJdbcSessionOwner();
+		try {
+			for ( int i = 0; i < pendingInserts.size(); i++ ) {
+				final PendingInserts inserts = pendingInserts.get( i );
+				final List<Binding[]> rows = inserts.rows;
+				for ( int start = 0; start < rows.size(); start += inserts.rowsPerStatement ) {
+					executeInsert( inserts, start, Math.min( rows.size() - start, inserts.rowsPerStatement ), session );
+				}
+				rows.clear();
+			}
+		}
+		finally {
+			batchPosition = 0;
+		}
+	}
+
+	private void executeInsert(
+			PendingInserts inserts,
+			int firstRow,
+			int numberOfRows,
+			SharedSessionContractImplementor session) {
+		final String sql = inserts.getSqlString( numberOfRows );
+		sqlStatementLogger.logStatement( sql );
+
+		//noinspection deprecation
+		final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+		final PreparedStatement statement = jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+		jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( null, statement );
+		try {
+			for ( int row = 0; row < numberOfRows; row++ ) {
+				final int offset = row * inserts.parametersPerRow;
+				for ( Binding binding : inserts.rows.get( firstRow + row ) ) {
+					binding.getValueBinder().bind(
+							statement,
+							binding.getValue(),
+							offset + binding.getPosition(),
+							session
+					);
+				}
+			}
+
+			final int rowCount;
+			try {
+				observer.jdbcExecuteStatementStart();
+				rowCount = statement.executeUpdate();
+			}
+			finally {
+				observer.jdbcExecuteStatementEnd();
+			}
+
+			checkRowCount( rowCount, numberOfRows, firstRow, inserts.statementDetails );
+		}
+		catch (SQLException e) {
+			abortBatch( e );
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+			throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+		}
+		catch (RuntimeException re) {
+			abortBatch( re );
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, sql );
+			throw re;
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+		}
+	}
+
+	private static void checkRowCount(
+			int rowCount,
+			int expectedRowCount,
+			int batchPosition,
+			PreparedStatementDetails statementDetails) {
+		if ( statementDetails.getExpectation() == Expectations.NONE
+				|| rowCount == Statement.SUCCESS_NO_INFO
+				|| rowCount == expectedRowCount ) {
+			return;
+		}
+
+		if ( rowCount < expectedRowCount ) {
+			throw new StaleStateException(
+					"Multi-row insert returned unexpected row count from insert ["
+							+ batchPosition + "]; actual row count: " + rowCount
+							+ "; expected: " + expectedRowCount + "; statement executed: "
+							+ statementDetails.getSqlString()
+			);
+		}
+		throw new BatchedTooManyRowsAffectedException(
+				"Multi-row insert returned unexpected row count from insert [" + batchPosition
+						+ "]; actual row count: " + rowCount + "; expected: " + expectedRowCount,
+				expectedRowCount,
+				rowCount,
+				batchPosition
+		);
+	}
+
+	@Override
+	public void release() {
+		if ( BATCH_MESSAGE_LOGGER.isInfoEnabled() ) {
+			for ( int i = 0; i < pendingInserts.size(); i++ ) {
+				if ( !pendingInserts.get( i ).rows.isEmpty() ) {
+					BATCH_MESSAGE_LOGGER.batchContainedStatementsOnRelease();
+					break;
+				}
+			}
+		}
+		releaseStatements();
+		observers.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "MultiRowInsertBatch(" + getKey().toLoggableString() + ")";
+	}
+
+	/**
+	 * The rows to be inserted into one table
+	 */
+	private static class PendingInserts {
+		private final PreparedStatementDetails statementDetails;
+		private final String head;
+		private final String valuesRow;
+		private final String tail;
+		private final int parametersPerRow;
+		private final int rowsPerStatement;
+		private final List<Binding[]> rows;
+
+		private String fullSqlString;
+
+		private PendingInserts(PreparedStatementDetails statementDetails, int batchSize, int parameterCountLimit) {
+			this.statementDetails = statementDetails;
+
+			final JdbcInsertMutation mutation = (JdbcInsertMutation) statementDetails.getMutation();
+			final String sql = mutation.getSqlString();
+			this.head = sql.substring( 0, mutation.getValuesRowStart() );
+			this.valuesRow = sql.substring( mutation.getValuesRowStart(), mutation.getValuesRowEnd() );
+			this.tail = sql.substring( mutation.getValuesRowEnd() );
+
+			this.parametersPerRow = mutation.getParameterBinders().size();
+			this.rowsPerStatement = parameterCountLimit > 0
+					? Math.max( 1, Math.min( batchSize, parameterCountLimit / parametersPerRow ) )
+					: batchSize;
+			this.rows = new ArrayList<>( batchSize );
+		}
+
+		private String getSqlString(int numberOfRows) {
+			if ( numberOfRows == rowsPerStatement ) {
+				if ( fullSqlString == null ) {
+					fullSqlString = buildSqlString( numberOfRows );
+				}
+				return fullSqlString;
+			}
+			return buildSqlString( numberOfRows );
+		}
+
+		private String buildSqlString(int numberOfRows) {
+			final StringBuilder sql = new StringBuilder(
+					head.length() + ( valuesRow.length() + 1 ) * numberOfRows + tail.length()
+			);
+			sql.append( head ).append( valuesRow );
+			for ( int i = 1; i < numberOfRows; i++ ) {
+				sql.append( ',' ).append( valuesRow );
+			}
+			return sql.append( tail ).toString();
+		}
+	}
+}
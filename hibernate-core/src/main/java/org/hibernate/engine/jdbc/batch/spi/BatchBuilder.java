@@ -31,4 +31,16 @@ public interface BatchBuilder extends Service {
 			Integer batchSize,
 			Supplier<PreparedStatementGroup> statementGroupSupplier,
 			JdbcCoordinator jdbcCoordinator);
+
+	/**
+	 * Whether a {@link JdbcCoordinator} may keep batches for several
+	 * {@linkplain BatchKey keys} open at the same time.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_PIPELINING
+	 *
+	 * @since 6.2
+	 */
+	default boolean isPipeliningEnabled() {
+		return false;
+	}
 }
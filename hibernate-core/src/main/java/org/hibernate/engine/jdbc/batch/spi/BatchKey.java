@@ -39,4 +39,20 @@ public interface BatchKey {
 	default String toLoggableString() {
 		return toString();
 	}
+
+	/**
+	 * Whether statements batched under this key might have to be executed
+	 * after statements batched under the given key, for example because they
+	 * write a foreign key referencing a table written by the other batch.
+	 * <p>
+	 * Used to decide whether batches for the two keys may be open at the
+	 * same time when {@value org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_PIPELINING}
+	 * is enabled.  The default implementation assumes a dependency on every
+	 * other key, so that batches for such keys are never pipelined.
+	 *
+	 * @since 6.2
+	 */
+	default boolean dependsOn(BatchKey other) {
+		return true;
+	}
 }
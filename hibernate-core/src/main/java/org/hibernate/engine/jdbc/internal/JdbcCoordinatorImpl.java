@@ -13,13 +13,17 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Supplier;
 
 import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.HibernateException;
 import org.hibernate.TransactionException;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.spi.InvalidatableWrapper;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
@@ -60,6 +64,12 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	private transient Batch currentBatch;
 
+	/**
+	 * The open batches when {@linkplain BatchBuilder#isPipeliningEnabled() pipelining}
+	 * is enabled, ordered such that no batch depends on a batch following it
+	 */
+	private transient List<Batch> pipelinedBatches;
+
 	private transient long transactionTimeOutInstant = -1;
 
 	private Statement lastQuery;
@@ -151,7 +161,11 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		LOG.tracev( "Closing JDBC container [{0}]", this );
 		Connection connection;
 		try {
-			if ( currentBatch != null ) {
+			if ( pipelinedBatches != null ) {
+				LOG.closingUnreleasedBatch();
+				releasePipelinedBatches();
+			}
+			else if ( currentBatch != null ) {
 				LOG.closingUnreleasedBatch();
 				currentBatch.release();
 			}
@@ -164,25 +178,129 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public Batch getBatch(BatchKey key, Integer batchSize, Supplier<PreparedStatementGroup> statementGroupSupplier) {
+		if ( currentBatch != null && currentBatch.getKey().equals( key ) ) {
+			return currentBatch;
+		}
+
+		final BatchBuilder batchBuilder = owner.getJdbcSessionContext().getBatchBuilder();
+		if ( batchBuilder.isPipeliningEnabled() ) {
+			return getPipelinedBatch( key, batchSize, statementGroupSupplier, batchBuilder );
+		}
+
 		if ( currentBatch != null ) {
-			if ( currentBatch.getKey().equals( key ) ) {
-				return currentBatch;
+			currentBatch.execute();
+			currentBatch.release();
+		}
+
+		currentBatch = batchBuilder.buildBatch( key, batchSize, statementGroupSupplier, this );
+
+		return currentBatch;
+	}
+
+	private Batch getPipelinedBatch(
+			BatchKey key,
+			Integer batchSize,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			BatchBuilder batchBuilder) {
+		if ( pipelinedBatches != null ) {
+			for ( int i = 0; i < pipelinedBatches.size(); i++ ) {
+				final Batch batch = pipelinedBatches.get( i );
+				if ( batch.getKey().equals( key ) ) {
+					currentBatch = batch;
+					return batch;
+				}
 			}
-			else {
-				currentBatch.execute();
-				currentBatch.release();
+
+			// the new batch is executed after all open batches, so none
+			// of them may depend on it
+			for ( int i = 0; i < pipelinedBatches.size(); i++ ) {
+				if ( pipelinedBatches.get( i ).getKey().dependsOn( key ) ) {
+					executePipelinedBatches();
+					break;
+				}
 			}
 		}
 
-		currentBatch = owner.getJdbcSessionContext().getBatchBuilder()
-				.buildBatch( key, batchSize, statementGroupSupplier, this );
+		final Batch batch = batchBuilder.buildBatch( key, batchSize, statementGroupSupplier, this );
+		batch.addObserver( new PipelinedBatchObserver( batch ) );
+		if ( pipelinedBatches == null ) {
+			pipelinedBatches = new ArrayList<>();
+		}
+		pipelinedBatches.add( batch );
+		currentBatch = batch;
+		return batch;
+	}
 
-		return currentBatch;
+	/**
+	 * Execute the batches opened before the given batch, which is about to
+	 * be executed because it is full.  The preceding batches stay open.
+	 */
+	private void executePipelinedBatchesPreceding(Batch batch) {
+		final List<Batch> batches = pipelinedBatches;
+		if ( batches != null ) {
+			for ( int i = 0; i < batches.size(); i++ ) {
+				final Batch preceding = batches.get( i );
+				if ( preceding == batch ) {
+					break;
+				}
+				preceding.execute();
+			}
+		}
+	}
+
+	private void executePipelinedBatches() {
+		final List<Batch> batches = pipelinedBatches;
+		pipelinedBatches = null;
+		currentBatch = null;
+
+		RuntimeException failure = null;
+		for ( int i = 0; i < batches.size(); i++ ) {
+			final Batch batch = batches.get( i );
+			try {
+				// once a batch failed, the following batches are only released
+				if ( failure == null ) {
+					batch.execute();
+				}
+			}
+			catch (RuntimeException e) {
+				failure = e;
+			}
+			finally {
+				try {
+					batch.release();
+				}
+				catch (RuntimeException e) {
+					if ( failure == null ) {
+						failure = e;
+					}
+					else {
+						failure.addSuppressed( e );
+					}
+				}
+			}
+		}
+
+		if ( failure != null ) {
+			throw failure;
+		}
+	}
+
+	private void releasePipelinedBatches() {
+		final List<Batch> batches = pipelinedBatches;
+		pipelinedBatches = null;
+		currentBatch = null;
+
+		for ( int i = 0; i < batches.size(); i++ ) {
+			batches.get( i ).release();
+		}
 	}
 
 	@Override
 	public void executeBatch() {
-		if ( currentBatch != null ) {
+		if ( pipelinedBatches != null ) {
+			executePipelinedBatches();
+		}
+		else if ( currentBatch != null ) {
 			try {
 				currentBatch.execute();
 			}
@@ -194,11 +312,37 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public void abortBatch() {
-		if ( currentBatch != null ) {
+		if ( pipelinedBatches != null ) {
+			releasePipelinedBatches();
+		}
+		else if ( currentBatch != null ) {
 			currentBatch.release();
 		}
 	}
 
+	/**
+	 * Makes sure that a pipelined batch is never executed before the batches opened
+	 * before it.  Relies on observers being notified of an implicit execution before
+	 * the batch is actually executed, as {@link org.hibernate.engine.jdbc.batch.internal.BatchImpl}
+	 * does.
+	 */
+	private class PipelinedBatchObserver implements BatchObserver {
+		private final Batch batch;
+
+		private PipelinedBatchObserver(Batch batch) {
+			this.batch = batch;
+		}
+
+		@Override
+		public void batchExplicitlyExecuted() {
+		}
+
+		@Override
+		public void batchImplicitlyExecuted() {
+			executePipelinedBatchesPreceding( batch );
+		}
+	}
+
 	private transient StatementPreparer statementPreparer;
 
 	@Override
@@ -12,6 +12,7 @@ import java.sql.PreparedStatement;
 import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.jdbc.Expectation;
+import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.TableMapping;
 
 /**
@@ -31,6 +32,13 @@ public interface PreparedStatementDetails {
 	 */
 	String getSqlString();
 
+	/**
+	 * The mutation from which the SQL was generated, if known
+	 */
+	default PreparableMutationOperation getMutation() {
+		return null;
+	}
+
 	/**
 	 * The {@link PreparedStatement} generated from the SQL.  May return null.
 	 *
@@ -24,6 +24,7 @@ import org.hibernate.sql.model.TableMapping;
  * @author Steve Ebersole
  */
 public class PreparedStatementDetailsStandard implements PreparedStatementDetails {
+	private final PreparableMutationOperation mutation;
 	private final TableMapping mutatingTableDetails;
 	private final String sql;
 	private final Supplier<PreparedStatement> jdbcStatementCreator;
@@ -51,6 +52,7 @@ public class PreparedStatementDetailsStandard implements PreparedStatementDetail
 			Supplier<PreparedStatement> jdbcStatementCreator,
 			Expectation expectation,
 			JdbcServices jdbcServices) {
+		this.mutation = tableMutation;
 		this.mutatingTableDetails = tableMutation.getTableDetails();
 		this.sql = sql;
 		this.jdbcStatementCreator = jdbcStatementCreator;
@@ -76,6 +78,11 @@ public class PreparedStatementDetailsStandard implements PreparedStatementDetail
 		return sql;
 	}
 
+	@Override
+	public PreparableMutationOperation getMutation() {
+		return mutation;
+	}
+
 	@Override
 	public PreparedStatement getStatement() {
 		return statement;
@@ -48,7 +48,10 @@ public interface JdbcCoordinator extends Serializable, TransactionCoordinatorOwn
 	 * Get the {@linkplain Batch batch} for the supplied key, creating one
 	 * if needed using the supplied {@linkplain PreparedStatementGroup statementGroupSupplier}.
 	 *
-	 * @implNote Any previous Batch is executed and released prior to returning
+	 * @implNote Any previous Batch is executed and released prior to returning, unless
+	 * {@linkplain org.hibernate.engine.jdbc.batch.spi.BatchBuilder#isPipeliningEnabled() pipelining}
+	 * is enabled and none of the open batches {@linkplain BatchKey#dependsOn depends on} the
+	 * supplied key
 	 */
 	Batch getBatch(
 			BatchKey key,
@@ -56,12 +59,12 @@ public interface JdbcCoordinator extends Serializable, TransactionCoordinatorOwn
 			Supplier<PreparedStatementGroup> statementGroupSupplier);
 
 	/**
-	 * Execute the currently managed batch (if any)
+	 * Execute the currently managed batch, or batches when pipelining, (if any)
 	 */
 	void executeBatch();
 
 	/**
-	 * Abort the currently managed batch (if any)
+	 * Abort the currently managed batch, or batches when pipelining, (if any)
 	 */
 	void abortBatch();
 
@@ -6,11 +6,16 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Function;
 
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -209,7 +214,14 @@ public class BatchFetchQueue {
 
 		LinkedHashSet<EntityKey> set =  batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
 		if ( set != null ) {
+			final SharedCacheLookup<EntityKey> cacheLookup = entityCacheLookup(
+					set,
+					entityDescriptor.getEntityPersister(),
+					maxBatchSize
+			);
+			int position = -1;
 			for ( EntityKey key : set ) {
+				position++;
 				if ( checkForEnd && i == end ) {
 					// the first id found after the given id
 					return ids;
@@ -220,7 +232,7 @@ public class BatchFetchQueue {
 					end = i;
 				}
 				else {
-					if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
+					if ( cacheLookup == null || !cacheLookup.isCached( position ) ) {
 						ids[i++] = key.getIdentifier();
 					}
 				}
@@ -238,19 +250,27 @@ public class BatchFetchQueue {
 		return ids;
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
+	private SharedCacheLookup<EntityKey> entityCacheLookup(
+			LinkedHashSet<EntityKey> entityKeys,
+			EntityPersister persister,
+			int chunkSize) {
 		final SharedSessionContractImplementor session = context.getSession();
-		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
+		if ( session.getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
 			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			final Object key = cache.generateCacheKey(
-					entityKey.getIdentifier(),
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
+			return new SharedCacheLookup<>(
+					new ArrayList<>( entityKeys ),
+					entityKey -> cache.generateCacheKey(
+							entityKey.getIdentifier(),
+							persister,
+							session.getFactory(),
+							session.getTenantIdentifier()
+					),
+					cache,
+					session,
+					chunkSize
 			);
-			return CacheHelper.fromSharedCache( session, key, cache ) != null;
 		}
-		return false;
+		return null;
 	}
 
 
@@ -319,7 +339,11 @@ public class BatchFetchQueue {
 		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
 				batchLoadableCollections.get( collectionPersister.getRole() );
 		if ( map != null ) {
+			final SharedCacheLookup<Entry<CollectionEntry, PersistentCollection<?>>> cacheLookup =
+					collectionCacheLookup( map, collectionPersister, batchSize );
+			int position = -1;
 			for ( Entry<CollectionEntry, PersistentCollection<?>> me : map.entrySet() ) {
+				position++;
 				final CollectionEntry ce = me.getKey();
 				final PersistentCollection<?> collection = me.getValue();
 
@@ -352,7 +376,7 @@ public class BatchFetchQueue {
 					end = i;
 					//checkForEnd = false;
 				}
-				else if ( !isCached( ce.getLoadedKey(), collectionPersister ) ) {
+				else if ( cacheLookup == null || !cacheLookup.isCached( position ) ) {
 					keys[i++] = ce.getLoadedKey();
 					//count++;
 				}
@@ -368,19 +392,95 @@ public class BatchFetchQueue {
 		return keys; //we ran out of keys to try
 	}
 
-	private boolean isCached(Object collectionKey, CollectionPersister persister) {
-		SharedSessionContractImplementor session = context.getSession();
+	private SharedCacheLookup<Entry<CollectionEntry, PersistentCollection<?>>> collectionCacheLookup(
+			LinkedHashMap<CollectionEntry, PersistentCollection<?>> collections,
+			CollectionPersister persister,
+			int chunkSize) {
+		final SharedSessionContractImplementor session = context.getSession();
 		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
-			CollectionDataAccess cache = persister.getCacheAccessStrategy();
-			Object cacheKey = cache.generateCacheKey(
-					collectionKey,
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
+			final CollectionDataAccess cache = persister.getCacheAccessStrategy();
+			return new SharedCacheLookup<>(
+					new ArrayList<>( collections.entrySet() ),
+					me -> {
+						final Object collectionKey = me.getKey().getLoadedKey();
+						if ( collectionKey == null || me.getValue().wasInitialized() ) {
+							// not part of any batch
+							return null;
+						}
+						return cache.generateCacheKey(
+								collectionKey,
+								persister,
+								session.getFactory(),
+								session.getTenantIdentifier()
+						);
+					},
+					cache,
+					session,
+					chunkSize
 			);
-			return CacheHelper.fromSharedCache( session, cacheKey, cache ) != null;
 		}
-		return false;
+		return null;
+	}
+
+	/**
+	 * Determines whether the elements of a batch candidate list are in the second-level
+	 * cache, getting the cache keys of a whole chunk of elements with a single call to
+	 * the cache instead of one call per element.
+	 */
+	private static class SharedCacheLookup<E> {
+		private final List<E> elements;
+		private final Function<E, Object> cacheKeyGenerator;
+		private final CachedDomainDataAccess cacheAccess;
+		private final SharedSessionContractImplementor session;
+		private final int chunkSize;
+
+		private int chunkStart;
+		private Object[] chunkCacheKeys = new Object[0];
+		private Map<Object, Object> chunkCachedValues;
+
+		private SharedCacheLookup(
+				List<E> elements,
+				Function<E, Object> cacheKeyGenerator,
+				CachedDomainDataAccess cacheAccess,
+				SharedSessionContractImplementor session,
+				int chunkSize) {
+			this.elements = elements;
+			this.cacheKeyGenerator = cacheKeyGenerator;
+			this.cacheAccess = cacheAccess;
+			this.session = session;
+			this.chunkSize = Math.max( chunkSize, 1 );
+		}
+
+		/**
+		 * Whether the element at the given position is cached, where positions
+		 * must be passed in ascending order.
+		 */
+		boolean isCached(int position) {
+			if ( position >= chunkStart + chunkCacheKeys.length ) {
+				lookupChunk( position );
+			}
+			final Object cacheKey = chunkCacheKeys[position - chunkStart];
+			return cacheKey != null && chunkCachedValues.containsKey( cacheKey );
+		}
+
+		private void lookupChunk(int start) {
+			final int end = Math.min( start + chunkSize, elements.size() );
+			final Object[] cacheKeys = new Object[end - start];
+			final List<Object> keysToLookup = new ArrayList<>( cacheKeys.length );
+			for ( int i = start; i < end; i++ ) {
+				final Object cacheKey = cacheKeyGenerator.apply( elements.get( i ) );
+				cacheKeys[i - start] = cacheKey;
+				if ( cacheKey != null ) {
+					keysToLookup.add( cacheKey );
+				}
+			}
+
+			chunkStart = start;
+			chunkCacheKeys = cacheKeys;
+			chunkCachedValues = keysToLookup.isEmpty()
+					? Collections.emptyMap()
+					: CacheHelper.fromSharedCache( session, keysToLookup, cacheAccess );
+		}
 	}
 
 }
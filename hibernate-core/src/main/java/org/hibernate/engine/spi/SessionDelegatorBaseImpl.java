@@ -11,6 +11,9 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -383,6 +386,11 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		delegate.afterOperation( success );
 	}
 
+	@Override
+	public <T> CompletionStage<T> executeAsync(Supplier<T> operation, Executor executor) {
+		return delegate.executeAsync( operation, executor );
+	}
+
 	@Override
 	public SessionEventListenerManager getEventListenerManager() {
 		return delegate.getEventListenerManager();
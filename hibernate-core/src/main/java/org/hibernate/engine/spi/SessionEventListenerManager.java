@@ -13,4 +13,12 @@ import org.hibernate.SessionEventListener;
  */
 public interface SessionEventListenerManager extends SessionEventListener {
 	void addListener(SessionEventListener... listeners);
+
+	/**
+	 * Whether any listener overrides {@link #resultSetProcessingStart} or {@link #resultSetProcessingEnd},
+	 * so that callers can skip computing the arguments of these events when none does.
+	 */
+	default boolean isResultSetProcessingObserved() {
+		return true;
+	}
 }
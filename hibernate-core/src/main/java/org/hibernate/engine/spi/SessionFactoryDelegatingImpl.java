@@ -10,6 +10,8 @@ import java.sql.Connection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import javax.naming.NamingException;
 import javax.naming.Reference;
 import jakarta.persistence.EntityGraph;
@@ -41,6 +43,7 @@ import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.metamodel.spi.RuntimeMetamodelsImplementor;
 import org.hibernate.proxy.EntityNotFoundDelegate;
 import org.hibernate.query.BindableType;
+import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.relational.SchemaManager;
@@ -104,6 +107,21 @@ public class SessionFactoryDelegatingImpl implements SessionFactoryImplementor,
 		return delegate.openStatelessSession( connection );
 	}
 
+	@Override
+	public List<List<?>> inParallel(
+			List<? extends Function<? super StatelessSession, ? extends SelectionQuery<?>>> queries,
+			int parallelism,
+			Executor executor) {
+		return delegate.inParallel( queries, parallelism, executor );
+	}
+
+	@Override
+	public List<List<?>> inParallel(
+			List<? extends Function<? super StatelessSession, ? extends SelectionQuery<?>>> queries,
+			int parallelism) {
+		return delegate.inParallel( queries, parallelism );
+	}
+
 	@Override
 	public StatisticsImplementor getStatistics() {
 		return delegate.getStatistics();
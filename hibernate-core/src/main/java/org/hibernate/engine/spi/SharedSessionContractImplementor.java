@@ -8,6 +8,11 @@ package org.hibernate.engine.spi;
 
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
 import jakarta.persistence.FlushModeType;
 import jakarta.persistence.TransactionRequiredException;
 
@@ -551,6 +556,30 @@ public interface SharedSessionContractImplementor
 	 */
 	void afterOperation(boolean success);
 
+	/**
+	 * Run the given operation using the given {@link Executor}, once every
+	 * operation previously submitted to this method for this session has
+	 * completed, whether normally or not. Operations submitted this way
+	 * therefore never use the session concurrently with each other. Until all
+	 * of them have completed, any other use of the session fails with an
+	 * {@link IllegalStateException}.
+	 * <p>
+	 * The default implementation just runs the operation using the executor,
+	 * after checking that the session is open, and neither serializes it with
+	 * other operations nor guards the session while it runs.
+	 *
+	 * @param operation the operation, which usually executes a query
+	 * @param executor the executor which runs the operation
+	 *
+	 * @return a stage completed with the result of the operation
+	 *
+	 * @since 6.2
+	 */
+	default <T> CompletionStage<T> executeAsync(Supplier<T> operation, Executor executor) {
+		checkOpen();
+		return CompletableFuture.supplyAsync( operation, executor );
+	}
+
 	/**
 	 * Cast this object to {@link SessionImplementor}, if possible.
 	 *
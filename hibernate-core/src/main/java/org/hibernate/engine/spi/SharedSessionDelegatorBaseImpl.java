@@ -39,6 +39,9 @@ import org.hibernate.resource.transaction.spi.TransactionCoordinator;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 /**
  * A wrapper class that delegates all method invocations to a delegate instance of
@@ -529,6 +532,11 @@ public class SharedSessionDelegatorBaseImpl implements SharedSessionContractImpl
 		delegate.afterOperation( success );
 	}
 
+	@Override
+	public <T> CompletionStage<T> executeAsync(Supplier<T> operation, Executor executor) {
+		return delegate.executeAsync( operation, executor );
+	}
+
 	@Override
 	public JdbcSessionContext getJdbcSessionContext() {
 		return delegate.getJdbcSessionContext();
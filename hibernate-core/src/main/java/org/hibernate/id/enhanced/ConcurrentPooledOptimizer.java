@@ -0,0 +1,229 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledOptimizer} which does not lock: the values of the current
+ * range are handed out by an atomic increment.  A range which runs out is replaced by
+ * a single thread, which installs a placeholder by a compare-and-set, and the other
+ * threads wait for the new range, so that each exhaustion fetches at most one range.
+ * The database values are interpreted exactly as by {@link PooledOptimizer}, so both
+ * optimizers can be used with the same table or sequence.
+ * <p>
+ * The thread which obtains the value in the middle of the current range fetches the
+ * next range right away, unless a spare range is already kept, so that the range
+ * usually is ready when the current one runs out, instead of all threads waiting
+ * on the database.  At most one spare range is kept.
+ * <p>
+ * Values can still be lost, beyond the unused part of the current range: the spare range
+ * is lost when the optimizer is discarded, for example on shutdown, and a failure to
+ * prefetch the next range loses the value obtained by the thread doing the prefetch,
+ * as well as the range if the database already handed it out.
+ * <p>
+ * The next range is fetched by a thread calling {@link #generate}, since the
+ * {@link AccessCallback} is bound to the session of the caller.
+ *
+ * @see PooledOptimizer
+ */
+public class ConcurrentPooledOptimizer extends AbstractOptimizer implements InitialValueAwareOptimizer {
+	private static final CoreMessageLogger log = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			ConcurrentPooledOptimizer.class.getName()
+	);
+
+	private static class Range {
+		private final long last;
+		private final long prefetchAt;
+		private final AtomicLong next;
+
+		private Range(long first, long last) {
+			this.last = last;
+			this.prefetchAt = first + ( last - first ) / 2;
+			this.next = new AtomicLong( first );
+		}
+	}
+
+	/**
+	 * Installed in place of an exhausted range while a single thread obtains the next one
+	 */
+	private static class PendingRange extends Range {
+		private final CompletableFuture<Void> replaced = new CompletableFuture<>();
+
+		private PendingRange() {
+			// never hands out a value
+			super( 1, 0 );
+		}
+	}
+
+	/**
+	 * Kept in place of the spare range while a single thread prefetches it
+	 */
+	private static final Range PREFETCHING = new Range( 1, 0 );
+
+	private static class GenerationState {
+		private final AtomicReference<Range> currentRange = new AtomicReference<>();
+		private final AtomicReference<Range> spareRange = new AtomicReference<>();
+		private volatile IntegralDataTypeHolder lastSourceValue;
+	}
+
+	private volatile long initialValue = -1;
+
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String,GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@code ConcurrentPooledOptimizer}
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public ConcurrentPooledOptimizer(Class<?> returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		if ( log.isTraceEnabled() ) {
+			log.tracev(
+					"Creating concurrent pooled optimizer with [incrementSize={0}; returnClass={1}]",
+					incrementSize,
+					returnClass.getName()
+			);
+		}
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
+
+		while ( true ) {
+			final Range range = generationState.currentRange.get();
+			if ( range instanceof PendingRange ) {
+				( (PendingRange) range ).replaced.join();
+				continue;
+			}
+			if ( range != null ) {
+				final long value = range.next.getAndIncrement();
+				if ( value <= range.last ) {
+					if ( value == range.prefetchAt
+							&& generationState.spareRange.compareAndSet( null, PREFETCHING ) ) {
+						Range spareRange = null;
+						try {
+							spareRange = fetchRange( generationState, callback );
+						}
+						finally {
+							generationState.spareRange.set( spareRange );
+						}
+					}
+					return IdentifierGeneratorHelper.getIntegralDataTypeHolder( returnClass )
+							.initialize( value )
+							.makeValue();
+				}
+			}
+
+			// the range is exhausted, and the thread which installs the placeholder replaces it
+			final PendingRange pendingRange = new PendingRange();
+			if ( generationState.currentRange.compareAndSet( range, pendingRange ) ) {
+				Range nextRange = null;
+				try {
+					// a spare range still being prefetched is not waited for, it is kept for later
+					final Range spareRange = generationState.spareRange.get();
+					if ( spareRange != null && spareRange != PREFETCHING ) {
+						generationState.spareRange.set( null );
+						nextRange = spareRange;
+					}
+					else {
+						nextRange = fetchRange( generationState, callback );
+					}
+				}
+				finally {
+					// on failure, put back the exhausted range, so that the next caller tries again
+					generationState.currentRange.set( nextRange == null ? range : nextRange );
+					pendingRange.replaced.complete( null );
+				}
+			}
+		}
+	}
+
+	private Range fetchRange(GenerationState generationState, AccessCallback callback) {
+		final IntegralDataTypeHolder hiValue = callback.getNextValue();
+		generationState.lastSourceValue = hiValue;
+
+		final long hi = hiValue.makeValue().longValue();
+		// the call to obtain next-value just gave us the initialValue
+		if ( ( initialValue == -1 && hiValue.lt( incrementSize ) ) || hiValue.eq( initialValue ) ) {
+			// unfortunately not really safe to normalize this
+			// to 1 as an initial value like we do for the others
+			// because we would not be able to control this if
+			// we are using a sequence...
+			if ( hiValue.lt( 1 ) ) {
+				log.pooledOptimizerReportedInitialValue( hiValue );
+			}
+			return new Range( hi, hi );
+		}
+		else {
+			return new Range( hi - incrementSize + 1, hi );
+		}
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		if ( tenantIdentifier == null ) {
+			return noTenantState;
+		}
+		else {
+			return tenantSpecificState.computeIfAbsent( tenantIdentifier, (tenant) -> new GenerationState() );
+		}
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		return noTenantState.lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	/**
+	 * Getter for property 'lastValue'.
+	 * <p>
+	 * Exposure intended for testing purposes.
+	 *
+	 * @return Value for property 'lastValue'.
+	 */
+	public IntegralDataTypeHolder getLastValue() {
+		Range range = noTenantState.currentRange.get();
+		while ( range instanceof PendingRange ) {
+			( (PendingRange) range ).replaced.join();
+			range = noTenantState.currentRange.get();
+		}
+		if ( range == null ) {
+			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+		}
+		return IdentifierGeneratorHelper.getIntegralDataTypeHolder( returnClass )
+				.initialize( Math.min( range.next.get() - 1, range.last ) );
+	}
+
+	@Override
+	public void injectInitialValue(long initialValue) {
+		this.initialValue = initialValue;
+	}
+}
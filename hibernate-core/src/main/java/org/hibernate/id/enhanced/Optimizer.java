@@ -27,8 +27,10 @@ public interface Optimizer {
 	/**
 	 * Generate an identifier value accounting for this specific optimization.
 	 *
-	 * All known implementors are synchronized. Consider carefully if a new
-	 * implementation could drop this requirement.
+	 * All known implementors guard generation with a lock. They avoid monitors,
+	 * since the callback may block on JDBC and a blocked monitor pins a virtual
+	 * thread to its carrier. Consider carefully if a new implementation could
+	 * drop this requirement.
 	 *
 	 * @param callback Callback to access the underlying value source.
 	 * @return The generated identifier value.
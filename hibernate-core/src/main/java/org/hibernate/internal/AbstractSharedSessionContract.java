@@ -14,7 +14,12 @@ import java.util.List;
 import java.util.Locale;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.hibernate.CacheMode;
 import org.hibernate.EntityNameResolver;
@@ -120,6 +125,8 @@ import static org.hibernate.jpa.internal.util.FlushModeTypeHelper.getFlushModeTy
 public abstract class AbstractSharedSessionContract implements SharedSessionContractImplementor {
 	private static final EntityManagerMessageLogger log = HEMLogging.messageLogger( SessionImpl.class );
 
+	private static final Object ASYNC_OPERATION_QUEUED = new Object();
+
 	private transient SessionFactoryImpl factory;
 	protected transient FastSessionServices fastSessionServices;
 
@@ -160,6 +167,14 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 	//Lazily initialized
 	private transient ExceptionConverter exceptionConverter;
 
+	// the last operation submitted to executeAsync() which has not completed yet, guarded by asyncOperationLock
+	private transient CompletableFuture<?> lastAsyncOperation;
+	// null unless operations submitted to executeAsync() are pending, and then either the
+	// thread running one of them, which is the only one allowed to use the session, or
+	// ASYNC_OPERATION_QUEUED while none is running
+	private transient volatile Object asyncOperationOwner;
+	private transient ReentrantLock asyncOperationLock = new ReentrantLock();
+
 	public AbstractSharedSessionContract(SessionFactoryImpl factory, SessionCreationOptions options) {
 		this.factory = factory;
 		fastSessionServices = factory.getFastSessionServices();
@@ -428,6 +443,10 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 			}
 			throw new IllegalStateException( "Session/EntityManager is closed" );
 		}
+		final Object asyncOwner = asyncOperationOwner;
+		if ( asyncOwner != null && asyncOwner != Thread.currentThread() ) {
+			throw new IllegalStateException( "Session/EntityManager is in use by an asynchronous operation" );
+		}
 	}
 
 	@Override
@@ -442,6 +461,70 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		}
 	}
 
+	@Override
+	public <T> CompletionStage<T> executeAsync(Supplier<T> operation, Executor executor) {
+		if ( isClosed() ) {
+			throw new IllegalStateException( "Session/EntityManager is closed" );
+		}
+
+		final CompletableFuture<T> result = new CompletableFuture<>();
+		asyncOperationLock.lock();
+		try {
+			final CompletableFuture<?> previous = lastAsyncOperation;
+			lastAsyncOperation = result;
+			if ( asyncOperationOwner == null ) {
+				asyncOperationOwner = ASYNC_OPERATION_QUEUED;
+			}
+			final CompletableFuture<?> start = previous == null
+					? CompletableFuture.completedFuture( null )
+					: previous.handle( (ignoredResult, ignoredFailure) -> null );
+			start.thenRunAsync( () -> runAsyncOperation( operation, result ), executor )
+					.whenComplete( (ignored, failure) -> {
+						if ( failure != null ) {
+							// the executor rejected the operation
+							endAsyncOperation( result );
+							result.completeExceptionally( failure );
+						}
+					} );
+		}
+		finally {
+			asyncOperationLock.unlock();
+		}
+		return result;
+	}
+
+	private <T> void runAsyncOperation(Supplier<T> operation, CompletableFuture<T> result) {
+		final T value;
+		asyncOperationOwner = Thread.currentThread();
+		try {
+			value = operation.get();
+		}
+		catch (Throwable t) {
+			endAsyncOperation( result );
+			result.completeExceptionally( t );
+			return;
+		}
+		// release the session before completing, so that it can be used as soon as the result is seen
+		endAsyncOperation( result );
+		result.complete( value );
+	}
+
+	private void endAsyncOperation(CompletableFuture<?> operation) {
+		asyncOperationLock.lock();
+		try {
+			if ( lastAsyncOperation == operation ) {
+				lastAsyncOperation = null;
+				asyncOperationOwner = null;
+			}
+			else {
+				asyncOperationOwner = ASYNC_OPERATION_QUEUED;
+			}
+		}
+		finally {
+			asyncOperationLock.unlock();
+		}
+	}
+
 	protected void checkOpenOrWaitingForAutoClose() {
 		if ( !waitingForAutoClose ) {
 			checkOpen();
@@ -1391,6 +1474,7 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 				.buildTransactionCoordinator( jdbcCoordinator, this );
 
 		entityNameResolver = new CoordinatingEntityNameResolver( factory, interceptor );
+		asyncOperationLock = new ReentrantLock();
 	}
 
 }
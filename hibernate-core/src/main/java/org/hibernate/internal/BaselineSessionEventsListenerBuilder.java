@@ -9,6 +9,8 @@ package org.hibernate.internal;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 import org.hibernate.HibernateException;
 import org.hibernate.SessionEventListener;
@@ -23,6 +25,7 @@ public class BaselineSessionEventsListenerBuilder {
 
 	private final boolean logSessionMetrics;
 	private final Class<? extends SessionEventListener> autoListener;
+	private final List<Supplier<? extends SessionEventListener>> listenerSuppliers = new CopyOnWriteArrayList<>();
 
 	public BaselineSessionEventsListenerBuilder(
 			boolean logSessionMetrics,
@@ -41,6 +44,14 @@ public class BaselineSessionEventsListenerBuilder {
 		return autoListener;
 	}
 
+	/**
+	 * Add a listener, obtained from the given supplier, to every session opened from now on.
+	 * Allows integrations to register a listener once the {@code SessionFactory} has been built.
+	 */
+	public void addListenerSupplier(Supplier<? extends SessionEventListener> listenerSupplier) {
+		listenerSuppliers.add( listenerSupplier );
+	}
+
 	public List<SessionEventListener> buildBaselineList() {
 		final SessionEventListener[] sessionEventListeners = buildBaseline();
 		//Capacity: needs to hold at least all elements from the baseline, but also expect to add a little more later.
@@ -52,7 +63,7 @@ public class BaselineSessionEventsListenerBuilder {
 	public SessionEventListener[] buildBaseline() {
 		final boolean addStats = logSessionMetrics && StatisticalLoggingSessionEventListener.isLoggingEnabled();
 		final boolean addAutoListener = autoListener != null;
-		final SessionEventListener[] arr;
+		SessionEventListener[] arr;
 		if ( addStats && addAutoListener ) {
 			arr = new SessionEventListener[2];
 			arr[0] = buildStatsListener();
@@ -69,6 +80,14 @@ public class BaselineSessionEventsListenerBuilder {
 		else {//if ( !addStats && !addAutoListener )
 			arr = EMPTY;
 		}
+		if ( !listenerSuppliers.isEmpty() ) {
+			final List<SessionEventListener> list = new ArrayList<>( arr.length + listenerSuppliers.size() );
+			Collections.addAll( list, arr );
+			for ( Supplier<? extends SessionEventListener> listenerSupplier : listenerSuppliers ) {
+				list.add( listenerSupplier.get() );
+			}
+			arr = list.toArray( EMPTY );
+		}
 		return arr;
 	}
 
@@ -81,6 +81,7 @@ import static org.hibernate.cfg.AvailableSettings.JPA_LOCK_SCOPE;
 import static org.hibernate.cfg.AvailableSettings.JPA_LOCK_TIMEOUT;
 import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_RETRIEVE_MODE;
 import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_STORE_MODE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 
 /**
  * Internal component.
@@ -171,6 +172,7 @@ public final class FastSessionServices {
 	public final EntityCopyObserverFactory entityCopyObserverFactory;
 	public final BatchBuilder batchBuilder;
 	public final Dialect dialect;
+	public final boolean useOpenAddressingPersistenceContext;
 
 	//Private fields:
 	private final CacheStoreMode defaultCacheStoreMode;
@@ -232,6 +234,11 @@ public final class FastSessionServices {
 		this.defaultTimeZoneStorageStrategy = sessionFactoryOptions.getDefaultTimeZoneStorageStrategy();
 		this.defaultJdbcBatchSize = sessionFactoryOptions.getJdbcBatchSize();
 		this.requiresMultiTenantConnectionProvider = sessionFactory.getSessionFactoryOptions().isMultiTenancyEnabled();
+		this.useOpenAddressingPersistenceContext = getBoolean(
+				AvailableSettings.PERSISTENCE_CONTEXT_OPEN_ADDRESSING,
+				sessionFactory.getProperties(),
+				false
+		);
 
 		//Some "hot" services:
 		this.connectionProvider = requiresMultiTenantConnectionProvider
@@ -0,0 +1,288 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A concurrent cache bounded by the total weight of its entries, rather than
+ * by their number as is the case for {@link BoundedConcurrentHashMap}.
+ * <p>
+ * Lookups never lock.  When an insertion pushes the total weight over the
+ * maximum, a single thread evicts entries until the total weight drops below
+ * a low-water mark.  Victims are chosen by the product of their idle time and
+ * their weight, so that a few large, rarely used entries are evicted before
+ * many small, frequently used ones.  Idle time is counted in insertions rather
+ * than measured with a clock, so that a hit only writes to its entry when an
+ * insertion happened since the previous hit.  Only the entries needed to get down to the
+ * low-water mark are ranked, so an eviction does not sort the whole cache.
+ * <p>
+ * Each cache has its own bound: caches meant to share a budget must each be
+ * given their part of it.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+public final class WeightedConcurrentCache<K, V> {
+
+	/**
+	 * Estimates the weight of a cache entry, typically its retained size in bytes.
+	 */
+	@FunctionalInterface
+	public interface Weigher<K, V> {
+		long weigh(K key, V value);
+	}
+
+	/**
+	 * Notified of every entry removed from the cache because of its weight bound.
+	 */
+	@FunctionalInterface
+	public interface EvictionListener<K, V> {
+		void onEviction(K key, V value);
+	}
+
+	private static final int LOW_WATER_MARK_PERCENTAGE = 90;
+
+	private final long maxWeight;
+	private final long lowWaterMark;
+	private final Weigher<K, V> weigher;
+	private final EvictionListener<K, V> evictionListener;
+
+	private final ConcurrentHashMap<K, Node<K, V>> map = new ConcurrentHashMap<>();
+	private final AtomicLong totalWeight = new AtomicLong();
+	// incremented by every insertion, and used as the time of the last access to entries
+	private final AtomicLong accessClock = new AtomicLong();
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	public WeightedConcurrentCache(long maxWeight, Weigher<K, V> weigher, EvictionListener<K, V> evictionListener) {
+		if ( maxWeight <= 0 ) {
+			throw new IllegalArgumentException( "Maximum weight must be positive : " + maxWeight );
+		}
+		this.maxWeight = maxWeight;
+		// avoid overflow for large maximums, and the loss of precision for small ones
+		final long percentOfMaxWeight = maxWeight >= 100
+				? maxWeight / 100 * LOW_WATER_MARK_PERCENTAGE
+				: maxWeight * LOW_WATER_MARK_PERCENTAGE / 100;
+		this.lowWaterMark = Math.max( percentOfMaxWeight, 1L );
+		this.weigher = weigher;
+		this.evictionListener = evictionListener;
+	}
+
+	public V get(K key) {
+		final Node<K, V> node = map.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		node.touch( accessClock.get() );
+		return node.value;
+	}
+
+	/**
+	 * Like {@link #get}, but also re-evaluates the weight of the entry, for values
+	 * which grow after having been cached.  The weigher is called on every hit, and
+	 * so must be cheap, but the entry is only updated when its weight changed.
+	 */
+	public V getAndReweigh(K key) {
+		final Node<K, V> node = map.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		node.touch( accessClock.get() );
+		if ( node.updateWeight( weigher.weigh( node.key, node.value ), totalWeight )
+				&& totalWeight.get() > maxWeight ) {
+			evict();
+		}
+		return node.value;
+	}
+
+	/**
+	 * Adds the given entry, replacing any previous value for the key.  An entry
+	 * which on its own exceeds the maximum weight is not cached at all.
+	 *
+	 * @return the previous value, or {@code null}
+	 */
+	public V put(K key, V value) {
+		final long weight = weigher.weigh( key, value );
+		final Node<K, V> previous;
+		if ( weight > maxWeight ) {
+			previous = map.remove( key );
+		}
+		else {
+			final Node<K, V> node = new Node<>( key, value, weight, accessClock.incrementAndGet() );
+			totalWeight.addAndGet( weight );
+			previous = map.put( key, node );
+		}
+
+		if ( previous != null ) {
+			previous.discard( totalWeight );
+		}
+		if ( totalWeight.get() > maxWeight ) {
+			evict();
+		}
+		return previous == null ? null : previous.value;
+	}
+
+	/**
+	 * Re-evaluates the weight of the entry for the given key, for values which
+	 * grow after having been cached.
+	 *
+	 * @return {@code true} if the weight of the entry changed
+	 */
+	public boolean reweigh(K key) {
+		final Node<K, V> node = map.get( key );
+		if ( node == null ) {
+			return false;
+		}
+		final boolean changed = node.updateWeight( weigher.weigh( node.key, node.value ), totalWeight );
+		if ( changed && totalWeight.get() > maxWeight ) {
+			evict();
+		}
+		return changed;
+	}
+
+	public V remove(K key) {
+		final Node<K, V> node = map.remove( key );
+		if ( node == null ) {
+			return null;
+		}
+		node.discard( totalWeight );
+		return node.value;
+	}
+
+	public void clear() {
+		for ( K key : map.keySet() ) {
+			remove( key );
+		}
+	}
+
+	public int size() {
+		return map.size();
+	}
+
+	/**
+	 * The current total weight of all entries.
+	 */
+	public long getWeight() {
+		return totalWeight.get();
+	}
+
+	public long getMaxWeight() {
+		return maxWeight;
+	}
+
+	private void evict() {
+		if ( !evictionLock.tryLock() ) {
+			// another thread is already evicting
+			return;
+		}
+		try {
+			if ( totalWeight.get() <= maxWeight ) {
+				return;
+			}
+
+			// keep the highest scoring entries whose weight covers the excess, with the
+			// lowest of them at the head of the queue, so that it is the first to be dropped
+			// when a higher scoring entry shows up; the scores are snapshots, since access
+			// times keep changing while we rank
+			final long excessWeight = totalWeight.get() - lowWaterMark;
+			final long now = accessClock.get();
+			final PriorityQueue<Candidate> victims = new PriorityQueue<>();
+			long victimsWeight = 0L;
+			for ( Node<K, V> node : map.values() ) {
+				final Candidate candidate = new Candidate( node, now );
+				if ( victimsWeight >= excessWeight && candidate.compareTo( victims.peek() ) <= 0 ) {
+					continue;
+				}
+				victims.add( candidate );
+				victimsWeight += candidate.weight;
+				while ( victimsWeight - victims.peek().weight >= excessWeight ) {
+					victimsWeight -= victims.poll().weight;
+				}
+			}
+
+			final Candidate[] ranked = victims.toArray( new Candidate[0] );
+			Arrays.sort( ranked, Collections.reverseOrder() );
+			for ( int i = 0; i < ranked.length && totalWeight.get() > lowWaterMark; i++ ) {
+				@SuppressWarnings("unchecked")
+				final Node<K, V> victim = (Node<K, V>) ranked[i].node;
+				if ( map.remove( victim.key, victim ) ) {
+					victim.discard( totalWeight );
+					evictionListener.onEviction( victim.key, victim.value );
+				}
+			}
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private static final class Node<K, V> {
+		private static final long DISCARDED = -1L;
+
+		private final K key;
+		private final V value;
+		private final AtomicLong weight;
+		private volatile long lastAccess;
+
+		private Node(K key, V value, long weight, long lastAccess) {
+			this.key = key;
+			this.value = value;
+			this.weight = new AtomicLong( weight );
+			this.lastAccess = lastAccess;
+		}
+
+		private void touch(long now) {
+			// most hits happen with no insertion in between, and then need no write
+			if ( lastAccess != now ) {
+				lastAccess = now;
+			}
+		}
+
+		private boolean updateWeight(long newWeight, AtomicLong totalWeight) {
+			while ( true ) {
+				final long current = weight.get();
+				if ( current == DISCARDED || current == newWeight ) {
+					return false;
+				}
+				if ( weight.compareAndSet( current, newWeight ) ) {
+					totalWeight.addAndGet( newWeight - current );
+					return true;
+				}
+			}
+		}
+
+		private void discard(AtomicLong totalWeight) {
+			final long current = weight.getAndSet( DISCARDED );
+			if ( current != DISCARDED ) {
+				totalWeight.addAndGet( -current );
+			}
+		}
+	}
+
+	private static final class Candidate implements Comparable<Candidate> {
+		private final Node<?, ?> node;
+		private final long weight;
+		private final double score;
+
+		private Candidate(Node<?, ?> node, long now) {
+			this.node = node;
+			this.weight = Math.max( node.weight.get(), 0L );
+			this.score = (double) ( Math.max( now - node.lastAccess, 0L ) + 1 ) * Math.max( weight, 1L );
+		}
+
+		@Override
+		public int compareTo(Candidate other) {
+			// lowest score first
+			return Double.compare( score, other.score );
+		}
+	}
+}
@@ -6,6 +6,10 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
 import org.hibernate.LockMode;
@@ -32,6 +36,7 @@ import org.hibernate.event.spi.LoadEventListener;
 import org.hibernate.event.spi.PostLoadEvent;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.proxy.HibernateProxy;
@@ -182,19 +187,123 @@ public class CacheEntityLoaderHelper {
 		);
 
 		if ( entity != null ) {
-			//PostLoad is needed for EJB3
-			final PostLoadEvent postLoadEvent = event.getPostLoadEvent()
-					.setEntity( entity )
-					.setId( event.getEntityId() )
-					.setPersister( persister );
-
-			event.getSession().getSessionFactory()
-					.getFastSessionServices()
-					.firePostLoadEvent( postLoadEvent );
+			firePostLoadEvent( event, persister, entity );
+		}
+		return entity;
+	}
+
+	/**
+	 * Attempts to load the entity from a cache entry obtained by
+	 * {@link #getFromSecondLevelCache(EventSource, LockMode, EntityPersister, Collection)}.
+	 *
+	 * @param event The load event
+	 * @param persister The persister for the entity being requested for load
+	 * @param entityKey The entity key
+	 * @param cacheEntry The cache entry of the entity, or null
+	 *
+	 * @return The entity from the second-level cache, or null.
+	 */
+	public Object loadFromSecondLevelCache(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final EntityKey entityKey,
+			final Object cacheEntry) {
+		if ( cacheEntry == null ) {
+			return null;
+		}
+
+		final Object entity = processCachedEntry(
+				event.getInstanceToLoad(),
+				persister,
+				cacheEntry,
+				event.getSession(),
+				entityKey
+		);
+
+		if ( entity != null ) {
+			firePostLoadEvent( event, persister, entity );
 		}
 		return entity;
 	}
 
+	private static void firePostLoadEvent(LoadEvent event, EntityPersister persister, Object entity) {
+		//PostLoad is needed for EJB3
+		final PostLoadEvent postLoadEvent = event.getPostLoadEvent()
+				.setEntity( entity )
+				.setId( event.getEntityId() )
+				.setPersister( persister );
+
+		event.getSession().getSessionFactory()
+				.getFastSessionServices()
+				.firePostLoadEvent( postLoadEvent );
+	}
+
+	/**
+	 * Attempts to get the cache entries of the entities with the given ids from the
+	 * second-level cache with a single call to the cache, which allows a remote cache
+	 * to resolve many entities in one round trip.
+	 *
+	 * @param source The source
+	 * @param lockMode The lock mode
+	 * @param persister The persister for the entities being requested for load
+	 * @param ids The ids of the entities
+	 *
+	 * @return The cache entries by id.  Ids which were not found in the second-level
+	 * cache are not contained, and no ids are if the cache cannot be used.
+	 */
+	public Map<Object, Object> getFromSecondLevelCache(
+			final EventSource source,
+			final LockMode lockMode,
+			final EntityPersister persister,
+			final Collection<?> ids) {
+
+		final boolean useCache = persister.canReadFromCache()
+				&& source.getCacheMode().isGetEnabled()
+				&& lockMode.lessThan( LockMode.READ );
+
+		if ( !useCache || ids.isEmpty() ) {
+			// we can't use cache here
+			return Collections.emptyMap();
+		}
+
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final SessionFactoryImplementor factory = source.getFactory();
+
+		final Map<Object, Object> idsByCacheKey = CollectionHelper.linkedMapOfSize( ids.size() );
+		for ( Object id : ids ) {
+			idsByCacheKey.put(
+					cache.generateCacheKey( id, persister, factory, source.getTenantIdentifier() ),
+					id
+			);
+		}
+
+		final Map<Object, Object> cachedEntries = CacheHelper.fromSharedCache( source, idsByCacheKey.keySet(), cache );
+
+		final StatisticsImplementor statistics = factory.getStatistics();
+		final Map<Object, Object> cacheEntriesById = CollectionHelper.mapOfSize( cachedEntries.size() );
+		for ( Map.Entry<Object, Object> entry : idsByCacheKey.entrySet() ) {
+			final Object ce = cachedEntries.get( entry.getKey() );
+			if ( statistics.isStatisticsEnabled() ) {
+				if ( ce == null ) {
+					statistics.entityCacheMiss(
+							StatsHelper.INSTANCE.getRootEntityRole( persister ),
+							cache.getRegion().getName()
+					);
+				}
+				else {
+					statistics.entityCacheHit(
+							StatsHelper.INSTANCE.getRootEntityRole( persister ),
+							cache.getRegion().getName()
+					);
+				}
+			}
+			if ( ce != null ) {
+				cacheEntriesById.put( entry.getValue(), ce );
+			}
+		}
+		return cacheEntriesById;
+	}
+
 	/**
 	 * Attempts to load the entity from the second-level cache.
 	 *
@@ -7,6 +7,7 @@
 package org.hibernate.loader.ast.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -21,6 +22,7 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.ast.spi.CollectionLoader;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.ast.Clause;
@@ -48,6 +50,9 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 
 	private final int keyJdbcCount;
 
+	private final JdbcMapping arrayJdbcMapping;
+	private final MultiKeyLoadHelper.ArrayKeySelect arrayKeySelect;
+
 	private SelectStatement batchSizeSqlAst;
 	private List<JdbcParameter> batchSizeJdbcParameters;
 
@@ -61,18 +66,37 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 
 		this.keyJdbcCount = attributeMapping.getKeyDescriptor().getJdbcTypeCount();
 
-		this.batchSizeJdbcParameters = new ArrayList<>();
-		this.batchSizeSqlAst = LoaderSelectBuilder.createSelect(
-				attributeMapping,
-				null,
+		this.arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping(
 				attributeMapping.getKeyDescriptor(),
-				null,
-				batchSize,
-				influencers,
-				LockOptions.NONE,
-				batchSizeJdbcParameters::add,
 				sessionFactory
 		);
+		if ( arrayJdbcMapping != null ) {
+			// the keys are bound as a single array, so the SQL is the same for any number of keys
+			// and is translated only once
+			this.arrayKeySelect = MultiKeyLoadHelper.createArrayKeySelect(
+					attributeMapping,
+					attributeMapping.getKeyDescriptor(),
+					arrayJdbcMapping,
+					influencers,
+					LockOptions.NONE,
+					sessionFactory
+			);
+		}
+		else {
+			this.arrayKeySelect = null;
+			this.batchSizeJdbcParameters = new ArrayList<>();
+			this.batchSizeSqlAst = LoaderSelectBuilder.createSelect(
+					attributeMapping,
+					null,
+					attributeMapping.getKeyDescriptor(),
+					null,
+					batchSize,
+					influencers,
+					LockOptions.NONE,
+					batchSizeJdbcParameters::add,
+					sessionFactory
+			);
+		}
 	}
 
 	@Override
@@ -133,6 +157,11 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 			);
 		}
 
+		if ( arrayJdbcMapping != null ) {
+			batchLoadWithArray( batchIds, numberOfIds, session );
+			return;
+		}
+
 		int smallBatchStart = 0;
 		int smallBatchLength = Math.min( numberOfIds, batchSize );
 
@@ -211,4 +240,36 @@ public class CollectionLoaderBatchKey implements CollectionLoader {
 		}
 	}
 
+	private void batchLoadWithArray(
+			Object[] batchIds,
+			int numberOfIds,
+			SharedSessionContractImplementor session) {
+		final JdbcServices jdbcServices = session.getFactory().getJdbcServices();
+		final JdbcOperationQuerySelect jdbcSelect = arrayKeySelect.getJdbcSelect();
+
+		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( 1 );
+		jdbcSelect.bindFilterJdbcParameters( jdbcParameterBindings );
+		MultiKeyLoadHelper.bindArray(
+				arrayKeySelect.getJdbcArrayParameter(),
+				arrayJdbcMapping,
+				Arrays.asList( batchIds ).subList( 0, numberOfIds ),
+				jdbcParameterBindings,
+				session
+		);
+
+		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
+				session.getPersistenceContext().getBatchFetchQueue(),
+				arrayKeySelect.getSqlAst(),
+				Collections.emptyList(),
+				jdbcParameterBindings
+		);
+
+		jdbcServices.getJdbcSelectExecutor().list(
+				jdbcSelect,
+				jdbcParameterBindings,
+				new ExecutionContextWithSubselectFetchHandler( session, subSelectFetchableKeysHandler ),
+				RowTransformerStandardImpl.instance(),
+				ListResultsConsumer.UniqueSemantic.FILTER
+		);
+	}
 }
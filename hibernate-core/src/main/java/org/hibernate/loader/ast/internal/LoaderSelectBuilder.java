@@ -64,6 +64,7 @@ import org.hibernate.sql.ast.tree.from.TableGroupJoin;
 import org.hibernate.sql.ast.tree.from.TableGroupJoinProducer;
 import org.hibernate.sql.ast.tree.from.TableReference;
 import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.select.QueryPart;
@@ -131,7 +132,8 @@ public class LoaderSelectBuilder {
 				lockOptions,
 				determineGraphTraversalState( loadQueryInfluencers ),
 				true,
-				jdbcParameterConsumer
+				jdbcParameterConsumer,
+				null
 		);
 
 		return process.generateSelect();
@@ -200,6 +202,46 @@ public class LoaderSelectBuilder {
 		return process.generateSelect();
 	}
 
+	/**
+	 * Create an SQL AST select-statement based on matching any of the keys contained
+	 * in an array, which is bound to a single parameter
+	 *
+	 * @param loadable The root Loadable
+	 * @param restrictedPart Part to base the where-clause restriction on.  Must have a single column
+	 * @param loadQueryInfluencers Any influencers (entity graph, fetch profile) to account for
+	 * @param lockOptions Pessimistic lock options to apply
+	 * @param jdbcArrayParameter The parameter the array of keys is bound to
+	 * @param sessionFactory The SessionFactory
+	 *
+	 * @see MultiKeyLoadHelper
+	 */
+	public static SelectStatement createSelectBySingleArrayParameter(
+			Loadable loadable,
+			ModelPart restrictedPart,
+			LoadQueryInfluencers loadQueryInfluencers,
+			LockOptions lockOptions,
+			JdbcParameter jdbcArrayParameter,
+			SessionFactoryImplementor sessionFactory) {
+		assert restrictedPart.getJdbcTypeCount() == 1;
+
+		final LoaderSelectBuilder process = new LoaderSelectBuilder(
+				sessionFactory,
+				loadable,
+				null,
+				singletonList( restrictedPart ),
+				null,
+				-1,
+				loadQueryInfluencers,
+				lockOptions != null ? lockOptions : LockOptions.NONE,
+				determineGraphTraversalState( loadQueryInfluencers ),
+				true,
+				null,
+				jdbcArrayParameter
+		);
+
+		return process.generateSelect();
+	}
+
 	/**
 	 * Create an SQL AST select-statement used for subselect-based CollectionLoader
 	 *
@@ -246,6 +288,7 @@ public class LoaderSelectBuilder {
 	private final LoadQueryInfluencers loadQueryInfluencers;
 	private final LockOptions lockOptions;
 	private final Consumer<JdbcParameter> jdbcParameterConsumer;
+	private final JdbcParameter jdbcArrayParameter;
 	private final EntityGraphTraversalState entityGraphTraversalState;
 
 	private int fetchDepth;
@@ -264,7 +307,8 @@ public class LoaderSelectBuilder {
 			LockOptions lockOptions,
 			EntityGraphTraversalState entityGraphTraversalState,
 			boolean forceIdentifierSelection,
-			Consumer<JdbcParameter> jdbcParameterConsumer) {
+			Consumer<JdbcParameter> jdbcParameterConsumer,
+			JdbcParameter jdbcArrayParameter) {
 		this.creationContext = creationContext;
 		this.loadable = loadable;
 		this.partsToSelect = partsToSelect;
@@ -276,6 +320,7 @@ public class LoaderSelectBuilder {
 		this.entityGraphTraversalState = entityGraphTraversalState;
 		this.forceIdentifierSelection = forceIdentifierSelection;
 		this.jdbcParameterConsumer = jdbcParameterConsumer;
+		this.jdbcArrayParameter = jdbcArrayParameter;
 	}
 
 	private LoaderSelectBuilder(
@@ -299,7 +344,8 @@ public class LoaderSelectBuilder {
 				lockOptions != null ? lockOptions : LockOptions.NONE,
 				determineGraphTraversalState( loadQueryInfluencers ),
 				determineWhetherToForceIdSelection( numberOfKeysToLoad, restrictedParts ),
-				jdbcParameterConsumer
+				jdbcParameterConsumer,
+				null
 		);
 	}
 
@@ -458,17 +504,28 @@ public class LoaderSelectBuilder {
 		}
 
 		for ( ModelPart restrictedPart : restrictedParts ) {
-			final int numberOfRestrictionColumns = restrictedPart.getJdbcTypeCount();
-
-			applyRestriction(
-					rootQuerySpec,
-					rootNavigablePath,
-					rootTableGroup,
-					restrictedPart,
-					numberOfRestrictionColumns,
-					jdbcParameterConsumer,
-					sqlAstCreationState
-			);
+			if ( jdbcArrayParameter != null ) {
+				applyArrayRestriction(
+						rootQuerySpec,
+						rootNavigablePath,
+						rootTableGroup,
+						restrictedPart,
+						sqlAstCreationState
+				);
+			}
+			else {
+				final int numberOfRestrictionColumns = restrictedPart.getJdbcTypeCount();
+
+				applyRestriction(
+						rootQuerySpec,
+						rootNavigablePath,
+						rootTableGroup,
+						restrictedPart,
+						numberOfRestrictionColumns,
+						jdbcParameterConsumer,
+						sqlAstCreationState
+				);
+			}
 		}
 
 		if ( loadable instanceof PluralAttributeMapping ) {
@@ -571,6 +628,29 @@ public class LoaderSelectBuilder {
 		}
 	}
 
+	private void applyArrayRestriction(
+			QuerySpec rootQuerySpec,
+			NavigablePath rootNavigablePath,
+			TableGroup rootTableGroup,
+			ModelPart modelPart,
+			LoaderSqlAstCreationState sqlAstCreationState) {
+		final SqlExpressionResolver sqlExpressionResolver = sqlAstCreationState.getSqlExpressionResolver();
+		final NavigablePath navigablePath = rootNavigablePath.append( modelPart.getNavigableRole().getNavigableName() );
+
+		modelPart.forEachSelectable(
+				(columnIndex, selection) -> {
+					final TableReference tableReference = rootTableGroup.resolveTableReference(
+							navigablePath, selection.getContainingTableExpression() );
+					final ColumnReference columnRef =
+							(ColumnReference) sqlExpressionResolver.resolveSqlExpression(
+									tableReference,
+									selection
+							);
+					rootQuerySpec.applyPredicate( new InArrayPredicate( columnRef, jdbcArrayParameter ) );
+				}
+		);
+	}
+
 	private void applyFiltering(
 			QuerySpec querySpec,
 			TableGroup tableGroup,
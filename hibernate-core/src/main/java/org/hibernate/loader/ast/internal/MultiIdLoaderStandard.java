@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -33,6 +34,7 @@ import org.hibernate.loader.ast.spi.MultiIdEntityLoader;
 import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.ast.Clause;
@@ -50,7 +52,7 @@ import org.jboss.logging.Logger;
 /**
  * @author Steve Ebersole
  */
-public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
+public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T>, Preparable {
 	private static final Logger log = Logger.getLogger( MultiIdLoaderStandard.class );
 
 	private final EntityPersister entityDescriptor;
@@ -58,6 +60,9 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 
 	private final int idJdbcTypeCount;
 
+	private JdbcMapping arrayJdbcMapping;
+	private MultiKeyLoadHelper.ArrayKeySelect arrayKeySelect;
+
 	public MultiIdLoaderStandard(
 			EntityPersister entityDescriptor,
 			PersistentClass bootDescriptor,
@@ -69,6 +74,24 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		assert idJdbcTypeCount > 0;
 	}
 
+	@Override
+	public void prepare() {
+		arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping(
+				entityDescriptor.getIdentifierMapping(),
+				sessionFactory
+		);
+		if ( arrayJdbcMapping != null ) {
+			arrayKeySelect = MultiKeyLoadHelper.createArrayKeySelect(
+					getLoadable(),
+					entityDescriptor.getIdentifierMapping(),
+					arrayJdbcMapping,
+					new LoadQueryInfluencers( sessionFactory ),
+					LockOptions.NONE,
+					sessionFactory
+			);
+		}
+	}
+
 	@Override
 	public EntityMappingType getLoadable() {
 		return entityDescriptor;
@@ -109,6 +132,10 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
 			maxBatchSize = loadOptions.getBatchSize();
 		}
+		else if ( arrayJdbcMapping != null ) {
+			// the SQL is the same for any number of ids
+			maxBatchSize = ids.length;
+		}
 		else {
 			maxBatchSize = dialect.getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
 					idJdbcTypeCount,
@@ -121,6 +148,7 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
 
 		final boolean coerce = !sessionFactory.getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+		final Map<Object, Object> cacheEntries = getFromSecondLevelCache( ids, coerce, lockOptions, loadOptions, session );
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id;
 			if ( coerce ) {
@@ -166,7 +194,8 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							entityDescriptor,
-							entityKey
+							entityKey,
+							cacheEntries.get( id )
 					);
 				}
 
@@ -237,46 +266,84 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 			log.tracef( "#loadEntitiesById(`%s`, `%s`, ..)", entityDescriptor.getEntityName(), numberOfIdsInBatch );
 		}
 
-		final List<JdbcParameter> jdbcParameters = new ArrayList<>( numberOfIdsInBatch * idJdbcTypeCount);
-
-		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
-				getLoadable(),
-				// null here means to select everything
-				null,
-				getLoadable().getIdentifierMapping(),
-				null,
-				numberOfIdsInBatch,
-				session.getLoadQueryInfluencers(),
-				lockOptions,
-				jdbcParameters::add,
-				sessionFactory
-		);
+		final List<JdbcParameter> jdbcParameters;
+		final SelectStatement sqlAst;
+		final JdbcOperationQuerySelect jdbcSelect;
+		final JdbcParameterBindings jdbcParameterBindings;
+
+		if ( arrayJdbcMapping != null ) {
+			// bind all ids as a single array, so that the SQL does not depend on the number of ids,
+			// and reuse the select translated on startup unless the session influences the load
+			final MultiKeyLoadHelper.ArrayKeySelect select = MultiKeyLoadHelper.isDefaultArrayKeySelectUsable(
+					getLoadable(),
+					session.getLoadQueryInfluencers(),
+					lockOptions
+			)
+					? arrayKeySelect
+					: MultiKeyLoadHelper.createArrayKeySelect(
+							getLoadable(),
+							getLoadable().getIdentifierMapping(),
+							arrayJdbcMapping,
+							session.getLoadQueryInfluencers(),
+							lockOptions,
+							sessionFactory
+					);
+			jdbcParameters = Collections.singletonList( select.getJdbcArrayParameter() );
+			sqlAst = select.getSqlAst();
+			jdbcSelect = select.getJdbcSelect();
+
+			jdbcParameterBindings = new JdbcParameterBindingsImpl( 1 );
+			MultiKeyLoadHelper.bindArray(
+					select.getJdbcArrayParameter(),
+					arrayJdbcMapping,
+					idsInBatch,
+					jdbcParameterBindings,
+					session
+			);
+		}
+		else {
+			jdbcParameters = new ArrayList<>( numberOfIdsInBatch * idJdbcTypeCount );
+
+			sqlAst = LoaderSelectBuilder.createSelect(
+					getLoadable(),
+					// null here means to select everything
+					null,
+					getLoadable().getIdentifierMapping(),
+					null,
+					numberOfIdsInBatch,
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					jdbcParameters::add,
+					sessionFactory
+			);
+
+			jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
+			int offset = 0;
+
+			for ( int i = 0; i < numberOfIdsInBatch; i++ ) {
+				final Object id = idsInBatch.get( i );
 
-		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
-		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
-		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
+				offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+						id,
+						Clause.WHERE,
+						offset,
+						entityDescriptor.getIdentifierMapping(),
+						jdbcParameters,
+						session
+				);
+			}
 
-		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
-		int offset = 0;
+			// we should have used all the JdbcParameter references (created bindings for all)
+			assert offset == jdbcParameters.size();
 
-		for ( int i = 0; i < numberOfIdsInBatch; i++ ) {
-			final Object id = idsInBatch.get( i );
+			final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
+			final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
+			final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
 
-			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
-					id,
-					Clause.WHERE,
-					offset,
-					entityDescriptor.getIdentifierMapping(),
-					jdbcParameters,
-					session
-			);
+			jdbcSelect = sqlAstTranslatorFactory.buildSelectTranslator( sessionFactory, sqlAst )
+					.translate( jdbcParameterBindings, QueryOptions.NONE );
 		}
 
-		// we should have used all the JdbcParameter references (created bindings for all)
-		assert offset == jdbcParameters.size();
-		final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory.buildSelectTranslator( sessionFactory, sqlAst )
-				.translate( jdbcParameterBindings, QueryOptions.NONE );
-
 		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler;
 		if ( entityDescriptor.hasSubselectLoadableCollections() ) {
 			subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
@@ -299,6 +366,40 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		);
 	}
 
+	/**
+	 * Get the second-level cache entries of all given ids which are not managed by the
+	 * session with a single call to the cache, instead of one call per id.
+	 */
+	private Map<Object, Object> getFromSecondLevelCache(
+			Object[] ids,
+			boolean coerce,
+			LockOptions lockOptions,
+			MultiIdLoadOptions loadOptions,
+			EventSource session) {
+		if ( !loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+			return Collections.emptyMap();
+		}
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final List<Object> idsToCheck = new ArrayList<>( ids.length );
+		for ( Object id : ids ) {
+			final Object coercedId = coerce
+					? entityDescriptor.getIdentifierMapping().getJavaType().coerce( id, session )
+					: id;
+			if ( !loadOptions.isSessionCheckingEnabled()
+					|| persistenceContext.getEntity( new EntityKey( coercedId, entityDescriptor ) ) == null ) {
+				idsToCheck.add( coercedId );
+			}
+		}
+
+		return CacheEntityLoaderHelper.INSTANCE.getFromSecondLevelCache(
+				session,
+				lockOptions.getLockMode() == null ? LockMode.NONE : lockOptions.getLockMode(),
+				entityDescriptor,
+				idsToCheck
+		);
+	}
+
 	private List<T> performSingleMultiLoad(Object id, LockOptions lockOptions, SharedSessionContractImplementor session) {
 		T loaded = (T) entityDescriptor.load( id, null, lockOptions, session );
 		return Collections.singletonList( loaded );
@@ -331,6 +432,7 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 			final List<Object> nonManagedIds = new ArrayList<>();
 
 			final boolean coerce = !sessionFactory.getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+			final Map<Object, Object> cacheEntries = getFromSecondLevelCache( ids, coerce, lockOptions, loadOptions, session );
 			for ( int i = 0; i < ids.length; i++ ) {
 				final Object id;
 				if ( coerce ) {
@@ -374,7 +476,8 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							entityDescriptor,
-							entityKey
+							entityKey,
+							cacheEntries.get( id )
 					);
 				}
 
@@ -411,6 +514,10 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
 			maxBatchSize = loadOptions.getBatchSize();
 		}
+		else if ( arrayJdbcMapping != null ) {
+			// the SQL is the same for any number of ids
+			maxBatchSize = numberOfIdsLeft;
+		}
 		else {
 			maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect().getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
 					entityDescriptor.getIdentifierType().getColumnSpan( session.getFactory() ),
@@ -0,0 +1,182 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.lang.reflect.Array;
+import java.util.List;
+
+import org.hibernate.LockOptions;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.Loadable;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.java.BasicPluralJavaType;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.spi.TypeConfiguration;
+
+/**
+ * Support for loading by multiple keys bound as a single array parameter, which
+ * results in the same SQL for any number of keys.
+ *
+ * @see Dialect#useArrayForMultiValuedParameters()
+ * @see LoaderSelectBuilder#createSelectBySingleArrayParameter
+ */
+public class MultiKeyLoadHelper {
+	private MultiKeyLoadHelper() {
+	}
+
+	/**
+	 * Resolve the mapping of an array of values of the given key part.
+	 *
+	 * @return The mapping of the array, or {@code null} if keys of the given part
+	 * cannot be bound as an array parameter
+	 */
+	public static JdbcMapping resolveArrayJdbcMapping(ModelPart keyPart, SessionFactoryImplementor sessionFactory) {
+		final Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+		if ( !dialect.useArrayForMultiValuedParameters() || !( keyPart instanceof BasicValuedModelPart ) ) {
+			return null;
+		}
+
+		final JdbcMapping keyMapping = ( (BasicValuedModelPart) keyPart ).getJdbcMapping();
+		if ( keyMapping.getValueConverter() != null || !( keyMapping instanceof BasicType<?> ) ) {
+			// the keys would have to be converted one by one
+			return null;
+		}
+
+		final TypeConfiguration typeConfiguration = sessionFactory.getTypeConfiguration();
+		final Class<?> arrayClass = Array.newInstance( keyMapping.getJdbcJavaType().getJavaTypeClass(), 0 ).getClass();
+		final JavaType<?> arrayJavaType = typeConfiguration.getJavaTypeRegistry().resolveDescriptor( arrayClass );
+		if ( !( arrayJavaType instanceof BasicPluralJavaType<?> ) ) {
+			// e.g. Byte[] and Character[] are not mapped as arrays
+			return null;
+		}
+
+		//noinspection unchecked,rawtypes
+		final BasicType<?> arrayType = ( (BasicPluralJavaType) arrayJavaType ).resolveType(
+				typeConfiguration,
+				dialect,
+				(BasicType) keyMapping,
+				null
+		);
+		if ( arrayType == null || arrayType.getJdbcType().getDefaultSqlTypeCode() != SqlTypes.ARRAY ) {
+			return null;
+		}
+		return arrayType;
+	}
+
+	/**
+	 * Create the select by an array of keys of the given part, and translate it.
+	 */
+	public static ArrayKeySelect createArrayKeySelect(
+			Loadable loadable,
+			ModelPart keyPart,
+			JdbcMapping arrayJdbcMapping,
+			LoadQueryInfluencers loadQueryInfluencers,
+			LockOptions lockOptions,
+			SessionFactoryImplementor sessionFactory) {
+		final JdbcParameter jdbcArrayParameter = new JdbcParameterImpl( arrayJdbcMapping );
+		final SelectStatement sqlAst = LoaderSelectBuilder.createSelectBySingleArrayParameter(
+				loadable,
+				keyPart,
+				loadQueryInfluencers,
+				lockOptions,
+				jdbcArrayParameter,
+				sessionFactory
+		);
+		final JdbcOperationQuerySelect jdbcSelect = sessionFactory.getJdbcServices()
+				.getJdbcEnvironment()
+				.getSqlAstTranslatorFactory()
+				.buildSelectTranslator( sessionFactory, sqlAst )
+				.translate( null, QueryOptions.NONE );
+		return new ArrayKeySelect( jdbcArrayParameter, sqlAst, jdbcSelect );
+	}
+
+	/**
+	 * Whether a select by an array of keys created by {@link #createArrayKeySelect} with
+	 * the default influencers and no lock can be used for a load with the given ones.
+	 */
+	public static boolean isDefaultArrayKeySelectUsable(
+			Loadable loadable,
+			LoadQueryInfluencers loadQueryInfluencers,
+			LockOptions lockOptions) {
+		return lockOptions.isEmpty()
+				&& loadQueryInfluencers.getEnabledCascadingFetchProfile() == null
+				&& !loadable.isAffectedByEnabledFilters( loadQueryInfluencers )
+				&& !loadable.isAffectedByEntityGraph( loadQueryInfluencers )
+				&& !loadable.isAffectedByEnabledFetchProfiles( loadQueryInfluencers );
+	}
+
+	/**
+	 * Bind the given keys as an array to the given parameter.
+	 */
+	public static void bindArray(
+			JdbcParameter jdbcArrayParameter,
+			JdbcMapping arrayJdbcMapping,
+			List<?> keys,
+			JdbcParameterBindings jdbcParameterBindings,
+			SharedSessionContractImplementor session) {
+		final Class<?> keyClass = arrayJdbcMapping.getJdbcJavaType().getJavaTypeClass().getComponentType();
+		//noinspection unchecked
+		final JavaType<Object> keyJavaType = ( (BasicPluralJavaType<Object>) arrayJdbcMapping.getJdbcJavaType() )
+				.getElementJavaType();
+
+		final Object[] array = (Object[]) Array.newInstance( keyClass, keys.size() );
+		for ( int i = 0; i < array.length; i++ ) {
+			final Object key = keys.get( i );
+			array[i] = keyClass.isInstance( key ) ? key : keyJavaType.wrap( key, session );
+		}
+
+		jdbcParameterBindings.addBinding(
+				jdbcArrayParameter,
+				new JdbcParameterBindingImpl( arrayJdbcMapping, array )
+		);
+	}
+
+	/**
+	 * A translated select by an array of keys.  As the SQL is the same for any
+	 * number of keys, it can be reused by all loads with the same influencers.
+	 */
+	public static class ArrayKeySelect {
+		private final JdbcParameter jdbcArrayParameter;
+		private final SelectStatement sqlAst;
+		private final JdbcOperationQuerySelect jdbcSelect;
+
+		private ArrayKeySelect(
+				JdbcParameter jdbcArrayParameter,
+				SelectStatement sqlAst,
+				JdbcOperationQuerySelect jdbcSelect) {
+			this.jdbcArrayParameter = jdbcArrayParameter;
+			this.sqlAst = sqlAst;
+			this.jdbcSelect = jdbcSelect;
+		}
+
+		public JdbcParameter getJdbcArrayParameter() {
+			return jdbcArrayParameter;
+		}
+
+		public SelectStatement getSqlAst() {
+			return sqlAst;
+		}
+
+		public JdbcOperationQuerySelect getJdbcSelect() {
+			return jdbcSelect;
+		}
+	}
+}
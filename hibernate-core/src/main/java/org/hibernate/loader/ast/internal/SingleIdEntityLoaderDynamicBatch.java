@@ -7,6 +7,8 @@
 package org.hibernate.loader.ast.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.hibernate.LockOptions;
@@ -14,11 +16,13 @@ import org.hibernate.engine.internal.BatchFetchQueueHelper;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryOptionsAdapter;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -40,13 +44,16 @@ import org.jboss.logging.Logger;
 /**
  * @author Steve Ebersole
  */
-public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSupport<T> {
+public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSupport<T> implements Preparable {
 	private static final Logger log = Logger.getLogger( SingleIdEntityLoaderDynamicBatch.class );
 
 	private final int maxBatchSize;
 
 	private SingleIdEntityLoaderStandardImpl<T> singleIdLoader;
 
+	private JdbcMapping arrayJdbcMapping;
+	private MultiKeyLoadHelper.ArrayKeySelect arrayKeySelect;
+
 	public SingleIdEntityLoaderDynamicBatch(
 			EntityMappingType entityDescriptor,
 			int maxBatchSize,
@@ -55,6 +62,24 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 		this.maxBatchSize = maxBatchSize;
 	}
 
+	@Override
+	public void prepare() {
+		arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping(
+				getLoadable().getIdentifierMapping(),
+				sessionFactory
+		);
+		if ( arrayJdbcMapping != null ) {
+			arrayKeySelect = MultiKeyLoadHelper.createArrayKeySelect(
+					getLoadable(),
+					getLoadable().getIdentifierMapping(),
+					arrayJdbcMapping,
+					new LoadQueryInfluencers( sessionFactory ),
+					LockOptions.NONE,
+					sessionFactory
+			);
+		}
+	}
+
 	@Override
 	public T load(Object pkValue, LockOptions lockOptions, Boolean readOnly, SharedSessionContractImplementor session) {
 		return load( pkValue, null, lockOptions, readOnly, session );
@@ -92,46 +117,83 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 			log.debugf( "Batch loading entity [%s] : %s", getLoadable().getEntityName(), idsToLoad );
 		}
 
-		final List<JdbcParameter> jdbcParameters = new ArrayList<>();
+		final List<JdbcParameter> jdbcParameters;
+		final SelectStatement sqlAst;
+		final JdbcOperationQuerySelect jdbcSelect;
+		final JdbcParameterBindings jdbcParameterBindings;
+
+		if ( arrayJdbcMapping != null ) {
+			// bind all ids as a single array, so that the SQL does not depend on the number of ids,
+			// and reuse the select translated on startup unless the session influences the load
+			final MultiKeyLoadHelper.ArrayKeySelect select = MultiKeyLoadHelper.isDefaultArrayKeySelectUsable(
+					getLoadable(),
+					session.getLoadQueryInfluencers(),
+					lockOptions
+			)
+					? arrayKeySelect
+					: MultiKeyLoadHelper.createArrayKeySelect(
+							getLoadable(),
+							getLoadable().getIdentifierMapping(),
+							arrayJdbcMapping,
+							session.getLoadQueryInfluencers(),
+							lockOptions,
+							session.getFactory()
+					);
+			jdbcParameters = Collections.singletonList( select.getJdbcArrayParameter() );
+			sqlAst = select.getSqlAst();
+			jdbcSelect = select.getJdbcSelect();
+
+			jdbcParameterBindings = new JdbcParameterBindingsImpl( 1 );
+			MultiKeyLoadHelper.bindArray(
+					select.getJdbcArrayParameter(),
+					arrayJdbcMapping,
+					Arrays.asList( idsToLoad ),
+					jdbcParameterBindings,
+					session
+			);
+		}
+		else {
+			jdbcParameters = new ArrayList<>();
+
+			sqlAst = LoaderSelectBuilder.createSelect(
+					getLoadable(),
+					// null here means to select everything
+					null,
+					getLoadable().getIdentifierMapping(),
+					null,
+					numberOfIds,
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					jdbcParameters::add,
+					session.getFactory()
+			);
 
-		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
-				getLoadable(),
-				// null here means to select everything
-				null,
-				getLoadable().getIdentifierMapping(),
-				null,
-				numberOfIds,
-				session.getLoadQueryInfluencers(),
-				lockOptions,
-				jdbcParameters::add,
-				session.getFactory()
-		);
+			jdbcParameterBindings = new JdbcParameterBindingsImpl(
+					getLoadable().getIdentifierMapping().getJdbcTypeCount()
+			);
 
-		final SessionFactoryImplementor sessionFactory = session.getFactory();
-		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
-		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
-		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
+			int offset = 0;
+			for ( int i = 0; i < numberOfIds; i++ ) {
+				offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+						idsToLoad[i],
+						Clause.WHERE,
+						offset,
+						getLoadable().getIdentifierMapping(),
+						jdbcParameters,
+						session
+				);
+			}
+			assert offset == jdbcParameters.size();
 
-		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl(
-				getLoadable().getIdentifierMapping().getJdbcTypeCount()
-		);
+			final SessionFactoryImplementor sessionFactory = session.getFactory();
+			final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
+			final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
+			final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
 
-		int offset = 0;
-		for ( int i = 0; i < numberOfIds; i++ ) {
-			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
-					idsToLoad[i],
-					Clause.WHERE,
-					offset,
-					getLoadable().getIdentifierMapping(),
-					jdbcParameters,
-					session
-			);
+			jdbcSelect = sqlAstTranslatorFactory
+					.buildSelectTranslator( sessionFactory, sqlAst )
+					.translate( jdbcParameterBindings, QueryOptions.NONE );
 		}
-		assert offset == jdbcParameters.size();
-
-		final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory
-				.buildSelectTranslator( sessionFactory, sqlAst )
-				.translate( jdbcParameterBindings, QueryOptions.NONE );
 
 		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
 				session.getPersistenceContext().getBatchFetchQueue(),
@@ -13,6 +13,7 @@ import java.util.function.Supplier;
 
 import org.hibernate.HibernateException;
 import org.hibernate.boot.registry.selector.spi.StrategySelector;
+import org.hibernate.bytecode.internal.PregeneratedReflectionOptimizers;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cfg.Environment;
@@ -188,6 +189,13 @@ public class EmbeddableRepresentationStrategyPojo extends AbstractEmbeddableRepr
 			i++;
 		}
 
+		final ReflectionOptimizer pregenerated = PregeneratedReflectionOptimizers.locate(
+				bootDescriptor.getComponentClass(),
+				propertyAccessMap
+		);
+		if ( pregenerated != null ) {
+			return pregenerated;
+		}
 		return Environment.getBytecodeProvider().getReflectionOptimizer(
 				bootDescriptor.getComponentClass(),
 				propertyAccessMap
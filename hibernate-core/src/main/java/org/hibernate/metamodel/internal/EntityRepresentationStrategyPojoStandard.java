@@ -15,6 +15,7 @@ import java.util.Set;
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
 import org.hibernate.boot.registry.selector.spi.StrategySelector;
+import org.hibernate.bytecode.internal.PregeneratedReflectionOptimizers;
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.bytecode.spi.ReflectionOptimizer.InstantiationOptimizer;
@@ -292,6 +293,13 @@ public class EntityRepresentationStrategyPojoStandard implements EntityRepresent
 		if ( ! Environment.useReflectionOptimizer() ) {
 			return null;
 		}
+		final ReflectionOptimizer pregenerated = PregeneratedReflectionOptimizers.locate(
+				mappedJtd.getJavaTypeClass(),
+				propertyAccessMap
+		);
+		if ( pregenerated != null ) {
+			return pregenerated;
+		}
 		return bytecodeProvider.getReflectionOptimizer(
 				mappedJtd.getJavaTypeClass(),
 				propertyAccessMap
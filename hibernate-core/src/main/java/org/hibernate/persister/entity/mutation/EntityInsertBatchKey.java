@@ -0,0 +1,139 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.persister.entity.mutation;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.Internal;
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.EmbeddableValuedModelPart;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
+import org.hibernate.metamodel.mapping.ManagedMappingType;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.internal.ToOneAttributeMapping;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+
+/**
+ * BatchKey for the inserts of an entity, which knows the tables referenced
+ * by foreign keys of the inserted tables.  Inserts of an entity {@linkplain #dependsOn depend}
+ * on the inserts of another entity if one of the tables of the entity references one of the
+ * tables of the other entity, or if both entities share a table.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_PIPELINING
+ */
+@Internal
+public class EntityInsertBatchKey extends BasicBatchKey {
+	private final AbstractEntityPersister entityPersister;
+
+	private volatile Set<String> tableNames;
+	private volatile Set<String> referencedTableNames;
+
+	public EntityInsertBatchKey(AbstractEntityPersister entityPersister) {
+		super( entityPersister.getEntityName() + "#INSERT", null );
+		this.entityPersister = entityPersister;
+	}
+
+	@Override
+	public boolean dependsOn(BatchKey other) {
+		if ( !( other instanceof EntityInsertBatchKey ) ) {
+			return true;
+		}
+
+		final Set<String> otherTableNames = ( (EntityInsertBatchKey) other ).getTableNames();
+		for ( String tableName : getTableNames() ) {
+			if ( otherTableNames.contains( tableName ) ) {
+				return true;
+			}
+		}
+		for ( String tableName : getReferencedTableNames() ) {
+			if ( otherTableNames.contains( tableName ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Set<String> getTableNames() {
+		Set<String> tableNames = this.tableNames;
+		if ( tableNames == null ) {
+			final Set<String> names = new HashSet<>();
+			entityPersister.forEachMutableTable( (tableMapping) -> names.add( tableMapping.getTableName() ) );
+			this.tableNames = tableNames = names;
+		}
+		return tableNames;
+	}
+
+	/**
+	 * The tables referenced by foreign keys of the tables of the entity, which is
+	 * resolved lazily, since the mapping model is not complete when the key is created.
+	 * This includes the foreign keys of one-to-many associations mapped by other entities.
+	 */
+	private Set<String> getReferencedTableNames() {
+		Set<String> referencedTableNames = this.referencedTableNames;
+		if ( referencedTableNames == null ) {
+			final Set<String> tableNames = getTableNames();
+			final Set<String> names = new HashSet<>();
+			entityPersister.getFactory().getMappingMetamodel().forEachEntityDescriptor(
+					(entityDescriptor) -> {
+						final EntityIdentifierMapping identifierMapping = entityDescriptor.getIdentifierMapping();
+						if ( identifierMapping instanceof EmbeddableValuedModelPart ) {
+							collectReferencedTables(
+									( (EmbeddableValuedModelPart) identifierMapping ).getEmbeddableTypeDescriptor(),
+									tableNames,
+									names
+							);
+						}
+						collectReferencedTables( entityDescriptor, tableNames, names );
+					}
+			);
+			this.referencedTableNames = referencedTableNames = names;
+		}
+		return referencedTableNames;
+	}
+
+	private static void collectReferencedTables(
+			ManagedMappingType mappingType,
+			Set<String> tableNames,
+			Set<String> referencedTableNames) {
+		mappingType.forEachAttributeMapping( (AttributeMapping attributeMapping) -> {
+			if ( attributeMapping instanceof ToOneAttributeMapping ) {
+				collectReferencedTable(
+						( (ToOneAttributeMapping) attributeMapping ).getForeignKeyDescriptor(),
+						tableNames,
+						referencedTableNames
+				);
+			}
+			else if ( attributeMapping instanceof PluralAttributeMapping ) {
+				collectReferencedTable(
+						( (PluralAttributeMapping) attributeMapping ).getKeyDescriptor(),
+						tableNames,
+						referencedTableNames
+				);
+			}
+			else if ( attributeMapping instanceof EmbeddableValuedModelPart ) {
+				collectReferencedTables(
+						( (EmbeddableValuedModelPart) attributeMapping ).getEmbeddableTypeDescriptor(),
+						tableNames,
+						referencedTableNames
+				);
+			}
+		} );
+	}
+
+	private static void collectReferencedTable(
+			ForeignKeyDescriptor foreignKeyDescriptor,
+			Set<String> tableNames,
+			Set<String> referencedTableNames) {
+		if ( foreignKeyDescriptor != null && tableNames.contains( foreignKeyDescriptor.getKeyTable() ) ) {
+			referencedTableNames.add( foreignKeyDescriptor.getTargetTable() );
+		}
+	}
+}
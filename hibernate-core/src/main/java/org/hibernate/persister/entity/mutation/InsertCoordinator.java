@@ -54,10 +54,7 @@ public class InsertCoordinator extends AbstractMutationCoordinator {
 	public InsertCoordinator(AbstractEntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
 
-		insertBatchKey = new BasicBatchKey(
-				entityPersister.getEntityName() + "#INSERT",
-				null
-		);
+		insertBatchKey = new EntityInsertBatchKey( entityPersister );
 
 		if ( entityPersister.getEntityMetamodel().isDynamicInsert() ) {
 			// the entity specified dynamic-insert - skip generating the
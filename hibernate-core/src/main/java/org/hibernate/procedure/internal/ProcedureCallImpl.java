@@ -48,6 +48,7 @@ import org.hibernate.query.BindableType;
 import org.hibernate.query.OutputableType;
 import org.hibernate.query.Query;
 import org.hibernate.query.QueryParameter;
+import org.hibernate.query.ResultColumns;
 import org.hibernate.query.internal.QueryOptionsImpl;
 import org.hibernate.query.procedure.ProcedureParameter;
 import org.hibernate.query.results.ResultSetMapping;
@@ -924,6 +925,15 @@ public class ProcedureCallImpl<R>
 		}
 	}
 
+	/**
+	 * @throws UnsupportedOperationException always, since the outputs of a
+	 * procedure call are not known to be basic values
+	 */
+	@Override
+	protected ResultColumns doResultColumns() {
+		throw new UnsupportedOperationException( "Columnar results are not supported for procedure calls" );
+	}
+
 	@Override
 	protected List<R> doList() {
 		if ( getMaxResults() == 0 ) {
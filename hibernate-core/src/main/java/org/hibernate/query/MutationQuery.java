@@ -11,6 +11,9 @@ import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import org.hibernate.FlushMode;
 import org.hibernate.Incubating;
@@ -75,6 +78,31 @@ public interface MutationQuery extends CommonQueryContract {
 	 */
 	int executeUpdate();
 
+	/**
+	 * Execute an insert, update, or delete statement using the given
+	 * {@link Executor}, and complete the returned {@link CompletionStage}
+	 * with the number of affected entities.
+	 * <p>
+	 * Asynchronous executions are serialized per session, and any other use
+	 * of the session fails with an {@link IllegalStateException} until the
+	 * returned stage has completed.
+	 * <p>
+	 * The default implementation just runs {@link #executeUpdate()} using the
+	 * executor, without serializing it with other executions against the session.
+	 *
+	 * @param executor the executor which runs the statement
+	 *
+	 * @return a stage completed with the number of affected entity instances
+	 *
+	 * @see #executeUpdate()
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	default CompletionStage<Integer> executeUpdateAsync(Executor executor) {
+		return CompletableFuture.supplyAsync( this::executeUpdate, executor );
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Covariant returns
@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query;
+
+import org.hibernate.Incubating;
+
+/**
+ * The results of a query selecting only basic values, stored column by column
+ * as returned by {@link SelectionQuery#getResultColumns()}.
+ * <p>
+ * Columns of type {@link Long}, {@link Integer}, {@link Short}, {@link Byte},
+ * {@link Double} and {@link Float} are stored in primitive arrays, obtained using
+ * {@link #getLongColumn}, {@link #getIntColumn} and {@link #getDoubleColumn}, with
+ * {@code null} values reported by {@link #isNull}.  Columns of any other type are
+ * stored as an {@code Object[]}, obtained using {@link #getObjectColumn}.
+ * <p>
+ * Columns and rows are indexed from zero, in the order of the select clause.
+ *
+ * @since 6.2
+ */
+@Incubating
+public interface ResultColumns {
+	/**
+	 * The number of rows returned by the query.
+	 */
+	int getRowCount();
+
+	/**
+	 * The number of items in the select clause.
+	 */
+	int getColumnCount();
+
+	/**
+	 * The type of the values of the given column: {@code long.class}, {@code int.class}
+	 * or {@code double.class} for columns stored in primitive arrays, or else the Java
+	 * type of the selected values.
+	 */
+	Class<?> getColumnType(int column);
+
+	/**
+	 * Whether the value of the given column in the given row is {@code null}.
+	 */
+	boolean isNull(int column, int row);
+
+	/**
+	 * The values of a column of type {@code long.class}, with {@code 0} for {@code null} values.
+	 *
+	 * @throws IllegalArgumentException if the column is not of type {@code long.class}
+	 */
+	long[] getLongColumn(int column);
+
+	/**
+	 * The values of a column of type {@code int.class}, with {@code 0} for {@code null} values.
+	 *
+	 * @throws IllegalArgumentException if the column is not of type {@code int.class}
+	 */
+	int[] getIntColumn(int column);
+
+	/**
+	 * The values of a column of type {@code double.class}, with {@code 0} for {@code null} values.
+	 *
+	 * @throws IllegalArgumentException if the column is not of type {@code double.class}
+	 */
+	double[] getDoubleColumn(int column);
+
+	/**
+	 * The values of a column which is not stored in a primitive array.
+	 *
+	 * @throws IllegalArgumentException if the column is stored in a primitive array
+	 */
+	Object[] getObjectColumn(int column);
+
+	/**
+	 * The value of the given column in the given row, boxed if the column is
+	 * stored in a primitive array.  The value is of the type selected by the
+	 * query, so a {@link Short} column stored as {@code int.class} still
+	 * returns {@code Short} values.
+	 */
+	Object getValue(int column, int row);
+}
@@ -13,6 +13,9 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -29,6 +32,7 @@ import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.sql.results.internal.ResultColumnsImpl;
 
 import jakarta.persistence.FlushModeType;
 import jakarta.persistence.LockModeType;
@@ -92,6 +96,32 @@ public interface SelectionQuery<R> extends CommonQueryContract {
 		return list();
 	}
 
+	/**
+	 * Execute the query using the given {@link Executor}, and complete the
+	 * returned {@link CompletionStage} with the query results as a {@link List}.
+	 * <p>
+	 * Asynchronous executions are serialized per session, so that several
+	 * queries submitted against one session never use it at the same time.
+	 * Any other use of the session fails with an {@link IllegalStateException}
+	 * until the returned stage has completed. To run queries in parallel,
+	 * execute each of them against its own session.
+	 * <p>
+	 * The default implementation just runs {@link #list()} using the executor,
+	 * without serializing it with other executions against the session.
+	 *
+	 * @param executor the executor which runs the query
+	 *
+	 * @return a stage completed with the result list
+	 *
+	 * @see #list()
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	default CompletionStage<List<R>> listAsync(Executor executor) {
+		return CompletableFuture.supplyAsync( this::list, executor );
+	}
+
 	/**
 	 * Returns scrollable access to the query results.
 	 * <p>
@@ -111,6 +141,31 @@ public interface SelectionQuery<R> extends CommonQueryContract {
 	 */
 	ScrollableResults<R> scroll(ScrollMode scrollMode);
 
+	/**
+	 * Execute the query and return the query results column by column.
+	 * Numeric columns are stored in primitive arrays, so that no array and
+	 * no boxed value is retained per row.
+	 * <p>
+	 * Only supported for HQL and criteria queries selecting nothing but
+	 * basic values.  Any {@link TupleTransformer} or {@link ResultListTransformer}
+	 * is ignored.
+	 *
+	 * @return the results, by column
+	 *
+	 * @throws IllegalStateException if the query selects entities, embeddables
+	 * or dynamic instantiations
+	 * @throws UnsupportedOperationException for native and procedure call queries
+	 *
+	 * @implNote The default implementation executes {@link #list()} and copies
+	 * the rows into columns.
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	default ResultColumns getResultColumns() {
+		return ResultColumnsImpl.fromRows( list() );
+	}
+
 	/**
 	 * Execute the query and return the query results as a {@link Stream}.
 	 * If the query contains multiple items in the selection list, then
@@ -12,9 +12,14 @@ import org.hibernate.query.hql.HqlLogging;
 
 import org.jboss.logging.Logger;
 
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 
 /**
  * Leverages ANTLR to build a parse tree from an HQL query.
@@ -30,6 +35,35 @@ public class HqlParseTreeBuilder {
 	 */
 	public static final HqlParseTreeBuilder INSTANCE = new HqlParseTreeBuilder();
 
+	/**
+	 * Statements covering the commonly used rules of the grammar, parsed by
+	 * {@link #warmUp()}.  Only their syntax matters, so they do not refer to
+	 * any particular domain model.
+	 */
+	private static final String[] WARM_UP_STATEMENTS = {
+			"from Entity",
+			"select e from Entity e where e.id = :id",
+			"select e from Entity e where e.id = ?1 and e.name like :name escape '!'",
+			"select e.name, count(e) from Entity e group by e.name having count(e) > 1 order by e.name desc nulls last",
+			"select distinct e from Entity e join fetch e.children c left join e.parent p where p is null or p.id in (1, 2, 3)",
+			"select e from Entity e where e.id between :low and :high and e.version <> 0 order by e.id limit 10 offset 20",
+			"select e from Entity e order by e.id offset 10 rows fetch first 10 rows only",
+			"select new Dto(e.id, upper(e.name)) from Entity e where exists (select 1 from Other o where o.entity = e)",
+			"select case when e.amount > 100 then 'large' else 'small' end, coalesce(e.name, '') from Entity e",
+			"select e from Entity e where e.created >= local date and e.created < {ts '2000-01-01 00:00:00'}",
+			"select cast(e.amount as String), extract(year from e.created), size(e.children) from Entity e",
+			"select e, o from Entity e join Other o on o.code = e.code where treat(e as Sub).flag = true",
+			"select e.id, row_number() over (partition by e.name order by e.id) from Entity e",
+			"select e.id from Entity e union all select o.id from Other o",
+			"with cte as (select e.id as id from Entity e) select c.id from cte c",
+			"select e from Entity e where e.tags is empty and :tag member of e.tags and e.name is not null",
+			"update Entity e set e.name = :name, e.version = e.version + 1 where e.id = :id",
+			"delete from Entity e where e.id in (select o.id from Other o where o.name ilike 'x%')",
+			"insert into Entity (id, name) select o.id, o.name from Other o"
+	};
+
+	private volatile boolean warmedUp;
+
 	public HqlLexer buildHqlLexer(String hql) {
 		return new HqlLexer( CharStreams.fromString( hql ) );
 	}
@@ -50,4 +84,83 @@ public class HqlParseTreeBuilder {
 		// Build the lexer
 		return buildHqlParser( hql, buildHqlLexer( hql ) );
 	}
+
+	/**
+	 * Parse the given HQL, first using the faster {@linkplain PredictionMode#SLL SLL}
+	 * prediction mode with an error strategy which bails out on the first error, and
+	 * only falling back to full {@linkplain PredictionMode#LL LL} prediction when that
+	 * fails.  Syntax errors are reported to the given listener by the LL parse only,
+	 * since SLL rejects some valid input.
+	 */
+	public HqlParser.StatementContext parseHql(String hql, ANTLRErrorListener errorListener) {
+		// Build the lexer
+		final HqlLexer hqlLexer = buildHqlLexer( hql );
+		hqlLexer.removeErrorListeners();
+		hqlLexer.addErrorListener( errorListener );
+
+		// Build the parse tree
+		final HqlParser hqlParser = buildHqlParser( hql, hqlLexer );
+
+		// try to use SLL(k)-based parsing first - its faster
+		hqlParser.getInterpreter().setPredictionMode( PredictionMode.SLL );
+		hqlParser.removeErrorListeners();
+		hqlParser.setErrorHandler( new BailErrorStrategy() );
+
+		try {
+			final HqlParser.StatementContext statement = hqlParser.statement();
+			if ( HqlLogging.DEBUG_ENABLED ) {
+				HqlLogging.QUERY_LOGGER.debug( "Parsed HQL using SLL prediction mode" );
+			}
+			return statement;
+		}
+		catch ( ParseCancellationException e ) {
+			if ( HqlLogging.DEBUG_ENABLED ) {
+				HqlLogging.QUERY_LOGGER.debug( "SLL prediction mode failed, parsing HQL using LL prediction mode" );
+			}
+
+			// reset the input token stream and parser state
+			hqlLexer.reset();
+			hqlParser.reset();
+
+			// fall back to LL(k)-based parsing
+			hqlParser.getInterpreter().setPredictionMode( PredictionMode.LL );
+			hqlParser.addErrorListener( errorListener );
+			hqlParser.setErrorHandler( new DefaultErrorStrategy() );
+
+			return hqlParser.statement();
+		}
+	}
+
+	/**
+	 * Populate the DFA cache which ANTLR shares between all parser instances, by
+	 * parsing a few statements covering the commonly used rules of the grammar.
+	 * Without this, the first queries parsed after startup pay for the adaptive
+	 * prediction of every decision they reach.  Only the first call does any work.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#HQL_PARSER_WARM_UP
+	 */
+	public void warmUp() {
+		if ( warmedUp ) {
+			return;
+		}
+		warmedUp = true;
+
+		final long start = System.nanoTime();
+		for ( String hql : WARM_UP_STATEMENTS ) {
+			try {
+				parseHql( hql, StandardHqlTranslator.ERR_LISTENER );
+			}
+			catch (RuntimeException e) {
+				// the DFA is populated regardless
+				HqlLogging.QUERY_LOGGER.debugf( "Unable to parse HQL warm-up statement `%s` : %s", hql, e.getMessage() );
+			}
+		}
+		if ( HqlLogging.DEBUG_ENABLED ) {
+			HqlLogging.QUERY_LOGGER.debugf(
+					"Warmed up HQL parser using %s statements in %sms",
+					WARM_UP_STATEMENTS.length,
+					( System.nanoTime() - start ) / 1_000_000
+			);
+		}
+	}
 }
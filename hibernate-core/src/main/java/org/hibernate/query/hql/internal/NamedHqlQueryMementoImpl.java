@@ -9,6 +9,8 @@ package org.hibernate.query.hql.internal;
 import java.io.Serializable;
 import java.util.Map;
 
+import jakarta.persistence.Tuple;
+
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.LockOptions;
@@ -44,6 +46,16 @@ public class NamedHqlQueryMementoImpl extends AbstractNamedQueryMemento implemen
 	private final LockOptions lockOptions;
 	private final Map<String, String> parameterTypes;
 
+	/**
+	 * The tree produced when this query was first translated, usually when
+	 * named queries are checked on startup.  Reused when the interpretation
+	 * is no longer (or never was) held by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
+	 * As the memento lives as long as the session factory, so does the tree,
+	 * unless {@value org.hibernate.cfg.AvailableSettings#NAMED_QUERY_SQM_RETENTION}
+	 * is disabled.
+	 */
+	private transient volatile SqmStatement<?> sqmStatement;
+
 	public NamedHqlQueryMementoImpl(
 			String name,
 			String hqlString,
@@ -127,7 +139,33 @@ public class NamedHqlQueryMementoImpl extends AbstractNamedQueryMemento implemen
 
 	@Override
 	public void validate(QueryEngine queryEngine) {
-		queryEngine.getHqlTranslator().translate( hqlString, null );
+		queryEngine.getInterpretationCache().resolveHqlInterpretation(
+				hqlString,
+				null,
+				s -> translate( queryEngine, null )
+		);
+	}
+
+	/**
+	 * Translate the HQL of this named query, reusing the tree from a previous
+	 * translation instead of parsing the HQL again where possible.  Queries
+	 * returning arrays or tuples are always translated, since their tree
+	 * depends on the expected result type, as are all queries when the
+	 * retention of trees is {@linkplain QueryEngine#isNamedQuerySqmRetained() disabled}.
+	 */
+	public SqmStatement<?> translate(QueryEngine queryEngine, Class<?> expectedResultType) {
+		if ( !queryEngine.isNamedQuerySqmRetained()
+				|| expectedResultType != null
+				&& ( expectedResultType.isArray() || Tuple.class.isAssignableFrom( expectedResultType ) ) ) {
+			return queryEngine.getHqlTranslator().translate( hqlString, expectedResultType );
+		}
+
+		SqmStatement<?> localCopy = sqmStatement;
+		if ( localCopy == null ) {
+			localCopy = queryEngine.getHqlTranslator().translate( hqlString, expectedResultType );
+			sqmStatement = localCopy;
+		}
+		return localCopy;
 	}
 
 	@Override
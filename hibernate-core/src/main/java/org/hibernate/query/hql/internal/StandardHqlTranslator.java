@@ -9,7 +9,6 @@ package org.hibernate.query.hql.internal;
 import java.util.BitSet;
 
 import org.hibernate.QueryException;
-import org.hibernate.grammars.hql.HqlLexer;
 import org.hibernate.grammars.hql.HqlParser;
 import org.hibernate.query.SemanticException;
 import org.hibernate.query.hql.HqlLogging;
@@ -22,15 +21,11 @@ import org.hibernate.query.sqm.spi.SqmCreationContext;
 import org.hibernate.query.sqm.tree.SqmStatement;
 
 import org.antlr.v4.runtime.ANTLRErrorListener;
-import org.antlr.v4.runtime.BailErrorStrategy;
-import org.antlr.v4.runtime.DefaultErrorStrategy;
 import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.Recognizer;
 import org.antlr.v4.runtime.atn.ATNConfigSet;
-import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.dfa.DFA;
-import org.antlr.v4.runtime.misc.ParseCancellationException;
 
 /**
  * Standard implementation of {@link HqlTranslator}.
@@ -99,32 +94,8 @@ public class StandardHqlTranslator implements HqlTranslator {
 	}
 
 	private HqlParser.StatementContext parseHql(String hql) {
-		// Build the lexer
-		final HqlLexer hqlLexer = HqlParseTreeBuilder.INSTANCE.buildHqlLexer( hql );
-
-		// Build the parse tree
-		final HqlParser hqlParser = HqlParseTreeBuilder.INSTANCE.buildHqlParser( hql, hqlLexer );
-
-		// try to use SLL(k)-based parsing first - its faster
-		hqlLexer.addErrorListener( ERR_LISTENER );
-		hqlParser.getInterpreter().setPredictionMode( PredictionMode.SLL );
-		hqlParser.removeErrorListeners();
-		hqlParser.addErrorListener( ERR_LISTENER );
-		hqlParser.setErrorHandler( new BailErrorStrategy() );
-
 		try {
-			return hqlParser.statement();
-		}
-		catch ( ParseCancellationException e) {
-			// reset the input token stream and parser state
-			hqlLexer.reset();
-			hqlParser.reset();
-
-			// fall back to LL(k)-based parsing
-			hqlParser.getInterpreter().setPredictionMode( PredictionMode.LL );
-			hqlParser.setErrorHandler( new DefaultErrorStrategy() );
-
-			return hqlParser.statement();
+			return HqlParseTreeBuilder.INSTANCE.parseHql( hql, ERR_LISTENER );
 		}
 		catch ( ParsingException ex ) {
 			throw new SemanticException( "A query exception occurred", hql, ex );
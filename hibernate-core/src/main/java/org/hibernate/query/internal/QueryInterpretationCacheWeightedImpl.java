@@ -0,0 +1,208 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+import jakarta.persistence.Tuple;
+
+import org.hibernate.internal.util.collections.WeightedConcurrentCache;
+import org.hibernate.query.QueryLogging;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.NonSelectQueryPlan;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.spi.QueryPlan;
+import org.hibernate.query.spi.SelectQueryPlan;
+import org.hibernate.query.sql.spi.ParameterInterpretation;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.jboss.logging.Logger;
+
+import static org.hibernate.query.internal.QueryInterpretationCacheStandardImpl.createHqlInterpretation;
+import static org.hibernate.stat.QueryInterpretationCacheStatistics.HQL_INTERPRETATIONS;
+import static org.hibernate.stat.QueryInterpretationCacheStatistics.NATIVE_QUERY_PARAMETERS;
+import static org.hibernate.stat.QueryInterpretationCacheStatistics.QUERY_PLANS;
+
+/**
+ * QueryInterpretationCache implementation bounding each of its caches by the
+ * estimated heap retained by the entries, rather than by their number.
+ * <p>
+ * A plan for a query with a large IN list weighs much more than a lookup by id,
+ * so a few huge dynamic queries cannot push out hundreds of small, hot ones.
+ * <p>
+ * The maximum weight is shared by the query plan, HQL interpretation and native
+ * query parameter caches, each of which is bounded by a third of it.
+ *
+ * @see QueryInterpretationWeigher
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_MAX_WEIGHT
+ */
+public class QueryInterpretationCacheWeightedImpl implements QueryInterpretationCache {
+	private static final Logger log = QueryLogging.subLogger( "plan.cache" );
+
+	private static final int CACHE_COUNT = 3;
+
+	private final WeightedConcurrentCache<Key, QueryPlan> queryPlanCache;
+	private final WeightedConcurrentCache<String, HqlInterpretation> hqlInterpretationCache;
+	private final WeightedConcurrentCache<String, ParameterInterpretation> nativeQueryParamCache;
+	private final Supplier<StatisticsImplementor> statisticsSupplier;
+
+	public QueryInterpretationCacheWeightedImpl(long maxWeight, Supplier<StatisticsImplementor> statisticsSupplier) {
+		log.debugf( "Starting QueryPlanCache(%s bytes)", maxWeight );
+
+		final long maxWeightPerCache = Math.max( maxWeight / CACHE_COUNT, 1L );
+		this.statisticsSupplier = statisticsSupplier;
+		this.queryPlanCache = new WeightedConcurrentCache<>(
+				maxWeightPerCache,
+				QueryInterpretationWeigher::weighQueryPlan,
+				(key, plan) -> evicted( QUERY_PLANS )
+		);
+		this.hqlInterpretationCache = new WeightedConcurrentCache<>(
+				maxWeightPerCache,
+				QueryInterpretationWeigher::weighHqlInterpretation,
+				(queryString, interpretation) -> evicted( HQL_INTERPRETATIONS )
+		);
+		this.nativeQueryParamCache = new WeightedConcurrentCache<>(
+				maxWeightPerCache,
+				QueryInterpretationWeigher::weighNativeQueryParameters,
+				(queryString, interpretation) -> evicted( NATIVE_QUERY_PARAMETERS )
+		);
+	}
+
+	@Override
+	public int getNumberOfCachedHqlInterpretations() {
+		return hqlInterpretationCache.size();
+	}
+
+	@Override
+	public int getNumberOfCachedQueryPlans() {
+		return queryPlanCache.size();
+	}
+
+	@Override
+	public <R> SelectQueryPlan<R> resolveSelectQueryPlan(
+			Key key,
+			Supplier<SelectQueryPlan<R>> creator) {
+		log.tracef( "QueryPlan#getSelectQueryPlan(%s)", key );
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+		final boolean stats = statistics.isStatisticsEnabled();
+
+		@SuppressWarnings("unchecked")
+		// plans are translated on execution, so they only grow after having been cached, when
+		// they add a translation; their estimated size is kept up to date, so weighing them is cheap
+		final SelectQueryPlan<R> cached = (SelectQueryPlan<R>) queryPlanCache.getAndReweigh( key );
+		if ( cached != null ) {
+			if ( stats ) {
+				statistics.queryPlanCacheHit( key.getQueryString() );
+				statistics.queryInterpretationCacheHit( QUERY_PLANS );
+				statistics.queryInterpretationCacheWeight( QUERY_PLANS, queryPlanCache.getWeight() );
+			}
+			return cached;
+		}
+
+		final SelectQueryPlan<R> plan = creator.get();
+		queryPlanCache.put( key.prepareForStore(), plan );
+		if ( stats ) {
+			statistics.queryPlanCacheMiss( key.getQueryString() );
+			statistics.queryInterpretationCacheMiss( QUERY_PLANS );
+			statistics.queryInterpretationCacheWeight( QUERY_PLANS, queryPlanCache.getWeight() );
+		}
+		return plan;
+	}
+
+	@Override
+	public NonSelectQueryPlan getNonSelectQueryPlan(Key key) {
+		log.tracef( "QueryPlan#getNonSelectQueryPlan(%s)", key );
+		return null;
+	}
+
+	@Override
+	public void cacheNonSelectQueryPlan(Key key, NonSelectQueryPlan plan) {
+		log.tracef( "QueryPlan#cacheNonSelectQueryPlan(%s)", key );
+	}
+
+	@Override
+	public HqlInterpretation resolveHqlInterpretation(
+			String queryString,
+			Class<?> expectedResultType,
+			Function<String, SqmStatement<?>> creator) {
+		log.tracef( "QueryPlan#resolveHqlInterpretation( `%s` )", queryString );
+
+		final String cacheKey;
+		if ( expectedResultType != null
+				&& ( expectedResultType.isArray() || Tuple.class.isAssignableFrom( expectedResultType ) ) ) {
+			cacheKey = "multi_" + queryString;
+		}
+		else {
+			cacheKey = queryString;
+		}
+
+		final HqlInterpretation existing = hqlInterpretationCache.get( cacheKey );
+		if ( existing != null ) {
+			final StatisticsImplementor statistics = statisticsSupplier.get();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.queryPlanCacheHit( queryString );
+				statistics.queryInterpretationCacheHit( HQL_INTERPRETATIONS );
+			}
+			return existing;
+		}
+
+		final HqlInterpretation hqlInterpretation = createHqlInterpretation( queryString, creator, statisticsSupplier );
+		hqlInterpretationCache.put( cacheKey, hqlInterpretation );
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryInterpretationCacheMiss( HQL_INTERPRETATIONS );
+			statistics.queryInterpretationCacheWeight( HQL_INTERPRETATIONS, hqlInterpretationCache.getWeight() );
+		}
+		return hqlInterpretation;
+	}
+
+	@Override
+	public ParameterInterpretation resolveNativeQueryParameters(
+			String queryString,
+			Function<String, ParameterInterpretation> creator) {
+		log.tracef( "QueryPlan#resolveNativeQueryParameters(%s)", queryString );
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+
+		final ParameterInterpretation existing = nativeQueryParamCache.get( queryString );
+		if ( existing != null ) {
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.queryInterpretationCacheHit( NATIVE_QUERY_PARAMETERS );
+			}
+			return existing;
+		}
+
+		final ParameterInterpretation interpretation = creator.apply( queryString );
+		log.debugf( "Creating and caching NativeQuery ParameterInterpretation - %s", interpretation );
+		nativeQueryParamCache.put( queryString, interpretation );
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryInterpretationCacheMiss( NATIVE_QUERY_PARAMETERS );
+			statistics.queryInterpretationCacheWeight( NATIVE_QUERY_PARAMETERS, nativeQueryParamCache.getWeight() );
+		}
+		return interpretation;
+	}
+
+	private void evicted(String cacheName) {
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryInterpretationCacheEviction( cacheName );
+		}
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+
+	@Override
+	public void close() {
+		hqlInterpretationCache.clear();
+		nativeQueryParamCache.clear();
+		queryPlanCache.clear();
+	}
+
+}
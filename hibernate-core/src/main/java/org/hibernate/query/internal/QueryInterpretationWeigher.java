@@ -0,0 +1,81 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.spi.QueryPlan;
+import org.hibernate.query.sql.spi.ParameterInterpretation;
+import org.hibernate.sql.exec.spi.JdbcOperation;
+
+/**
+ * Estimates the heap retained by the entries of a {@link QueryInterpretationCacheWeightedImpl}.
+ * <p>
+ * Walking the SQM or SQL AST to measure them exactly would cost more than the
+ * cache saves, so the estimates are derived from the length of the query strings:
+ * the number of tree nodes grows roughly linearly with the length of the query,
+ * which is all that matters for weighing a 200-way IN list against a lookup by id.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_MAX_WEIGHT
+ */
+public final class QueryInterpretationWeigher {
+	/**
+	 * Fixed cost of a cache entry: key, node and the interpretation objects themselves
+	 */
+	static final long ENTRY_OVERHEAD = 256L;
+
+	/**
+	 * Approximate SQM tree size per character of HQL
+	 */
+	static final long SQM_BYTES_PER_CHARACTER = 40L;
+
+	/**
+	 * Approximate SQL AST and {@code JdbcOperation} size per character of SQL
+	 */
+	static final long SQL_AST_BYTES_PER_CHARACTER = 24L;
+
+	/**
+	 * Approximate size of the binders, bindings and metadata of a single parameter
+	 */
+	static final long PARAMETER_BYTES = 128L;
+
+	private QueryInterpretationWeigher() {
+	}
+
+	public static long weighHqlInterpretation(String queryString, HqlInterpretation interpretation) {
+		return ENTRY_OVERHEAD
+				+ 2 * stringSize( queryString )
+				+ queryString.length() * SQM_BYTES_PER_CHARACTER
+				+ interpretation.getDomainParameterXref().getSqmParameterCount() * PARAMETER_BYTES;
+	}
+
+	public static long weighQueryPlan(QueryInterpretationCache.Key key, QueryPlan plan) {
+		// the SQM tree is shared with the HqlInterpretation, and weighed there
+		return ENTRY_OVERHEAD
+				+ stringSize( key.getQueryString() )
+				+ plan.getEstimatedRetainedSize();
+	}
+
+	public static long weighNativeQueryParameters(String queryString, ParameterInterpretation interpretation) {
+		return ENTRY_OVERHEAD
+				+ stringSize( queryString )
+				+ stringSize( interpretation.getAdjustedSqlString() )
+				+ interpretation.getOrderedParameterOccurrences().size() * PARAMETER_BYTES;
+	}
+
+	public static long weighJdbcOperation(JdbcOperation jdbcOperation) {
+		final String sql = jdbcOperation.getSqlString();
+		return stringSize( sql )
+				+ sql.length() * SQL_AST_BYTES_PER_CHARACTER
+				+ jdbcOperation.getParameterBinders().size() * PARAMETER_BYTES;
+	}
+
+	private static long stringSize(String string) {
+		// header and array header, assuming compact (Latin-1) strings
+		return string == null ? 0L : 40L + string.length();
+	}
+}
@@ -13,6 +13,8 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -672,6 +674,11 @@ public abstract class AbstractQuery<R>
 
 	protected abstract int doExecuteUpdate();
 
+	@Override
+	public CompletionStage<Integer> executeUpdateAsync(Executor executor) {
+		return getSession().executeAsync( this::executeUpdate, executor );
+	}
+
 
 
 	@Override
@@ -17,6 +17,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -49,6 +51,7 @@ import org.hibernate.query.BindableType;
 import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.QueryTypeMismatchException;
+import org.hibernate.query.ResultColumns;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.JpaSelection;
 import org.hibernate.query.internal.ScrollableResultsIterator;
@@ -66,6 +69,7 @@ import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.query.sqm.tree.select.SqmSelection;
 import org.hibernate.sql.exec.internal.CallbackImpl;
 import org.hibernate.sql.exec.spi.Callback;
+import org.hibernate.sql.results.internal.ResultColumnsImpl;
 import org.hibernate.sql.results.internal.TupleMetadata;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.descriptor.java.JavaType;
@@ -382,6 +386,11 @@ public abstract class AbstractSelectionQuery<R>
 		}
 	}
 
+	@Override
+	public CompletionStage<List<R>> listAsync(Executor executor) {
+		return getSession().executeAsync( this::list, executor );
+	}
+
 	protected void beforeQuery() {
 		getQueryParameterBindings().validate();
 
@@ -427,6 +436,33 @@ public abstract class AbstractSelectionQuery<R>
 
 	protected abstract List<R> doList();
 
+	@Override
+	public ResultColumns getResultColumns() {
+		beforeQuery();
+		boolean success = false;
+		try {
+			final ResultColumns result = doResultColumns();
+			success = true;
+			return result;
+		}
+		catch (IllegalQueryOperationException e) {
+			throw new IllegalStateException( e );
+		}
+		catch (TypeMismatchException e) {
+			throw new IllegalArgumentException( e );
+		}
+		catch (HibernateException he) {
+			throw getSession().getExceptionConverter().convert( he, getQueryOptions().getLockOptions() );
+		}
+		finally {
+			afterQuery( success );
+		}
+	}
+
+	protected ResultColumns doResultColumns() {
+		return ResultColumnsImpl.fromRows( doList() );
+	}
+
 	@Override
 	public ScrollableResultsImplementor<R> scroll() {
 		return scroll( getSession().getFactory().getJdbcServices().getJdbcEnvironment().getDialect().defaultScrollMode() );
@@ -29,10 +29,12 @@ import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.metamodel.model.domain.spi.JpaMetamodelImplementor;
 import org.hibernate.query.criteria.ValueHandlingMode;
 import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.hql.internal.HqlParseTreeBuilder;
 import org.hibernate.query.hql.internal.StandardHqlTranslator;
 import org.hibernate.query.hql.spi.SqmCreationOptions;
 import org.hibernate.query.internal.QueryInterpretationCacheDisabledImpl;
 import org.hibernate.query.internal.QueryInterpretationCacheStandardImpl;
+import org.hibernate.query.internal.QueryInterpretationCacheWeightedImpl;
 import org.hibernate.query.named.NamedObjectRepository;
 import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.query.sqm.function.SqmFunctionRegistry;
@@ -75,7 +77,8 @@ public class QueryEngine {
 				resolveSqmTranslatorFactory( options, dialect ),
 				createFunctionRegistry( sessionFactory, metadata, options, dialect ),
 				metadata.buildNamedQueryRepository( sessionFactory ),
-				buildInterpretationCache( sessionFactory::getStatistics, sessionFactory.getProperties() )
+				buildInterpretationCache( sessionFactory::getStatistics, sessionFactory.getProperties() ),
+				isNamedQuerySqmRetained( sessionFactory.getProperties() )
 		);
 	}
 
@@ -122,6 +125,7 @@ public class QueryEngine {
 	private final SqmTranslatorFactory sqmTranslatorFactory;
 	private final SqmFunctionRegistry sqmFunctionRegistry;
 	private final TypeConfiguration typeConfiguration;
+	private final boolean namedQuerySqmRetained;
 
 	private QueryEngine(
 			SessionFactoryImplementor sessionFactory,
@@ -130,8 +134,10 @@ public class QueryEngine {
 			SqmTranslatorFactory sqmTranslatorFactory,
 			SqmFunctionRegistry functionRegistry,
 			NamedObjectRepository namedObjectRepository,
-			QueryInterpretationCache interpretationCache) {
+			QueryInterpretationCache interpretationCache,
+			boolean namedQuerySqmRetained) {
 		this.typeConfiguration = typeConfiguration;
+		this.namedQuerySqmRetained = namedQuerySqmRetained;
 		this.sqmFunctionRegistry = functionRegistry;
 		this.sqmTranslatorFactory = sqmTranslatorFactory;
 		this.hqlTranslator = hqlTranslator;
@@ -172,10 +178,12 @@ public class QueryEngine {
 
 		dialect.contributeFunctions( new FunctionContributionsImpl( serviceRegistry, typeConfiguration, sqmFunctionRegistry ) );
 
+		final Map<String, Object> settings = serviceRegistry.getService( ConfigurationService.class ).getSettings();
 		this.interpretationCache = buildInterpretationCache(
 				() -> serviceRegistry.getService( StatisticsImplementor.class ),
-				serviceRegistry.getService( ConfigurationService.class ).getSettings()
+				settings
 		);
+		this.namedQuerySqmRetained = isNamedQuerySqmRetained( settings );
 
 		this.criteriaBuilder = new SqmCriteriaNodeBuilder(
 				uuid,
@@ -267,7 +275,16 @@ public class QueryEngine {
 				properties
 		);
 
-		if ( explicitUseCache || ( explicitMaxPlanSize != null && explicitMaxPlanSize > 0 ) ) {
+		final long maxPlanWeight = ConfigurationHelper.getLong(
+				AvailableSettings.QUERY_PLAN_CACHE_MAX_WEIGHT,
+				properties,
+				0
+		);
+
+		if ( explicitUseCache && maxPlanWeight > 0 ) {
+			return new QueryInterpretationCacheWeightedImpl( maxPlanWeight, statisticsSupplier );
+		}
+		else if ( explicitUseCache || ( explicitMaxPlanSize != null && explicitMaxPlanSize > 0 ) ) {
 			final int size = explicitMaxPlanSize != null
 					? explicitMaxPlanSize
 					: DEFAULT_QUERY_PLAN_MAX_COUNT;
@@ -280,8 +297,15 @@ public class QueryEngine {
 		}
 	}
 
+	private static boolean isNamedQuerySqmRetained(Map<String,Object> properties) {
+		return ConfigurationHelper.getBoolean( AvailableSettings.NAMED_QUERY_SQM_RETENTION, properties, true );
+	}
+
 	public void prepare(SessionFactoryImplementor sessionFactory, Metadata bootMetamodel) {
 		namedObjectRepository.prepare( sessionFactory, bootMetamodel );
+		if ( ConfigurationHelper.getBoolean( AvailableSettings.HQL_PARSER_WARM_UP, sessionFactory.getProperties() ) ) {
+			HqlParseTreeBuilder.INSTANCE.warmUp();
+		}
 	}
 
 	public void validateNamedQueries() {
@@ -311,6 +335,15 @@ public class QueryEngine {
 		return interpretationCache;
 	}
 
+	/**
+	 * Whether named HQL queries keep the SQM tree from their first translation.
+	 *
+	 * @see AvailableSettings#NAMED_QUERY_SQM_RETENTION
+	 */
+	public boolean isNamedQuerySqmRetained() {
+		return namedQuerySqmRetained;
+	}
+
 	public SqmFunctionRegistry getSqmFunctionRegistry() {
 		return sqmFunctionRegistry;
 	}
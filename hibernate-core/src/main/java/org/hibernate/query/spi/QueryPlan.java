@@ -15,4 +15,15 @@ import org.hibernate.Incubating;
  */
 @Incubating
 public interface QueryPlan {
+	/**
+	 * A rough estimate of the heap retained by this plan, in bytes, used by
+	 * {@link QueryInterpretationCache} implementations bounded by weight.
+	 * Plans which translate lazily may report a larger value once executed.
+	 * Called on every lookup of the plan in such a cache, so it must be cheap.
+	 *
+	 * @return the estimate, or {@code 0} if unknown
+	 */
+	default long getEstimatedRetainedSize() {
+		return 0L;
+	}
 }
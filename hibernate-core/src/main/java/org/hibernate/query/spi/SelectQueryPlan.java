@@ -11,6 +11,7 @@ import java.util.List;
 import org.hibernate.Incubating;
 import org.hibernate.ScrollMode;
 import org.hibernate.query.Query;
+import org.hibernate.query.ResultColumns;
 
 /**
  * General contract for performing execution of a query returning results.  These
@@ -42,4 +43,13 @@ public interface SelectQueryPlan<R> extends QueryPlan {
 	 */
 	ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext);
 
+	/**
+	 * Perform (execute) the query returning the results column by column
+	 *
+	 * @since 6.2
+	 */
+	default ResultColumns performResultColumns(DomainQueryExecutionContext executionContext) {
+		throw new UnsupportedOperationException( "Columnar results are not supported by " + getClass().getName() );
+	}
+
 }
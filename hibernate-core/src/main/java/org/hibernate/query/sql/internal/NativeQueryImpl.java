@@ -47,6 +47,7 @@ import org.hibernate.query.NativeQuery;
 import org.hibernate.query.ParameterMetadata;
 import org.hibernate.query.Query;
 import org.hibernate.query.QueryParameter;
+import org.hibernate.query.ResultColumns;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.internal.ParameterMetadataImpl;
@@ -601,6 +602,15 @@ public class NativeQueryImpl<R>
 		return resolveSelectQueryPlan().performList( this );
 	}
 
+	/**
+	 * @throws UnsupportedOperationException always, since the results of a native
+	 * query are not known to be basic values
+	 */
+	@Override
+	protected ResultColumns doResultColumns() {
+		throw new UnsupportedOperationException( "Columnar results are not supported for native queries" );
+	}
+
 	protected SelectQueryPlan<R> resolveSelectQueryPlan() {
 		if ( isCacheableQuery() ) {
 			final QueryInterpretationCache.Key cacheKey = generateSelectInterpretationsKey( resultSetMapping );
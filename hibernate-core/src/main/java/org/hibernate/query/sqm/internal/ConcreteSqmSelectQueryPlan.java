@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.hibernate.ScrollMode;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
@@ -27,8 +28,11 @@ import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.Query;
+import org.hibernate.query.ResultColumns;
 import org.hibernate.query.TupleTransformer;
+import org.hibernate.query.internal.QueryInterpretationWeigher;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterImplementor;
@@ -51,14 +55,18 @@ import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
 import org.hibernate.sql.results.graph.entity.LoadingEntityEntry;
+import org.hibernate.sql.results.internal.ResultColumnsImpl;
 import org.hibernate.sql.results.internal.RowTransformerArrayImpl;
 import org.hibernate.sql.results.internal.RowTransformerJpaTupleImpl;
 import org.hibernate.sql.results.internal.RowTransformerSingularReturnImpl;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.internal.RowTransformerTupleTransformerAdapter;
 import org.hibernate.sql.results.internal.TupleMetadata;
+import org.hibernate.sql.results.spi.ColumnarResultsConsumer;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.sql.results.spi.RowTransformer;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.java.ObjectJavaType;
 
 import static org.hibernate.query.sqm.internal.QuerySqmImpl.CRITERIA_HQL_STRING;
 
@@ -70,13 +78,31 @@ import static org.hibernate.query.sqm.internal.QuerySqmImpl.CRITERIA_HQL_STRING;
  * @author Steve Ebersole
  */
 public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
+	/**
+	 * The maximum number of translations kept per plan.  Hot queries usually
+	 * alternate between very few shapes (e.g. with and without a limit), so
+	 * a handful of variants is enough while keeping the linear scan cheap.
+	 */
+	private static final int MAX_INTERPRETATION_VARIANTS = 4;
+	private static final CacheableSqmInterpretation[] NO_INTERPRETATIONS = new CacheableSqmInterpretation[0];
+	private static final InterpretationVariants NO_VARIANTS = new InterpretationVariants( NO_INTERPRETATIONS );
+
 	private final SqmSelectStatement<?> sqm;
 	private final DomainParameterXref domainParameterXref;
 	private final RowTransformer<R> rowTransformer;
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
-
-	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	private final SqmInterpreter<ResultColumns, Void> resultColumnsInterpreter;
+
+	/**
+	 * The translations of this plan, most recently built first, for the
+	 * different "shapes" of execution seen so far.  Replaced as a whole,
+	 * so that lookups need no locking.
+	 *
+	 * @see #MAX_INTERPRETATION_VARIANTS
+	 */
+	private final AtomicReference<InterpretationVariants> cacheableSqmInterpretations =
+			new AtomicReference<>( NO_VARIANTS );
 
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -149,6 +175,34 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			}
 		};
 
+		this.resultColumnsInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
+			final SharedSessionContractImplementor session = executionContext.getSession();
+			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
+			try {
+				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+						session.getPersistenceContext().getBatchFetchQueue(),
+						sqmInterpretation.selectStatement,
+						Collections.emptyList(),
+						jdbcParameterBindings
+				);
+
+				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
+
+				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().executeQuery(
+						jdbcSelect,
+						jdbcParameterBindings,
+						listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
+						ColumnarResultsConsumer.rowTransformer(),
+						null,
+						sql -> session.getJdbcCoordinator().getStatementPreparer().prepareStatement( sql ),
+						ColumnarResultsConsumer.instance()
+				);
+			}
+			finally {
+				domainParameterXref.clearExpansions();
+			}
+		};
+
 		// todo (6.0) : we should do as much of the building as we can here
 		//  	since this is the thing cached, all the work we do here will
 		//  	be cached as well.
@@ -258,6 +312,11 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		);
 	}
 
+	@Override
+	public long getEstimatedRetainedSize() {
+		return cacheableSqmInterpretations.get().retainedSize;
+	}
+
 	@Override
 	public List<R> performList(DomainQueryExecutionContext executionContext) {
 		if ( executionContext.getQueryOptions().getEffectiveLimit().getMaxRowsJpa() == 0 ) {
@@ -274,48 +333,65 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		return withCacheableSqmInterpretation( executionContext, scrollMode, scrollInterpreter );
 	}
 
-	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
-		// NOTE : VERY IMPORTANT - intentional double-lock checking
-		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
-		//		to protect access.  However, synchronized is much simpler here.  We will verify
-		// 		during throughput testing whether this is an issue and consider changes then
+	@Override
+	public ResultColumns performResultColumns(DomainQueryExecutionContext executionContext) {
+		if ( executionContext.getQueryOptions().getEffectiveLimit().getMaxRowsJpa() == 0 ) {
+			return emptyResultColumns();
+		}
+		return withCacheableSqmInterpretation( executionContext, null, resultColumnsInterpreter );
+	}
 
-		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
-		JdbcParameterBindings jdbcParameterBindings = null;
+	private ResultColumns emptyResultColumns() {
+		final List<JavaType<?>> javaTypes = new ArrayList<>();
+		for ( SqmSelection<?> sqmSelection : sqm.getQuerySpec().getSelectClause().getSelections() ) {
+			sqmSelection.getSelectableNode().visitSubSelectableNodes(
+					subSelection -> {
+						final JavaType<?> javaType = subSelection.getNodeJavaType();
+						javaTypes.add( javaType == null ? ObjectJavaType.INSTANCE : javaType );
+					}
+			);
+		}
+		return new ResultColumnsImpl( javaTypes, 0 ).complete();
+	}
 
-		if ( localCopy == null ) {
-			synchronized ( this ) {
-				localCopy = cacheableSqmInterpretation;
-				if ( localCopy == null ) {
-					localCopy = buildCacheableSqmInterpretation(
-							sqm,
-							domainParameterXref,
-							executionContext
-					);
-					jdbcParameterBindings = localCopy.firstParameterBindings;
-					localCopy.firstParameterBindings = null;
-					cacheableSqmInterpretation = localCopy;
+	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
+		// Lookups scan the current variants without locking.  On a miss we translate
+		// outside of any lock as well - concurrent threads may occasionally translate
+		// the same shape twice, which is cheaper than serializing all executions of
+		// the plan behind a monitor
+		final InterpretationShape shape = InterpretationShape.from( executionContext );
+		JdbcParameterBindings jdbcParameterBindings = null;
+		CacheableSqmInterpretation localCopy = null;
+
+		for ( CacheableSqmInterpretation candidate : cacheableSqmInterpretations.get().interpretations ) {
+			if ( candidate.shape.equals( shape ) ) {
+				// If the translation depends on parameter bindings or it isn't compatible with the current query options,
+				// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
+				if ( candidate.jdbcSelect.dependsOnParameterBindings() ) {
+					jdbcParameterBindings = createJdbcParameterBindings( candidate, executionContext );
+				}
+				// The shape does not capture everything the translation may depend on, e.g. the
+				// values of parameters which were rendered as literals, so we still have to check
+				if ( candidate.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+					localCopy = candidate;
 				}
+				else {
+					jdbcParameterBindings = null;
+				}
+				break;
 			}
 		}
-		else {
-			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
-			// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
-			if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
-				jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
-			}
-			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-			// We could avoid this by putting the lock options into the cache key
-			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-				localCopy = buildCacheableSqmInterpretation(
-						sqm,
-						domainParameterXref,
-						executionContext
-				);
-				jdbcParameterBindings = localCopy.firstParameterBindings;
-				localCopy.firstParameterBindings = null;
-				cacheableSqmInterpretation = localCopy;
-			}
+
+		if ( localCopy == null ) {
+			localCopy = buildCacheableSqmInterpretation(
+					sqm,
+					domainParameterXref,
+					executionContext,
+					shape
+			);
+			jdbcParameterBindings = localCopy.firstParameterBindings;
+			localCopy.firstParameterBindings = null;
+			addInterpretation( localCopy );
 		}
 
 		if ( jdbcParameterBindings == null ) {
@@ -325,6 +401,23 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
 	}
 
+	private void addInterpretation(CacheableSqmInterpretation interpretation) {
+		InterpretationVariants current;
+		InterpretationVariants updated;
+		do {
+			current = cacheableSqmInterpretations.get();
+			final List<CacheableSqmInterpretation> variants = new ArrayList<>( MAX_INTERPRETATION_VARIANTS );
+			variants.add( interpretation );
+			for ( CacheableSqmInterpretation existing : current.interpretations ) {
+				// replaces a stale translation of the same shape, and drops the oldest one when full
+				if ( variants.size() < MAX_INTERPRETATION_VARIANTS && !existing.shape.equals( interpretation.shape ) ) {
+					variants.add( existing );
+				}
+			}
+			updated = new InterpretationVariants( variants.toArray( NO_INTERPRETATIONS ) );
+		} while ( !cacheableSqmInterpretations.compareAndSet( current, updated ) );
+	}
+
 	private JdbcParameterBindings createJdbcParameterBindings(CacheableSqmInterpretation sqmInterpretation, DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
@@ -349,7 +442,8 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private static CacheableSqmInterpretation buildCacheableSqmInterpretation(
 			SqmSelectStatement<?> sqm,
 			DomainParameterXref domainParameterXref,
-			DomainQueryExecutionContext executionContext) {
+			DomainQueryExecutionContext executionContext,
+			InterpretationShape shape) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
 		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
@@ -397,6 +491,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		final JdbcOperationQuerySelect jdbcSelect = selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
 
 		return new CacheableSqmInterpretation(
+				shape,
 				sqmInterpretation.getSqlAst(),
 				jdbcSelect,
 				tableGroupAccess,
@@ -414,7 +509,69 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				JdbcParameterBindings jdbcParameterBindings);
 	}
 
+	/**
+	 * The parts of an execution which determine the SQL a translation renders, and
+	 * which may differ between executions of a cached plan.  Nothing else needs to
+	 * be captured: lock options are part of the plan cache key, while enabled filters,
+	 * entity graphs and multi-valued parameter bindings prevent caching of the plan,
+	 * which is then built anew for each execution.
+	 */
+	private static final class InterpretationShape {
+		private final boolean hasFirstRow;
+		private final boolean hasMaxRows;
+
+		private InterpretationShape(boolean hasFirstRow, boolean hasMaxRows) {
+			this.hasFirstRow = hasFirstRow;
+			this.hasMaxRows = hasMaxRows;
+		}
+
+		static InterpretationShape from(DomainQueryExecutionContext executionContext) {
+			final Limit limit = executionContext.getQueryOptions().getLimit();
+			return new InterpretationShape(
+					limit != null && limit.getFirstRow() != null,
+					limit != null && limit.getMaxRows() != null
+			);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof InterpretationShape ) ) {
+				return false;
+			}
+			final InterpretationShape that = (InterpretationShape) o;
+			return hasFirstRow == that.hasFirstRow
+					&& hasMaxRows == that.hasMaxRows;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * Boolean.hashCode( hasFirstRow ) + Boolean.hashCode( hasMaxRows );
+		}
+	}
+
+	/**
+	 * The translations of a plan, with their estimated size computed once
+	 * when a translation is added, rather than on every lookup of the plan.
+	 */
+	private static final class InterpretationVariants {
+		private final CacheableSqmInterpretation[] interpretations;
+		private final long retainedSize;
+
+		private InterpretationVariants(CacheableSqmInterpretation[] interpretations) {
+			this.interpretations = interpretations;
+			long size = 0L;
+			for ( CacheableSqmInterpretation interpretation : interpretations ) {
+				size += QueryInterpretationWeigher.weighJdbcOperation( interpretation.jdbcSelect );
+			}
+			this.retainedSize = size;
+		}
+	}
+
 	private static class CacheableSqmInterpretation {
+		private final InterpretationShape shape;
 		private final SelectStatement selectStatement;
 		private final JdbcOperationQuerySelect jdbcSelect;
 		private final FromClauseAccess tableGroupAccess;
@@ -423,12 +580,14 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		private transient JdbcParameterBindings firstParameterBindings;
 
 		CacheableSqmInterpretation(
+				InterpretationShape shape,
 				SelectStatement selectStatement,
 				JdbcOperationQuerySelect jdbcSelect,
 				FromClauseAccess tableGroupAccess,
 				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref,
 				Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes,
 				JdbcParameterBindings firstParameterBindings) {
+			this.shape = shape;
 			this.selectStatement = selectStatement;
 			this.jdbcSelect = jdbcSelect;
 			this.tableGroupAccess = tableGroupAccess;
@@ -51,6 +51,7 @@ import org.hibernate.query.ImmutableEntityUpdateQueryHandlingMode;
 import org.hibernate.query.Query;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.QueryParameter;
+import org.hibernate.query.ResultColumns;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.SemanticException;
 import org.hibernate.query.TupleTransformer;
@@ -161,7 +162,7 @@ public class QuerySqmImpl<R>
 		final HqlInterpretation hqlInterpretation = interpretationCache.resolveHqlInterpretation(
 				hql,
 				expectedResultType,
-				(s) -> queryEngine.getHqlTranslator().translate( hql, expectedResultType )
+				(s) -> memento.translate( queryEngine, expectedResultType )
 		);
 
 		this.sqm = hqlInterpretation.getSqmStatement();
@@ -628,6 +629,13 @@ public class QuerySqmImpl<R>
 		return resolveSelectQueryPlan().performScroll( scrollMode, this );
 	}
 
+	@Override
+	protected ResultColumns doResultColumns() {
+		verifySelect();
+		getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
+		return resolveSelectQueryPlan().performResultColumns( this );
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Select query plan
@@ -640,6 +648,15 @@ public class QuerySqmImpl<R>
 					this::buildSelectQueryPlan
 			);
 		}
+		else if ( CRITERIA_HQL_STRING.equals( getQueryString() )
+				&& getSession().getFactory().getSessionFactoryOptions().isCriteriaPlanCacheEnabled() ) {
+			return SharedCriteriaSelectQueryPlan.resolve(
+					(SqmSelectStatement<?>) getSqmStatement(),
+					this,
+					getSession().getFactory().getQueryEngine().getInterpretationCache(),
+					this::buildSelectQueryPlan
+			);
+		}
 		else {
 			return buildSelectQueryPlan();
 		}
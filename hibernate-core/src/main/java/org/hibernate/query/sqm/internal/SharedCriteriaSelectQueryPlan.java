@@ -0,0 +1,199 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.ResultColumns;
+import org.hibernate.query.internal.DelegatingDomainQueryExecutionContext;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.query.spi.SelectQueryPlan;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+
+/**
+ * A select query plan shared between criteria queries of the same {@link SqmCriteriaStructure structure}.
+ * <p>
+ * The wrapped plan refers to the parameters of the criteria query it was built for.
+ * Other queries execute it through {@link #forParameters}, which presents their parameter
+ * bindings under the parameters of the plan, matching them by position.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CRITERIA_PLAN_CACHE_ENABLED
+ */
+public class SharedCriteriaSelectQueryPlan<R> implements SelectQueryPlan<R> {
+	private final SelectQueryPlan<R> delegate;
+	private final List<JpaCriteriaParameter<?>> parameters;
+
+	public SharedCriteriaSelectQueryPlan(SelectQueryPlan<R> delegate, List<JpaCriteriaParameter<?>> parameters) {
+		this.delegate = delegate;
+		this.parameters = parameters;
+	}
+
+	/**
+	 * Resolve the plan for a criteria query through the interpretation cache, keyed by
+	 * the structure of its statement, or create an unshared plan if the query is not
+	 * cacheable.
+	 */
+	public static <R> SelectQueryPlan<R> resolve(
+			SqmSelectStatement<?> statement,
+			SqmInterpretationsKey.InterpretationsKeySource keySource,
+			QueryInterpretationCache interpretationCache,
+			Supplier<SelectQueryPlan<R>> creator) {
+		final SqmCriteriaStructure structure = SqmCriteriaStructure.from( statement );
+		final QueryInterpretationCache.Key cacheKey = structure == null
+				? null
+				: SqmInterpretationsKey.createInterpretationsKey( keySource, structure );
+		if ( cacheKey == null ) {
+			return creator.get();
+		}
+
+		final SelectQueryPlan<R> plan = interpretationCache.resolveSelectQueryPlan(
+				cacheKey,
+				() -> new SharedCriteriaSelectQueryPlan<>( creator.get(), structure.getParameters() )
+		);
+		// keys rendered from a criteria structure are only ever used for shared plans
+		return ( (SharedCriteriaSelectQueryPlan<R>) plan ).forParameters( structure.getParameters() );
+	}
+
+	/**
+	 * A view of this plan for the query with the given parameters, listed in the
+	 * order of {@link SqmCriteriaStructure#getParameters()}.
+	 */
+	public SelectQueryPlan<R> forParameters(List<JpaCriteriaParameter<?>> queryParameters) {
+		if ( queryParameters == parameters ) {
+			// the query this plan was built for
+			return delegate;
+		}
+		assert queryParameters.size() == parameters.size();
+		final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping =
+				new IdentityHashMap<>( parameters.size() );
+		for ( int i = 0; i < parameters.size(); i++ ) {
+			parameterMapping.put( parameters.get( i ), queryParameters.get( i ) );
+		}
+		return new SelectQueryPlan<R>() {
+			@Override
+			public List<R> performList(DomainQueryExecutionContext executionContext) {
+				return delegate.performList( adapt( executionContext, parameterMapping ) );
+			}
+
+			@Override
+			public ScrollableResultsImplementor<R> performScroll(
+					ScrollMode scrollMode,
+					DomainQueryExecutionContext executionContext) {
+				return delegate.performScroll( scrollMode, adapt( executionContext, parameterMapping ) );
+			}
+
+			@Override
+			public ResultColumns performResultColumns(DomainQueryExecutionContext executionContext) {
+				return delegate.performResultColumns( adapt( executionContext, parameterMapping ) );
+			}
+		};
+	}
+
+	private static DomainQueryExecutionContext adapt(
+			DomainQueryExecutionContext executionContext,
+			Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping) {
+		final QueryParameterBindings bindings =
+				new MappedQueryParameterBindings( executionContext.getQueryParameterBindings(), parameterMapping );
+		return new DelegatingDomainQueryExecutionContext( executionContext ) {
+			@Override
+			public QueryParameterBindings getQueryParameterBindings() {
+				return bindings;
+			}
+		};
+	}
+
+	@Override
+	public List<R> performList(DomainQueryExecutionContext executionContext) {
+		return delegate.performList( executionContext );
+	}
+
+	@Override
+	public ScrollableResultsImplementor<R> performScroll(
+			ScrollMode scrollMode,
+			DomainQueryExecutionContext executionContext) {
+		return delegate.performScroll( scrollMode, executionContext );
+	}
+
+	@Override
+	public ResultColumns performResultColumns(DomainQueryExecutionContext executionContext) {
+		return delegate.performResultColumns( executionContext );
+	}
+
+	/**
+	 * The bindings of a query, looked up through the parameters of the shared plan
+	 */
+	private static class MappedQueryParameterBindings implements QueryParameterBindings {
+		private final QueryParameterBindings delegate;
+		private final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping;
+
+		private MappedQueryParameterBindings(
+				QueryParameterBindings delegate,
+				Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> parameterMapping) {
+			this.delegate = delegate;
+			this.parameterMapping = parameterMapping;
+		}
+
+		@SuppressWarnings("unchecked")
+		private <P> QueryParameterImplementor<P> map(QueryParameterImplementor<P> parameter) {
+			final QueryParameterImplementor<?> mapped = parameterMapping.get( parameter );
+			return mapped == null ? parameter : (QueryParameterImplementor<P>) mapped;
+		}
+
+		@Override
+		public boolean isBound(QueryParameterImplementor<?> parameter) {
+			return delegate.isBound( map( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(QueryParameterImplementor<P> parameter) {
+			return delegate.getBinding( map( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(String name) {
+			return delegate.getBinding( name );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(int position) {
+			return delegate.getBinding( position );
+		}
+
+		@Override
+		public void validate() {
+			delegate.validate();
+		}
+
+		@Override
+		public boolean hasAnyMultiValuedBindings() {
+			return delegate.hasAnyMultiValuedBindings();
+		}
+
+		@Override
+		public QueryKey.ParameterBindingsMemento generateQueryKeyMemento(SharedSessionContractImplementor persistenceContext) {
+			return delegate.generateQueryKeyMemento( persistenceContext );
+		}
+
+		@Override
+		public void visitBindings(BiConsumer<QueryParameterImplementor<?>, QueryParameterBinding<?>> action) {
+			delegate.visitBindings( action );
+		}
+	}
+}
@@ -0,0 +1,1166 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.metamodel.model.domain.internal.AnyDiscriminatorSqmPath;
+import org.hibernate.query.sqm.SemanticQueryWalker;
+import org.hibernate.query.sqm.SqmExpressible;
+import org.hibernate.query.sqm.sql.internal.SelfInterpretingSqmPath;
+import org.hibernate.query.sqm.tree.SqmTypedNode;
+import org.hibernate.query.sqm.tree.SqmVisitableNode;
+import org.hibernate.query.sqm.tree.cte.SqmCteContainer;
+import org.hibernate.query.sqm.tree.cte.SqmCteStatement;
+import org.hibernate.query.sqm.tree.delete.SqmDeleteStatement;
+import org.hibernate.query.sqm.tree.domain.NonAggregatedCompositeSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmAnyValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmBasicValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmCorrelation;
+import org.hibernate.query.sqm.tree.domain.SqmCteRoot;
+import org.hibernate.query.sqm.tree.domain.SqmDerivedRoot;
+import org.hibernate.query.sqm.tree.domain.SqmElementAggregateFunction;
+import org.hibernate.query.sqm.tree.domain.SqmEmbeddedValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmEntityValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmFkExpression;
+import org.hibernate.query.sqm.tree.domain.SqmIndexAggregateFunction;
+import org.hibernate.query.sqm.tree.domain.SqmIndexedCollectionAccessPath;
+import org.hibernate.query.sqm.tree.domain.SqmMapEntryReference;
+import org.hibernate.query.sqm.tree.domain.SqmPath;
+import org.hibernate.query.sqm.tree.domain.SqmPluralPartJoin;
+import org.hibernate.query.sqm.tree.domain.SqmPluralValuedSimplePath;
+import org.hibernate.query.sqm.tree.domain.SqmTreatedPath;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.expression.SqmAggregateFunction;
+import org.hibernate.query.sqm.tree.expression.SqmAny;
+import org.hibernate.query.sqm.tree.expression.SqmAnyDiscriminatorValue;
+import org.hibernate.query.sqm.tree.expression.SqmBinaryArithmetic;
+import org.hibernate.query.sqm.tree.expression.SqmByUnit;
+import org.hibernate.query.sqm.tree.expression.SqmCaseSearched;
+import org.hibernate.query.sqm.tree.expression.SqmCaseSimple;
+import org.hibernate.query.sqm.tree.expression.SqmCastTarget;
+import org.hibernate.query.sqm.tree.expression.SqmCoalesce;
+import org.hibernate.query.sqm.tree.expression.SqmCollation;
+import org.hibernate.query.sqm.tree.expression.SqmCollectionSize;
+import org.hibernate.query.sqm.tree.expression.SqmDistinct;
+import org.hibernate.query.sqm.tree.expression.SqmDurationUnit;
+import org.hibernate.query.sqm.tree.expression.SqmEnumLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmEvery;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmExtractUnit;
+import org.hibernate.query.sqm.tree.expression.SqmFieldLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmFormat;
+import org.hibernate.query.sqm.tree.expression.SqmFunction;
+import org.hibernate.query.sqm.tree.expression.SqmLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmLiteralEntityType;
+import org.hibernate.query.sqm.tree.expression.SqmModifiedSubQueryExpression;
+import org.hibernate.query.sqm.tree.expression.SqmNamedParameter;
+import org.hibernate.query.sqm.tree.expression.SqmOrderedSetAggregateFunction;
+import org.hibernate.query.sqm.tree.expression.SqmOver;
+import org.hibernate.query.sqm.tree.expression.SqmOverflow;
+import org.hibernate.query.sqm.tree.expression.SqmParameterizedEntityType;
+import org.hibernate.query.sqm.tree.expression.SqmPositionalParameter;
+import org.hibernate.query.sqm.tree.expression.SqmStar;
+import org.hibernate.query.sqm.tree.expression.SqmSummarization;
+import org.hibernate.query.sqm.tree.expression.SqmToDuration;
+import org.hibernate.query.sqm.tree.expression.SqmTrimSpecification;
+import org.hibernate.query.sqm.tree.expression.SqmTuple;
+import org.hibernate.query.sqm.tree.expression.SqmUnaryOperation;
+import org.hibernate.query.sqm.tree.expression.SqmWindow;
+import org.hibernate.query.sqm.tree.expression.SqmWindowFunction;
+import org.hibernate.query.sqm.tree.expression.ValueBindJpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.from.SqmAttributeJoin;
+import org.hibernate.query.sqm.tree.from.SqmCrossJoin;
+import org.hibernate.query.sqm.tree.from.SqmCteJoin;
+import org.hibernate.query.sqm.tree.from.SqmDerivedJoin;
+import org.hibernate.query.sqm.tree.from.SqmEntityJoin;
+import org.hibernate.query.sqm.tree.from.SqmFrom;
+import org.hibernate.query.sqm.tree.from.SqmFromClause;
+import org.hibernate.query.sqm.tree.from.SqmJoin;
+import org.hibernate.query.sqm.tree.from.SqmQualifiedJoin;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.insert.SqmInsertSelectStatement;
+import org.hibernate.query.sqm.tree.insert.SqmInsertValuesStatement;
+import org.hibernate.query.sqm.tree.insert.SqmValues;
+import org.hibernate.query.sqm.tree.predicate.SqmBetweenPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmBooleanExpressionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmComparisonPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmEmptinessPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmExistsPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmGroupedPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmInListPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmInSubQueryPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmJunctionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmLikePredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmMemberOfPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmNegatedPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmNullnessPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmWhereClause;
+import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiation;
+import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiationArgument;
+import org.hibernate.query.sqm.tree.select.SqmJpaCompoundSelection;
+import org.hibernate.query.sqm.tree.select.SqmOrderByClause;
+import org.hibernate.query.sqm.tree.select.SqmQueryGroup;
+import org.hibernate.query.sqm.tree.select.SqmQueryPart;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
+import org.hibernate.query.sqm.tree.select.SqmSelectClause;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelectableNode;
+import org.hibernate.query.sqm.tree.select.SqmSelection;
+import org.hibernate.query.sqm.tree.select.SqmSortSpecification;
+import org.hibernate.query.sqm.tree.select.SqmSubQuery;
+import org.hibernate.query.sqm.tree.update.SqmAssignment;
+import org.hibernate.query.sqm.tree.update.SqmSetClause;
+import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
+
+/**
+ * The structure of a criteria select statement, used to share query plans between
+ * criteria queries which only differ in the values of their parameters.
+ * <p>
+ * The structure is an encoding of a walk over every node of the statement, including
+ * all semantic attributes of the nodes, such as join types, fetch flags, treats,
+ * negation or case sensitivity.  From-elements are encoded by their position of
+ * first occurrence and criteria parameters by their position and type, so that two
+ * statements have the same structure exactly when they are equal up to the identity
+ * of those nodes.  The parameters are kept in the order of their first occurrence,
+ * which is the same for statements of the same structure.
+ * <p>
+ * Statements containing nodes which are not expected in criteria queries, or which
+ * are not understood by the walk, have no structure and are not shared.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CRITERIA_PLAN_CACHE_ENABLED
+ */
+public final class SqmCriteriaStructure {
+	private final String structure;
+	private final List<JpaCriteriaParameter<?>> parameters;
+
+	private SqmCriteriaStructure(String structure, List<JpaCriteriaParameter<?>> parameters) {
+		this.structure = structure;
+		this.parameters = parameters;
+	}
+
+	/**
+	 * Determine the structure of the given criteria statement.
+	 *
+	 * @return the structure, or {@code null} if the statement contains nodes which
+	 * cannot be encoded
+	 */
+	public static SqmCriteriaStructure from(SqmSelectStatement<?> statement) {
+		final StructureWalker walker = new StructureWalker();
+		try {
+			walker.visitSelectStatement( statement );
+			walker.verifyFromElements();
+		}
+		catch (UnsupportedStructureException e) {
+			return null;
+		}
+		return new SqmCriteriaStructure( walker.sb.toString(), Collections.unmodifiableList( walker.parameters ) );
+	}
+
+	/**
+	 * The encoded structure, which starts with {@link QuerySqmImpl#CRITERIA_HQL_STRING}
+	 * so that it can never be mistaken for an HQL query string.
+	 */
+	public String getStructure() {
+		return structure;
+	}
+
+	/**
+	 * The criteria parameters of the statement, in the order of their first occurrence.
+	 */
+	public List<JpaCriteriaParameter<?>> getParameters() {
+		return parameters;
+	}
+
+	@Override
+	public String toString() {
+		return structure;
+	}
+
+	private static class UnsupportedStructureException extends RuntimeException {
+		private UnsupportedStructureException(String nodeKind) {
+			super( "Criteria structure cannot contain " + nodeKind, null, false, false );
+		}
+	}
+
+	/**
+	 * Encodes every node it visits as a token, followed by its attributes and children.
+	 * Names and values are length-prefixed, so the encoding can't be ambiguous.
+	 */
+	private static class StructureWalker implements SemanticQueryWalker<Object> {
+		private final StringBuilder sb = new StringBuilder( QuerySqmImpl.CRITERIA_HQL_STRING ).append( ' ' );
+		private final List<JpaCriteriaParameter<?>> parameters = new ArrayList<>();
+		private final Map<JpaCriteriaParameter<?>, Integer> parameterPositions = new IdentityHashMap<>();
+		private final Map<SqmFrom<?, ?>, Integer> fromPositions = new IdentityHashMap<>();
+		private final Map<SqmFrom<?, ?>, Boolean> declaredFroms = new IdentityHashMap<>();
+
+		private void token(String token) {
+			sb.append( token ).append( ' ' );
+		}
+
+		private void token(boolean flag) {
+			sb.append( flag ? 'T' : 'F' ).append( ' ' );
+		}
+
+		private void token(int number) {
+			sb.append( number ).append( ' ' );
+		}
+
+		private void token(Enum<?> value) {
+			sb.append( value == null ? "-" : value.name() ).append( ' ' );
+		}
+
+		private void name(String name) {
+			if ( name == null ) {
+				token( "-" );
+			}
+			else {
+				sb.append( name.length() ).append( ':' ).append( name ).append( ' ' );
+			}
+		}
+
+		private void type(SqmExpressible<?> type) {
+			if ( type == null || type.getExpressibleJavaType() == null ) {
+				token( "?" );
+			}
+			else {
+				name( type.getExpressibleJavaType().getJavaTypeClass().getName() );
+			}
+		}
+
+		private void node(SqmVisitableNode node) {
+			if ( node == null ) {
+				token( "-" );
+			}
+			else {
+				node.accept( this );
+			}
+		}
+
+		private void nodes(List<? extends SqmVisitableNode> nodes) {
+			if ( nodes == null ) {
+				token( "-" );
+			}
+			else {
+				token( nodes.size() );
+				for ( SqmVisitableNode node : nodes ) {
+					node( node );
+				}
+			}
+		}
+
+		private Object unsupported(String nodeKind) {
+			throw new UnsupportedStructureException( nodeKind );
+		}
+
+		private void verifyFromElements() {
+			if ( declaredFroms.size() != fromPositions.size() ) {
+				// a path refers to a from-element of some other statement
+				unsupported( "foreign from-element" );
+			}
+		}
+
+		private int fromPosition(SqmFrom<?, ?> from) {
+			final Integer existing = fromPositions.get( from );
+			if ( existing != null ) {
+				return existing;
+			}
+			final int position = fromPositions.size();
+			fromPositions.put( from, position );
+			return position;
+		}
+
+		private Object fromReference(SqmFrom<?, ?> from) {
+			token( "@" + fromPosition( from ) );
+			return null;
+		}
+
+		private void declareFrom(SqmFrom<?, ?> from) {
+			if ( declaredFroms.put( from, Boolean.TRUE ) != null ) {
+				unsupported( "shared from-element" );
+			}
+			token( "from@" + fromPosition( from ) );
+			if ( from instanceof SqmCorrelation<?, ?> ) {
+				token( "correlation" );
+				fromReference( from.getCorrelationParent() );
+			}
+			else if ( from instanceof SqmTreatedPath<?, ?> ) {
+				token( "treat" );
+				name( ( (SqmTreatedPath<?, ?>) from ).getTreatTarget().getHibernateEntityName() );
+			}
+			else if ( from instanceof SqmDerivedRoot<?> || from instanceof SqmCteRoot<?> ) {
+				unsupported( "derived or CTE root" );
+			}
+			else if ( from instanceof SqmRoot<?> ) {
+				token( "root" );
+				name( ( (SqmRoot<?>) from ).getEntityName() );
+			}
+			else if ( from instanceof SqmAttributeJoin<?, ?> ) {
+				final SqmAttributeJoin<?, ?> join = (SqmAttributeJoin<?, ?>) from;
+				token( "attribute-join" );
+				token( join.getSqmJoinType() );
+				token( join.isFetched() );
+				name( join.getReferencedPathSource().getPathName() );
+			}
+			else if ( from instanceof SqmEntityJoin<?> ) {
+				final SqmEntityJoin<?> join = (SqmEntityJoin<?>) from;
+				token( "entity-join" );
+				token( join.getSqmJoinType() );
+				name( join.getEntityName() );
+			}
+			else if ( from instanceof SqmCrossJoin<?> ) {
+				token( "cross-join" );
+				name( ( (SqmCrossJoin<?>) from ).getEntityName() );
+			}
+			else {
+				unsupported( from.getClass().getSimpleName() );
+			}
+
+			if ( from instanceof SqmQualifiedJoin<?, ?> ) {
+				node( ( (SqmQualifiedJoin<?, ?>) from ).getJoinPredicate() );
+			}
+
+			final List<? extends SqmJoin<?, ?>> joins = from.getSqmJoins();
+			token( joins.size() );
+			for ( SqmJoin<?, ?> join : joins ) {
+				declareFrom( join );
+			}
+			final List<SqmFrom<?, ?>> treats = from.getSqmTreats();
+			token( treats.size() );
+			for ( SqmFrom<?, ?> treat : treats ) {
+				declareFrom( treat );
+			}
+		}
+
+		private Object path(String kind, SqmPath<?> path) {
+			token( kind );
+			node( path.getLhs() );
+			name( path.getReferencedPathSource().getPathName() );
+			return null;
+		}
+
+		private void selectQuery(String kind, SqmQueryPart<?> queryPart, SqmCteContainer cteContainer, Class<?> resultType) {
+			if ( !cteContainer.getCteStatements().isEmpty() ) {
+				unsupported( "CTE" );
+			}
+			token( kind );
+			name( resultType == null ? null : resultType.getName() );
+			queryPart( queryPart );
+		}
+
+		private void queryPart(SqmQueryPart<?> queryPart) {
+			if ( queryPart instanceof SqmQueryGroup<?> ) {
+				visitQueryGroup( (SqmQueryGroup<?>) queryPart );
+			}
+			else {
+				visitQuerySpec( (SqmQuerySpec<?>) queryPart );
+			}
+			// offset and fetch are independent of the order by clause
+			if ( queryPart.getOrderByClause() == null ) {
+				token( "-" );
+			}
+			else {
+				visitOrderByClause( queryPart.getOrderByClause() );
+			}
+			token( "offset" );
+			node( queryPart.getOffsetExpression() );
+			token( "fetch" );
+			node( queryPart.getFetchExpression() );
+			token( queryPart.getFetchClauseType() );
+		}
+
+		private Object predicate(String kind, SqmPredicate predicate) {
+			token( kind );
+			token( predicate.isNegated() );
+			return null;
+		}
+
+		private void literalValue(Object value) {
+			if ( value == null ) {
+				token( "null" );
+			}
+			else if ( value instanceof Enum<?> ) {
+				name( ( (Enum<?>) value ).getDeclaringClass().getName() );
+				name( ( (Enum<?>) value ).name() );
+			}
+			else if ( value instanceof Class<?> ) {
+				name( Class.class.getName() );
+				name( ( (Class<?>) value ).getName() );
+			}
+			else if ( value instanceof Date ) {
+				// the string representations of dates are lossy
+				name( value.getClass().getName() );
+				token( Long.toString( ( (Date) value ).getTime() ) );
+				if ( value instanceof java.sql.Timestamp ) {
+					token( ( (java.sql.Timestamp) value ).getNanos() );
+				}
+			}
+			else if ( value instanceof UUID || hasLosslessString( value.getClass().getName() ) ) {
+				name( value.getClass().getName() );
+				name( value.toString() );
+			}
+			else {
+				// we can't tell whether two values of an arbitrary type are the same
+				unsupported( "literal of type " + value.getClass().getName() );
+			}
+		}
+
+		private static boolean hasLosslessString(String className) {
+			return className.startsWith( "java.lang." )
+					|| className.startsWith( "java.math." )
+					|| className.startsWith( "java.time." );
+		}
+
+		// Statements
+
+		@Override
+		public Object visitSelectStatement(SqmSelectStatement<?> statement) {
+			selectQuery( "select", statement.getQueryPart(), statement, statement.getResultType() );
+			return null;
+		}
+
+		@Override
+		public Object visitUpdateStatement(SqmUpdateStatement<?> statement) {
+			return unsupported( "update statement" );
+		}
+
+		@Override
+		public Object visitSetClause(SqmSetClause setClause) {
+			return unsupported( "set clause" );
+		}
+
+		@Override
+		public Object visitAssignment(SqmAssignment<?> assignment) {
+			return unsupported( "assignment" );
+		}
+
+		@Override
+		public Object visitInsertSelectStatement(SqmInsertSelectStatement<?> statement) {
+			return unsupported( "insert statement" );
+		}
+
+		@Override
+		public Object visitInsertValuesStatement(SqmInsertValuesStatement<?> statement) {
+			return unsupported( "insert statement" );
+		}
+
+		@Override
+		public Object visitDeleteStatement(SqmDeleteStatement<?> statement) {
+			return unsupported( "delete statement" );
+		}
+
+		@Override
+		public Object visitCteStatement(SqmCteStatement<?> sqmCteStatement) {
+			return unsupported( "CTE" );
+		}
+
+		@Override
+		public Object visitCteContainer(SqmCteContainer consumer) {
+			return unsupported( "CTE" );
+		}
+
+		// From clause
+
+		@Override
+		public Object visitFromClause(SqmFromClause fromClause) {
+			final List<SqmRoot<?>> roots = fromClause.getRoots();
+			token( "roots" );
+			token( roots.size() );
+			for ( SqmRoot<?> root : roots ) {
+				declareFrom( root );
+			}
+			return null;
+		}
+
+		@Override
+		public Object visitRootPath(SqmRoot<?> sqmRoot) {
+			return fromReference( sqmRoot );
+		}
+
+		@Override
+		public Object visitRootDerived(SqmDerivedRoot<?> sqmRoot) {
+			return unsupported( "derived root" );
+		}
+
+		@Override
+		public Object visitRootCte(SqmCteRoot<?> sqmRoot) {
+			return unsupported( "CTE root" );
+		}
+
+		@Override
+		public Object visitCrossJoin(SqmCrossJoin<?> joinedFromElement) {
+			return fromReference( joinedFromElement );
+		}
+
+		@Override
+		public Object visitPluralPartJoin(SqmPluralPartJoin<?, ?> joinedFromElement) {
+			return unsupported( "plural part join" );
+		}
+
+		@Override
+		public Object visitQualifiedEntityJoin(SqmEntityJoin<?> joinedFromElement) {
+			return fromReference( joinedFromElement );
+		}
+
+		@Override
+		public Object visitQualifiedAttributeJoin(SqmAttributeJoin<?, ?> joinedFromElement) {
+			return fromReference( joinedFromElement );
+		}
+
+		@Override
+		public Object visitQualifiedDerivedJoin(SqmDerivedJoin<?> joinedFromElement) {
+			return unsupported( "derived join" );
+		}
+
+		@Override
+		public Object visitQualifiedCteJoin(SqmCteJoin<?> joinedFromElement) {
+			return unsupported( "CTE join" );
+		}
+
+		@Override
+		public Object visitCorrelation(SqmCorrelation<?, ?> correlation) {
+			return fromReference( correlation );
+		}
+
+		@Override
+		public Object visitTreatedPath(SqmTreatedPath<?, ?> sqmTreatedPath) {
+			if ( sqmTreatedPath instanceof SqmFrom<?, ?> ) {
+				return fromReference( (SqmFrom<?, ?>) sqmTreatedPath );
+			}
+			token( "treat" );
+			name( sqmTreatedPath.getTreatTarget().getHibernateEntityName() );
+			node( sqmTreatedPath.getWrappedPath() );
+			return null;
+		}
+
+		// Paths
+
+		@Override
+		public Object visitBasicValuedPath(SqmBasicValuedSimplePath<?> path) {
+			return path( "basic", path );
+		}
+
+		@Override
+		public Object visitEmbeddableValuedPath(SqmEmbeddedValuedSimplePath<?> path) {
+			return path( "embedded", path );
+		}
+
+		@Override
+		public Object visitAnyValuedValuedPath(SqmAnyValuedSimplePath<?> path) {
+			return path( "any", path );
+		}
+
+		@Override
+		public Object visitNonAggregatedCompositeValuedPath(NonAggregatedCompositeSimplePath<?> path) {
+			return path( "composite", path );
+		}
+
+		@Override
+		public Object visitEntityValuedPath(SqmEntityValuedSimplePath<?> path) {
+			return path( "entity", path );
+		}
+
+		@Override
+		public Object visitPluralValuedPath(SqmPluralValuedSimplePath<?> path) {
+			return path( "plural", path );
+		}
+
+		@Override
+		public Object visitFkExpression(SqmFkExpression<?> fkExpression) {
+			token( "fk" );
+			node( fkExpression.getToOnePath() );
+			return null;
+		}
+
+		@Override
+		public Object visitSelfInterpretingSqmPath(SelfInterpretingSqmPath<?> sqmPath) {
+			return unsupported( "self-interpreting path" );
+		}
+
+		@Override
+		public Object visitIndexedPluralAccessPath(SqmIndexedCollectionAccessPath<?> path) {
+			token( "indexed" );
+			node( path.getLhs() );
+			node( path.getSelectorExpression() );
+			return null;
+		}
+
+		@Override
+		public Object visitElementAggregateFunction(SqmElementAggregateFunction<?> path) {
+			token( "element-aggregate" );
+			name( path.getFunctionName() );
+			node( path.getLhs() );
+			return null;
+		}
+
+		@Override
+		public Object visitIndexAggregateFunction(SqmIndexAggregateFunction<?> path) {
+			token( "index-aggregate" );
+			name( path.getFunctionName() );
+			node( path.getLhs() );
+			return null;
+		}
+
+		@Override
+		public Object visitMapEntryFunction(SqmMapEntryReference<?, ?> function) {
+			token( "entry" );
+			node( function.getMapPath() );
+			return null;
+		}
+
+		@Override
+		public Object visitPluralAttributeSizeFunction(SqmCollectionSize function) {
+			token( "size" );
+			node( function.getPluralPath() );
+			return null;
+		}
+
+		// Query parts
+
+		@Override
+		public Object visitQueryGroup(SqmQueryGroup<?> queryGroup) {
+			token( "group" );
+			token( queryGroup.getSetOperator() );
+			final List<? extends SqmQueryPart<?>> queryParts = queryGroup.getQueryParts();
+			token( queryParts.size() );
+			for ( SqmQueryPart<?> queryPart : queryParts ) {
+				queryPart( queryPart );
+			}
+			return null;
+		}
+
+		@Override
+		public Object visitQuerySpec(SqmQuerySpec<?> querySpec) {
+			token( "spec" );
+			visitFromClause( querySpec.getFromClause() );
+			visitSelectClause( querySpec.getSelectClause() );
+			if ( querySpec.getWhereClause() == null ) {
+				token( "-" );
+			}
+			else {
+				visitWhereClause( querySpec.getWhereClause() );
+			}
+			visitGroupByClause( querySpec.getGroupByClauseExpressions() );
+			visitHavingClause( querySpec.getHavingClausePredicate() );
+			return null;
+		}
+
+		@Override
+		public Object visitSelectClause(SqmSelectClause selectClause) {
+			if ( selectClause == null ) {
+				token( "-" );
+				return null;
+			}
+			token( "selections" );
+			token( selectClause.isDistinct() );
+			nodes( selectClause.getSelections() );
+			return null;
+		}
+
+		@Override
+		public Object visitSelection(SqmSelection<?> selection) {
+			token( "selection" );
+			name( selection.getAlias() );
+			node( selection.getSelectableNode() );
+			return null;
+		}
+
+		@Override
+		public Object visitValues(SqmValues values) {
+			return unsupported( "values" );
+		}
+
+		@Override
+		public Object visitGroupByClause(List<SqmExpression<?>> groupByClauseExpressions) {
+			token( "group-by" );
+			nodes( groupByClauseExpressions );
+			return null;
+		}
+
+		@Override
+		public Object visitHavingClause(SqmPredicate clause) {
+			token( "having" );
+			node( clause );
+			return null;
+		}
+
+		@Override
+		public Object visitDynamicInstantiation(SqmDynamicInstantiation<?> sqmDynamicInstantiation) {
+			token( "new" );
+			token( sqmDynamicInstantiation.getInstantiationTarget().getNature() );
+			name( sqmDynamicInstantiation.getInstantiationTarget().getJavaType().getName() );
+			final List<SqmDynamicInstantiationArgument<?>> arguments = sqmDynamicInstantiation.getArguments();
+			token( arguments.size() );
+			for ( SqmDynamicInstantiationArgument<?> argument : arguments ) {
+				name( argument.getAlias() );
+				node( argument.getSelectableNode() );
+			}
+			return null;
+		}
+
+		@Override
+		public Object visitJpaCompoundSelection(SqmJpaCompoundSelection<?> selection) {
+			token( "compound" );
+			name( selection.getJavaType().getName() );
+			final List<SqmSelectableNode<?>> items = selection.getSelectionItems();
+			token( items.size() );
+			for ( SqmSelectableNode<?> item : items ) {
+				name( item.getAlias() );
+				node( item );
+			}
+			return null;
+		}
+
+		@Override
+		public Object visitOrderByClause(SqmOrderByClause orderByClause) {
+			final List<SqmSortSpecification> sortSpecifications = orderByClause.getSortSpecifications();
+			token( "order-by" );
+			token( sortSpecifications.size() );
+			for ( SqmSortSpecification sortSpecification : sortSpecifications ) {
+				visitSortSpecification( sortSpecification );
+			}
+			return null;
+		}
+
+		@Override
+		public Object visitSortSpecification(SqmSortSpecification sortSpecification) {
+			token( "sort" );
+			token( sortSpecification.getSortOrder() );
+			token( sortSpecification.getNullPrecedence() );
+			node( sortSpecification.getSortExpression() );
+			return null;
+		}
+
+		@Override
+		public Object visitOffsetExpression(SqmExpression<?> expression) {
+			token( "offset" );
+			node( expression );
+			return null;
+		}
+
+		@Override
+		public Object visitFetchExpression(SqmExpression<?> expression) {
+			token( "fetch" );
+			node( expression );
+			return null;
+		}
+
+		// Expressions
+
+		@Override
+		public Object visitLiteral(SqmLiteral<?> literal) {
+			token( "literal" );
+			type( literal.getNodeType() );
+			literalValue( literal.getLiteralValue() );
+			return null;
+		}
+
+		@Override
+		public Object visitEnumLiteral(SqmEnumLiteral<?> sqmEnumLiteral) {
+			token( "enum" );
+			literalValue( sqmEnumLiteral.getEnumValue() );
+			return null;
+		}
+
+		@Override
+		public Object visitFieldLiteral(SqmFieldLiteral<?> sqmFieldLiteral) {
+			token( "field" );
+			type( sqmFieldLiteral.getNodeType() );
+			name( sqmFieldLiteral.getFieldName() );
+			return null;
+		}
+
+		@Override
+		public Object visitTuple(SqmTuple<?> sqmTuple) {
+			token( "tuple" );
+			nodes( sqmTuple.getGroupedExpressions() );
+			return null;
+		}
+
+		@Override
+		public Object visitCollation(SqmCollation sqmCollate) {
+			token( "collation" );
+			name( sqmCollate.getLiteralValue() );
+			return null;
+		}
+
+		@Override
+		public Object visitBinaryArithmeticExpression(SqmBinaryArithmetic<?> expression) {
+			token( "arithmetic" );
+			token( expression.getOperator() );
+			node( expression.getLeftHandOperand() );
+			node( expression.getRightHandOperand() );
+			return null;
+		}
+
+		@Override
+		public Object visitSubQueryExpression(SqmSubQuery<?> expression) {
+			selectQuery( "subquery", expression.getQueryPart(), expression, expression.getResultType() );
+			return null;
+		}
+
+		@Override
+		public Object visitModifiedSubQueryExpression(SqmModifiedSubQueryExpression<?> expression) {
+			token( "modified-subquery" );
+			token( expression.getModifier() );
+			node( expression.getSubQuery() );
+			return null;
+		}
+
+		@Override
+		public Object visitSimpleCaseExpression(SqmCaseSimple<?, ?> expression) {
+			token( "simple-case" );
+			type( expression.getNodeType() );
+			node( expression.getFixture() );
+			token( expression.getWhenFragments().size() );
+			for ( SqmCaseSimple.WhenFragment<?, ?> whenFragment : expression.getWhenFragments() ) {
+				node( whenFragment.getCheckValue() );
+				node( whenFragment.getResult() );
+			}
+			node( expression.getOtherwise() );
+			return null;
+		}
+
+		@Override
+		public Object visitSearchedCaseExpression(SqmCaseSearched<?> expression) {
+			token( "searched-case" );
+			type( expression.getNodeType() );
+			token( expression.getWhenFragments().size() );
+			for ( SqmCaseSearched.WhenFragment<?> whenFragment : expression.getWhenFragments() ) {
+				node( whenFragment.getPredicate() );
+				node( whenFragment.getResult() );
+			}
+			node( expression.getOtherwise() );
+			return null;
+		}
+
+		@Override
+		public Object visitAny(SqmAny<?> sqmAny) {
+			token( "any" );
+			node( sqmAny.getSubquery() );
+			return null;
+		}
+
+		@Override
+		public Object visitEvery(SqmEvery<?> sqmEvery) {
+			token( "every" );
+			node( sqmEvery.getSubquery() );
+			return null;
+		}
+
+		@Override
+		public Object visitSummarization(SqmSummarization<?> sqmSummarization) {
+			return unsupported( "summarization" );
+		}
+
+		@Override
+		public Object visitPositionalParameterExpression(SqmPositionalParameter<?> expression) {
+			return unsupported( "positional parameter" );
+		}
+
+		@Override
+		public Object visitNamedParameterExpression(SqmNamedParameter<?> expression) {
+			return unsupported( "named parameter" );
+		}
+
+		@Override
+		public Object visitJpaCriteriaParameter(JpaCriteriaParameter<?> expression) {
+			Integer position = parameterPositions.get( expression );
+			if ( position == null ) {
+				position = parameters.size();
+				parameters.add( expression );
+				parameterPositions.put( expression, position );
+			}
+			token( "parameter" );
+			token( position );
+			token( expression instanceof ValueBindJpaCriteriaParameter<?> );
+			token( expression.allowsMultiValuedBinding() );
+			type( expression.getNodeType() );
+			return null;
+		}
+
+		@Override
+		public Object visitEntityTypeLiteralExpression(SqmLiteralEntityType<?> expression) {
+			token( "entity-type" );
+			name( expression.getNodeType().getHibernateEntityName() );
+			return null;
+		}
+
+		@Override
+		public Object visitAnyDiscriminatorTypeExpression(AnyDiscriminatorSqmPath expression) {
+			return unsupported( "any discriminator" );
+		}
+
+		@Override
+		public Object visitAnyDiscriminatorTypeValueExpression(SqmAnyDiscriminatorValue expression) {
+			return unsupported( "any discriminator" );
+		}
+
+		@Override
+		public Object visitParameterizedEntityTypeExpression(SqmParameterizedEntityType<?> expression) {
+			token( "parameterized-entity-type" );
+			node( expression.getDiscriminatorSource() );
+			return null;
+		}
+
+		@Override
+		public Object visitUnaryOperationExpression(SqmUnaryOperation<?> expression) {
+			token( "unary" );
+			token( expression.getOperation() );
+			node( expression.getOperand() );
+			return null;
+		}
+
+		@Override
+		public Object visitFunction(SqmFunction<?> tSqmFunction) {
+			if ( tSqmFunction instanceof SqmWindowFunction<?> ) {
+				return unsupported( "window function" );
+			}
+			token( "function" );
+			name( tSqmFunction.getClass().getName() );
+			name( tSqmFunction.getFunctionName() );
+			type( tSqmFunction.getNodeType() );
+			final List<? extends SqmTypedNode<?>> arguments = tSqmFunction.getArguments();
+			token( arguments.size() );
+			for ( SqmTypedNode<?> argument : arguments ) {
+				node( argument );
+			}
+			if ( tSqmFunction instanceof SqmAggregateFunction<?> ) {
+				token( "filter" );
+				node( ( (SqmAggregateFunction<?>) tSqmFunction ).getFilter() );
+			}
+			if ( tSqmFunction instanceof SqmOrderedSetAggregateFunction<?> ) {
+				final SqmOrderByClause withinGroup = ( (SqmOrderedSetAggregateFunction<?>) tSqmFunction ).getWithinGroup();
+				token( "within-group" );
+				if ( withinGroup == null ) {
+					token( "-" );
+				}
+				else {
+					visitOrderByClause( withinGroup );
+				}
+			}
+			return null;
+		}
+
+		@Override
+		public Object visitExtractUnit(SqmExtractUnit<?> extractUnit) {
+			token( "extract-unit" );
+			token( extractUnit.getUnit() );
+			type( extractUnit.getNodeType() );
+			return null;
+		}
+
+		@Override
+		public Object visitFormat(SqmFormat sqmFormat) {
+			token( "format" );
+			name( sqmFormat.getLiteralValue() );
+			return null;
+		}
+
+		@Override
+		public Object visitCastTarget(SqmCastTarget<?> sqmCastTarget) {
+			token( "cast-target" );
+			type( sqmCastTarget.getNodeType() );
+			name( String.valueOf( sqmCastTarget.getLength() ) );
+			name( String.valueOf( sqmCastTarget.getPrecision() ) );
+			name( String.valueOf( sqmCastTarget.getScale() ) );
+			return null;
+		}
+
+		@Override
+		public Object visitTrimSpecification(SqmTrimSpecification trimSpecification) {
+			token( "trim-specification" );
+			token( trimSpecification.getSpecification() );
+			return null;
+		}
+
+		@Override
+		public Object visitDistinct(SqmDistinct<?> distinct) {
+			token( "distinct" );
+			node( distinct.getExpression() );
+			return null;
+		}
+
+		@Override
+		public Object visitStar(SqmStar sqmStar) {
+			token( "*" );
+			return null;
+		}
+
+		@Override
+		public Object visitOver(SqmOver<?> over) {
+			return unsupported( "over clause" );
+		}
+
+		@Override
+		public Object visitWindow(SqmWindow widow) {
+			return unsupported( "window" );
+		}
+
+		@Override
+		public Object visitOverflow(SqmOverflow<?> sqmOverflow) {
+			return unsupported( "overflow clause" );
+		}
+
+		@Override
+		public Object visitCoalesce(SqmCoalesce<?> sqmCoalesce) {
+			token( "coalesce" );
+			type( sqmCoalesce.getNodeType() );
+			nodes( sqmCoalesce.getArguments() );
+			return null;
+		}
+
+		@Override
+		public Object visitToDuration(SqmToDuration<?> toDuration) {
+			token( "to-duration" );
+			node( toDuration.getMagnitude() );
+			node( toDuration.getUnit() );
+			return null;
+		}
+
+		@Override
+		public Object visitByUnit(SqmByUnit sqmByUnit) {
+			token( "by-unit" );
+			node( sqmByUnit.getDuration() );
+			node( sqmByUnit.getUnit() );
+			return null;
+		}
+
+		@Override
+		public Object visitDurationUnit(SqmDurationUnit<?> durationUnit) {
+			token( "duration-unit" );
+			token( durationUnit.getUnit() );
+			type( durationUnit.getNodeType() );
+			return null;
+		}
+
+		@Override
+		public Object visitFullyQualifiedClass(Class<?> namedClass) {
+			token( "class" );
+			name( namedClass.getName() );
+			return null;
+		}
+
+		// Predicates
+
+		@Override
+		public Object visitWhereClause(SqmWhereClause whereClause) {
+			token( "where" );
+			node( whereClause.getPredicate() );
+			return null;
+		}
+
+		@Override
+		public Object visitGroupedPredicate(SqmGroupedPredicate predicate) {
+			predicate( "grouped", predicate );
+			node( predicate.getSubPredicate() );
+			return null;
+		}
+
+		@Override
+		public Object visitJunctionPredicate(SqmJunctionPredicate predicate) {
+			predicate( "junction", predicate );
+			token( predicate.getOperator() );
+			nodes( predicate.getPredicates() );
+			return null;
+		}
+
+		@Override
+		public Object visitComparisonPredicate(SqmComparisonPredicate predicate) {
+			predicate( "comparison", predicate );
+			token( predicate.getSqmOperator() );
+			node( predicate.getLeftHandExpression() );
+			node( predicate.getRightHandExpression() );
+			return null;
+		}
+
+		@Override
+		public Object visitIsEmptyPredicate(SqmEmptinessPredicate predicate) {
+			predicate( "empty", predicate );
+			node( predicate.getPluralPath() );
+			return null;
+		}
+
+		@Override
+		public Object visitIsNullPredicate(SqmNullnessPredicate predicate) {
+			predicate( "null", predicate );
+			node( predicate.getExpression() );
+			return null;
+		}
+
+		@Override
+		public Object visitBetweenPredicate(SqmBetweenPredicate predicate) {
+			predicate( "between", predicate );
+			node( predicate.getExpression() );
+			node( predicate.getLowerBound() );
+			node( predicate.getUpperBound() );
+			return null;
+		}
+
+		@Override
+		public Object visitLikePredicate(SqmLikePredicate predicate) {
+			predicate( "like", predicate );
+			token( predicate.isCaseSensitive() );
+			node( predicate.getMatchExpression() );
+			node( predicate.getPattern() );
+			node( predicate.getEscapeCharacter() );
+			return null;
+		}
+
+		@Override
+		public Object visitMemberOfPredicate(SqmMemberOfPredicate predicate) {
+			predicate( "member-of", predicate );
+			node( predicate.getLeftHandExpression() );
+			node( predicate.getPluralPath() );
+			return null;
+		}
+
+		@Override
+		public Object visitNegatedPredicate(SqmNegatedPredicate predicate) {
+			predicate( "not", predicate );
+			node( predicate.getWrappedPredicate() );
+			return null;
+		}
+
+		@Override
+		public Object visitInListPredicate(SqmInListPredicate<?> predicate) {
+			predicate( "in-list", predicate );
+			node( predicate.getTestExpression() );
+			nodes( predicate.getListExpressions() );
+			return null;
+		}
+
+		@Override
+		public Object visitInSubQueryPredicate(SqmInSubQueryPredicate<?> predicate) {
+			predicate( "in-subquery", predicate );
+			node( predicate.getTestExpression() );
+			node( predicate.getSubQueryExpression() );
+			return null;
+		}
+
+		@Override
+		public Object visitBooleanExpressionPredicate(SqmBooleanExpressionPredicate predicate) {
+			predicate( "boolean", predicate );
+			node( predicate.getBooleanExpression() );
+			return null;
+		}
+
+		@Override
+		public Object visitExistsPredicate(SqmExistsPredicate sqmExistsPredicate) {
+			predicate( "exists", sqmExistsPredicate );
+			node( sqmExistsPredicate.getExpression() );
+			return null;
+		}
+	}
+}
@@ -7,6 +7,7 @@
 package org.hibernate.query.sqm.internal;
 
 import java.util.function.Supplier;
+import jakarta.persistence.Tuple;
 
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
@@ -45,17 +46,51 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 				keySource.getQueryOptions().getResultListTransformer()
 		);
 	}
-	@SuppressWarnings("RedundantIfStatement")
-	private static boolean isCacheable(InterpretationsKeySource keySource) {
-		assert keySource.getQueryOptions().getAppliedGraph() != null;
 
+	/**
+	 * Creates a key for a criteria query from the structure of its statement, since
+	 * all criteria queries share the same query string.  Used only when criteria
+	 * queries may share query plans.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CRITERIA_PLAN_CACHE_ENABLED
+	 */
+	public static SqmInterpretationsKey createInterpretationsKey(
+			InterpretationsKeySource keySource,
+			SqmCriteriaStructure criteriaStructure) {
+		if ( Tuple.class.equals( keySource.getResultType() ) ) {
+			// the tuple elements of a plan are the selections of the query it was built for
+			return null;
+		}
+
+		if ( ! hasCacheableInfluencers( keySource ) ) {
+			return null;
+		}
+
+		return new SqmInterpretationsKey(
+				criteriaStructure.getStructure(),
+				keySource.getResultType(),
+				keySource.getQueryOptions().getLockOptions(),
+				keySource.getQueryOptions().getTupleTransformer(),
+				keySource.getQueryOptions().getResultListTransformer()
+		);
+	}
+
+	private static boolean isCacheable(InterpretationsKeySource keySource) {
 		if ( QuerySqmImpl.CRITERIA_HQL_STRING.equals( keySource.getQueryString() ) ) {
 			// for now at least, skip caching Criteria-based plans
 			//		- especially wrt parameters atm; this works with HQL because the parameters
 			//			are part of the query string; with Criteria, they are not.
+			//		- unless enabled, see SqmCriteriaStructure
 			return false;
 		}
 
+		return hasCacheableInfluencers( keySource );
+	}
+
+	@SuppressWarnings("RedundantIfStatement")
+	private static boolean hasCacheableInfluencers(InterpretationsKeySource keySource) {
+		assert keySource.getQueryOptions().getAppliedGraph() != null;
+
 		if ( keySource.getLoadQueryInfluencers().hasEnabledFilters() ) {
 			// At the moment we cannot cache query plan if there is filter enabled.
 			return false;
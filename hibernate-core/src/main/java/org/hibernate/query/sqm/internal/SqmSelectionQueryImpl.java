@@ -36,6 +36,7 @@ import org.hibernate.internal.util.collections.IdentitySet;
 import org.hibernate.query.BindableType;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.QueryParameter;
+import org.hibernate.query.ResultColumns;
 import org.hibernate.query.criteria.internal.NamedCriteriaQueryMementoImpl;
 import org.hibernate.query.hql.internal.NamedHqlQueryMementoImpl;
 import org.hibernate.query.hql.internal.QuerySplitter;
@@ -144,7 +145,7 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 		final HqlInterpretation hqlInterpretation = interpretationCache.resolveHqlInterpretation(
 				hql,
 				resultType,
-				(s) -> queryEngine.getHqlTranslator().translate( hql, resultType )
+				(s) -> memento.translate( queryEngine, resultType )
 		);
 
 		SqmUtil.verifyIsSelectStatement( hqlInterpretation.getSqmStatement(), hql );
@@ -335,6 +336,13 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 		return resolveQueryPlan().performScroll( scrollMode, this );
 	}
 
+	@Override
+	protected ResultColumns doResultColumns() {
+		getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
+
+		return resolveQueryPlan().performResultColumns( this );
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Query plan
@@ -347,6 +355,15 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 					this::buildQueryPlan
 			);
 		}
+		else if ( CRITERIA_HQL_STRING.equals( getQueryString() )
+				&& getSession().getFactory().getSessionFactoryOptions().isCriteriaPlanCacheEnabled() ) {
+			return SharedCriteriaSelectQueryPlan.resolve(
+					(SqmSelectStatement<?>) getSqmStatement(),
+					this,
+					getSession().getFactory().getQueryEngine().getInterpretationCache(),
+					this::buildQueryPlan
+			);
+		}
 		else {
 			return buildQueryPlan();
 		}
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -150,6 +151,7 @@ import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.ExistsPredicate;
 import org.hibernate.sql.ast.tree.predicate.FilterPredicate;
 import org.hibernate.sql.ast.tree.predicate.GroupedPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.Junction;
@@ -193,6 +195,7 @@ import org.hibernate.sql.model.internal.TableUpdateCustomSql;
 import org.hibernate.sql.model.internal.TableUpdateStandard;
 import org.hibernate.sql.results.internal.SqlSelectionImpl;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesMappingProducerStandard;
+import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.BasicPluralType;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.SqlTypes;
@@ -219,6 +222,10 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 	 * To estimate the size, we need to assume a certain max recursion depth.
 	 */
 	private static final int MAX_RECURSION_DEPTH_ESTIMATE = 1000;
+	/**
+	 * The initial capacity of the SQL buffer, large enough for the SQL of most simple statements
+	 */
+	private static final int INITIAL_SQL_BUFFER_CAPACITY = 512;
 	/* The following are size estimates for various temporal types */
 	private static final int DATE_CHAR_SIZE_ESTIMATE =
 					// year
@@ -262,7 +269,7 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 	private final SessionFactoryImplementor sessionFactory;
 
 	// In-flight state
-	private final StringBuilder sqlBuffer = new StringBuilder();
+	private final StringBuilder sqlBuffer = new StringBuilder( INITIAL_SQL_BUFFER_CAPACITY );
 
 	private final List<JdbcParameterBinder> parameterBinders = new ArrayList<>();
 	private final JdbcParametersImpl jdbcParameters = new JdbcParametersImpl();
@@ -275,6 +282,9 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 
 	private final Dialect dialect;
 	private final Set<String> affectedTableNames = new HashSet<>();
+	// The row of values rendered for a standard table insert
+	private int valuesRowStart = -1;
+	private int valuesRowEnd = -1;
 	private CteStatement currentCteStatement;
 	private boolean needsSelectAliases;
 	// Column aliases that need to be injected
@@ -434,6 +444,15 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 		return sqlBuffer.toString();
 	}
 
+	private void sqlTranslated(StatisticsImplementor statistics, long startTime) {
+		if ( startTime != 0L ) {
+			statistics.sqlTranslated(
+					TimeUnit.MICROSECONDS.convert( System.nanoTime() - startTime, TimeUnit.NANOSECONDS ),
+					sqlBuffer.length()
+			);
+		}
+	}
+
 	protected void cleanup() {
 		if ( lazySessionWrapperOptions != null ) {
 			lazySessionWrapperOptions.cleanup();
@@ -754,13 +773,17 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 
 	@Override
 	public T translate(JdbcParameterBindings jdbcParameterBindings, QueryOptions queryOptions) {
+		final StatisticsImplementor statistics = sessionFactory.getStatistics();
+		final long startTime = statistics.isStatisticsEnabled() ? System.nanoTime() : 0L;
 		try {
 			this.jdbcParameterBindings = jdbcParameterBindings;
 
 			final Statement statement = statementStack.pop();
 
 			if ( statement instanceof TableMutation ) {
-				return translateTableMutation( (TableMutation<?>) statement );
+				final T mutationOperation = translateTableMutation( (TableMutation<?>) statement );
+				sqlTranslated( statistics, startTime );
+				return mutationOperation;
 			}
 
 			this.lockOptions = queryOptions.getLockOptions().makeCopy();
@@ -791,6 +814,7 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 				}
 			}
 
+			sqlTranslated( statistics, startTime );
 			//noinspection unchecked
 			return (T) jdbcOperation;
 		}
@@ -6676,6 +6700,14 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 		appendSql( CLOSE_PARENTHESIS );
 	}
 
+	@Override
+	public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
+		inArrayPredicate.getTestExpression().accept( this );
+		appendSql( " = any(" );
+		inArrayPredicate.getArrayParameter().accept( this );
+		appendSql( CLOSE_PARENTHESIS );
+	}
+
 	@Override
 	public void visitInListPredicate(InListPredicate inListPredicate) {
 		final List<Expression> listExpressions = inListPredicate.getListExpressions();
@@ -7727,6 +7759,15 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 
 	private T translateTableMutation(TableMutation<?> mutation) {
 		mutation.accept( this );
+		if ( valuesRowStart >= 0 && mutation instanceof TableInsertStandard ) {
+			//noinspection unchecked
+			return (T) ( (TableInsertStandard) mutation ).createMutationOperation(
+					getSql(),
+					parameterBinders,
+					valuesRowStart,
+					valuesRowEnd
+			);
+		}
 		//noinspection unchecked
 		return (T) mutation.createMutationOperation( getSql(), parameterBinders );
 	}
@@ -7766,9 +7807,12 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 			sqlBuffer.append( columnValueBinding.getColumnReference().getColumnExpression() );
 		} );
 
+		final int rowStart;
 		getCurrentClauseStack().push( Clause.VALUES );
 		try {
-			sqlBuffer.append( ") values (" );
+			sqlBuffer.append( ") values " );
+			rowStart = sqlBuffer.length();
+			sqlBuffer.append( '(' );
 
 			tableInsert.forEachValueBinding( (columnPosition, columnValueBinding) -> {
 				if ( columnPosition > 0 ) {
@@ -7782,6 +7826,12 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 		}
 
 		sqlBuffer.append( ")" );
+
+		if ( tableInsert.getNumberOfReturningColumns() == 0 ) {
+			// the row may be repeated to insert several rows at once
+			valuesRowStart = rowStart;
+			valuesRowEnd = sqlBuffer.length();
+		}
 	}
 
 	/**
@@ -45,6 +45,7 @@ import org.hibernate.sql.ast.tree.from.ValuesTableReference;
 import org.hibernate.sql.ast.tree.insert.InsertSelectStatement;
 import org.hibernate.sql.ast.tree.predicate.ExistsPredicate;
 import org.hibernate.sql.ast.tree.predicate.FilterPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.select.QueryGroup;
@@ -204,6 +205,10 @@ public class AggregateFunctionChecker extends AbstractSqlAstWalker {
 	public void visitInSubQueryPredicate(InSubQueryPredicate inSubQueryPredicate) {
 	}
 
+	@Override
+	public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
+	}
+
 	@Override
 	public void visitModifiedSubQueryExpression(ModifiedSubQueryExpression expression) {
 	}
@@ -59,6 +59,7 @@ import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.ExistsPredicate;
 import org.hibernate.sql.ast.tree.predicate.FilterPredicate;
 import org.hibernate.sql.ast.tree.predicate.GroupedPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.Junction;
@@ -343,6 +344,21 @@ public class ExpressionReplacementWalker implements SqlAstWalker {
 		}
 	}
 
+	@Override
+	public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
+		final Expression testExpression = replaceExpression( inArrayPredicate.getTestExpression() );
+		if ( testExpression != inArrayPredicate.getTestExpression() ) {
+			returnedNode = new InArrayPredicate(
+					testExpression,
+					inArrayPredicate.getArrayParameter(),
+					inArrayPredicate.getExpressionType()
+			);
+		}
+		else {
+			returnedNode = inArrayPredicate;
+		}
+	}
+
 	@Override
 	public void visitExistsPredicate(ExistsPredicate existsPredicate) {
 		final SelectStatement selectStatement = replaceExpression( existsPredicate.getExpression() );
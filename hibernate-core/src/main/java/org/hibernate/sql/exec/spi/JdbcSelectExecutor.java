@@ -6,13 +6,16 @@
  */
 package org.hibernate.sql.exec.spi;
 
+import java.sql.PreparedStatement;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.hibernate.Incubating;
 import org.hibernate.ScrollMode;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.RowTransformer;
 
 /**
@@ -51,4 +54,18 @@ public interface JdbcSelectExecutor {
 			JdbcParameterBindings jdbcParameterBindings,
 			ExecutionContext executionContext,
 			RowTransformer<R> rowTransformer);
+
+	/**
+	 * Execute the select, handing the results over to the given {@link ResultsConsumer}
+	 *
+	 * @since 6.2
+	 */
+	<T, R> T executeQuery(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			Class<R> domainResultType,
+			Function<String, PreparedStatement> statementCreator,
+			ResultsConsumer<T, R> resultsConsumer);
 }
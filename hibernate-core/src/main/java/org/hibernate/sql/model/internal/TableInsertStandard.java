@@ -11,11 +11,13 @@ import java.util.function.BiConsumer;
 
 import org.hibernate.sql.ast.SqlAstWalker;
 import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.model.MutationTarget;
 import org.hibernate.sql.model.ast.AbstractTableInsert;
 import org.hibernate.sql.model.ast.ColumnValueBinding;
 import org.hibernate.sql.model.ast.ColumnValueParameter;
 import org.hibernate.sql.model.ast.MutatingTableReference;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
 /**
  * @author Steve Ebersole
@@ -53,6 +55,28 @@ public class TableInsertStandard extends AbstractTableInsert {
 		return false;
 	}
 
+	/**
+	 * Intended for use from {@link org.hibernate.sql.ast.SqlAstTranslator}
+	 *
+	 * @see JdbcInsertMutation#hasValuesRow()
+	 */
+	public JdbcInsertMutation createMutationOperation(
+			String sql,
+			List<JdbcParameterBinder> parameterBinders,
+			int valuesRowStart,
+			int valuesRowEnd) {
+		return new JdbcInsertMutation(
+				getMutatingTable().getTableMapping(),
+				getMutationTarget(),
+				sql,
+				isCallable(),
+				getExpectation(),
+				parameterBinders,
+				valuesRowStart,
+				valuesRowEnd
+		);
+	}
+
 	@Override
 	public void accept(SqlAstWalker walker) {
 		walker.visitStandardTableInsert( this );
@@ -20,6 +20,9 @@ import org.hibernate.sql.model.TableMapping;
  * @author Steve Ebersole
  */
 public class JdbcInsertMutation extends AbstractJdbcMutation {
+	private final int valuesRowStart;
+	private final int valuesRowEnd;
+
 	public JdbcInsertMutation(
 			TableMapping tableDetails,
 			MutationTarget<?> mutationTarget,
@@ -27,7 +30,43 @@ public class JdbcInsertMutation extends AbstractJdbcMutation {
 			boolean callable,
 			Expectation expectation,
 			List<? extends JdbcParameterBinder> parameterBinders) {
+		this( tableDetails, mutationTarget, sql, callable, expectation, parameterBinders, -1, -1 );
+	}
+
+	/**
+	 * @param valuesRowStart The position in {@code sql} of the single row of the {@code values} clause
+	 * @param valuesRowEnd The position in {@code sql} just after that row
+	 */
+	public JdbcInsertMutation(
+			TableMapping tableDetails,
+			MutationTarget<?> mutationTarget,
+			String sql,
+			boolean callable,
+			Expectation expectation,
+			List<? extends JdbcParameterBinder> parameterBinders,
+			int valuesRowStart,
+			int valuesRowEnd) {
 		super( tableDetails, mutationTarget, sql, callable, expectation, parameterBinders );
+		this.valuesRowStart = valuesRowStart;
+		this.valuesRowEnd = valuesRowEnd;
+	}
+
+	/**
+	 * Whether the SQL inserts a single row of values which may be repeated
+	 * to insert several rows with one statement.  When {@code true}, the row
+	 * spans from {@link #getValuesRowStart()} to {@link #getValuesRowEnd()}
+	 * and contains all parameters of the statement.
+	 */
+	public boolean hasValuesRow() {
+		return valuesRowStart >= 0;
+	}
+
+	public int getValuesRowStart() {
+		return valuesRowStart;
+	}
+
+	public int getValuesRowEnd() {
+		return valuesRowEnd;
 	}
 
 	@Override
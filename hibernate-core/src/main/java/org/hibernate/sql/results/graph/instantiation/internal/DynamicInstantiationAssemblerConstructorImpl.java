@@ -24,6 +24,10 @@ public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainRe
 	private final JavaType<R> resultType;
 	private final List<ArgumentReader<?>> argumentReaders;
 
+	// the constructor arguments are only passed along, never retained, so a
+	// single array serves all rows (assemblers are not shared across executions)
+	private final Object[] args;
+
 	public DynamicInstantiationAssemblerConstructorImpl(
 			Constructor<R> targetConstructor,
 			JavaType<R> resultType,
@@ -31,6 +35,7 @@ public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainRe
 		this.targetConstructor = targetConstructor;
 		this.resultType = resultType;
 		this.argumentReaders = argumentReaders;
+		this.args = new Object[ argumentReaders.size() ];
 	}
 
 	@Override
@@ -42,8 +47,7 @@ public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainRe
 	public R assemble(
 			RowProcessingState rowProcessingState,
 			JdbcValuesSourceProcessingOptions options) {
-		final int numberOfArgs = argumentReaders.size();
-		Object[] args = new Object[ numberOfArgs ];
+		final int numberOfArgs = args.length;
 		for ( int i = 0; i < numberOfArgs; i++ ) {
 			args[i] = argumentReaders.get( i ).assemble( rowProcessingState, options );
 		}
@@ -0,0 +1,308 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.internal;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.query.ResultColumns;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * Standard implementation of {@link ResultColumns}, filled one row at a time
+ * by {@link org.hibernate.sql.results.spi.ColumnarResultsConsumer}, or built
+ * from a list of rows by {@link #fromRows(List)}.
+ */
+public class ResultColumnsImpl implements ResultColumns {
+	private enum Storage {
+		LONG,
+		INT,
+		DOUBLE,
+		OBJECT
+	}
+
+	private final int columnCount;
+	private final Storage[] storages;
+	private final Class<?>[] columnTypes;
+	private final Class<?>[] valueTypes;
+	private final Object[] columns;
+	private final BitSet[] nulls;
+
+	private int capacity;
+	private int rowCount;
+
+	public ResultColumnsImpl(List<JavaType<?>> javaTypes, int initialCapacity) {
+		this( javaTypeClasses( javaTypes ), initialCapacity );
+	}
+
+	private ResultColumnsImpl(Class<?>[] javaTypeClasses, int initialCapacity) {
+		this.columnCount = javaTypeClasses.length;
+		this.storages = new Storage[columnCount];
+		this.columnTypes = new Class<?>[columnCount];
+		this.valueTypes = new Class<?>[columnCount];
+		this.columns = new Object[columnCount];
+		this.nulls = new BitSet[columnCount];
+		this.capacity = Math.max( initialCapacity, 1 );
+
+		for ( int i = 0; i < columnCount; i++ ) {
+			final Class<?> javaTypeClass = javaTypeClasses[i];
+			final Storage storage = storage( javaTypeClass );
+			storages[i] = storage;
+			valueTypes[i] = javaTypeClass;
+			switch ( storage ) {
+				case LONG:
+					columnTypes[i] = long.class;
+					columns[i] = new long[capacity];
+					break;
+				case INT:
+					columnTypes[i] = int.class;
+					columns[i] = new int[capacity];
+					break;
+				case DOUBLE:
+					columnTypes[i] = double.class;
+					columns[i] = new double[capacity];
+					break;
+				default:
+					columnTypes[i] = javaTypeClass;
+					columns[i] = new Object[capacity];
+			}
+		}
+	}
+
+	private static Class<?>[] javaTypeClasses(List<JavaType<?>> javaTypes) {
+		final Class<?>[] javaTypeClasses = new Class<?>[javaTypes.size()];
+		for ( int i = 0; i < javaTypeClasses.length; i++ ) {
+			javaTypeClasses[i] = javaTypes.get( i ).getJavaTypeClass();
+		}
+		return javaTypeClasses;
+	}
+
+	/**
+	 * Copy the given query results, each either a single value or an {@code Object[]},
+	 * into columns.  The type of a column is the class shared by all its non-null
+	 * values, or {@code Object} if there is none.
+	 */
+	public static ResultColumnsImpl fromRows(List<?> rows) {
+		final Object[][] tuples = new Object[rows.size()][];
+		int columnCount = 1;
+		for ( int i = 0; i < tuples.length; i++ ) {
+			final Object row = rows.get( i );
+			tuples[i] = row instanceof Object[] ? (Object[]) row : new Object[] { row };
+			columnCount = i == 0 ? tuples[i].length : Math.min( columnCount, tuples[i].length );
+		}
+
+		final Class<?>[] javaTypeClasses = new Class<?>[columnCount];
+		for ( int column = 0; column < columnCount; column++ ) {
+			Class<?> javaTypeClass = null;
+			for ( Object[] tuple : tuples ) {
+				final Object value = tuple[column];
+				if ( value != null ) {
+					if ( javaTypeClass == null ) {
+						javaTypeClass = value.getClass();
+					}
+					else if ( javaTypeClass != value.getClass() ) {
+						javaTypeClass = Object.class;
+						break;
+					}
+				}
+			}
+			javaTypeClasses[column] = javaTypeClass == null ? Object.class : javaTypeClass;
+		}
+
+		final ResultColumnsImpl results = new ResultColumnsImpl( javaTypeClasses, tuples.length );
+		for ( Object[] tuple : tuples ) {
+			results.addRow( tuple );
+		}
+		return results.complete();
+	}
+
+	private static Storage storage(Class<?> javaTypeClass) {
+		if ( javaTypeClass == Long.class || javaTypeClass == long.class ) {
+			return Storage.LONG;
+		}
+		else if ( javaTypeClass == Integer.class || javaTypeClass == int.class
+				|| javaTypeClass == Short.class || javaTypeClass == short.class
+				|| javaTypeClass == Byte.class || javaTypeClass == byte.class ) {
+			return Storage.INT;
+		}
+		else if ( javaTypeClass == Double.class || javaTypeClass == double.class
+				|| javaTypeClass == Float.class || javaTypeClass == float.class ) {
+			return Storage.DOUBLE;
+		}
+		else {
+			return Storage.OBJECT;
+		}
+	}
+
+	/**
+	 * Copy the values of the given row into the columns.  The row itself is not retained.
+	 */
+	public void addRow(Object[] row) {
+		if ( rowCount == capacity ) {
+			resize( capacity << 1 );
+		}
+		for ( int i = 0; i < columnCount; i++ ) {
+			final Object value = row[i];
+			if ( value == null ) {
+				markNull( i );
+			}
+			else {
+				switch ( storages[i] ) {
+					case LONG:
+						( (long[]) columns[i] )[rowCount] = ( (Number) value ).longValue();
+						break;
+					case INT:
+						( (int[]) columns[i] )[rowCount] = ( (Number) value ).intValue();
+						break;
+					case DOUBLE:
+						( (double[]) columns[i] )[rowCount] = ( (Number) value ).doubleValue();
+						break;
+					default:
+						( (Object[]) columns[i] )[rowCount] = value;
+				}
+			}
+		}
+		rowCount++;
+	}
+
+	private void markNull(int column) {
+		if ( nulls[column] == null ) {
+			nulls[column] = new BitSet();
+		}
+		nulls[column].set( rowCount );
+	}
+
+	/**
+	 * Trim the columns to the number of rows added.
+	 */
+	public ResultColumnsImpl complete() {
+		if ( rowCount != capacity ) {
+			resize( rowCount );
+		}
+		return this;
+	}
+
+	private void resize(int newCapacity) {
+		for ( int i = 0; i < columnCount; i++ ) {
+			switch ( storages[i] ) {
+				case LONG:
+					columns[i] = Arrays.copyOf( (long[]) columns[i], newCapacity );
+					break;
+				case INT:
+					columns[i] = Arrays.copyOf( (int[]) columns[i], newCapacity );
+					break;
+				case DOUBLE:
+					columns[i] = Arrays.copyOf( (double[]) columns[i], newCapacity );
+					break;
+				default:
+					columns[i] = Arrays.copyOf( (Object[]) columns[i], newCapacity );
+			}
+		}
+		capacity = newCapacity;
+	}
+
+	@Override
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	@Override
+	public int getColumnCount() {
+		return columnCount;
+	}
+
+	@Override
+	public Class<?> getColumnType(int column) {
+		return columnTypes[column];
+	}
+
+	@Override
+	public boolean isNull(int column, int row) {
+		if ( row < 0 || row >= rowCount ) {
+			throw new IndexOutOfBoundsException( "Row index out of range: " + row );
+		}
+		return nulls[column] != null && nulls[column].get( row );
+	}
+
+	@Override
+	public long[] getLongColumn(int column) {
+		return (long[]) column( column, Storage.LONG );
+	}
+
+	@Override
+	public int[] getIntColumn(int column) {
+		return (int[]) column( column, Storage.INT );
+	}
+
+	@Override
+	public double[] getDoubleColumn(int column) {
+		return (double[]) column( column, Storage.DOUBLE );
+	}
+
+	@Override
+	public Object[] getObjectColumn(int column) {
+		return (Object[]) column( column, Storage.OBJECT );
+	}
+
+	private Object column(int column, Storage expected) {
+		if ( storages[column] != expected ) {
+			throw new IllegalArgumentException(
+					"Column " + column + " is of type " + columnTypes[column].getName()
+							+ " and is not stored as " + expected.name().toLowerCase( Locale.ROOT )
+			);
+		}
+		return columns[column];
+	}
+
+	@Override
+	public Object getValue(int column, int row) {
+		if ( isNull( column, row ) ) {
+			return null;
+		}
+		switch ( storages[column] ) {
+			case LONG:
+				return ( (long[]) columns[column] )[row];
+			case INT:
+				return narrow( ( (int[]) columns[column] )[row], valueTypes[column] );
+			case DOUBLE:
+				return narrow( ( (double[]) columns[column] )[row], valueTypes[column] );
+			default:
+				return ( (Object[]) columns[column] )[row];
+		}
+	}
+
+	/**
+	 * Box a value of a widened column as the type selected by the query.
+	 */
+	private static Object narrow(int value, Class<?> valueType) {
+		if ( valueType == Short.class || valueType == short.class ) {
+			return (short) value;
+		}
+		else if ( valueType == Byte.class || valueType == byte.class ) {
+			return (byte) value;
+		}
+		else {
+			return value;
+		}
+	}
+
+	private static Object narrow(double value, Class<?> valueType) {
+		if ( valueType == Float.class || valueType == float.class ) {
+			return (float) value;
+		}
+		else {
+			return value;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ResultColumns(" + columnCount + " columns, " + rowCount + " rows)";
+	}
+}
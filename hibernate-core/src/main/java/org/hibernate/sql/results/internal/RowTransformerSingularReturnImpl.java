@@ -33,4 +33,9 @@ public class RowTransformerSingularReturnImpl<R> implements RowTransformer<R> {
 	public int determineNumberOfResultElements(int rawElementCount) {
 		return 1;
 	}
+
+	@Override
+	public boolean retainsRowArray(int rawElementCount) {
+		return false;
+	}
 }
@@ -27,23 +27,27 @@ import org.hibernate.type.descriptor.java.JavaType;
  */
 @SuppressWarnings("rawtypes")
 public class StandardRowReader<T> implements RowReader<T> {
-	private final List<DomainResultAssembler<?>> resultAssemblers;
+	private final DomainResultAssembler<?>[] resultAssemblers;
 	private final InitializersList initializers;
 	private final RowTransformer<T> rowTransformer;
 	private final Class<T> domainResultJavaType;
 
 	private final int assemblerCount;
 
+	// scratch row array shared by all rows, when the transformer does not retain it
+	private final Object[] reusableRow;
+
 	public StandardRowReader(
 			List<DomainResultAssembler<?>> resultAssemblers,
 			InitializersList initializers,
 			RowTransformer<T> rowTransformer,
 			Class<T> domainResultJavaType) {
-		this.resultAssemblers = resultAssemblers;
+		this.resultAssemblers = resultAssemblers.toArray( new DomainResultAssembler[0] );
 		this.initializers = initializers;
 		this.rowTransformer = rowTransformer;
-		this.assemblerCount = resultAssemblers.size();
+		this.assemblerCount = this.resultAssemblers.length;
 		this.domainResultJavaType = domainResultJavaType;
+		this.reusableRow = rowTransformer.retainsRowArray( assemblerCount ) ? null : new Object[assemblerCount];
 	}
 
 	@Override
@@ -53,8 +57,8 @@ public class StandardRowReader<T> implements RowReader<T> {
 
 	@Override
 	public Class<?> getResultJavaType() {
-		if ( resultAssemblers.size() == 1 ) {
-			return resultAssemblers.get( 0 ).getAssembledJavaType().getJavaTypeClass();
+		if ( assemblerCount == 1 ) {
+			return resultAssemblers[0].getAssembledJavaType().getJavaTypeClass();
 		}
 
 		return Object[].class;
@@ -62,7 +66,7 @@ public class StandardRowReader<T> implements RowReader<T> {
 
 	@Override
 	public List<JavaType<?>> getResultJavaTypes() {
-		List<JavaType<?>> javaTypes = new ArrayList<>( resultAssemblers.size() );
+		List<JavaType<?>> javaTypes = new ArrayList<>( assemblerCount );
 		for ( DomainResultAssembler resultAssembler : resultAssemblers ) {
 			javaTypes.add( resultAssembler.getAssembledJavaType() );
 		}
@@ -86,11 +90,13 @@ public class StandardRowReader<T> implements RowReader<T> {
 
 		coordinateInitializers( rowProcessingState );
 
-		final Object[] resultRow = new Object[ assemblerCount ];
+		final Object[] resultRow = reusableRow == null ? new Object[ assemblerCount ] : reusableRow;
 
 		for ( int i = 0; i < assemblerCount; i++ ) {
-			final DomainResultAssembler assembler = resultAssemblers.get( i );
-			LoadingLogger.LOGGER.debugf( "Calling top-level assembler (%s / %s) : %s", i, assemblerCount, assembler );
+			final DomainResultAssembler assembler = resultAssemblers[i];
+			if ( LoadingLogger.DEBUG_ENABLED ) {
+				LoadingLogger.LOGGER.debugf( "Calling top-level assembler (%s / %s) : %s", i, assemblerCount, assembler );
+			}
 			resultRow[i] = assembler.assemble( rowProcessingState, options );
 		}
 
@@ -9,9 +9,11 @@ package org.hibernate.sql.results.jdbc.internal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.List;
 
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.spi.QueryOptions;
@@ -21,6 +23,8 @@ import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.results.caching.QueryCachePutManager;
 import org.hibernate.sql.results.caching.internal.QueryCachePutManagerDisabledImpl;
 import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImpl;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.entity.EntityResult;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
@@ -35,10 +39,16 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private final ResultSetAccess resultSetAccess;
 	private final JdbcValuesMapping valuesMapping;
 	private final ExecutionContext executionContext;
+	private final String queryIdentifier;
 
 	private final SqlSelection[] sqlSelections;
 	private final Object[] currentRowJdbcValues;
 
+	private boolean processingStarted;
+	private boolean processingObserved;
+	private String entityName;
+	private int numberOfRows;
+
 	public JdbcValuesResultSetImpl(
 			ResultSetAccess resultSetAccess,
 			QueryKey queryCacheKey,
@@ -51,6 +61,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		this.resultSetAccess = resultSetAccess;
 		this.valuesMapping = valuesMapping;
 		this.executionContext = executionContext;
+		this.queryIdentifier = queryIdentifier;
 
 		this.sqlSelections = valuesMapping.getSqlSelections().toArray( new SqlSelection[0] );
 		this.currentRowJdbcValues = new Object[ valuesMapping.getRowSize() ];
@@ -81,9 +92,28 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	@Override
 	protected final boolean processNext(RowProcessingState rowProcessingState) {
+		if ( !processingStarted ) {
+			processingStarted = true;
+			final SessionEventListenerManager eventListenerManager = executionContext.getSession().getEventListenerManager();
+			if ( eventListenerManager.isResultSetProcessingObserved() ) {
+				// the statement execution may be deferred until now, and is not part of result set processing
+				resultSetAccess.getResultSet();
+				processingObserved = true;
+				entityName = resolveEntityName();
+				eventListenerManager.resultSetProcessingStart( queryIdentifier, entityName );
+			}
+		}
 		return advance( advanceNext() );
 	}
 
+	private String resolveEntityName() {
+		final List<DomainResult<?>> domainResults = valuesMapping.getDomainResults();
+		if ( domainResults.size() == 1 && domainResults.get( 0 ) instanceof EntityResult ) {
+			return ( (EntityResult) domainResults.get( 0 ) ).getReferencedMappingContainer().getEntityName();
+		}
+		return null;
+	}
+
 	@Override
 	protected boolean processPrevious(RowProcessingState rowProcessingState) {
 		return advance( advancePrevious() );
@@ -241,6 +271,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		}
 
 		readCurrentRowValues();
+		numberOfRows++;
 		return true;
 	}
 
@@ -277,6 +308,11 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	@Override
 	protected void release() {
+		if ( processingObserved ) {
+			processingObserved = false;
+			executionContext.getSession().getEventListenerManager()
+					.resultSetProcessingEnd( queryIdentifier, entityName, numberOfRows );
+		}
 		resultSetAccess.release();
 	}
 
@@ -0,0 +1,145 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.spi;
+
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.IllegalQueryOperationException;
+import org.hibernate.query.ResultColumns;
+import org.hibernate.query.spi.Limit;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.basic.BasicResult;
+import org.hibernate.sql.results.internal.ResultColumnsImpl;
+import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+
+/**
+ * ResultsConsumer for queries selecting only basic values, storing the results
+ * column by column in a {@link ResultColumns}, using primitive arrays for numeric
+ * columns.  No array and no list entry is allocated per row.
+ * <p>
+ * The {@link RowReader} must be created with {@link #rowTransformer()}, and any
+ * {@link org.hibernate.query.TupleTransformer} or
+ * {@link org.hibernate.query.ResultListTransformer} is ignored.
+ */
+public class ColumnarResultsConsumer implements ResultsConsumer<ResultColumns, Object[]> {
+	/**
+	 * Singleton access
+	 */
+	public static final ColumnarResultsConsumer INSTANCE = new ColumnarResultsConsumer();
+
+	private static final int DEFAULT_INITIAL_CAPACITY = 256;
+	private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
+	public static ColumnarResultsConsumer instance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * The RowTransformer to use with this consumer.  The values of every row are
+	 * copied to the columns right away, so the row array is reused for all rows.
+	 */
+	public static RowTransformer<Object[]> rowTransformer() {
+		return ReusableRowTransformer.INSTANCE;
+	}
+
+	@Override
+	public ResultColumns consume(
+			JdbcValues jdbcValues,
+			SharedSessionContractImplementor session,
+			JdbcValuesSourceProcessingOptions processingOptions,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<Object[]> rowReader) {
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+		RuntimeException ex = null;
+		try {
+			for ( DomainResult<?> domainResult : jdbcValues.getValuesMapping().getDomainResults() ) {
+				if ( !( domainResult instanceof BasicResult ) ) {
+					throw new IllegalQueryOperationException(
+							"Columnar results are only supported for queries selecting basic values, but found: "
+									+ domainResult
+					);
+				}
+			}
+
+			persistenceContext.getLoadContexts().register( jdbcValuesSourceProcessingState );
+
+			final ResultColumnsImpl results = new ResultColumnsImpl(
+					rowReader.getResultJavaTypes(),
+					initialCapacity( rowProcessingState.getQueryOptions().getLimit() )
+			);
+			while ( rowProcessingState.next() ) {
+				results.addRow( rowReader.readRow( rowProcessingState, processingOptions ) );
+				rowProcessingState.finishRowProcessing();
+			}
+
+			try {
+				jdbcValuesSourceProcessingState.finishUp();
+			}
+			finally {
+				persistenceContext.getLoadContexts().deregister( jdbcValuesSourceProcessingState );
+			}
+
+			return results.complete();
+		}
+		catch (RuntimeException e) {
+			ex = e;
+		}
+		finally {
+			try {
+				rowReader.finishUp( jdbcValuesSourceProcessingState );
+				jdbcValues.finishUp( session );
+			}
+			catch (RuntimeException e) {
+				if ( ex != null ) {
+					ex.addSuppressed( e );
+				}
+				else {
+					ex = e;
+				}
+			}
+			finally {
+				if ( ex != null ) {
+					throw ex;
+				}
+			}
+		}
+		throw new IllegalStateException( "Should not reach this" );
+	}
+
+	private static int initialCapacity(Limit limit) {
+		final Integer maxRows = limit == null ? null : limit.getMaxRows();
+		return maxRows == null ? DEFAULT_INITIAL_CAPACITY : Math.min( maxRows, MAX_INITIAL_CAPACITY );
+	}
+
+	@Override
+	public boolean canResultsBeCached() {
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return "ColumnarResultsConsumer";
+	}
+
+	private static class ReusableRowTransformer implements RowTransformer<Object[]> {
+		private static final ReusableRowTransformer INSTANCE = new ReusableRowTransformer();
+
+		@Override
+		public Object[] transformRow(Object[] row) {
+			return row;
+		}
+
+		@Override
+		public boolean retainsRowArray(int rawElementCount) {
+			return false;
+		}
+	}
+}
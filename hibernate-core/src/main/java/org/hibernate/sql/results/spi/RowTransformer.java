@@ -30,4 +30,12 @@ public interface RowTransformer<T> {
 	default int determineNumberOfResultElements(int rawElementCount) {
 		return rawElementCount;
 	}
+
+	/**
+	 * Does the transformed result reference the "raw" row array?  If not, the
+	 * same array may be reused for every row, rather than allocating a new one.
+	 */
+	default boolean retainsRowArray(int rawElementCount) {
+		return true;
+	}
 }
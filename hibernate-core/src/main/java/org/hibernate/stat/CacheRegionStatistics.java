@@ -41,6 +41,30 @@ public interface CacheRegionStatistics extends Serializable {
 	 */
 	long getMissCount();
 
+	/**
+	 * The number of look-ups against the region which were served by the
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#NEAR_CACHE_MAX_ENTRIES
+	 * near cache} since the last Statistics clearing.  The hit ratio of the
+	 * near cache is this count divided by the sum of this count and
+	 * {@link #getNearCacheMissCount()}.
+	 *
+	 * @since 6.2
+	 */
+	default long getNearCacheHitCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of look-ups against the region which could not be served by
+	 * the {@linkplain org.hibernate.cfg.AvailableSettings#NEAR_CACHE_MAX_ENTRIES
+	 * near cache} since the last Statistics clearing.
+	 *
+	 * @since 6.2
+	 */
+	default long getNearCacheMissCount() {
+		return 0;
+	}
+
 	/**
 	 * The number of elements currently in memory within the cache provider.
 	 * <p>
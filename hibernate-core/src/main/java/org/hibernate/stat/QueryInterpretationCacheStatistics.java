@@ -0,0 +1,57 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+/**
+ * Statistics of one of the caches maintained by the
+ * {@link org.hibernate.query.spi.QueryInterpretationCache}.
+ * <p>
+ * These statistics are only collected when the cache is bounded by weight.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_MAX_WEIGHT
+ */
+public interface QueryInterpretationCacheStatistics extends Serializable {
+	/**
+	 * The name of the cache of query plans
+	 */
+	String QUERY_PLANS = "query-plans";
+
+	/**
+	 * The name of the cache of HQL interpretations (SQM trees)
+	 */
+	String HQL_INTERPRETATIONS = "hql-interpretations";
+
+	/**
+	 * The name of the cache of native query parameter interpretations
+	 */
+	String NATIVE_QUERY_PARAMETERS = "native-query-parameters";
+
+	String getCacheName();
+
+	/**
+	 * The number of successful look-ups since the last Statistics clearing
+	 */
+	long getHitCount();
+
+	/**
+	 * The number of unsuccessful look-ups since the last Statistics clearing
+	 */
+	long getMissCount();
+
+	/**
+	 * The number of entries evicted because of the weight bound since the
+	 * last Statistics clearing
+	 */
+	long getEvictionCount();
+
+	/**
+	 * The last reported estimate of the heap retained by the cache, in bytes
+	 */
+	long getWeight();
+}
@@ -379,4 +379,49 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of SQL ASTs translated to SQL, for queries which could
+	 * not be served by the query plan cache and for mutation operations.
+	 *
+	 * @since 6.2
+	 */
+	default long getSqlTranslationCount() {
+		return 0;
+	}
+
+	/**
+	 * The total time spent translating SQL ASTs to SQL, in microseconds.
+	 *
+	 * @since 6.2
+	 */
+	default long getSqlTranslationTotalMicroseconds() {
+		return 0;
+	}
+
+	/**
+	 * The total length, in characters, of the SQL rendered by those translations.
+	 *
+	 * @since 6.2
+	 */
+	default long getSqlTranslationTotalLength() {
+		return 0;
+	}
+
+	/**
+	 * Statistics of one of the caches of the query interpretation cache, when it
+	 * is {@linkplain org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_MAX_WEIGHT
+	 * bounded by weight}.
+	 *
+	 * @param cacheName one of {@link QueryInterpretationCacheStatistics#QUERY_PLANS},
+	 * {@link QueryInterpretationCacheStatistics#HQL_INTERPRETATIONS} or
+	 * {@link QueryInterpretationCacheStatistics#NATIVE_QUERY_PARAMETERS}
+	 *
+	 * @return the statistics of the cache, or {@code null} if they are not collected
+	 *
+	 * @since 6.2
+	 */
+	default QueryInterpretationCacheStatistics getQueryInterpretationCacheStatistics(String cacheName) {
+		return null;
+	}
 }
@@ -24,6 +24,8 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, Seriali
 	private final LongAdder hitCount = new LongAdder();
 	private final LongAdder missCount = new LongAdder();
 	private final LongAdder putCount = new LongAdder();
+	private final LongAdder nearCacheHitCount = new LongAdder();
+	private final LongAdder nearCacheMissCount = new LongAdder();
 
 	CacheRegionStatisticsImpl(Region region) {
 		this.region = region;
@@ -49,6 +51,16 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, Seriali
 		return putCount.sum();
 	}
 
+	@Override
+	public long getNearCacheHitCount() {
+		return nearCacheHitCount.sum();
+	}
+
+	@Override
+	public long getNearCacheMissCount() {
+		return nearCacheMissCount.sum();
+	}
+
 	@Override
 	public long getElementCountInMemory() {
 		if ( region instanceof ExtendedStatisticsSupport ) {
@@ -85,6 +97,14 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, Seriali
 		putCount.increment();
 	}
 
+	void incrementNearCacheHitCount() {
+		nearCacheHitCount.increment();
+	}
+
+	void incrementNearCacheMissCount() {
+		nearCacheMissCount.increment();
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder buf = new StringBuilder().append( "CacheRegionStatistics" )
@@ -92,6 +112,8 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, Seriali
 				.append( ",hitCount=").append( this.hitCount )
 				.append( ",missCount=").append( this.missCount )
 				.append( ",putCount=").append( this.putCount )
+				.append( ",nearCacheHitCount=").append( this.nearCacheHitCount )
+				.append( ",nearCacheMissCount=").append( this.nearCacheMissCount )
 				.append( ",elementCountInMemory=" ).append( this.getElementCountInMemory() )
 				.append( ",elementCountOnDisk=" ).append( this.getElementCountOnDisk() )
 				.append( ",sizeInMemory=" ).append( this.getSizeInMemory() )
@@ -0,0 +1,79 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.QueryInterpretationCacheStatistics;
+
+/**
+ * Statistics of one of the caches of the query interpretation cache
+ */
+public class QueryInterpretationCacheStatisticsImpl implements QueryInterpretationCacheStatistics {
+	private final String cacheName;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+	private volatile long weight;
+
+	QueryInterpretationCacheStatisticsImpl(String cacheName) {
+		this.cacheName = cacheName;
+	}
+
+	@Override
+	public String getCacheName() {
+		return cacheName;
+	}
+
+	@Override
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	@Override
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	@Override
+	public long getWeight() {
+		return weight;
+	}
+
+	void incrementHitCount() {
+		hitCount.increment();
+	}
+
+	void incrementMissCount() {
+		missCount.increment();
+	}
+
+	void incrementEvictionCount() {
+		evictionCount.increment();
+	}
+
+	void setWeight(long weight) {
+		this.weight = weight;
+	}
+
+	@Override
+	public String toString() {
+		return "QueryInterpretationCacheStatistics"
+				+ "[cache=" + cacheName
+				+ ",hitCount=" + hitCount
+				+ ",missCount=" + missCount
+				+ ",evictionCount=" + evictionCount
+				+ ",weight=" + weight
+				+ ']';
+	}
+}
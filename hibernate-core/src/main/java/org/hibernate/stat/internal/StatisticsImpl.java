@@ -92,6 +92,10 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
 
+	private final LongAdder sqlTranslationCount = new LongAdder();
+	private final LongAdder sqlTranslationTotalMicroseconds = new LongAdder();
+	private final LongAdder sqlTranslationTotalLength = new LongAdder();
+
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
 	private final LongAdder updateTimestampsCachePutCount = new LongAdder();
@@ -115,12 +119,17 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	 */
 	private final StatsNamedContainer<CacheRegionStatisticsImpl> l2CacheStatsMap = new StatsNamedContainer<>();
 
+	/**
+	 * Keyed by query interpretation cache name
+	 */
+	private final StatsNamedContainer<QueryInterpretationCacheStatisticsImpl> queryInterpretationCacheStatsMap = new StatsNamedContainer<>();
+
 	public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
 		SessionFactoryOptions sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
 		this.queryStatsMap = new StatsNamedContainer<>(
 				sessionFactoryOptions.getQueryStatisticsMaxSize(),
-				20
+				queryStatistics -> queryStatistics.getExecutionCount() + queryStatistics.getCacheHitCount()
 		);
 		resetStart();
 		metamodel = sessionFactory.getRuntimeMetamodels().getMappingMetamodel();
@@ -197,6 +206,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryInterpretationCacheStatsMap.clear();
+
+		sqlTranslationCount.reset();
+		sqlTranslationTotalMicroseconds.reset();
+		sqlTranslationTotalLength.reset();
 
 		resetStart();
 	}
@@ -546,6 +560,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		);
 	}
 
+	@Override
+	public void nearCacheHit(String regionName) {
+		getDomainDataRegionStatistics( regionName ).incrementNearCacheHitCount();
+	}
+
+	@Override
+	public void nearCacheMiss(String regionName) {
+		getDomainDataRegionStatistics( regionName ).incrementNearCacheMissCount();
+	}
+
 	@Override
 	public CacheRegionStatisticsImpl getQueryRegionStatistics(final String regionName) {
 		return l2CacheStatsMap.getOrCompute( regionName, this::computeQueryRegionStatistics );
@@ -737,6 +761,28 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getSqlTranslationCount() {
+		return sqlTranslationCount.sum();
+	}
+
+	@Override
+	public long getSqlTranslationTotalMicroseconds() {
+		return sqlTranslationTotalMicroseconds.sum();
+	}
+
+	@Override
+	public long getSqlTranslationTotalLength() {
+		return sqlTranslationTotalLength.sum();
+	}
+
+	@Override
+	public void sqlTranslated(long microseconds, int sqlLength) {
+		sqlTranslationCount.increment();
+		sqlTranslationTotalMicroseconds.add( microseconds );
+		sqlTranslationTotalLength.add( sqlLength );
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -764,6 +810,34 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public QueryInterpretationCacheStatisticsImpl getQueryInterpretationCacheStatistics(String cacheName) {
+		return queryInterpretationCacheStatsMap.getOrCompute(
+				cacheName,
+				QueryInterpretationCacheStatisticsImpl::new
+		);
+	}
+
+	@Override
+	public void queryInterpretationCacheHit(String cacheName) {
+		getQueryInterpretationCacheStatistics( cacheName ).incrementHitCount();
+	}
+
+	@Override
+	public void queryInterpretationCacheMiss(String cacheName) {
+		getQueryInterpretationCacheStatistics( cacheName ).incrementMissCount();
+	}
+
+	@Override
+	public void queryInterpretationCacheEviction(String cacheName) {
+		getQueryInterpretationCacheStatistics( cacheName ).incrementEvictionCount();
+	}
+
+	@Override
+	public void queryInterpretationCacheWeight(String cacheName, long weight) {
+		getQueryInterpretationCacheStatistics( cacheName ).setWeight( weight );
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return l2CacheStatsMap.getOrCompute(
 				regionName,
@@ -6,11 +6,12 @@
  */
 package org.hibernate.stat.internal;
 
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
-
-import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import java.util.function.ToLongFunction;
 
 /**
  * Decorates a ConcurrentHashMap implementation to make sure the methods are being
@@ -25,14 +26,25 @@ import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
  */
 public final class StatsNamedContainer<V> {
 
+	private static final int EVICTION_SAMPLE_SIZE = 8;
+
 	private final ConcurrentMap<String,Object> map;
 	private final static Object NULL_TOKEN = new Object();
 
+	private final int capacity;
+	private final ToLongFunction<? super V> activity;
+
 	/**
-	 * Creates a bounded container - based on BoundedConcurrentHashMap
+	 * Creates a bounded container - based on ConcurrentHashMap, but evicting the least
+	 * active of a few sampled entries when the capacity is exceeded.
+	 * Unlike an LRU map, reads do not need to record anything, and so do not contend.
+	 *
+	 * @param activity measures how much an entry has been used
 	 */
-	public StatsNamedContainer(int capacity, int concurrencyLevel) {
-		this.map = new BoundedConcurrentHashMap<>( capacity, concurrencyLevel, BoundedConcurrentHashMap.Eviction.LRU );
+	public StatsNamedContainer(int capacity, ToLongFunction<? super V> activity) {
+		this.map = new ConcurrentHashMap<>( Math.min( capacity, 1024 ) );
+		this.capacity = capacity;
+		this.activity = activity;
 	}
 
 	/**
@@ -40,6 +52,8 @@ public final class StatsNamedContainer<V> {
 	 */
 	public StatsNamedContainer() {
 		this.map = new ConcurrentHashMap<>(  );
+		this.capacity = -1;
+		this.activity = null;
 	}
 
 	public void clear() {
@@ -76,11 +90,13 @@ public final class StatsNamedContainer<V> {
 			final V v2 = function.apply( key );
 			if ( v2 == null ) {
 				map.put( key, NULL_TOKEN );
+				evictIfNecessary( key );
 				return null;
 			}
 			else {
 				final Object v3 = map.putIfAbsent( key, v2 );
 				if ( v3 == null ) {
+					evictIfNecessary( key );
 					return v2;
 				}
 				else {
@@ -90,6 +106,50 @@ public final class StatsNamedContainer<V> {
 		}
 	}
 
+	/**
+	 * Only called after adding a new key, so that the cost of sampling is not paid by reads.
+	 * The sample is drawn from the whole map by reservoir sampling, so that every entry is
+	 * equally likely to be considered, wherever it sits in the table.
+	 */
+	@SuppressWarnings("unchecked")
+	private void evictIfNecessary(String addedKey) {
+		if ( capacity < 0 || map.size() <= capacity ) {
+			return;
+		}
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		final Map.Entry<String, Object>[] sample = new Map.Entry[EVICTION_SAMPLE_SIZE];
+		int seen = 0;
+		for ( Map.Entry<String, Object> entry : map.entrySet() ) {
+			if ( entry.getKey().equals( addedKey ) ) {
+				continue;
+			}
+			if ( seen < EVICTION_SAMPLE_SIZE ) {
+				sample[seen] = entry;
+			}
+			else {
+				final int index = random.nextInt( seen + 1 );
+				if ( index < EVICTION_SAMPLE_SIZE ) {
+					sample[index] = entry;
+				}
+			}
+			seen++;
+		}
+		Map.Entry<String, Object> leastActive = null;
+		long leastActivity = Long.MAX_VALUE;
+		for ( int i = 0; i < EVICTION_SAMPLE_SIZE && i < seen; i++ ) {
+			final Map.Entry<String, Object> entry = sample[i];
+			final Object value = entry.getValue();
+			final long entryActivity = value == NULL_TOKEN ? 0 : activity.applyAsLong( (V) value );
+			if ( entryActivity < leastActivity ) {
+				leastActive = entry;
+				leastActivity = entryActivity;
+			}
+		}
+		if ( leastActive != null ) {
+			map.remove( leastActive.getKey(), leastActive.getValue() );
+		}
+	}
+
 	public V get(final String key) {
 		final Object o = map.get( key );
 		if ( o == NULL_TOKEN) {
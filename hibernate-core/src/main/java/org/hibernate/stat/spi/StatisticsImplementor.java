@@ -265,6 +265,77 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating a hit to one of the caches of a weight-bounded
+	 * query interpretation cache.
+	 *
+	 * @param cacheName The name of the cache
+	 */
+	default void queryInterpretationCacheHit(String cacheName) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a miss to one of the caches of a weight-bounded
+	 * query interpretation cache.
+	 *
+	 * @param cacheName The name of the cache
+	 */
+	default void queryInterpretationCacheMiss(String cacheName) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating an entry was evicted from one of the caches of a
+	 * weight-bounded query interpretation cache.
+	 *
+	 * @param cacheName The name of the cache
+	 */
+	default void queryInterpretationCacheEviction(String cacheName) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback reporting the current estimated weight of one of the caches of a
+	 * weight-bounded query interpretation cache.
+	 *
+	 * @param cacheName The name of the cache
+	 * @param weight The estimated retained size of the cache, in bytes
+	 */
+	default void queryInterpretationCacheWeight(String cacheName, long weight) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a get from the near cache of a second level cache
+	 * region resulted in a hit.
+	 *
+	 * @param regionName The name of the cache region
+	 */
+	default void nearCacheHit(String regionName) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a get from the near cache of a second level cache
+	 * region resulted in a miss.
+	 *
+	 * @param regionName The name of the cache region
+	 */
+	default void nearCacheMiss(String regionName) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a SQL AST was translated to SQL.
+	 *
+	 * @param microseconds time taken by the translation
+	 * @param sqlLength the length of the rendered SQL, in characters
+	 */
+	default void sqlTranslated(long microseconds, int sqlLength) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
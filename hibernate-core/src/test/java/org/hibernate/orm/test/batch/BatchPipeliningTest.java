@@ -0,0 +1,223 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.engine.jdbc.batch.internal.BatchBuilderImpl;
+import org.hibernate.engine.jdbc.batch.internal.BatchBuilderInitiator;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Interleaved inserts of associated entities, with batches for several entities open at the same time.
+ */
+@DomainModel(
+		annotatedClasses = {
+				BatchPipeliningTest.Author.class,
+				BatchPipeliningTest.Book.class,
+				BatchPipeliningTest.Chapter.class
+		}
+)
+@ServiceRegistry(
+		settingProviders = @SettingProvider(
+				settingName = BatchBuilderInitiator.BUILDER,
+				provider = BatchPipeliningTest.PipeliningBatchBuilderSettingProvider.class
+		)
+)
+@SessionFactory
+public class BatchPipeliningTest {
+
+	private static final List<String> implicitExecutions = new ArrayList<>();
+
+	@BeforeEach
+	public void clearExecutions() {
+		implicitExecutions.clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete Chapter" ).executeUpdate();
+			session.createMutationQuery( "delete Book" ).executeUpdate();
+			session.createMutationQuery( "delete Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testInterleavedInserts(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				final Author author = new Author( i, "author " + i );
+				session.persist( author );
+				session.persist( new Book( i, "book " + i, author ) );
+			}
+		} );
+
+		// two full batches of 5 inserts for each entity, instead of 20 batches of a single insert
+		assertThat( implicitExecutions ).hasSize( 4 );
+		assertThat( implicitExecutions ).filteredOn( (key) -> key.startsWith( Author.class.getName() ) ).hasSize( 2 );
+
+		scope.inTransaction( (session) -> {
+			final List<Book> books = session.createSelectionQuery( "from Book b join fetch b.author order by b.id", Book.class )
+					.list();
+			assertThat( books ).hasSize( 10 );
+			for ( Book book : books ) {
+				assertThat( book.author.id ).isEqualTo( book.id );
+			}
+		} );
+	}
+
+	@Test
+	public void testDependentBatchOpenedFirst(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.persist( new Author( 1, "existing" ) ) );
+
+		scope.inTransaction( (session) -> {
+			final Author existing = session.get( Author.class, 1 );
+			for ( int i = 1; i <= 6; i++ ) {
+				// the first book references an existing author, so its batch is opened
+				// before the batch for the new authors, which it depends on
+				final Author author = i == 1 ? existing : new Author( i, "author " + i );
+				if ( i != 1 ) {
+					session.persist( author );
+				}
+				session.persist( new Book( i, "book " + i, author ) );
+			}
+		} );
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.createSelectionQuery( "select count(b) from Book b", Long.class ).getSingleResult() )
+					.isEqualTo( 6L );
+		} );
+	}
+
+	@Test
+	public void testBackReference(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 6; i++ ) {
+				final Author author = new Author( i, "author " + i );
+				final Book book = new Book( i, "book " + i, author );
+				final Chapter chapter = new Chapter( i, "chapter " + i );
+				book.chapters.add( chapter );
+				session.persist( author );
+				session.persist( book );
+				session.persist( chapter );
+			}
+		} );
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.createSelectionQuery( "select count(c) from Chapter c", Long.class ).getSingleResult() )
+					.isEqualTo( 6L );
+		} );
+	}
+
+	public static class PipeliningBatchBuilderSettingProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return PipeliningBatchBuilder.class.getName();
+		}
+	}
+
+	public static class PipeliningBatchBuilder extends BatchBuilderImpl {
+		public PipeliningBatchBuilder() {
+			super( 5, true );
+		}
+
+		@Override
+		public Batch buildBatch(
+				BatchKey key,
+				Integer explicitBatchSize,
+				Supplier<PreparedStatementGroup> statementGroupSupplier,
+				JdbcCoordinator jdbcCoordinator) {
+			final Batch batch = super.buildBatch( key, explicitBatchSize, statementGroupSupplier, jdbcCoordinator );
+			batch.addObserver( new BatchObserver() {
+				@Override
+				public void batchExplicitlyExecuted() {
+				}
+
+				@Override
+				public void batchImplicitlyExecuted() {
+					implicitExecutions.add( key.toLoggableString() );
+				}
+			} );
+			return batch;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		@ManyToOne
+		private Author author;
+		@OneToMany
+		@JoinColumn(name = "book_id", nullable = false)
+		private List<Chapter> chapters = new ArrayList<>();
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Chapter")
+	public static class Chapter {
+		@Id
+		private Integer id;
+		private String title;
+
+		public Chapter() {
+		}
+
+		public Chapter(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
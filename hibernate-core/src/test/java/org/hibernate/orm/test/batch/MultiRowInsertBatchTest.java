@@ -0,0 +1,204 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import org.hibernate.annotations.ColumnTransformer;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.SecondaryTable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(
+		annotatedClasses = {
+				MultiRowInsertBatchTest.Product.class,
+				MultiRowInsertBatchTest.Vehicle.class,
+				MultiRowInsertBatchTest.Car.class,
+				MultiRowInsertBatchTest.Label.class
+		}
+)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+				@Setting(name = AvailableSettings.STATEMENT_BATCH_MULTI_ROW_INSERTS, value = "true")
+		}
+)
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialect(H2Dialect.class)
+@RequiresDialect(PostgreSQLDialect.class)
+@RequiresDialect(MySQLDialect.class)
+public class MultiRowInsertBatchTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete Product" ).executeUpdate();
+			session.createMutationQuery( "delete Vehicle" ).executeUpdate();
+			session.createMutationQuery( "delete Label" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testMultiRowInserts(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 25; i++ ) {
+				session.persist( new Product( i, "product " + i, i % 2 == 0 ? null : "note " + i ) );
+			}
+		} );
+
+		// 10 + 10 + 5 rows into the primary table, and 5 + 5 + 3 rows into the secondary table
+		final List<String> inserts = inserts( statementInspector );
+		assertThat( inserts ).hasSize( 6 );
+		assertThat( inserts ).filteredOn( (sql) -> sql.contains( "product_notes" ) ).hasSize( 3 );
+
+		scope.inTransaction( (session) -> {
+			final List<Product> products = session.createSelectionQuery( "from Product order by id", Product.class )
+					.list();
+			assertThat( products ).hasSize( 25 );
+			for ( Product product : products ) {
+				assertThat( product.name ).isEqualTo( "product " + product.id );
+				assertThat( product.note ).isEqualTo( product.id % 2 == 0 ? null : "note " + product.id );
+			}
+		} );
+	}
+
+	@Test
+	public void testJoinedInheritance(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 4; i++ ) {
+				session.persist( new Car( i, "car " + i, i ) );
+			}
+		} );
+
+		// one multi-row insert for each of the two tables
+		assertThat( inserts( statementInspector ) ).hasSize( 2 );
+
+		scope.inTransaction( (session) -> {
+			final List<Car> cars = session.createSelectionQuery( "from Car order by id", Car.class ).list();
+			assertThat( cars ).extracting( (car) -> car.seats ).containsExactly( 1, 2, 3, 4 );
+		} );
+	}
+
+	@Test
+	public void testWriteExpressionContainingValuesKeyword(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				session.persist( new Label( i, "label " + i ) );
+			}
+		} );
+
+		assertThat( inserts( statementInspector ) ).hasSize( 1 );
+
+		scope.inTransaction( (session) -> {
+			final List<Label> labels = session.createSelectionQuery( "from Label order by id", Label.class ).list();
+			assertThat( labels ).extracting( (label) -> label.caption )
+					.containsExactly( "label 1) values (", "label 2) values (", "label 3) values (" );
+		} );
+	}
+
+	private static List<String> inserts(SQLStatementInspector statementInspector) {
+		return statementInspector.getSqlQueries()
+				.stream()
+				.filter( (sql) -> sql.toLowerCase( Locale.ROOT ).startsWith( "insert" ) )
+				.collect( Collectors.toList() );
+	}
+
+	@Entity(name = "Product")
+	@SecondaryTable(name = "product_notes")
+	public static class Product {
+		@Id
+		private Integer id;
+		private String name;
+		@Column(table = "product_notes")
+		private String note;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name, String note) {
+			this.id = id;
+			this.name = name;
+			this.note = note;
+		}
+	}
+
+	@Entity(name = "Label")
+	public static class Label {
+		@Id
+		private Integer id;
+		@ColumnTransformer(write = "concat(?, ') values (')")
+		private String caption;
+
+		public Label() {
+		}
+
+		public Label(Integer id, String caption) {
+			this.id = id;
+			this.caption = caption;
+		}
+	}
+
+	@Entity(name = "Vehicle")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Vehicle {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Car")
+	public static class Car extends Vehicle {
+		private Integer seats;
+
+		public Car() {
+		}
+
+		public Car(Integer id, String name, Integer seats) {
+			super( id, name );
+			this.seats = seats;
+		}
+	}
+}
@@ -8,10 +8,14 @@ package org.hibernate.orm.test.bootstrap.scanning;
 
 import java.io.File;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
 
+import org.hibernate.boot.archive.scan.internal.SnapshotScanner;
 import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
 import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
 import org.hibernate.boot.archive.scan.internal.StandardScanner;
@@ -21,6 +25,7 @@ import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
 import org.hibernate.boot.archive.scan.spi.ScanOptions;
 import org.hibernate.boot.archive.scan.spi.ScanResult;
 import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.hibernate.boot.registry.classloading.internal.ClassLoaderServiceImpl;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.jpa.boot.internal.ParsedPersistenceXmlDescriptor;
 import org.hibernate.jpa.boot.internal.StandardJpaScanEnvironmentImpl;
@@ -70,6 +75,71 @@ public class ScannerTest extends PackagingTestCase {
 		}
 	}
 
+	@Test
+	public void testSnapshotScanner() throws Exception {
+		File defaultPar = buildDefaultPar();
+		addPackageToClasspath( defaultPar );
+
+		PersistenceUnitDescriptor descriptor = new ParsedPersistenceXmlDescriptor( defaultPar.toURL() );
+		ScanEnvironment env = new StandardJpaScanEnvironmentImpl( descriptor );
+		ScanOptions options = new StandardScanOptions( "hbm,class", descriptor.isExcludeUnlistedClasses() );
+		File snapshotFile = new File( packageTargetDir, "defaultpar.snapshot" );
+		snapshotFile.delete();
+
+		final AtomicInteger scans = new AtomicInteger();
+		final StandardScanner standardScanner = new StandardScanner();
+		Scanner delegate = (environment, scanOptions, parameters) -> {
+			scans.incrementAndGet();
+			return standardScanner.scan( environment, scanOptions, parameters );
+		};
+
+		ClassLoaderServiceImpl classLoaderService = new ClassLoaderServiceImpl();
+		try {
+			Scanner scanner = new SnapshotScanner( delegate, snapshotFile.toPath(), classLoaderService );
+
+			// the first scan writes the snapshot
+			ScanResult scanResult = scanner.scan( env, options, StandardScanParameters.INSTANCE );
+			assertEquals( 1, scans.get() );
+			assertTrue( snapshotFile.exists() );
+
+			// the second scan reads the snapshot
+			scanResult = scanner.scan( env, options, StandardScanParameters.INSTANCE );
+			assertEquals( 1, scans.get() );
+			assertEquals( 3, scanResult.getLocatedClasses().size() );
+			assertClassesContained( scanResult, ApplicationServer.class );
+			assertClassesContained( scanResult, Version.class );
+			assertEquals( 2, scanResult.getLocatedMappingFiles().size() );
+			for ( MappingFileDescriptor mappingFileDescriptor : scanResult.getLocatedMappingFiles() ) {
+				InputStream stream = mappingFileDescriptor.getStreamAccess().accessInputStream();
+				assertNotNull( stream );
+				stream.close();
+			}
+
+			// touching the archive keeps the snapshot
+			assertTrue( defaultPar.setLastModified( defaultPar.lastModified() - 10_000 ) );
+			scanner.scan( env, options, StandardScanParameters.INSTANCE );
+			assertEquals( 1, scans.get() );
+
+			// so does moving it
+			File movedDirectory = new File( packageTargetDir, "moved" );
+			movedDirectory.mkdirs();
+			File movedPar = new File( movedDirectory, defaultPar.getName() );
+			Files.copy( defaultPar.toPath(), movedPar.toPath(), StandardCopyOption.REPLACE_EXISTING );
+			PersistenceUnitDescriptor movedDescriptor = new ParsedPersistenceXmlDescriptor( movedPar.toURL() );
+			scanner.scan( new StandardJpaScanEnvironmentImpl( movedDescriptor ), options, StandardScanParameters.INSTANCE );
+			assertEquals( 1, scans.get() );
+
+			// a modified archive makes the snapshot stale
+			Files.copy( buildExplicitPar().toPath(), defaultPar.toPath(), StandardCopyOption.REPLACE_EXISTING );
+			scanner.scan( env, options, StandardScanParameters.INSTANCE );
+			assertEquals( 2, scans.get() );
+		}
+		finally {
+			classLoaderService.stop();
+			snapshotFile.delete();
+		}
+	}
+
 	private void assertClassesContained(ScanResult scanResult, Class classToCheckFor) {
 		for ( ClassDescriptor classDescriptor : scanResult.getLocatedClasses() ) {
 			if ( classDescriptor.getName().equals( classToCheckFor.getName() ) ) {
@@ -6,12 +6,21 @@
  */
 package org.hibernate.orm.test.bytecode;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.bytecode.internal.PregeneratedReflectionOptimizers;
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cfg.Environment;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBasicImpl;
+import org.hibernate.property.access.spi.PropertyAccess;
 import org.hibernate.testing.TestForIssue;
 import org.hibernate.testing.junit4.BaseUnitTestCase;
 import org.junit.Test;
@@ -62,6 +71,60 @@ public class ReflectionOptimizerTest extends BaseUnitTestCase {
 		assertNotNull( reflectionOptimizer );
 	}
 
+	@Test
+	public void testPregeneratedReflectionOptimizer() throws Exception {
+		final String[] propertyNames = new String[] {
+				"someString", "someLong", "someInteger", "someDate", "somelong", "someint", "someObject"
+		};
+		final PropertyAccessStrategyBasicImpl propertyAccessStrategy = new PropertyAccessStrategyBasicImpl();
+		final Map<String, PropertyAccess> propertyAccessMap = new LinkedHashMap<>();
+		for ( String propertyName : propertyNames ) {
+			propertyAccessMap.put( propertyName, propertyAccessStrategy.buildPropertyAccess( Bean.class, propertyName, true ) );
+		}
+
+		final Map<String, byte[]> classes = new BytecodeProviderImpl().generateReflectionOptimizer(
+				Bean.class,
+				propertyAccessMap
+		);
+		assertTrue( classes.containsKey( PregeneratedReflectionOptimizers.accessOptimizerClassName( Bean.class ) ) );
+		assertTrue( classes.containsKey( PregeneratedReflectionOptimizers.instantiatorClassName( Bean.class ) ) );
+
+		// the generated classes must not depend on any state injected when loading them
+		final ClassLoader classLoader = new ClassLoader( Bean.class.getClassLoader() ) {
+			@Override
+			protected Class<?> findClass(String name) throws ClassNotFoundException {
+				final byte[] bytes = classes.get( name );
+				if ( bytes == null ) {
+					throw new ClassNotFoundException( name );
+				}
+				return defineClass( name, bytes, 0, bytes.length );
+			}
+		};
+
+		final ReflectionOptimizer.InstantiationOptimizer instantiationOptimizer = (ReflectionOptimizer.InstantiationOptimizer)
+				classLoader.loadClass( PregeneratedReflectionOptimizers.instantiatorClassName( Bean.class ) )
+						.getDeclaredConstructor()
+						.newInstance();
+		final ReflectionOptimizer.AccessOptimizer accessOptimizer = (ReflectionOptimizer.AccessOptimizer)
+				classLoader.loadClass( PregeneratedReflectionOptimizers.accessOptimizerClassName( Bean.class ) )
+						.getDeclaredConstructor()
+						.newInstance();
+
+		assertArrayEquals( propertyNames, accessOptimizer.getPropertyNames() );
+		// the types are recorded too, so that changing the type of a property makes the optimizer stale
+		final String propertySignature = (String) accessOptimizer.getClass()
+				.getField( PregeneratedReflectionOptimizers.PROPERTY_SIGNATURE_FIELD_NAME )
+				.get( null );
+		assertEquals( PregeneratedReflectionOptimizers.propertySignature( propertyAccessMap ), propertySignature );
+		assertTrue( propertySignature.contains( "someLong:java.lang.Long," ) );
+		assertTrue( propertySignature.contains( "somelong:long," ) );
+
+		final Bean bean = (Bean) instantiationOptimizer.newInstance();
+		accessOptimizer.setPropertyValues( bean, BeanReflectionHelper.TEST_VALUES );
+		assertEquals( bean.getSomeString(), BeanReflectionHelper.TEST_VALUES[0] );
+		assertEquivalent( accessOptimizer.getPropertyValues( bean ), BeanReflectionHelper.TEST_VALUES );
+	}
+
 	private void assertEquivalent(Object[] checkValues, Object[] values) {
 		assertEquals( "Different lengths", checkValues.length, values.length );
 		for ( int i = 0; i < checkValues.length; i++ ) {
@@ -0,0 +1,112 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.NearCacheDomainDataRegion;
+import org.hibernate.cache.internal.NearCacheRegionFactory;
+import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = NearCacheTest.Item.class )
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ),
+				@Setting( name = AvailableSettings.NEAR_CACHE_MAX_ENTRIES, value = "100" ),
+				@Setting( name = AvailableSettings.NEAR_CACHE_TIME_TO_LIVE, value = "600000" )
+		}
+)
+@SessionFactory
+public class NearCacheTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Item( 1, "first" ) ) );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testNearCacheHitsAndInvalidation(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getCache().unwrap( RegionFactory.class ) )
+				.isInstanceOf( NearCacheRegionFactory.class );
+
+		final Region region = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Item.class )
+				.getCacheAccessStrategy()
+				.getRegion();
+		assertThat( region ).isInstanceOf( NearCacheDomainDataRegion.class );
+
+		final CacheRegionStatistics regionStatistics = scope.getSessionFactory().getStatistics()
+				.getDomainDataRegionStatistics( region.getName() );
+		final long initialHits = regionStatistics.getNearCacheHitCount();
+		final long initialMisses = regionStatistics.getNearCacheMissCount();
+
+		// read from the second-level cache, which fills the near cache
+		scope.inTransaction( session -> assertThat( session.find( Item.class, 1 ).name ).isEqualTo( "first" ) );
+		assertThat( regionStatistics.getNearCacheMissCount() ).isEqualTo( initialMisses + 1 );
+		assertThat( regionStatistics.getNearCacheHitCount() ).isEqualTo( initialHits );
+
+		// read from the near cache
+		scope.inTransaction( session -> assertThat( session.find( Item.class, 1 ).name ).isEqualTo( "first" ) );
+		assertThat( regionStatistics.getNearCacheHitCount() ).isEqualTo( initialHits + 1 );
+
+		// the update invalidates the near cache entry
+		scope.inTransaction( session -> session.find( Item.class, 1 ).name = "second" );
+		assertThat( regionStatistics.getNearCacheHitCount() ).isEqualTo( initialHits + 2 );
+
+		scope.inTransaction( session -> assertThat( session.find( Item.class, 1 ).name ).isEqualTo( "second" ) );
+		assertThat( regionStatistics.getNearCacheMissCount() ).isEqualTo( initialMisses + 2 );
+	}
+
+	@Test
+	public void testEvictionClearsNearCache(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.find( Item.class, 1 ) );
+
+		scope.getSessionFactory().getCache().evictEntityData( Item.class );
+
+		scope.inTransaction( session -> session.createMutationQuery( "update Item set name = 'second'" ).executeUpdate() );
+		scope.inTransaction( session -> assertThat( session.find( Item.class, 1 ).name ).isEqualTo( "second" ) );
+	}
+
+	@Entity( name = "Item" )
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
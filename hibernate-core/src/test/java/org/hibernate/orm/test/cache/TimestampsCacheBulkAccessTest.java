@@ -0,0 +1,104 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.hibernate.cache.internal.TimestampsCacheEnabledImpl;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The timestamps of all query spaces are put and checked with a single call to the region.
+ */
+public class TimestampsCacheBulkAccessTest {
+	private TimestampsRegion region;
+	private SharedSessionContractImplementor session;
+	private TimestampsCacheEnabledImpl timestampsCache;
+
+	@Before
+	public void setUp() {
+		region = Mockito.mock( TimestampsRegion.class );
+
+		final RegionFactory regionFactory = Mockito.mock( RegionFactory.class );
+		when( regionFactory.nextTimestamp() ).thenReturn( 100L );
+		when( regionFactory.getTimeout() ).thenReturn( 60L );
+		final CacheImplementor cache = Mockito.mock( CacheImplementor.class );
+		when( cache.getRegionFactory() ).thenReturn( regionFactory );
+		final SessionFactoryImplementor factory = Mockito.mock( SessionFactoryImplementor.class );
+		when( factory.getCache() ).thenReturn( cache );
+		when( factory.getStatistics() ).thenReturn( Mockito.mock( StatisticsImplementor.class ) );
+
+		session = Mockito.mock( SharedSessionContractImplementor.class );
+		when( session.getFactory() ).thenReturn( factory );
+		when( session.getEventListenerManager() ).thenReturn( Mockito.mock( SessionEventListenerManager.class ) );
+
+		timestampsCache = new TimestampsCacheEnabledImpl( region );
+	}
+
+	@Test
+	public void testPreInvalidateMakesOneRegionCall() {
+		timestampsCache.preInvalidate( new String[] { "a", "b", "c" }, session );
+
+		final Map<Object, Object> expected = Map.of( "a", 160L, "b", 160L, "c", 160L );
+		verify( region, times( 1 ) ).putAllIntoCache( eq( expected ), same( session ) );
+		verify( region, never() ).putIntoCache( any(), any(), any() );
+	}
+
+	@Test
+	public void testInvalidateMakesOneRegionCall() {
+		timestampsCache.invalidate( new String[] { "a", "b", "c" }, session );
+
+		verify( region, times( 1 ) ).putAllIntoCache( anyMap(), same( session ) );
+		verify( region, never() ).putIntoCache( any(), any(), any() );
+	}
+
+	@Test
+	public void testIsUpToDateMakesOneRegionCall() {
+		when( region.getAllFromCache( anyCollection(), same( session ) ) )
+				.thenReturn( Collections.singletonMap( "b", 50L ) );
+
+		assertTrue( timestampsCache.isUpToDate( new String[] { "a", "b", "c" }, 60L, session ) );
+		assertFalse( timestampsCache.isUpToDate( Arrays.asList( "a", "b", "c" ), 40L, session ) );
+
+		verify( region, times( 2 ) ).getAllFromCache( eq( Arrays.asList( "a", "b", "c" ) ), same( session ) );
+		verify( region, never() ).getFromCache( any(), any() );
+	}
+
+	@Test
+	public void testNoSpacesMakeNoRegionCall() {
+		timestampsCache.invalidate( new String[0], session );
+		assertTrue( timestampsCache.isUpToDate( new String[0], 60L, session ) );
+
+		assertEquals( 0, Mockito.mockingDetails( region ).getInvocations().size() );
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.engine.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		OpenAddressingPersistenceContextTest.Parent.class,
+		OpenAddressingPersistenceContextTest.Child.class,
+		OpenAddressingPersistenceContextTest.Tag.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.PERSISTENCE_CONTEXT_OPEN_ADDRESSING, value = "true"))
+@SessionFactory
+public class OpenAddressingPersistenceContextTest {
+
+	private static final int PARENT_COUNT = 200;
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Child" ).executeUpdate();
+			session.createMutationQuery( "delete from Parent" ).executeUpdate();
+			session.createMutationQuery( "delete from Tag" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testManyEntities(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 0; i < PARENT_COUNT; i++ ) {
+				final Parent parent = new Parent( i, "parent " + i );
+				session.persist( parent );
+				for ( int j = 0; j < 2; j++ ) {
+					final Child child = new Child( i * 10 + j, parent );
+					parent.children.add( child );
+					session.persist( child );
+				}
+				session.persist( new Tag( "tag " + i ) );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			final List<Parent> parents = session.createSelectionQuery( "from Parent", Parent.class ).list();
+			assertThat( parents ).hasSize( PARENT_COUNT );
+			session.createSelectionQuery( "from Tag", Tag.class ).list();
+
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final Map<EntityKey, Object> entitiesByKey = persistenceContext.getEntitiesByKey();
+			assertThat( entitiesByKey ).hasSize( 2 * PARENT_COUNT );
+			assertThat( entitiesByKey.values() ).containsAll( parents );
+
+			for ( Parent parent : parents ) {
+				assertThat( session.find( Parent.class, parent.id ) ).isSameAs( parent );
+				assertThat( parent.children ).hasSize( 2 );
+			}
+			assertThat( session.find( Tag.class, "tag 7" ) ).isNotNull();
+			assertThat( session.find( Parent.class, -1L ) ).isNull();
+			assertThat( persistenceContext.getCollectionsByKey() ).hasSize( PARENT_COUNT );
+			assertThat( entitiesByKey ).hasSize( 4 * PARENT_COUNT );
+
+			// removals shift entries back within their probe sequence
+			for ( Parent parent : parents ) {
+				if ( parent.id % 3 == 0 ) {
+					session.evict( parent );
+				}
+			}
+			for ( Parent parent : parents ) {
+				assertThat( session.contains( parent ) ).isEqualTo( parent.id % 3 != 0 );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			final Parent parent = session.find( Parent.class, 42L );
+			parent.name = "changed";
+			session.flush();
+			session.clear();
+
+			assertThat( session.getPersistenceContextInternal().getEntitiesByKey() ).isEmpty();
+			assertThat( session.find( Parent.class, 42L ).name ).isEqualTo( "changed" );
+		} );
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		Long id;
+
+		String name;
+
+		@OneToMany(mappedBy = "parent")
+		List<Child> children = new ArrayList<>();
+
+		public Parent() {
+		}
+
+		public Parent(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		Long id;
+
+		@ManyToOne
+		Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Long id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+
+	@Entity(name = "Tag")
+	public static class Tag {
+		@Id
+		String name;
+
+		public Tag() {
+		}
+
+		public Tag(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -45,6 +45,22 @@ public class SessionEventListenersManagerTest extends BaseUnitTestCase {
 		Assert.assertEquals( "e", sb.toString() );
 	}
 
+	@Test
+	public void testResultSetProcessingObserved() {
+		StringBuilder sb = new StringBuilder();
+		SessionEventListenerManagerImpl l = new SessionEventListenerManagerImpl( new TestSessionEventListener( sb, 'a' ) );
+		Assert.assertFalse( l.isResultSetProcessingObserved() );
+		l.addListener( new SessionEventListener() {} );
+		Assert.assertFalse( l.isResultSetProcessingObserved() );
+		l.addListener( new BaseSessionEventListener() {
+			@Override
+			public void resultSetProcessingEnd(String queryIdentifier, String entityName, int numberOfRows) {
+				sb.append( numberOfRows );
+			}
+		} );
+		Assert.assertTrue( l.isResultSetProcessingObserved() );
+	}
+
 	private static class TestSessionEventListener extends BaseSessionEventListener {
 
 		private final StringBuilder sb;
@@ -6,6 +6,16 @@
  */
 package org.hibernate.orm.test.id.enhanced;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.id.enhanced.AccessCallback;
@@ -17,6 +27,7 @@ import org.hibernate.testing.orm.junit.BaseUnitTest;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * {@inheritDoc}
@@ -304,6 +315,132 @@ public class OptimizerUnitTest {
 
 	}
 
+	@Test
+	public void testBasicConcurrentPooledOptimizerUsage() {
+		Long next;
+		// test historic sequence behavior, where the initial values start at 1...
+		SourceMock sequence = new SourceMock( 1, 10 );
+		Optimizer optimizer = buildConcurrentPooledOptimizer( -1, 10 );
+		for ( int i = 1; i <= 5; i++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 2, sequence.getTimesCalled() ); // twice to initialize state
+		assertEquals( 11, sequence.getCurrentValue() );
+		// the middle of the range prefetches the next range
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 6, next.intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 21, sequence.getCurrentValue() );
+		for ( int i = 7; i <= 12; i++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 21, sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testSubsequentConcurrentPooledOptimizerUsage() {
+		// test the concurrent pooled optimizer in situation where the sequence is already beyond its initial value on init.
+		//		cheat by telling the sequence to start with 1000
+		final SourceMock sequence = new SourceMock( 1001, 3, 5 );
+		//		but tell the optimizer the start-with is 1
+		final Optimizer optimizer = buildConcurrentPooledOptimizer( 1, 3 );
+
+		assertEquals( 5, sequence.getTimesCalled() );
+		assertEquals( 1001, sequence.getCurrentValue() );
+
+		Long next = (Long) optimizer.generate( sequence );
+		assertEquals( 1001 + 1, next.intValue() );
+		assertEquals( (5+1), sequence.getTimesCalled() );
+		assertEquals( (1001+3), sequence.getCurrentValue() );
+
+		// the middle of the range prefetches the next range
+		next = (Long) optimizer.generate( sequence );
+		assertEquals( (1001+2), next.intValue() );
+		assertEquals( (5+2), sequence.getTimesCalled() );
+		assertEquals( (1001+6), sequence.getCurrentValue() );
+
+		next = (Long) optimizer.generate( sequence );
+		assertEquals( (1001+3), next.intValue() );
+		assertEquals( (5+2), sequence.getTimesCalled() );
+
+		next = (Long) optimizer.generate( sequence );
+		assertEquals( (1001+4), next.intValue() );
+		assertEquals( (5+2), sequence.getTimesCalled() );
+		assertEquals( (1001+6), sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testRecoveredConcurrentPooledOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 3 );
+		final Optimizer optimizer = buildConcurrentPooledOptimizer( 1, 3 );
+
+		Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		assertEquals( 4, sequence.getCurrentValue() );
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 2, next.intValue() );
+
+		// app ends, and starts back up (we should "lose" only 3 and 4)
+		final Optimizer optimizer2 = buildConcurrentPooledOptimizer( 1, 3 );
+		next = ( Long ) optimizer2.generate( sequence );
+		assertEquals( 5, next.intValue() );
+	}
+
+	@Test
+	public void testConcurrentPooledOptimizerUnderContention() throws Exception {
+		final int threadCount = 8;
+		final int valuesPerThread = 10_000;
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final AccessCallback callback = new AccessCallback() {
+			@Override
+			public synchronized IntegralDataTypeHolder getNextValue() {
+				return sequence.getNextValue();
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return null;
+			}
+		};
+		final Optimizer optimizer = buildConcurrentPooledOptimizer( 1, 10 );
+
+		final ExecutorService executor = Executors.newFixedThreadPool( threadCount );
+		final CountDownLatch start = new CountDownLatch( 1 );
+		final List<Future<long[]>> futures = new ArrayList<>( threadCount );
+		try {
+			for ( int i = 0; i < threadCount; i++ ) {
+				futures.add( executor.submit( () -> {
+					start.await();
+					final long[] values = new long[valuesPerThread];
+					for ( int j = 0; j < valuesPerThread; j++ ) {
+						values[j] = (Long) optimizer.generate( callback );
+					}
+					return values;
+				} ) );
+			}
+			start.countDown();
+
+			final Set<Long> values = new HashSet<>();
+			for ( Future<long[]> future : futures ) {
+				for ( long value : future.get( 30, TimeUnit.SECONDS ) ) {
+					// a value handed out twice means a range was handed out twice
+					assertTrue( values.add( value ), "value " + value + " was generated twice" );
+					// every value comes from a range obtained from the sequence
+					assertTrue( value >= 1 && value <= sequence.getCurrentValue() );
+				}
+			}
+			assertEquals( threadCount * valuesPerThread, values.size() );
+			// each exhaustion fetches a single range, plus the initial value and at most one spare range
+			assertTrue( sequence.getTimesCalled() <= threadCount * valuesPerThread / 10 + 2 );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -316,6 +453,10 @@ public class OptimizerUnitTest {
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED, initial, increment );
 	}
 
+	private static Optimizer buildConcurrentPooledOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_CONCURRENT, initial, increment );
+	}
+
 	private static Optimizer buildPooledLoOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LO, initial, increment );
 	}
@@ -0,0 +1,181 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.id.enhanced;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IncrementGenerator;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.ConcurrentPooledOptimizer;
+import org.hibernate.id.enhanced.HiLoOptimizer;
+import org.hibernate.id.enhanced.LegacyHiLoAlgorithmOptimizer;
+import org.hibernate.id.enhanced.PooledLoOptimizer;
+import org.hibernate.id.enhanced.PooledLoThreadLocalOptimizer;
+import org.hibernate.id.enhanced.PooledOptimizer;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs sessions on virtual threads, and fails if JFR records a virtual thread pinned
+ * to its carrier, which happens when a monitor is held across a blocking JDBC call.
+ */
+@DomainModel( annotatedClasses = { VirtualThreadSessionTest.SequencedEntity.class, VirtualThreadSessionTest.IncrementedEntity.class } )
+@SessionFactory
+public class VirtualThreadSessionTest {
+	private static final int TASK_COUNT = 200;
+	private static final String PINNED_EVENT_NAME = "jdk.VirtualThreadPinned";
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete SequencedEntity" ).executeUpdate();
+			session.createMutationQuery( "delete IncrementedEntity" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testGenerationPathsDoNotUseMonitors() throws Exception {
+		for ( Class<?> optimizer : List.of(
+				ConcurrentPooledOptimizer.class,
+				HiLoOptimizer.class,
+				LegacyHiLoAlgorithmOptimizer.class,
+				PooledOptimizer.class,
+				PooledLoOptimizer.class,
+				PooledLoThreadLocalOptimizer.class
+		) ) {
+			assertNotSynchronized( optimizer.getMethod( "generate", AccessCallback.class ) );
+		}
+		assertNotSynchronized( IncrementGenerator.class.getMethod( "generate", SharedSessionContractImplementor.class, Object.class ) );
+		assertNotSynchronized( DriverManagerConnectionProviderImpl.PooledConnections.class.getMethod( "poll" ) );
+	}
+
+	private static void assertNotSynchronized(Method method) {
+		assertThat( Modifier.isSynchronized( method.getModifiers() ) )
+				.as( "%s is synchronized", method )
+				.isFalse();
+	}
+
+	@Test
+	public void testSessionsOnVirtualThreads(SessionFactoryScope scope) throws Exception {
+		final ExecutorService executor = virtualThreadExecutor();
+		final List<Future<?>> futures = new ArrayList<>( TASK_COUNT );
+		final Path recordingFile = Files.createTempFile( "virtual-thread-pinning", ".jfr" );
+		try ( Recording recording = new Recording() ) {
+			// the event type only exists on JDKs with virtual threads, and is otherwise ignored
+			recording.enable( PINNED_EVENT_NAME ).withoutThreshold().withStackTrace();
+			recording.start();
+			for ( int i = 0; i < TASK_COUNT; i++ ) {
+				final String name = "entity #" + i;
+				futures.add( executor.submit( () -> scope.inTransaction( session -> {
+					session.persist( new SequencedEntity( name ) );
+					session.persist( new IncrementedEntity( name ) );
+				} ) ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get( 30, TimeUnit.SECONDS );
+			}
+			recording.stop();
+			recording.dump( recordingFile );
+
+			final List<RecordedEvent> pinnedEvents = new ArrayList<>();
+			for ( RecordedEvent event : RecordingFile.readAllEvents( recordingFile ) ) {
+				if ( PINNED_EVENT_NAME.equals( event.getEventType().getName() ) ) {
+					pinnedEvents.add( event );
+				}
+			}
+			assertThat( pinnedEvents ).as( "virtual threads pinned to their carrier" ).isEmpty();
+		}
+		finally {
+			executor.shutdownNow();
+			Files.deleteIfExists( recordingFile );
+		}
+
+		scope.inTransaction( session -> {
+			final List<Long> sequencedIds = session.createSelectionQuery( "select id from SequencedEntity", Long.class )
+					.getResultList();
+			final List<Long> incrementedIds = session.createSelectionQuery( "select id from IncrementedEntity", Long.class )
+					.getResultList();
+			assertThat( sequencedIds ).hasSize( TASK_COUNT );
+			assertThat( new HashSet<>( sequencedIds ) ).hasSize( TASK_COUNT );
+			assertThat( incrementedIds ).hasSize( TASK_COUNT );
+			assertThat( new HashSet<>( incrementedIds ) ).hasSize( TASK_COUNT );
+		} );
+	}
+
+	private static ExecutorService virtualThreadExecutor() throws Exception {
+		final Method factory;
+		try {
+			factory = Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" );
+		}
+		catch (NoSuchMethodException e) {
+			assumeTrue( false, "Virtual threads require JDK 21 or later" );
+			throw e;
+		}
+		return (ExecutorService) factory.invoke( null );
+	}
+
+	@Entity( name = "SequencedEntity" )
+	public static class SequencedEntity {
+		@Id
+		@GeneratedValue( strategy = GenerationType.SEQUENCE, generator = "vt_seq" )
+		@SequenceGenerator( name = "vt_seq", sequenceName = "vt_seq", allocationSize = 10 )
+		private Long id;
+		private String name;
+
+		public SequencedEntity() {
+		}
+
+		public SequencedEntity(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "IncrementedEntity" )
+	public static class IncrementedEntity {
+		@Id
+		@GeneratedValue( generator = "vt_increment" )
+		@GenericGenerator( name = "vt_increment", strategy = "increment" )
+		private Long id;
+		private String name;
+
+		public IncrementedEntity() {
+		}
+
+		public IncrementedEntity(String name) {
+			this.name = name;
+		}
+	}
+}
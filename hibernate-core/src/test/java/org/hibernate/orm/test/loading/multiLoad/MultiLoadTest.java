@@ -8,9 +8,12 @@ package org.hibernate.orm.test.loading.multiLoad;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.hibernate.BaseSessionEventListener;
 import org.hibernate.CacheMode;
 import org.hibernate.Hibernate;
+import org.hibernate.Session;
 import org.hibernate.annotations.BatchSize;
 import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.cfg.AvailableSettings;
@@ -23,7 +26,9 @@ import org.hibernate.stat.Statistics;
 
 import org.hibernate.testing.TestForIssue;
 import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
 import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
 import org.hibernate.testing.orm.junit.ServiceRegistry;
 import org.hibernate.testing.orm.junit.SessionFactory;
 import org.hibernate.testing.orm.junit.SessionFactoryScope;
@@ -100,7 +105,29 @@ public class MultiLoadTest {
 							statementInspector.getSqlQueries().get( 0 ),
 							'?'
 					);
-					assertThat( paramCount, is( 5 ) );
+					assertThat( paramCount, is( expectedParamCount( scope, 5 ) ) );
+				}
+		);
+	}
+
+	@Test
+	@RequiresDialectFeature( feature = DialectFeatureChecks.SupportsArrayForMultiValuedParameters.class )
+	public void testMultiLoadWithArrayParameter(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					statementInspector.clear();
+
+					assertEquals( 3, session.byMultipleIds( SimpleEntity.class ).multiLoad( ids( 3 ) ).size() );
+					session.clear();
+					assertEquals( 56, session.byMultipleIds( SimpleEntity.class ).multiLoad( ids( 56 ) ).size() );
+
+					// every multi-load is a single statement, with the same SQL for any number of ids
+					assertEquals( 2, statementInspector.getSqlQueries().size() );
+					assertEquals(
+							statementInspector.getSqlQueries().get( 0 ),
+							statementInspector.getSqlQueries().get( 1 )
+					);
 				}
 		);
 	}
@@ -314,7 +341,7 @@ public class MultiLoadTest {
 							statementInspector.getSqlQueries().get( 0 ),
 							'?'
 					);
-					assertThat( paramCount, is( 2 ) );
+					assertThat( paramCount, is( expectedParamCount( scope, 2 ) ) );
 				}
 		);
 	}
@@ -369,9 +396,46 @@ public class MultiLoadTest {
 							statementInspector.getSqlQueries().get( 0 ),
 							'?'
 					);
-					assertThat( paramCount, is( 2 ) );
+					assertThat( paramCount, is( expectedParamCount( scope, 2 ) ) );
+				}
+		);
+	}
+
+	@Test
+	public void testMultiLoadFrom2ndLevelCacheWithSingleCacheGet(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.getSessionFactory().getCache().evictAll();
+
+		scope.inTransaction(
+				session -> {
+					for ( Integer id : ids( 5 ) ) {
+						session.get( SimpleEntity.class, id );
+					}
 				}
 		);
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		statementInspector.clear();
+
+		final AtomicInteger cacheGets = new AtomicInteger();
+		try ( Session session = scope.getSessionFactory().withOptions()
+				.eventListeners( new BaseSessionEventListener() {
+					@Override
+					public void cacheGetStart() {
+						cacheGets.incrementAndGet();
+					}
+				} )
+				.openSession() ) {
+			final List<SimpleEntity> entities = session.byMultipleIds( SimpleEntity.class )
+					.with( CacheMode.NORMAL )
+					.multiLoad( ids( 5 ) );
+			assertEquals( 5, entities.size() );
+			assertEquals( 5, statistics.getSecondLevelCacheHitCount() );
+			assertEquals( 1, cacheGets.get() );
+			assertTrue( statementInspector.getSqlQueries().isEmpty() );
+		}
 	}
 
 	@Test
@@ -400,7 +464,7 @@ public class MultiLoadTest {
 							statementInspector.getSqlQueries().get( 0 ),
 							'?'
 					);
-					assertThat( paramCount, is( 2 ) );
+					assertThat( paramCount, is( expectedParamCount( scope, 2 ) ) );
 				}
 		);
 	}
@@ -437,7 +501,7 @@ public class MultiLoadTest {
 							statementInspector.getSqlQueries().get( 0 ),
 							'?'
 					);
-					assertThat( paramCount, is( 2 ) );
+					assertThat( paramCount, is( expectedParamCount( scope, 2 ) ) );
 				} );
 	}
 
@@ -467,7 +531,7 @@ public class MultiLoadTest {
 							statementInspector.getSqlQueries().get( 0 ),
 							'?'
 					);
-					assertThat( paramCount, is( 2 ) );
+					assertThat( paramCount, is( expectedParamCount( scope, 2 ) ) );
 				} );
 	}
 
@@ -503,7 +567,7 @@ public class MultiLoadTest {
 							statementInspector.getSqlQueries().get( 0 ),
 							'?'
 					);
-					assertThat( paramCount, is( 2 ) );
+					assertThat( paramCount, is( expectedParamCount( scope, 2 ) ) );
 				} );
 	}
 
@@ -552,6 +616,13 @@ public class MultiLoadTest {
 		);
 	}
 
+	private static int expectedParamCount(SessionFactoryScope scope, int numberOfIds) {
+		// the ids are bound as a single array if the dialect supports it
+		return scope.getSessionFactory().getJdbcServices().getDialect().useArrayForMultiValuedParameters()
+				? 1
+				: numberOfIds;
+	}
+
 	private Integer[] ids(int count) {
 		Integer[] ids = new Integer[count];
 		for ( int i = 1; i <= count; i++ ) {
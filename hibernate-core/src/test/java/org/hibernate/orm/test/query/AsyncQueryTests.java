@@ -0,0 +1,135 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.hibernate.query.MutationQuery;
+import org.hibernate.query.SelectionQuery;
+
+import org.hibernate.testing.orm.domain.StandardDomainModel;
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel(standardModels = StandardDomainModel.GAMBIT)
+@SessionFactory
+public class AsyncQueryTests {
+
+	private ExecutorService executor;
+
+	@BeforeAll
+	public void startExecutor() {
+		executor = Executors.newFixedThreadPool( 4 );
+	}
+
+	@AfterAll
+	public void stopExecutor() {
+		executor.shutdownNow();
+	}
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 10; i++ ) {
+				session.persist( new BasicEntity( i, i % 2 == 0 ? "even" : "odd" ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete BasicEntity" ).executeUpdate() );
+	}
+
+	@Test
+	public void testListAsync(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			// the session can't be used to create queries while an execution is pending
+			final SelectionQuery<BasicEntity> evenQuery = session.createSelectionQuery( "from BasicEntity where data = 'even'", BasicEntity.class );
+			final SelectionQuery<Long> countQuery = session.createSelectionQuery( "select count(*) from BasicEntity", Long.class );
+			final CompletionStage<List<BasicEntity>> even = evenQuery.listAsync( executor );
+			final CompletionStage<List<Long>> count = countQuery.listAsync( executor );
+
+			assertThat( even.toCompletableFuture().join() )
+					.hasSize( 5 )
+					.allSatisfy( entity -> assertThat( entity.getData() ).isEqualTo( "even" ) );
+			assertThat( count.toCompletableFuture().join() ).containsExactly( 10L );
+		} );
+	}
+
+	@Test
+	public void testAsyncExecutionsAreSerialized(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( (session) -> {
+			final MutationQuery deleteQuery = session.createMutationQuery( "delete BasicEntity where data = 'odd'" );
+			final SelectionQuery<BasicEntity> remainingQuery = session.createSelectionQuery( "from BasicEntity", BasicEntity.class );
+			final CompletionStage<Integer> deleted = deleteQuery.executeUpdateAsync( executor );
+			final CompletionStage<List<BasicEntity>> remaining = remainingQuery.listAsync( executor );
+
+			CompletableFuture.allOf( deleted.toCompletableFuture(), remaining.toCompletableFuture() ).join();
+			assertThat( deleted.toCompletableFuture().join() ).isEqualTo( 5 );
+			assertThat( remaining.toCompletableFuture().join() ).hasSize( 5 );
+		} );
+	}
+
+	@Test
+	public void testFailureDoesNotStopLaterExecutions(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			// the parameter is never bound
+			final SelectionQuery<BasicEntity> failingQuery = session.createSelectionQuery( "from BasicEntity where id = :id", BasicEntity.class );
+			final SelectionQuery<BasicEntity> succeedingQuery = session.createSelectionQuery( "from BasicEntity", BasicEntity.class );
+			final CompletionStage<List<BasicEntity>> failed = failingQuery.listAsync( executor );
+			final CompletionStage<List<BasicEntity>> succeeded = succeedingQuery.listAsync( executor );
+
+			assertThatThrownBy( () -> failed.toCompletableFuture().join() ).isInstanceOf( CompletionException.class );
+			assertThat( succeeded.toCompletableFuture().join() ).hasSize( 10 );
+		} );
+	}
+
+	@Test
+	public void testSessionCannotBeUsedWhileExecutionIsPending(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final CountDownLatch release = new CountDownLatch( 1 );
+			final Executor gatedExecutor = (command) -> executor.execute( () -> {
+				try {
+					release.await();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				command.run();
+			} );
+
+			final CompletionStage<List<BasicEntity>> pending = session.createSelectionQuery( "from BasicEntity", BasicEntity.class )
+					.listAsync( gatedExecutor );
+			assertThatThrownBy( () -> session.createSelectionQuery( "from BasicEntity", BasicEntity.class ) )
+					.isInstanceOf( IllegalStateException.class );
+
+			release.countDown();
+			assertThat( pending.toCompletableFuture().join() ).hasSize( 10 );
+
+			// the session is released as soon as the execution has completed
+			assertThat( session.createSelectionQuery( "from BasicEntity", BasicEntity.class ).getResultList() ).hasSize( 10 );
+		} );
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.query.SelectionQuery;
+
+import org.hibernate.testing.orm.domain.StandardDomainModel;
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel(standardModels = StandardDomainModel.GAMBIT)
+@SessionFactory
+public class ParallelQueryTests {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 20; i++ ) {
+				session.persist( new BasicEntity( i, "bucket #" + i % 4 ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete BasicEntity" ).executeUpdate() );
+	}
+
+	@Test
+	public void testInParallel(SessionFactoryScope scope) {
+		final List<Function<StatelessSession, SelectionQuery<?>>> queries = new ArrayList<>();
+		for ( int i = 0; i < 4; i++ ) {
+			final int bucket = i;
+			queries.add( session -> session.createSelectionQuery( "from BasicEntity where data = :bucket", BasicEntity.class )
+					.setParameter( "bucket", "bucket #" + bucket ) );
+		}
+		queries.add( session -> session.createSelectionQuery( "select count(*) from BasicEntity", Long.class ) );
+
+		final List<List<?>> results = scope.getSessionFactory().inParallel( queries, 2 );
+
+		assertThat( results ).hasSize( 5 );
+		for ( int i = 0; i < 4; i++ ) {
+			final int bucket = i;
+			assertThat( results.get( i ) )
+					.hasSize( 5 )
+					.allSatisfy( entity -> assertThat( ( (BasicEntity) entity ).getData() ).isEqualTo( "bucket #" + bucket ) );
+		}
+		assertThat( results.get( 4 ) ).containsExactly( 20L );
+	}
+
+	@Test
+	public void testFailureIsRethrown(SessionFactoryScope scope) {
+		final List<Function<StatelessSession, SelectionQuery<?>>> queries = List.of(
+				session -> session.createSelectionQuery( "from BasicEntity", BasicEntity.class ),
+				// the parameter is never bound
+				session -> session.createSelectionQuery( "from BasicEntity where data = :bucket", BasicEntity.class )
+		);
+
+		assertThatThrownBy( () -> scope.getSessionFactory().inParallel( queries, 2 ) )
+				.isNotInstanceOf( CompletionException.class );
+	}
+
+	@Test
+	public void testRejectedWorkerStopsStartedWorkers(SessionFactoryScope scope) throws InterruptedException {
+		final ExecutorService pool = Executors.newSingleThreadExecutor();
+		final AtomicInteger submittedWorkers = new AtomicInteger();
+		final Executor executor = (command) -> {
+			if ( submittedWorkers.getAndIncrement() > 0 ) {
+				throw new RejectedExecutionException( "Only one worker is accepted" );
+			}
+			pool.execute( command );
+		};
+		final AtomicInteger createdQueries = new AtomicInteger();
+		final List<Function<StatelessSession, SelectionQuery<?>>> queries = new ArrayList<>();
+		for ( int i = 0; i < 100; i++ ) {
+			queries.add( session -> {
+				createdQueries.incrementAndGet();
+				return session.createSelectionQuery( "from BasicEntity", BasicEntity.class );
+			} );
+		}
+
+		try {
+			assertThatThrownBy( () -> scope.getSessionFactory().inParallel( queries, 2, executor ) )
+					.isInstanceOf( RejectedExecutionException.class );
+			// the started worker was stopped and had finished before the failure was rethrown
+			final int createdOnReturn = createdQueries.get();
+			pool.shutdown();
+			assertThat( pool.awaitTermination( 10, TimeUnit.SECONDS ) ).isTrue();
+			assertThat( createdQueries.get() ).isEqualTo( createdOnReturn ).isLessThan( queries.size() );
+		}
+		finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testInvalidParallelism(SessionFactoryScope scope) {
+		assertThatThrownBy( () -> scope.getSessionFactory().inParallel( List.of(), 0 ) )
+				.isInstanceOf( IllegalArgumentException.class );
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.sql.SqmTranslator;
+import org.hibernate.query.sqm.sql.StandardSqmTranslatorFactory;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.spi.SqlAstCreationContext;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+
+import org.hibernate.testing.orm.domain.StandardDomainModel;
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that a cached select plan keeps a translation for each of the
+ * shapes it is executed with, instead of re-translating on every change.
+ */
+@DomainModel(standardModels = StandardDomainModel.GAMBIT)
+@ServiceRegistry(
+		settings = @Setting(
+				name = AvailableSettings.SEMANTIC_QUERY_TRANSLATOR,
+				value = "org.hibernate.orm.test.query.QueryPlanVariantsTests$CountingSqmTranslatorFactory"
+		)
+)
+@SessionFactory
+public class QueryPlanVariantsTests {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 10; i++ ) {
+				session.persist( new BasicEntity( i, "entity #" + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete BasicEntity" ).executeUpdate() );
+	}
+
+	@Test
+	public void testAlternatingLimit(SessionFactoryScope scope) {
+		final String hql = "from BasicEntity e where e.id >= :id order by e.id";
+		final int initialCount = CountingSqmTranslatorFactory.SELECT_TRANSLATIONS.get();
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 10; i++ ) {
+				assertThat( session.createSelectionQuery( hql, BasicEntity.class )
+									.setParameter( "id", 0 )
+									.setMaxResults( 3 )
+									.list() )
+						.hasSize( 3 );
+				assertThat( session.createSelectionQuery( hql, BasicEntity.class )
+									.setParameter( "id", 0 )
+									.list() )
+						.hasSize( 10 );
+				assertThat( session.createSelectionQuery( hql, BasicEntity.class )
+									.setParameter( "id", 0 )
+									.setFirstResult( 8 )
+									.list() )
+						.hasSize( 2 );
+			}
+		} );
+
+		// one translation per shape, rather than one per execution
+		assertThat( CountingSqmTranslatorFactory.SELECT_TRANSLATIONS.get() - initialCount ).isEqualTo( 3 );
+	}
+
+	public static class CountingSqmTranslatorFactory extends StandardSqmTranslatorFactory {
+		static final AtomicInteger SELECT_TRANSLATIONS = new AtomicInteger();
+
+		@Override
+		public SqmTranslator<SelectStatement> createSelectTranslator(
+				SqmSelectStatement<?> sqmSelectStatement,
+				QueryOptions queryOptions,
+				DomainParameterXref domainParameterXref,
+				QueryParameterBindings domainParameterBindings,
+				LoadQueryInfluencers loadQueryInfluencers,
+				SqlAstCreationContext creationContext,
+				boolean deduplicateSelectionItems) {
+			SELECT_TRANSLATIONS.incrementAndGet();
+			return super.createSelectTranslator(
+					sqmSelectStatement,
+					queryOptions,
+					domainParameterXref,
+					domainParameterBindings,
+					loadQueryInfluencers,
+					creationContext,
+					deduplicateSelectionItems
+			);
+		}
+	}
+}
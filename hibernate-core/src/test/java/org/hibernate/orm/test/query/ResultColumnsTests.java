@@ -0,0 +1,185 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+import org.hibernate.query.ResultColumns;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel(annotatedClasses = ResultColumnsTests.Measurement.class)
+@SessionFactory
+public class ResultColumnsTests {
+
+	private static final int ROW_COUNT = 300;
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < ROW_COUNT; i++ ) {
+				session.persist( new Measurement( (long) i, i % 7, i / 4.0, i % 10 == 0 ? null : "sensor " + i ) );
+			}
+			session.persist( new Measurement( (long) ROW_COUNT, null, null, null ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete Measurement" ).executeUpdate() );
+	}
+
+	@Test
+	public void testPrimitiveColumns(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final ResultColumns columns = session.createSelectionQuery(
+					"select m.id, m.bucket, m.reading, m.sensor from Measurement m order by m.id"
+			).getResultColumns();
+
+			assertThat( columns.getRowCount() ).isEqualTo( ROW_COUNT + 1 );
+			assertThat( columns.getColumnCount() ).isEqualTo( 4 );
+			assertThat( columns.getColumnType( 0 ) ).isEqualTo( long.class );
+			assertThat( columns.getColumnType( 1 ) ).isEqualTo( int.class );
+			assertThat( columns.getColumnType( 2 ) ).isEqualTo( double.class );
+			assertThat( columns.getColumnType( 3 ) ).isEqualTo( String.class );
+
+			final long[] ids = columns.getLongColumn( 0 );
+			final int[] buckets = columns.getIntColumn( 1 );
+			final double[] readings = columns.getDoubleColumn( 2 );
+			final Object[] sensors = columns.getObjectColumn( 3 );
+			assertThat( ids ).hasSize( ROW_COUNT + 1 );
+			for ( int i = 0; i < ROW_COUNT; i++ ) {
+				assertThat( ids[i] ).isEqualTo( i );
+				assertThat( buckets[i] ).isEqualTo( i % 7 );
+				assertThat( readings[i] ).isEqualTo( i / 4.0 );
+				assertThat( sensors[i] ).isEqualTo( i % 10 == 0 ? null : "sensor " + i );
+				assertThat( columns.isNull( 1, i ) ).isFalse();
+			}
+
+			assertThat( columns.isNull( 0, ROW_COUNT ) ).isFalse();
+			assertThat( columns.isNull( 1, ROW_COUNT ) ).isTrue();
+			assertThat( columns.isNull( 2, ROW_COUNT ) ).isTrue();
+			assertThat( columns.getValue( 1, ROW_COUNT ) ).isNull();
+			assertThat( columns.getValue( 1, 3 ) ).isEqualTo( 3 );
+		} );
+	}
+
+	@Test
+	public void testNarrowTypes(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final ResultColumns columns = session.createSelectionQuery(
+					"select m.smallBucket, m.ratio from Measurement m order by m.id"
+			).getResultColumns();
+
+			// narrow types are widened for storage
+			assertThat( columns.getColumnType( 0 ) ).isEqualTo( int.class );
+			assertThat( columns.getColumnType( 1 ) ).isEqualTo( double.class );
+			assertThat( columns.getIntColumn( 0 )[3] ).isEqualTo( 3 );
+			assertThat( columns.getDoubleColumn( 1 )[3] ).isEqualTo( 0.75 );
+
+			// but values are returned as the selected type
+			assertThat( columns.getValue( 0, 3 ) ).isEqualTo( (short) 3 );
+			assertThat( columns.getValue( 1, 3 ) ).isEqualTo( 0.75f );
+			assertThat( columns.getValue( 0, ROW_COUNT ) ).isNull();
+		} );
+	}
+
+	@Test
+	public void testAggregates(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final ResultColumns columns = session.createSelectionQuery(
+					"select m.bucket, count(m), sum(m.reading) from Measurement m where m.bucket is not null group by m.bucket order by m.bucket"
+			).getResultColumns();
+
+			assertThat( columns.getRowCount() ).isEqualTo( 7 );
+			assertThat( columns.getIntColumn( 0 ) ).containsExactly( 0, 1, 2, 3, 4, 5, 6 );
+			long total = 0;
+			for ( long count : columns.getLongColumn( 1 ) ) {
+				total += count;
+			}
+			assertThat( total ).isEqualTo( ROW_COUNT );
+		} );
+	}
+
+	@Test
+	public void testCriteria(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final CriteriaBuilder builder = session.getCriteriaBuilder();
+			final CriteriaQuery<Object[]> criteria = builder.createQuery( Object[].class );
+			final Root<Measurement> root = criteria.from( Measurement.class );
+			criteria.multiselect( root.get( "id" ), root.get( "reading" ) );
+			criteria.where( builder.lessThan( root.<Long>get( "id" ), 10L ) );
+
+			final ResultColumns columns = session.createQuery( criteria ).getResultColumns();
+			assertThat( columns.getRowCount() ).isEqualTo( 10 );
+			assertThat( columns.getLongColumn( 0 ) ).hasSize( 10 );
+		} );
+	}
+
+	@Test
+	public void testMaxResults(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final ResultColumns columns = session.createSelectionQuery( "select m.id from Measurement m order by m.id" )
+					.setMaxResults( 5 )
+					.getResultColumns();
+			assertThat( columns.getLongColumn( 0 ) ).containsExactly( 0L, 1L, 2L, 3L, 4L );
+		} );
+	}
+
+	@Test
+	public void testEntitySelectionNotSupported(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			assertThatThrownBy( () -> session.createSelectionQuery( "select m from Measurement m" ).getResultColumns() )
+					.isInstanceOf( IllegalStateException.class );
+			assertThatThrownBy( () -> session.createSelectionQuery( "select m.id, m from Measurement m" ).getResultColumns() )
+					.isInstanceOf( IllegalStateException.class );
+		} );
+	}
+
+	@Test
+	public void testNativeQueryNotSupported(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			assertThatThrownBy( () -> session.createNativeQuery( "select id from Measurement" ).getResultColumns() )
+					.isInstanceOf( UnsupportedOperationException.class );
+		} );
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		private Long id;
+		private Integer bucket;
+		private Double reading;
+		private String sensor;
+		private Short smallBucket;
+		private Float ratio;
+
+		public Measurement() {
+		}
+
+		public Measurement(Long id, Integer bucket, Double reading, String sensor) {
+			this.id = id;
+			this.bucket = bucket;
+			this.reading = reading;
+			this.sensor = sensor;
+			this.smallBucket = bucket == null ? null : bucket.shortValue();
+			this.ratio = reading == null ? null : reading.floatValue();
+		}
+	}
+}
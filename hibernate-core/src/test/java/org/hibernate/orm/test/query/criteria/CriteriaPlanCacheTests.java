@@ -0,0 +1,283 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.criteria;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Root;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaRoot;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.internal.SqmCriteriaStructure;
+import org.hibernate.query.sqm.sql.SqmTranslator;
+import org.hibernate.query.sqm.sql.StandardSqmTranslatorFactory;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.spi.SqlAstCreationContext;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that criteria queries of the same structure share a query plan when
+ * {@value AvailableSettings#CRITERIA_PLAN_CACHE_ENABLED} is enabled.
+ */
+@DomainModel(
+		annotatedClasses = {
+				CriteriaPlanCacheTests.Widget.class,
+				CriteriaPlanCacheTests.SpecialWidget.class,
+				CriteriaPlanCacheTests.Gadget.class
+		}
+)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.CRITERIA_PLAN_CACHE_ENABLED, value = "true"),
+				@Setting(
+						name = AvailableSettings.SEMANTIC_QUERY_TRANSLATOR,
+						value = "org.hibernate.orm.test.query.criteria.CriteriaPlanCacheTests$CountingSqmTranslatorFactory"
+				)
+		}
+)
+@SessionFactory
+public class CriteriaPlanCacheTests {
+	private static final String[] NAMES = { "first", "second", "third" };
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < NAMES.length; i++ ) {
+				session.persist( new Widget( i, NAMES[i] ) );
+			}
+			session.persist( new Gadget( 0, session.getReference( Widget.class, 0 ) ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete Gadget" ).executeUpdate();
+			session.createMutationQuery( "delete Widget" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testValuesDoNotPreventSharing(SessionFactoryScope scope) {
+		final int initialCount = CountingSqmTranslatorFactory.SELECT_TRANSLATIONS.get();
+
+		scope.inTransaction( (session) -> {
+			final CriteriaBuilder cb = session.getCriteriaBuilder();
+			for ( int i = 0; i < NAMES.length; i++ ) {
+				final CriteriaQuery<Integer> criteria = cb.createQuery( Integer.class );
+				final Root<Widget> root = criteria.from( Widget.class );
+				criteria.select( root.<Integer>get( "id" ) ).where( cb.equal( root.<String>get( "name" ), NAMES[i] ) );
+				assertThat( session.createQuery( criteria ).getSingleResult() ).isEqualTo( i );
+			}
+		} );
+
+		assertThat( CountingSqmTranslatorFactory.SELECT_TRANSLATIONS.get() - initialCount ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testParametersArePassedByPosition(SessionFactoryScope scope) {
+		final int initialCount = CountingSqmTranslatorFactory.SELECT_TRANSLATIONS.get();
+
+		scope.inTransaction( (session) -> {
+			final CriteriaBuilder cb = session.getCriteriaBuilder();
+			for ( int i = 0; i < NAMES.length; i++ ) {
+				final CriteriaQuery<String> criteria = cb.createQuery( String.class );
+				final Root<Widget> root = criteria.from( Widget.class );
+				final ParameterExpression<Integer> min = cb.parameter( Integer.class );
+				final ParameterExpression<Integer> max = cb.parameter( Integer.class );
+				criteria.select( root.<String>get( "name" ) )
+						.where( cb.ge( root.<Integer>get( "id" ), min ), cb.le( root.<Integer>get( "id" ), max ) );
+				assertThat( session.createQuery( criteria )
+									.setParameter( max, i )
+									.setParameter( min, i )
+									.getSingleResult() )
+						.isEqualTo( NAMES[i] );
+			}
+		} );
+
+		assertThat( CountingSqmTranslatorFactory.SELECT_TRANSLATIONS.get() - initialCount ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testDifferentStructuresDoNotShare(SessionFactoryScope scope) {
+		final int initialCount = CountingSqmTranslatorFactory.SELECT_TRANSLATIONS.get();
+
+		scope.inTransaction( (session) -> {
+			final CriteriaBuilder cb = session.getCriteriaBuilder();
+
+			final CriteriaQuery<Long> greater = cb.createQuery( Long.class );
+			final Root<Widget> greaterRoot = greater.from( Widget.class );
+			greater.select( cb.count( greaterRoot ) ).where( cb.gt( greaterRoot.<Integer>get( "id" ), 0 ) );
+			assertThat( session.createQuery( greater ).getSingleResult() ).isEqualTo( 2L );
+
+			final CriteriaQuery<Long> less = cb.createQuery( Long.class );
+			final Root<Widget> lessRoot = less.from( Widget.class );
+			less.select( cb.count( lessRoot ) ).where( cb.lt( lessRoot.<Integer>get( "id" ), 0 ) );
+			assertThat( session.createQuery( less ).getSingleResult() ).isEqualTo( 0L );
+		} );
+
+		assertThat( CountingSqmTranslatorFactory.SELECT_TRANSLATIONS.get() - initialCount ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testFetchJoinDoesNotShareWithPlainJoin(SessionFactoryScope scope) {
+		final int initialCount = CountingSqmTranslatorFactory.SELECT_TRANSLATIONS.get();
+
+		final Gadget joined = scope.fromTransaction( (session) -> {
+			final CriteriaQuery<Gadget> criteria = session.getCriteriaBuilder().createQuery( Gadget.class );
+			final Root<Gadget> root = criteria.from( Gadget.class );
+			root.join( "widget" );
+			return session.createQuery( criteria.select( root ) ).getSingleResult();
+		} );
+		final Gadget fetched = scope.fromTransaction( (session) -> {
+			final CriteriaQuery<Gadget> criteria = session.getCriteriaBuilder().createQuery( Gadget.class );
+			final Root<Gadget> root = criteria.from( Gadget.class );
+			root.fetch( "widget" );
+			return session.createQuery( criteria.select( root ) ).getSingleResult();
+		} );
+
+		assertThat( Hibernate.isInitialized( joined.widget ) ).isFalse();
+		assertThat( Hibernate.isInitialized( fetched.widget ) ).isTrue();
+		assertThat( CountingSqmTranslatorFactory.SELECT_TRANSLATIONS.get() - initialCount ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testSemanticAttributesAreDistinguished(SessionFactoryScope scope) {
+		final HibernateCriteriaBuilder cb = scope.getSessionFactory().getCriteriaBuilder();
+
+		assertDistinctStructures(
+				criteria( cb, Gadget.class, (root, criteria) -> root.join( "widget", JoinType.INNER ) ),
+				criteria( cb, Gadget.class, (root, criteria) -> root.join( "widget", JoinType.LEFT ) )
+		);
+		assertDistinctStructures(
+				criteria( cb, Widget.class, (root, criteria) -> criteria.where( cb.isTrue( root.get( "active" ) ) ) ),
+				criteria( cb, Widget.class, (root, criteria) -> criteria.where( cb.isFalse( root.get( "active" ) ) ) )
+		);
+		assertDistinctStructures(
+				criteria( cb, Widget.class, (root, criteria) -> criteria.where( cb.equal( root.get( "name" ), "first" ) ) ),
+				criteria( cb, Widget.class, (root, criteria) -> criteria.where( cb.not( cb.equal( root.get( "name" ), "first" ) ) ) )
+		);
+		assertDistinctStructures(
+				criteria( cb, Widget.class, (root, criteria) -> criteria.where( cb.like( root.get( "name" ), "f%" ) ) ),
+				criteria( cb, Widget.class, (root, criteria) -> criteria.where( cb.ilike( root.get( "name" ), "f%" ) ) )
+		);
+		assertDistinctStructures(
+				criteria( cb, Widget.class, (root, criteria) -> criteria.select( root ) ),
+				criteria( cb, Widget.class, (root, criteria) -> criteria.select( cb.treat( root, SpecialWidget.class ) ) )
+		);
+		assertDistinctStructures(
+				criteria( cb, Widget.class, (root, criteria) -> {} ),
+				criteria( cb, Widget.class, (root, criteria) -> criteria.offset( 1 ) )
+		);
+	}
+
+	private static <X> SqmSelectStatement<X> criteria(
+			HibernateCriteriaBuilder cb,
+			Class<X> entityClass,
+			BiConsumer<JpaRoot<X>, JpaCriteriaQuery<X>> customizer) {
+		final JpaCriteriaQuery<X> criteria = cb.createQuery( entityClass );
+		final JpaRoot<X> root = criteria.from( entityClass );
+		criteria.select( root );
+		customizer.accept( root, criteria );
+		return (SqmSelectStatement<X>) criteria;
+	}
+
+	private static void assertDistinctStructures(SqmSelectStatement<?> first, SqmSelectStatement<?> second) {
+		final SqmCriteriaStructure firstStructure = SqmCriteriaStructure.from( first );
+		final SqmCriteriaStructure secondStructure = SqmCriteriaStructure.from( second );
+		assertThat( firstStructure ).isNotNull();
+		assertThat( secondStructure ).isNotNull();
+		assertThat( firstStructure.getStructure() ).isNotEqualTo( secondStructure.getStructure() );
+	}
+
+	public static class CountingSqmTranslatorFactory extends StandardSqmTranslatorFactory {
+		static final AtomicInteger SELECT_TRANSLATIONS = new AtomicInteger();
+
+		@Override
+		public SqmTranslator<SelectStatement> createSelectTranslator(
+				SqmSelectStatement<?> sqmSelectStatement,
+				QueryOptions queryOptions,
+				DomainParameterXref domainParameterXref,
+				QueryParameterBindings domainParameterBindings,
+				LoadQueryInfluencers loadQueryInfluencers,
+				SqlAstCreationContext creationContext,
+				boolean deduplicateSelectionItems) {
+			SELECT_TRANSLATIONS.incrementAndGet();
+			return super.createSelectTranslator(
+					sqmSelectStatement,
+					queryOptions,
+					domainParameterXref,
+					domainParameterBindings,
+					loadQueryInfluencers,
+					creationContext,
+					deduplicateSelectionItems
+			);
+		}
+	}
+
+	@Entity(name = "Widget")
+	public static class Widget {
+		@Id
+		private Integer id;
+		private String name;
+		private boolean active;
+
+		public Widget() {
+		}
+
+		public Widget(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "SpecialWidget")
+	public static class SpecialWidget extends Widget {
+	}
+
+	@Entity(name = "Gadget")
+	public static class Gadget {
+		@Id
+		private Integer id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Widget widget;
+
+		public Gadget() {
+		}
+
+		public Gadget(Integer id, Widget widget) {
+			this.id = id;
+			this.widget = widget;
+		}
+	}
+}
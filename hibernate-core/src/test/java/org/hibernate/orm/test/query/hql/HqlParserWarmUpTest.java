@@ -0,0 +1,133 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.grammars.hql.HqlLexer;
+import org.hibernate.grammars.hql.HqlParser;
+import org.hibernate.query.SemanticException;
+import org.hibernate.query.hql.internal.HqlParseTreeBuilder;
+
+import org.hibernate.testing.orm.domain.StandardDomainModel;
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.NoViableAltException;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.dfa.DFA;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that queries are parsed as usual after the parser has been warmed up
+ * on startup, that syntax errors are still reported, and that a failed SLL parse
+ * falls back to LL.
+ */
+@DomainModel(standardModels = StandardDomainModel.GAMBIT)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.HQL_PARSER_WARM_UP, value = "true"))
+@SessionFactory
+public class HqlParserWarmUpTest {
+
+	@Test
+	public void testParsingAfterWarmUp(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.persist( new BasicEntity( 1, "first" ) );
+			assertThat( session.createSelectionQuery( "select e.data from BasicEntity e where e.id = :id order by e.data", String.class )
+								.setParameter( "id", 1 )
+								.getSingleResult() )
+					.isEqualTo( "first" );
+			session.createMutationQuery( "delete BasicEntity" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testSyntaxErrorIsReported(SessionFactoryScope scope) {
+		assertThatThrownBy( () -> scope.getSessionFactory()
+				.getQueryEngine()
+				.getHqlTranslator()
+				.translate( "select e from BasicEntity e where e.id = = 1", null ) )
+				.isInstanceOf( SemanticException.class );
+	}
+
+	@Test
+	public void testWarmUpPopulatesSharedDfa() {
+		final HqlParser parser = HqlParseTreeBuilder.INSTANCE.buildHqlParser( "from BasicEntity" );
+		parser.getInterpreter().clearDFA();
+		assertThat( dfaStateCount( parser ) ).isZero();
+
+		// a new builder, since the shared instance only warms up once
+		new HqlParseTreeBuilder().warmUp();
+
+		assertThat( dfaStateCount( parser ) ).isPositive();
+	}
+
+	private static int dfaStateCount(HqlParser parser) {
+		int count = 0;
+		for ( DFA dfa : parser.getInterpreter().decisionToDFA ) {
+			count += dfa.states.size();
+		}
+		return count;
+	}
+
+	@Test
+	public void testSllFailureFallsBackToLl() {
+		final List<PredictionMode> attemptedModes = new ArrayList<>();
+		final HqlParseTreeBuilder builder = new HqlParseTreeBuilder() {
+			@Override
+			public HqlParser buildHqlParser(String hql, HqlLexer hqlLexer) {
+				return new HqlParser( new CommonTokenStream( hqlLexer ) ) {
+					@Override
+					public StatementContext statement() {
+						final PredictionMode predictionMode = getInterpreter().getPredictionMode();
+						attemptedModes.add( predictionMode );
+						if ( predictionMode == PredictionMode.SLL ) {
+							// what a rule does when SLL finds no viable alternative
+							final RecognitionException e = new NoViableAltException( this );
+							getErrorHandler().reportError( this, e );
+							getErrorHandler().recover( this, e );
+						}
+						return super.statement();
+					}
+				};
+			}
+		};
+
+		// the listener throws if the rejection by SLL is reported as a syntax error
+		final HqlParser.StatementContext statement = builder.parseHql( "select e from BasicEntity e where e.id = 1", THROWING_LISTENER );
+
+		assertThat( statement ).isNotNull();
+		assertThat( statement.exception ).isNull();
+		assertThat( attemptedModes ).containsExactly( PredictionMode.SLL, PredictionMode.LL );
+	}
+
+	private static final ANTLRErrorListener THROWING_LISTENER = new BaseErrorListener() {
+		@Override
+		public void syntaxError(
+				Recognizer<?, ?> recognizer,
+				Object offendingSymbol,
+				int line,
+				int charPositionInLine,
+				String msg,
+				RecognitionException e) {
+			throw new IllegalStateException( "Syntax error reported: " + msg );
+		}
+	};
+}
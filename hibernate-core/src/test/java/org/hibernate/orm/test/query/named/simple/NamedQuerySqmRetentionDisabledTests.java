@@ -0,0 +1,52 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.named.simple;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.sqm.internal.QuerySqmImpl;
+import org.hibernate.query.sqm.tree.SqmStatement;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Named HQL queries are parsed again when the retention of their trees is
+ * disabled and the query plan cache does not hold their interpretation.
+ */
+@DomainModel( annotatedClasses = SimpleEntityWithNamedQueries.class )
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.QUERY_STARTUP_CHECKING, value = "true" ),
+				@Setting( name = AvailableSettings.QUERY_PLAN_CACHE_ENABLED, value = "false" ),
+				@Setting( name = AvailableSettings.NAMED_QUERY_SQM_RETENTION, value = "false" )
+		}
+)
+@SessionFactory
+public class NamedQuerySqmRetentionDisabledTests {
+	@Test
+	public void testNamedQueryIsParsedAgain(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final SqmStatement<?> first = session.createNamedQuery( "restricted" )
+							.unwrap( QuerySqmImpl.class )
+							.getSqmStatement();
+					final SqmStatement<?> second = session.createNamedQuery( "restricted" )
+							.unwrap( QuerySqmImpl.class )
+							.getSqmStatement();
+					assertThat( second, not( sameInstance( first ) ) );
+				}
+		);
+	}
+}
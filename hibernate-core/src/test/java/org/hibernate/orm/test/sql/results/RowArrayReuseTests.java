@@ -0,0 +1,118 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.sql.results;
+
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Tuple;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Row arrays and instantiation arguments may be reused across rows; make sure
+ * that no result observes a later row.
+ */
+@DomainModel(annotatedClasses = RowArrayReuseTests.Invoice.class)
+@SessionFactory
+public class RowArrayReuseTests {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				session.persist( new Invoice( i, i * 10L ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete Invoice" ).executeUpdate() );
+	}
+
+	@Test
+	public void testScalarArrayRows(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Object[]> rows = session.createSelectionQuery(
+					"select i.id, i.amount from Invoice i order by i.id",
+					Object[].class
+			).list();
+			assertThat( rows ).hasSize( 3 );
+			for ( int i = 0; i < 3; i++ ) {
+				assertThat( rows.get( i ) ).containsExactly( i + 1, ( i + 1 ) * 10L );
+			}
+		} );
+	}
+
+	@Test
+	public void testSingleScalarRows(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Integer> ids = session.createSelectionQuery(
+					"select i.id from Invoice i order by i.id",
+					Integer.class
+			).list();
+			assertThat( ids ).containsExactly( 1, 2, 3 );
+		} );
+	}
+
+	@Test
+	public void testTupleRows(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Tuple> rows = session.createSelectionQuery(
+					"select i.id as id, i.amount as amount from Invoice i order by i.id",
+					Tuple.class
+			).list();
+			assertThat( rows ).extracting( row -> row.get( "id" ) ).containsExactly( 1, 2, 3 );
+		} );
+	}
+
+	@Test
+	public void testDynamicInstantiationRows(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<InvoiceSummary> summaries = session.createSelectionQuery(
+					"select new " + InvoiceSummary.class.getName() + "(i.id, i.amount) from Invoice i order by i.id",
+					InvoiceSummary.class
+			).list();
+			assertThat( summaries ).extracting( summary -> summary.id ).containsExactly( 1, 2, 3 );
+			assertThat( summaries ).extracting( summary -> summary.amount ).containsExactly( 10L, 20L, 30L );
+		} );
+	}
+
+	public static class InvoiceSummary {
+		private final Integer id;
+		private final Long amount;
+
+		public InvoiceSummary(Integer id, Long amount) {
+			this.id = id;
+			this.amount = amount;
+		}
+	}
+
+	@Entity(name = "Invoice")
+	public static class Invoice {
+		@Id
+		private Integer id;
+		private Long amount;
+
+		public Invoice() {
+		}
+
+		public Invoice(Integer id, Long amount) {
+			this.id = id;
+			this.amount = amount;
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.internal.QueryInterpretationCacheWeightedImpl;
+import org.hibernate.stat.QueryInterpretationCacheStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = QueryInterpretationCacheWeightedStatisticsTest.Product.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_MAX_WEIGHT, value = "200000")
+})
+@SessionFactory
+public class QueryInterpretationCacheWeightedStatisticsTest {
+
+	@BeforeEach
+	public void cleanup(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getStatistics().clear();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+	}
+
+	@Test
+	public void testWeightedCacheIsUsed(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getQueryEngine().getInterpretationCache() )
+				.isInstanceOf( QueryInterpretationCacheWeightedImpl.class );
+	}
+
+	@Test
+	public void testHitsAndMisses(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				session.createSelectionQuery( "from Product p where p.id = :id", Product.class )
+						.setParameter( "id", 1 )
+						.list();
+			}
+		} );
+
+		final QueryInterpretationCacheStatistics hqlStatistics =
+				statistics.getQueryInterpretationCacheStatistics( QueryInterpretationCacheStatistics.HQL_INTERPRETATIONS );
+		assertThat( hqlStatistics.getMissCount() ).isEqualTo( 1 );
+		assertThat( hqlStatistics.getHitCount() ).isEqualTo( 2 );
+		assertThat( hqlStatistics.getWeight() ).isPositive();
+
+		final QueryInterpretationCacheStatistics planStatistics =
+				statistics.getQueryInterpretationCacheStatistics( QueryInterpretationCacheStatistics.QUERY_PLANS );
+		assertThat( planStatistics.getMissCount() ).isEqualTo( 1 );
+		assertThat( planStatistics.getHitCount() ).isEqualTo( 2 );
+		assertThat( planStatistics.getWeight() ).isPositive();
+	}
+
+	@Test
+	public void testLargeQueriesAreEvicted(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 50; i++ ) {
+				final StringBuilder hql = new StringBuilder( "from Product p where p.id in (" ).append( i );
+				for ( int j = 1; j < 200; j++ ) {
+					hql.append( ',' ).append( i * 1000 + j );
+				}
+				hql.append( ')' );
+				session.createSelectionQuery( hql.toString(), Product.class ).list();
+			}
+		} );
+
+		final QueryInterpretationCacheStatistics hqlStatistics =
+				statistics.getQueryInterpretationCacheStatistics( QueryInterpretationCacheStatistics.HQL_INTERPRETATIONS );
+		assertThat( hqlStatistics.getEvictionCount() ).isPositive();
+		// the budget is shared by all caches
+		final long totalWeight = hqlStatistics.getWeight()
+				+ statistics.getQueryInterpretationCacheStatistics( QueryInterpretationCacheStatistics.QUERY_PLANS ).getWeight()
+				+ statistics.getQueryInterpretationCacheStatistics( QueryInterpretationCacheStatistics.NATIVE_QUERY_PARAMETERS ).getWeight();
+		assertThat( totalWeight ).isLessThanOrEqualTo( 200000L );
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Integer id;
+		private String name;
+	}
+}
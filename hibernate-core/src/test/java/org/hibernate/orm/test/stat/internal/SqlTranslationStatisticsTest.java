@@ -0,0 +1,68 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.domain.StandardDomainModel;
+import org.hibernate.testing.orm.domain.gambit.BasicEntity;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(standardModels = StandardDomainModel.GAMBIT)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_ENABLED, value = "false")
+})
+@SessionFactory
+public class SqlTranslationStatisticsTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.persist( new BasicEntity( 1, "first" ) );
+			session.persist( new BasicEntity( 2, "second" ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete BasicEntity" ).executeUpdate() );
+	}
+
+	@Test
+	public void testTranslationsAreCounted(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 5; i++ ) {
+				assertThat( session.createSelectionQuery( "select e.data from BasicEntity e where e.id = 1", String.class )
+									.getSingleResult() )
+						.isEqualTo( "first" );
+				assertThat( session.createSelectionQuery( "select count(e) from BasicEntity e", Long.class )
+									.getSingleResult() )
+						.isEqualTo( 2L );
+			}
+		} );
+
+		assertThat( statistics.getSqlTranslationCount() ).isEqualTo( 10L );
+		assertThat( statistics.getSqlTranslationTotalLength() ).isGreaterThan( 10L * "select".length() );
+
+		statistics.clear();
+		assertThat( statistics.getSqlTranslationCount() ).isZero();
+	}
+}
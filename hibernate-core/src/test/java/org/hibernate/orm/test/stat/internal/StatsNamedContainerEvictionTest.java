@@ -0,0 +1,36 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import org.hibernate.stat.internal.StatsNamedContainer;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class StatsNamedContainerEvictionTest {
+
+	@Test
+	public void testIdleEntryIsEvictedWhereverItIs() {
+		final int capacity = 1000;
+		final StatsNamedContainer<Long> container = new StatsNamedContainer<>( capacity, Long::longValue );
+		container.getOrCompute( "idle", key -> 0L );
+		for ( int i = 1; i < capacity; i++ ) {
+			container.getOrCompute( "busy" + i, key -> 100L );
+		}
+		assertEquals( 0L, (long) container.get( "idle" ) );
+
+		// the idle entry is only evicted if samples are drawn from the whole table
+		for ( int i = 0; i < 5 * capacity; i++ ) {
+			container.getOrCompute( "new" + i, key -> 100L );
+		}
+
+		assertNull( container.get( "idle" ) );
+		assertEquals( capacity, container.keysAsArray().length );
+	}
+}
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import jakarta.persistence.EntityManagerFactory;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 /**
@@ -53,11 +54,14 @@ public class ExplicitQueryStatsMaxSizeTest extends QueryStatsMaxSizeTest {
 
 			assertEquals( 1000, statistics.getQueryStatistics( "1" ).getExecutionTotalTime() );
 
+			// query "1" keeps being executed, so it is never the least active entry of an eviction sample
 			for ( int i = 100; i < 300; i++ ) {
 				statistics.queryExecuted( String.valueOf( i ), 100, i * 1000 );
+				statistics.queryExecuted( "1", 100, 1000 );
 			}
 
-			assertEquals( 0, statistics.getQueryStatistics( "1" ).getExecutionTotalTime() );
+			assertTrue( statistics.getQueries().length <= expectedQueryStatisticsMaxSize() );
+			assertEquals( 201000, statistics.getQueryStatistics( "1" ).getExecutionTotalTime() );
 		} );
 	}
 }
@@ -0,0 +1,139 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.internal.util.collections.WeightedConcurrentCache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WeightedConcurrentCacheTest {
+
+	@Test
+	public void testWeightIsTracked() {
+		final WeightedConcurrentCache<String, String> cache = new WeightedConcurrentCache<>(
+				1_000,
+				(key, value) -> value.length(),
+				(key, value) -> {}
+		);
+		cache.put( "a", "12345" );
+		cache.put( "b", "1234567890" );
+		assertEquals( 15, cache.getWeight() );
+
+		cache.put( "a", "1" );
+		assertEquals( 11, cache.getWeight() );
+		assertEquals( "1", cache.get( "a" ) );
+
+		cache.remove( "b" );
+		assertEquals( 1, cache.getWeight() );
+
+		cache.clear();
+		assertEquals( 0, cache.getWeight() );
+		assertEquals( 0, cache.size() );
+	}
+
+	@Test
+	public void testOversizedEntryIsNotCached() {
+		final WeightedConcurrentCache<String, String> cache = new WeightedConcurrentCache<>(
+				10,
+				(key, value) -> value.length(),
+				(key, value) -> {}
+		);
+		cache.put( "huge", "12345678901" );
+		assertNull( cache.get( "huge" ) );
+		assertEquals( 0, cache.getWeight() );
+	}
+
+	@Test
+	public void testLargeIdleEntriesAreEvictedFirst() throws InterruptedException {
+		final List<String> evicted = new ArrayList<>();
+		final WeightedConcurrentCache<String, Integer> cache = new WeightedConcurrentCache<>(
+				1_000,
+				(key, value) -> value,
+				(key, value) -> evicted.add( key )
+		);
+		cache.put( "large", 600 );
+		for ( int i = 0; i < 10; i++ ) {
+			cache.put( "small" + i, 10 );
+		}
+		Thread.sleep( 5 );
+		for ( int i = 0; i < 10; i++ ) {
+			cache.get( "small" + i );
+		}
+
+		// pushes the total over the maximum
+		cache.put( "new", 350 );
+
+		assertEquals( 1, evicted.size() );
+		assertEquals( "large", evicted.get( 0 ) );
+		assertNull( cache.get( "large" ) );
+		for ( int i = 0; i < 10; i++ ) {
+			assertNotNull( cache.get( "small" + i ) );
+		}
+		assertTrue( cache.getWeight() <= 900 );
+	}
+
+	@Test
+	public void testOnlyExcessIsEvictedWithSmallMaximum() {
+		final List<String> evicted = new ArrayList<>();
+		final WeightedConcurrentCache<String, Integer> cache = new WeightedConcurrentCache<>(
+				5,
+				(key, value) -> value,
+				(key, value) -> evicted.add( key )
+		);
+		for ( int i = 0; i < 6; i++ ) {
+			cache.put( "key" + i, 1 );
+		}
+
+		// the low-water mark is 4, rather than 0 which would empty the cache
+		assertEquals( 2, evicted.size() );
+		assertEquals( 4, cache.size() );
+		assertEquals( 4, cache.getWeight() );
+	}
+
+	@Test
+	public void testReweigh() {
+		final StringBuilder growing = new StringBuilder( "123" );
+		final WeightedConcurrentCache<String, StringBuilder> cache = new WeightedConcurrentCache<>(
+				1_000,
+				(key, value) -> value.length(),
+				(key, value) -> {}
+		);
+		cache.put( "key", growing );
+		assertEquals( 3, cache.getWeight() );
+
+		growing.append( "4567" );
+		assertTrue( cache.reweigh( "key" ) );
+		assertEquals( 7, cache.getWeight() );
+		assertTrue( !cache.reweigh( "key" ) );
+	}
+
+	@Test
+	public void testGetAndReweigh() {
+		final StringBuilder growing = new StringBuilder( "123" );
+		final WeightedConcurrentCache<String, StringBuilder> cache = new WeightedConcurrentCache<>(
+				1_000,
+				(key, value) -> value.length(),
+				(key, value) -> {}
+		);
+		cache.put( "key", growing );
+		assertEquals( 3, cache.getWeight() );
+
+		growing.append( "4567" );
+		assertSame( growing, cache.getAndReweigh( "key" ) );
+		assertEquals( 7, cache.getWeight() );
+		assertNull( cache.getAndReweigh( "other" ) );
+	}
+}
@@ -6,6 +6,9 @@
  */
 package org.hibernate.orm.test.jcache;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import javax.cache.Cache;
 
 import org.hibernate.cache.jcache.internal.JCacheAccessImpl;
@@ -65,6 +68,35 @@ public class StorageAccessTest {
 		}
 	}
 
+	@Test
+	public void testBulkStorageAccessUse() {
+		TestHelper.preBuildAllCaches();
+		try (final SessionFactoryImplementor sessionFactory = TestHelper.buildStandardSessionFactory() ) {
+			final Region region = sessionFactory.getCache().getRegion( TestHelper.entityRegionNames[0] );
+
+			final JCacheAccessImpl access = (JCacheAccessImpl) ( (DomainDataRegionTemplate) region ).getCacheStorageAccess();
+			final Cache jcache = access.getUnderlyingCache();
+
+			inSession(
+					sessionFactory,
+					s -> {
+						final Map<String, String> values = new HashMap<>();
+						values.put( "key1", "value1" );
+						values.put( "key2", "value2" );
+						access.putAllIntoCache( values, s );
+						assertThat( jcache.get( "key1" ), equalTo( "value1" ) );
+						assertThat( jcache.get( "key2" ), equalTo( "value2" ) );
+
+						final Map<Object, Object> cached = access.getAllFromCache( Arrays.asList( "key1", "key2", "key3" ), s );
+						assertThat( cached.size(), equalTo( 2 ) );
+						assertThat( cached.get( "key1" ), equalTo( "value1" ) );
+						assertThat( cached.get( "key2" ), equalTo( "value2" ) );
+						assertThat( cached.get( "key3" ), nullValue() );
+					}
+			);
+		}
+	}
+
 	@Test
 	@SuppressWarnings({"EmptyTryBlock", "unused"})
 	public void testCachesReleasedOnSessionFactoryClose() {
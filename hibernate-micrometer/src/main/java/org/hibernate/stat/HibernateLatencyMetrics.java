@@ -0,0 +1,317 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.lang.NonNullApi;
+import io.micrometer.core.lang.NonNullFields;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link MeterBinder} implementation that provides latency distributions, as {@link Timer}s
+ * publishing percentile histograms, for JDBC connection acquisition, statement and batch
+ * execution, result set processing, flushes, and second-level cache gets and puts.
+ * <p>
+ * The timers are fed by a {@link SessionEventListener} added to every session opened after
+ * this binder has been bound, and so do not depend on {@link Statistics} being enabled.
+ * <p>
+ * Result set processing is tagged with the query and the entity it returns. To bound the
+ * number of timers, only the first 100 distinct queries get a tag of their own, and later
+ * ones are tagged {@code other}.
+ */
+@NonNullApi
+@NonNullFields
+public class HibernateLatencyMetrics implements MeterBinder {
+
+	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
+	private static final String QUERY_TAG_NAME = "query";
+	private static final String ENTITY_TAG_NAME = "entity";
+	private static final String NONE_TAG_VALUE = "none";
+	private static final String OTHER_TAG_VALUE = "other";
+	private static final int MAX_QUERY_TAG_VALUES = 100;
+
+	private final Iterable<Tag> tags;
+
+	private final SessionFactory sessionFactory;
+
+	/**
+	 * Create {@code HibernateLatencyMetrics} and bind to the specified meter registry.
+	 *
+	 * @param registry meter registry to use
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public static void monitor(
+			MeterRegistry registry,
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			String... tags) {
+		monitor( registry, sessionFactory, sessionFactoryName, Tags.of( tags ) );
+	}
+
+	/**
+	 * Create {@code HibernateLatencyMetrics} and bind to the specified meter registry.
+	 *
+	 * @param registry meter registry to use
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public static void monitor(
+			MeterRegistry registry,
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			Iterable<Tag> tags) {
+		new HibernateLatencyMetrics( sessionFactory, sessionFactoryName, tags ).bindTo( registry );
+	}
+
+	/**
+	 * Create a {@code HibernateLatencyMetrics}.
+	 *
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public HibernateLatencyMetrics(SessionFactory sessionFactory, String sessionFactoryName, Iterable<Tag> tags) {
+		this.tags = Tags.concat( tags, SESSION_FACTORY_TAG_NAME, sessionFactoryName );
+		this.sessionFactory = sessionFactory;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry meterRegistry) {
+		if ( sessionFactory instanceof SessionFactoryImplementor ) {
+			final Meters meters = new Meters( meterRegistry );
+			( (SessionFactoryImplementor) sessionFactory ).getSessionFactoryOptions()
+					.getBaselineSessionEventsListenerBuilder()
+					.addListenerSupplier( () -> new MetricsSessionEventListener( meters ) );
+		}
+	}
+
+	private Timer timer(MeterRegistry registry, String name, String description, String... extraTags) {
+		return Timer.builder( name )
+				.tags( tags )
+				.tags( extraTags )
+				.description( description )
+				.publishPercentileHistogram()
+				.register( registry );
+	}
+
+	/**
+	 * The meters shared by the listeners of all sessions.
+	 */
+	class Meters {
+		private final MeterRegistry registry;
+		private final Map<String, String> queryTagValues = new ConcurrentHashMap<>();
+		private final Map<List<String>, Timer> resultSetProcessing = new ConcurrentHashMap<>();
+		private final Map<List<String>, DistributionSummary> resultSetRows = new ConcurrentHashMap<>();
+
+		final Timer connectionAcquisition;
+		final Timer statementExecution;
+		final Timer batchExecution;
+		final Timer flush;
+		final Timer partialFlush;
+		final Timer cacheGetHit;
+		final Timer cacheGetMiss;
+		final Timer cachePut;
+
+		Meters(MeterRegistry registry) {
+			this.registry = registry;
+			connectionAcquisition = timer( registry, "hibernate.jdbc.connection.acquisition",
+					"Time taken to obtain a JDBC connection" );
+			statementExecution = timer( registry, "hibernate.jdbc.statement.execution",
+					"Time taken to execute a JDBC statement" );
+			batchExecution = timer( registry, "hibernate.jdbc.batch.execution",
+					"Time taken to execute a JDBC batch" );
+			flush = timer( registry, "hibernate.flush", "Time taken by a flush", "type", "full" );
+			partialFlush = timer( registry, "hibernate.flush", "Time taken by a flush", "type", "partial" );
+			cacheGetHit = timer( registry, "hibernate.second.level.cache.get",
+					"Time taken by a second-level cache get", "result", "hit" );
+			cacheGetMiss = timer( registry, "hibernate.second.level.cache.get",
+					"Time taken by a second-level cache get", "result", "miss" );
+			cachePut = timer( registry, "hibernate.second.level.cache.put",
+					"Time taken by a second-level cache put" );
+		}
+
+		private List<String> resultSetTags(String queryIdentifier, String entityName) {
+			return List.of(
+					QUERY_TAG_NAME, queryTagValue( queryIdentifier ),
+					ENTITY_TAG_NAME, entityName == null ? NONE_TAG_VALUE : entityName
+			);
+		}
+
+		private String queryTagValue(String queryIdentifier) {
+			if ( queryIdentifier == null ) {
+				return NONE_TAG_VALUE;
+			}
+			final String tagValue = queryTagValues.get( queryIdentifier );
+			if ( tagValue != null ) {
+				return tagValue;
+			}
+			else if ( queryTagValues.size() >= MAX_QUERY_TAG_VALUES ) {
+				return OTHER_TAG_VALUE;
+			}
+			else {
+				// racing past the limit only adds a few more queries
+				return queryTagValues.computeIfAbsent( queryIdentifier, query -> query );
+			}
+		}
+
+		Timer resultSetProcessing(String queryIdentifier, String entityName) {
+			return resultSetProcessing.computeIfAbsent(
+					resultSetTags( queryIdentifier, entityName ),
+					extraTags -> timer( registry, "hibernate.jdbc.resultset.processing",
+							"Time taken to read the rows of a JDBC result set", extraTags.toArray( new String[0] ) )
+			);
+		}
+
+		DistributionSummary resultSetRows(String queryIdentifier, String entityName) {
+			return resultSetRows.computeIfAbsent(
+					resultSetTags( queryIdentifier, entityName ),
+					extraTags -> DistributionSummary.builder( "hibernate.jdbc.resultset.rows" )
+							.tags( tags )
+							.tags( extraTags.toArray( new String[0] ) )
+							.description( "Number of rows read from a JDBC result set" )
+							.publishPercentileHistogram()
+							.register( registry )
+			);
+		}
+	}
+
+	/**
+	 * Times the events of one session. As a session is used by one thread at a time,
+	 * the start of each kind of event is kept in a plain field. Result sets are read
+	 * while reading the rows of another, when loading associations, so their starts
+	 * are kept on a stack.
+	 */
+	static class MetricsSessionEventListener implements SessionEventListener {
+		private final transient Meters meters;
+
+		private long connectionAcquisitionStart;
+		private long statementExecutionStart;
+		private long batchExecutionStart;
+		private long[] resultSetProcessingStarts = new long[4];
+		private int resultSetProcessingDepth;
+		private long flushStart;
+		private long partialFlushStart;
+		private long cacheGetStart;
+		private long cachePutStart;
+
+		MetricsSessionEventListener(Meters meters) {
+			this.meters = meters;
+		}
+
+		@Override
+		public void jdbcConnectionAcquisitionStart() {
+			connectionAcquisitionStart = System.nanoTime();
+		}
+
+		@Override
+		public void jdbcConnectionAcquisitionEnd() {
+			record( meters.connectionAcquisition, connectionAcquisitionStart );
+		}
+
+		@Override
+		public void jdbcExecuteStatementStart() {
+			statementExecutionStart = System.nanoTime();
+		}
+
+		@Override
+		public void jdbcExecuteStatementEnd() {
+			record( meters.statementExecution, statementExecutionStart );
+		}
+
+		@Override
+		public void jdbcExecuteBatchStart() {
+			batchExecutionStart = System.nanoTime();
+		}
+
+		@Override
+		public void jdbcExecuteBatchEnd() {
+			record( meters.batchExecution, batchExecutionStart );
+		}
+
+		@Override
+		public void resultSetProcessingStart(String queryIdentifier, String entityName) {
+			if ( resultSetProcessingDepth == resultSetProcessingStarts.length ) {
+				resultSetProcessingStarts = Arrays.copyOf( resultSetProcessingStarts, resultSetProcessingDepth * 2 );
+			}
+			resultSetProcessingStarts[resultSetProcessingDepth++] = System.nanoTime();
+		}
+
+		@Override
+		public void resultSetProcessingEnd(String queryIdentifier, String entityName, int numberOfRows) {
+			if ( resultSetProcessingDepth > 0 ) {
+				record(
+						meters.resultSetProcessing( queryIdentifier, entityName ),
+						resultSetProcessingStarts[--resultSetProcessingDepth]
+				);
+			}
+			meters.resultSetRows( queryIdentifier, entityName ).record( numberOfRows );
+		}
+
+		@Override
+		public void flushStart() {
+			flushStart = System.nanoTime();
+		}
+
+		@Override
+		public void flushEnd(int numberOfEntities, int numberOfCollections) {
+			record( meters.flush, flushStart );
+		}
+
+		@Override
+		public void partialFlushStart() {
+			partialFlushStart = System.nanoTime();
+		}
+
+		@Override
+		public void partialFlushEnd(int numberOfEntities, int numberOfCollections) {
+			record( meters.partialFlush, partialFlushStart );
+		}
+
+		@Override
+		public void cacheGetStart() {
+			cacheGetStart = System.nanoTime();
+		}
+
+		@Override
+		public void cacheGetEnd(boolean hit) {
+			record( hit ? meters.cacheGetHit : meters.cacheGetMiss, cacheGetStart );
+		}
+
+		@Override
+		public void cachePutStart() {
+			cachePutStart = System.nanoTime();
+		}
+
+		@Override
+		public void cachePutEnd() {
+			record( meters.cachePut, cachePutStart );
+		}
+
+		private static void record(Timer timer, long start) {
+			if ( start != 0 ) {
+				timer.record( System.nanoTime() - start, TimeUnit.NANOSECONDS );
+			}
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stat;
+
+import java.util.Collection;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.stat.HibernateLatencyMetrics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MicrometerLatencyTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Account.class, AccountId.class };
+	}
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+
+		configuration.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "false" );
+		configuration.setProperty( Environment.USE_QUERY_CACHE, "false" );
+		configuration.setProperty( Environment.SESSION_FACTORY_NAME, "something" );
+		configuration.setProperty( Environment.SESSION_FACTORY_NAME_IS_JNDI, "false" );
+	}
+
+	@Test
+	public void testLatencyTimers() {
+		HibernateLatencyMetrics.monitor( registry, sessionFactory(), sessionFactory().getName(), Tags.empty() );
+
+		Session session = openSession();
+		session.beginTransaction();
+		session.save( new Account( new AccountId( 1 ), "testAcct" ) );
+		session.getTransaction().commit();
+		session.close();
+
+		session = openSession();
+		session.beginTransaction();
+		assertEquals( 1, session.createQuery( "from Account", Account.class ).list().size() );
+		session.createMutationQuery( "delete Account" ).executeUpdate();
+		session.getTransaction().commit();
+		session.close();
+
+		final Timer statementExecution = registry.get( "hibernate.jdbc.statement.execution" )
+				.tag( "entityManagerFactory", "something" )
+				.timer();
+		assertTrue( statementExecution.count() >= 2 );
+		assertTrue( registry.get( "hibernate.jdbc.connection.acquisition" ).timer().count() >= 2 );
+		final Timer resultSetProcessing = registry.get( "hibernate.jdbc.resultset.processing" )
+				.tag( "query", "from Account" )
+				.tag( "entity", Account.class.getName() )
+				.timer();
+		assertEquals( 1, resultSetProcessing.count() );
+		assertEquals(
+				1,
+				registry.get( "hibernate.jdbc.resultset.rows" ).tag( "query", "from Account" ).summary().totalAmount(),
+				0
+		);
+		assertTrue( registry.get( "hibernate.flush" ).tag( "type", "full" ).timer().count() >= 1 );
+		assertEquals( 0, registry.get( "hibernate.second.level.cache.get" ).tag( "result", "hit" ).timer().count() );
+	}
+
+	@Test
+	public void testQueryTagsAreBounded() {
+		HibernateLatencyMetrics.monitor( registry, sessionFactory(), sessionFactory().getName(), Tags.empty() );
+
+		Session session = openSession();
+		for ( int i = 0; i < 110; i++ ) {
+			session.createQuery( "select " + i + " from Account", Integer.class ).list();
+		}
+		session.close();
+
+		final Collection<Timer> timers = registry.get( "hibernate.jdbc.resultset.processing" ).timers();
+		assertEquals( 101, timers.size() );
+		final Timer other = registry.get( "hibernate.jdbc.resultset.processing" )
+				.tag( "query", "other" )
+				.tag( "entity", "none" )
+				.timer();
+		assertEquals( 10, other.count() );
+	}
+}
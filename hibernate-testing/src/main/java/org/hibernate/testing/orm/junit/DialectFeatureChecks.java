@@ -472,6 +472,12 @@ abstract public class DialectFeatureChecks {
 		}
 	}
 
+	public static class SupportsArrayForMultiValuedParameters implements DialectFeatureCheck {
+		public boolean apply(Dialect dialect) {
+			return dialect.useArrayForMultiValuedParameters();
+		}
+	}
+
 	public static class SupportsTruncateTable implements DialectFeatureCheck {
 		public boolean apply(Dialect dialect) {
 			return dialect instanceof MySQLDialect
@@ -82,6 +82,15 @@ public class HibernateOrmPlugin implements Plugin<Project> {
 						final ClassLoader classLoader = Helper.toClassLoader( sourceSet, project );
 
 						EnhancementHelper.enhance( classesDirectory, classLoader, ormDsl, project );
+
+						if ( ormDsl.getEnhancement().getGenerateReflectionOptimizers().get() ) {
+							// use a new ClassLoader, to load the enhanced classes
+							EnhancementHelper.generateReflectionOptimizers(
+									classesDirectory,
+									Helper.toClassLoader( sourceSet, project ),
+									project
+							);
+						}
 					}
 				} );
 			}
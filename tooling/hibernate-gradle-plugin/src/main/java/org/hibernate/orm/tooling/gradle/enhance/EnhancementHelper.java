@@ -9,7 +9,11 @@ package org.hibernate.orm.tooling.gradle.enhance;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
 import java.nio.file.Files;
+import java.util.Map;
+import java.util.Properties;
 
 import org.gradle.api.GradleException;
 import org.gradle.api.Project;
@@ -22,9 +26,15 @@ import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.enhance.spi.UnloadedClass;
 import org.hibernate.bytecode.enhance.spi.UnloadedField;
+import org.hibernate.bytecode.internal.bytebuddy.ReflectionOptimizerGenerator;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Environment;
+import org.hibernate.jpa.boot.spi.EntityManagerFactoryBuilder;
 import org.hibernate.orm.tooling.gradle.HibernateOrmSpec;
+import org.hibernate.orm.tooling.gradle.metamodel.PersistenceUnitInfoImpl;
 
+import static java.util.Collections.emptyMap;
+import static org.hibernate.jpa.boot.spi.Bootstrap.getEntityManagerFactoryBuilder;
 import static org.hibernate.orm.tooling.gradle.Helper.determineClassName;
 
 /**
@@ -51,6 +61,64 @@ public class EnhancementHelper {
 		walk( classesDir, classesDir, enhancer, project );
 	}
 
+	/**
+	 * Writes the pre-generated reflection optimizers for the entities and embeddables
+	 * of the enhanced classes next to them
+	 */
+	public static void generateReflectionOptimizers(
+			DirectoryProperty classesDirectoryProperty,
+			ClassLoader classLoader,
+			Project project) {
+		final File classesDir = classesDirectoryProperty.get().getAsFile();
+
+		final Properties settings = new Properties();
+		settings.put( "hibernate.temp.use_jdbc_metadata_defaults", "false" );
+		settings.put( AvailableSettings.DIALECT, "H2" );
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, false );
+		settings.put( AvailableSettings.USE_QUERY_CACHE, false );
+
+		final PersistenceUnitInfoImpl unitInfo = new PersistenceUnitInfoImpl( toUrl( classesDir ), settings, classLoader );
+		collectClassNames( classesDir, classesDir, unitInfo );
+
+		final EntityManagerFactoryBuilder builder = getEntityManagerFactoryBuilder( unitInfo, emptyMap() );
+		try {
+			final Map<String, byte[]> classes = ReflectionOptimizerGenerator.generate( builder.metadata() );
+			for ( Map.Entry<String, byte[]> entry : classes.entrySet() ) {
+				final File classFile = new File( classesDir, entry.getKey().replace( '.', File.separatorChar ) + ".class" );
+				try {
+					Files.write( classFile.toPath(), entry.getValue() );
+				}
+				catch (IOException e) {
+					throw new GradleException( "Error writing reflection optimizer to file [" + classFile.getAbsolutePath() + "]", e );
+				}
+				project.getLogger().info( "Successfully generated reflection optimizer : " + entry.getKey() );
+			}
+		}
+		finally {
+			builder.cancel();
+		}
+	}
+
+	private static void collectClassNames(File classesDir, File dir, PersistenceUnitInfoImpl unitInfo) {
+		for ( File subLocation : dir.listFiles() ) {
+			if ( subLocation.isDirectory() ) {
+				collectClassNames( classesDir, subLocation, unitInfo );
+			}
+			else if ( subLocation.isFile() && subLocation.getName().endsWith( ".class" ) ) {
+				unitInfo.addManagedClassName( determineClassName( classesDir, subLocation ) );
+			}
+		}
+	}
+
+	private static URL toUrl(File classesDir) {
+		try {
+			return classesDir.toURI().toURL();
+		}
+		catch (MalformedURLException e) {
+			throw new GradleException( "Unable to resolve classpath entry to URL : " + classesDir.getAbsolutePath(), e );
+		}
+	}
+
 	private static void walk(File classesDir, File dir, Enhancer enhancer, Project project) {
 		for ( File subLocation : dir.listFiles() ) {
 			if ( subLocation.isDirectory() ) {
@@ -28,6 +28,7 @@ public class EnhancementSpec {
 	private final Property<Boolean> enableDirtyTracking;
 	private final Property<Boolean> enableAssociationManagement;
 	private final Property<Boolean> enableExtendedEnhancement;
+	private final Property<Boolean> generateReflectionOptimizers;
 
 
 	@Inject
@@ -38,13 +39,15 @@ public class EnhancementSpec {
 		enableDirtyTracking = makeProperty( project ).convention( true );
 		enableAssociationManagement = makeProperty( project );
 		enableExtendedEnhancement = makeProperty( project );
+		generateReflectionOptimizers = makeProperty( project );
 	}
 
 	public boolean hasAnythingToDo() {
 		return enableLazyInitialization.get()
 				|| enableDirtyTracking.get()
 				|| enableAssociationManagement.get()
-				|| enableExtendedEnhancement.get();
+				|| enableExtendedEnhancement.get()
+				|| generateReflectionOptimizers.get();
 	}
 
 	@Deprecated(forRemoval = true)
@@ -132,6 +135,23 @@ public class EnhancementSpec {
 		setEnableExtendedEnhancement( enable );
 	}
 
+	/**
+	 * Whether to generate the classes accessing the state of entities and embeddables
+	 * at build time, instead of generating them at runtime
+	 */
+	public Property<Boolean> getGenerateReflectionOptimizers() {
+		return generateReflectionOptimizers;
+	}
+
+	public void setGenerateReflectionOptimizers(boolean enable) {
+		generateReflectionOptimizers.set( enable );
+	}
+
+	public void generateReflectionOptimizers(boolean enable) {
+		setGenerateReflectionOptimizers( enable );
+	}
+
+
 	@SuppressWarnings( "UnstableApiUsage" )
 	public static Property<Boolean> makeProperty(Project project) {
 		final Property<Boolean> createdProperty = project.getObjects().property( Boolean.class );
@@ -23,7 +23,7 @@ import jakarta.persistence.spi.PersistenceUnitTransactionType;
 /**
  * @author Steve Ebersole
  */
-class PersistenceUnitInfoImpl implements PersistenceUnitInfo {
+public class PersistenceUnitInfoImpl implements PersistenceUnitInfo {
 	private final URL unitRoot;
 	private final Properties properties;
 	private final ClassLoader classLoader;